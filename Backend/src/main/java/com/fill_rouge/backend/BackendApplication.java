@@ -14,14 +14,24 @@ import org.springframework.boot.web.servlet.server.ServletWebServerFactory;
 import lombok.extern.slf4j.Slf4j;
 import jakarta.annotation.PostConstruct;
 
+import com.fill_rouge.backend.config.CachingProperties;
+import com.fill_rouge.backend.config.ClusterJobProperties;
+import com.fill_rouge.backend.config.EventLifecycleProperties;
 import com.fill_rouge.backend.config.FeatureConfig;
+import com.fill_rouge.backend.config.MatchingProperties;
+import com.fill_rouge.backend.config.MongoIndexProperties;
+import com.fill_rouge.backend.config.RateLimitProperties;
+import com.fill_rouge.backend.config.ReportJobProperties;
+import com.fill_rouge.backend.config.RetentionProperties;
 import com.fill_rouge.backend.config.security.JwtConfig;
 
 @SpringBootApplication
 @EnableWebSecurity
 @EnableAsync
 @EnableScheduling
-@EnableConfigurationProperties({JwtConfig.class, FeatureConfig.class})
+@EnableConfigurationProperties({JwtConfig.class, FeatureConfig.class, RateLimitProperties.class, ReportJobProperties.class,
+        MongoIndexProperties.class, CachingProperties.class, RetentionProperties.class, MatchingProperties.class,
+        EventLifecycleProperties.class, ClusterJobProperties.class})
 @ServletComponentScan
 @Slf4j
 public class BackendApplication {
@@ -0,0 +1,23 @@
+package com.fill_rouge.backend.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a scheduled method on one instance per interval: the instance that takes the lease named
+ * by {@link #value()} runs it, the others skip until an interval has passed since that run
+ * started. Durations are in milliseconds or Spring duration format and may use placeholders.
+ * The method must return void, a skipped run has nothing to return; put the annotation on a
+ * scheduled wrapper when the work itself returns a result to other callers.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterJob {
+    String value(); // lease name
+    String interval(); // the @Scheduled delay, or for a cron job a hold a little shorter than its period
+    String maxRunTime() default ""; // lease held while running, cluster-jobs.max-run-time when empty
+    String jitter() default ""; // random wait before taking the lease, cluster-jobs.jitter when empty
+    boolean catchUp() default true; // run at startup when no instance ran it during the last interval
+}
@@ -4,10 +4,13 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RateLimit {
-    int value() default 20; // requests per minute
+    int value() default 20; // requests per window
+    long window() default 1;
+    TimeUnit unit() default TimeUnit.MINUTES;
     String key() default ""; // custom key for rate limiting
-} 
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.fill_rouge.backend.aspect;
+
+import com.fill_rouge.backend.annotation.ClusterJob;
+import com.fill_rouge.backend.service.lease.ClusterJobs;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ClusterJobAspect {
+    private final ClusterJobs clusterJobs;
+
+    @Around("@annotation(clusterJob)")
+    public Object runOnce(ProceedingJoinPoint joinPoint, ClusterJob clusterJob) throws Throwable {
+        return clusterJobs.run(clusterJob, joinPoint::proceed);
+    }
+}
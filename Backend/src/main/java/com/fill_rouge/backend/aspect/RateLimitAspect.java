@@ -1,14 +1,16 @@
 package com.fill_rouge.backend.aspect;
 
 import com.fill_rouge.backend.annotation.RateLimit;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.fill_rouge.backend.service.ratelimit.RateLimitDecision;
+import com.fill_rouge.backend.service.ratelimit.RateLimiter;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -16,44 +18,36 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.lang.reflect.Method;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class RateLimitAspect {
-    private final LoadingCache<String, Integer> requestCountsCache;
-
-    public RateLimitAspect() {
-        requestCountsCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build(new CacheLoader<>() {
-                    @Override
-                    public Integer load(String key) {
-                        return 0;
-                    }
-                });
-    }
+    private final RateLimiter rateLimiter;
 
     @Around("@annotation(com.fill_rouge.backend.annotation.RateLimit)")
     public Object rateLimit(ProceedingJoinPoint joinPoint) throws Throwable {
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
         RateLimit rateLimitAnnotation = method.getAnnotation(RateLimit.class);
 
         String clientIp = getClientIP(request);
-        String key = rateLimitAnnotation.key().isEmpty() ? 
-                    clientIp + ":" + method.getName() : 
+        String key = rateLimitAnnotation.key().isEmpty() ?
+                    clientIp + ":" + method.getDeclaringClass().getSimpleName() + "." + method.getName() :
                     clientIp + ":" + rateLimitAnnotation.key();
-
-        int maxRequests = rateLimitAnnotation.value();
-
-        int currentCount = requestCountsCache.get(key);
-        if (currentCount >= maxRequests) {
+        Duration window = Duration.of(rateLimitAnnotation.window(), rateLimitAnnotation.unit().toChronoUnit());
+
+        RateLimitDecision decision = rateLimiter.tryAcquire(key, rateLimitAnnotation.value(), window);
+        if (!decision.allowed()) {
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            }
             throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded");
         }
-
-        requestCountsCache.put(key, currentCount + 1);
         return joinPoint.proceed();
     }
 
@@ -64,4 +58,4 @@ public class RateLimitAspect {
         }
         return xfHeader.split(",")[0];
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.fill_rouge.backend.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fill_rouge.backend.config.CachingProperties.Spec;
+import com.fill_rouge.backend.service.cache.CacheNames;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Size- and TTL-bounded local caches. Every cache is created here so that actuator binds its
+ * hit, miss and eviction metrics at startup; statistics recording is on for all of them.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CachingProperties properties) {
+        Map<String, Spec> specs = new LinkedHashMap<>();
+        for (String report : CacheNames.REPORTS) {
+            specs.put(report, properties.getDefaults());
+        }
+        specs.putAll(CacheNames.LIMITS);
+        properties.getCaches().forEach((name, override) ->
+            specs.merge(name, override, (base, spec) -> new Spec(
+                spec.getMaximumSize() > 0 ? spec.getMaximumSize() : base.getMaximumSize(),
+                spec.getTtl() != null ? spec.getTtl() : base.getTtl())));
+
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        // Caches requested under any other name get the defaults
+        manager.setCaffeine(builder(properties.getDefaults()));
+        specs.forEach((name, spec) -> manager.registerCustomCache(name, builder(spec).build()));
+        return manager;
+    }
+
+    private static Caffeine<Object, Object> builder(Spec spec) {
+        return Caffeine.newBuilder()
+            .maximumSize(spec.getMaximumSize())
+            .expireAfterWrite(spec.getTtl())
+            .recordStats();
+    }
+}
@@ -0,0 +1,26 @@
+package com.fill_rouge.backend.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "caching")
+public class CachingProperties {
+    private String invalidation = "local"; // local or change-stream (shared between replicas)
+    private Spec defaults = new Spec(1000, Duration.ofHours(1));
+    private Map<String, Spec> caches = new HashMap<>(); // per cache name, overrides the built-in limits
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private long maximumSize;
+        private Duration ttl;
+    }
+}
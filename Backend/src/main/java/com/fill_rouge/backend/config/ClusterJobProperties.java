@@ -0,0 +1,14 @@
+package com.fill_rouge.backend.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "cluster-jobs")
+public class ClusterJobProperties {
+    private Duration maxRunTime = Duration.ofMinutes(30); // an instance that dies mid-run blocks the job this long
+    private Duration jitter = Duration.ofSeconds(1);
+    private boolean catchUp = true; // run missed jobs at startup, per @ClusterJob#catchUp
+}
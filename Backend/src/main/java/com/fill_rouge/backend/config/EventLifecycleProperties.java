@@ -0,0 +1,16 @@
+package com.fill_rouge.backend.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "event-lifecycle")
+public class EventLifecycleProperties {
+    private boolean enabled = true;
+    private Duration horizon = Duration.ofHours(6); // transitions due within this are held in memory
+    private Duration lease = Duration.ofSeconds(30); // another instance takes over after this
+    private int batchSize = 500;
+    private Duration completionLease = Duration.ofMinutes(10); // an unfinished completion is retried after this
+}
@@ -0,0 +1,15 @@
+package com.fill_rouge.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "matching")
+public class MatchingProperties {
+    private double cellSizeKm = 10; // side of the in-memory grid cells
+    private double defaultRadiusKm = 10; // for volunteers without a preferred radius
+    private double maxRadiusKm = 100;
+    private int topK = 10;
+    private long refreshInterval = 600000;
+    private String batchCron = "0 0 3 * * *";
+}
@@ -0,0 +1,11 @@
+package com.fill_rouge.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "mongo-indexes")
+public class MongoIndexProperties {
+    private boolean verifyOnStartup = true;
+    private boolean failOnCollectionScan = false; // refuse to start when a declared query shape is not indexed
+}
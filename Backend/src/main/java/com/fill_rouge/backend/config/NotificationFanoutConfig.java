@@ -0,0 +1,22 @@
+package com.fill_rouge.backend.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class NotificationFanoutConfig {
+
+    @Bean(name = "notificationFanoutExecutor")
+    public Executor notificationFanoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("NotificationFanout-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,13 @@
+package com.fill_rouge.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private String backend = "local"; // local or mongo (shared between replicas)
+    private int maxKeys = 100000;
+    private int requestsPerMinute = 20;
+    private int requestsPerHour = 100;
+}
@@ -1,8 +1,5 @@
 package com.fill_rouge.backend.config;
 
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -12,26 +9,10 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
 
 @Configuration
-@EnableCaching
 @EnableAsync
 @EnableScheduling
 public class ReportConfig {
     
-    @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-            "volunteerProfiles",
-            "volunteerReports",
-            "organizationReports",
-            "impactReports",
-            "dashboardReports",
-            "customReports",
-            "skillsReports",
-            "engagementReports",
-            "trendReports"
-        );
-    }
-    
     @Bean(name = "reportTaskExecutor")
     public Executor reportTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -42,4 +23,16 @@ public class ReportConfig {
         executor.initialize();
         return executor;
     }
+
+    // No queue: the job dispatcher only hands over work when a worker is free
+    @Bean(name = "reportJobExecutor")
+    public Executor reportJobExecutor(ReportJobProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkers());
+        executor.setMaxPoolSize(properties.getWorkers());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("ReportJob-");
+        executor.initialize();
+        return executor;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.fill_rouge.backend.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "report-jobs")
+public class ReportJobProperties {
+    private int workers = 4;
+    private int perTenantConcurrency = 1; // running jobs per organization or volunteer, across instances
+    private int maxAttempts = 3;
+    private Duration lease = Duration.ofMinutes(2);
+    private Duration retryBackoff = Duration.ofSeconds(30);
+    private Duration resultTtl = Duration.ofHours(24);
+}
@@ -0,0 +1,29 @@
+package com.fill_rouge.backend.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.fill_rouge.backend.domain.Communication.CommunicationType;
+import com.fill_rouge.backend.domain.Message.MessageType;
+
+@Data
+@ConfigurationProperties(prefix = "retention")
+public class RetentionProperties {
+    private Duration defaultAge = Duration.ofDays(90); // for types without their own entry
+    private Map<CommunicationType, Duration> communications = new HashMap<>();
+    private Map<MessageType, Duration> messages = new HashMap<>();
+    private Duration purgeAfter = Duration.ofDays(7); // soft-deleted documents are removed by a TTL index this long after
+    private long sweepInterval = 3600000;
+
+    public Duration ageOf(CommunicationType type) {
+        return communications.getOrDefault(type, defaultAge);
+    }
+
+    public Duration ageOf(MessageType type) {
+        return messages.getOrDefault(type, defaultAge);
+    }
+}
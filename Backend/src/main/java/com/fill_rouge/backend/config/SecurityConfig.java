@@ -93,6 +93,12 @@ public class SecurityConfig {
                                             "/api/events/registered", 
                                             "/api/events/waitlist").permitAll();
                     
+                    // Index verification can run explain plans against every collection
+                    authorize.requestMatchers("/actuator/mongoindexes/**").hasRole("ADMIN");
+                    
+                    // Cache contents can be listed and evicted through this endpoint
+                    authorize.requestMatchers("/actuator/caches/**").hasRole("ADMIN");
+                    
                     // All other requests must be authenticated
                     authorize.anyRequest().authenticated();
                     
@@ -1,6 +1,7 @@
 package com.fill_rouge.backend.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -11,6 +12,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WebConfig implements WebMvcConfigurer {
 
+    // Streamed report exports run past the default async request timeout on large organizations
+    private static final long ASYNC_REQUEST_TIMEOUT_MS = 600000;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT_MS);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         log.info("Configuring CORS mappings");
@@ -0,0 +1,38 @@
+package com.fill_rouge.backend.config.monitoring;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.repository.index.MongoIndexManager;
+import com.fill_rouge.backend.repository.index.QueryPlanCheck;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code /actuator/mongoindexes}: per index usage counters from {@code $indexStats} and the
+ * plans of the last startup verification. A POST explains the query shapes again.
+ */
+@Component
+@Endpoint(id = "mongoindexes")
+@RequiredArgsConstructor
+public class MongoIndexEndpoint {
+
+    private final MongoIndexManager indexManager;
+
+    @ReadOperation
+    public Map<String, Object> indexes() {
+        return Map.of(
+            "usage", indexManager.indexUsage(),
+            "queries", indexManager.getLastVerification());
+    }
+
+    @WriteOperation
+    public List<QueryPlanCheck> verify() {
+        return indexManager.verify();
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -25,13 +26,19 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /** Request attribute holding the parsed {@link Claims} of the bearer token. */
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".claims";
+
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -43,6 +50,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String authHeader = request.getHeader("Authorization");
             final String jwt;
+            final Claims claims;
             final String userEmail;
 
             // Skip token processing for non-secured endpoints
@@ -59,7 +67,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             jwt = authHeader.substring(7);
             try {
-                userEmail = jwtService.extractUsername(jwt);
+                claims = jwtService.parseClaims(jwt);
+                userEmail = claims.getSubject();
             } catch (ExpiredJwtException e) {
                 logger.warn("JWT token has expired: {}", e.getMessage());
                 sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Token has expired");
@@ -71,9 +80,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+                UserDetails userDetails = resolvePrincipal(claims, userEmail);
+
+                if (jwtService.isTokenValid(claims, userDetails) && userDetails.isAccountNonLocked()) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -95,6 +105,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    private UserDetails resolvePrincipal(Claims claims, String userEmail) {
+        String userId = claims.get("user_id", String.class);
+        if (userId == null) {
+            return userDetailsService.loadUserByUsername(userEmail);
+        }
+        if (principalCache.isFresh(userId, claims.getIssuedAt())) {
+            return jwtService.toPrincipal(claims);
+        }
+        return principalCache.get(userId, () -> userDetailsService.loadUserByUsername(userEmail));
+    }
+
     private boolean shouldSkipTokenProcessing(HttpServletRequest request) {
         String path = request.getServletPath();
         logger.debug("Checking path for token processing: {}", path);
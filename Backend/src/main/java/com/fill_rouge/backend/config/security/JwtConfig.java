@@ -15,6 +15,9 @@ public class JwtConfig {
     @NestedConfigurationProperty
     private RefreshToken refreshToken;
 
+    @NestedConfigurationProperty
+    private PrincipalCache principalCache = new PrincipalCache();
+
     public static class RefreshToken {
         private long expiration;
 
@@ -27,6 +30,37 @@ public class JwtConfig {
         }
     }
 
+    public static class PrincipalCache {
+        private long ttl = 30000;
+        private long maxSize = 10000;
+        // Tokens younger than this are trusted without a user lookup; 0 disables
+        private long claimsFreshness = 60000;
+
+        public long getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(long ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getClaimsFreshness() {
+            return claimsFreshness;
+        }
+
+        public void setClaimsFreshness(long claimsFreshness) {
+            this.claimsFreshness = claimsFreshness;
+        }
+    }
+
     public String getSecretKey() {
         if (secretKey == null || secretKey.trim().isEmpty()) {
             throw new IllegalStateException("JWT secret key must be configured in application properties");
@@ -53,4 +87,12 @@ public class JwtConfig {
     public void setRefreshToken(RefreshToken refreshToken) {
         this.refreshToken = refreshToken;
     }
+
+    public PrincipalCache getPrincipalCache() {
+        return principalCache;
+    }
+
+    public void setPrincipalCache(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
 }
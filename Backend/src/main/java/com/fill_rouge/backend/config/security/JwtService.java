@@ -13,6 +13,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.fill_rouge.backend.constant.Role;
 import com.fill_rouge.backend.domain.Organization;
 import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.repository.OrganizationRepository;
@@ -104,29 +105,52 @@ public class JwtService {
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            final Claims claims = extractAllClaims(token);
-            
-            // Validate token type (not refresh token)
-            if ("REFRESH".equals(claims.get("tokenType"))) {
-                logger.warn("Attempted to use refresh token as access token");
-                return false;
-            }
-
-            // Check token hasn't expired and username matches
-            boolean isValid = username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-            
-            if (!isValid) {
-                logger.warn("Token validation failed for user: {}", username);
-            }
-            
-            return isValid;
+            return isTokenValid(parseClaims(token), userDetails);
         } catch (Exception e) {
             logger.error("Error validating token: {}", e.getMessage());
             return false;
         }
     }
 
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        // Validate token type (not refresh token)
+        if ("REFRESH".equals(claims.get("tokenType"))) {
+            logger.warn("Attempted to use refresh token as access token");
+            return false;
+        }
+
+        // Check token hasn't expired and username matches
+        final String username = claims.getSubject();
+        boolean isValid = username != null && username.equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date());
+
+        if (!isValid) {
+            logger.warn("Token validation failed for user: {}", username);
+        }
+
+        return isValid;
+    }
+
+    /**
+     * Builds a principal from the access token claims alone. Only identity fields are
+     * carried in the token, so callers needing the full user must still load it.
+     */
+    public User toPrincipal(Claims claims) {
+        User user = new User();
+        user.setId(claims.get("user_id", String.class));
+        user.setEmail(claims.getSubject());
+        user.setFirstName(claims.get("first_name", String.class));
+        user.setLastName(claims.get("last_name", String.class));
+        String role = claims.get("role", String.class);
+        user.setRole(role != null && role.startsWith("ROLE_")
+                ? Role.valueOf(role.substring("ROLE_".length()))
+                : Role.UNASSIGNED);
+        user.setEmailVerified(Boolean.TRUE.equals(claims.get("email_verified", Boolean.class)));
+        user.setQuestionnaireCompleted(Boolean.TRUE.equals(claims.get("questionnaire_completed", Boolean.class)));
+        user.setEnabled(true);
+        return user;
+    }
+
     public boolean isRefreshTokenValid(String token, UserDetails userDetails) {
         try {
             final String username = extractUsername(token);
@@ -161,6 +185,10 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
     private Claims extractAllClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(signingKey)
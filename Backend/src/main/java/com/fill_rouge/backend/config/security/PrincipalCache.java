@@ -0,0 +1,84 @@
+package com.fill_rouge.backend.config.security;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Short-lived cache of authenticated principals keyed by user id, so a burst of requests
+ * carrying the same token costs one user lookup. Invalidating a user also records a
+ * revocation, which stops tokens issued before it from being trusted on their claims alone.
+ * Writes to {@code users} on other replicas reach {@link #invalidate} through the cache
+ * invalidation change stream, so with {@code caching.invalidation: local} a revocation only
+ * holds on the instance that made it. Both caches report under the same {@code cache.*} metrics as the application caches.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+    private final Cache<String, UserDetails> principals;
+    private final Cache<String, Long> revocations;
+    private final long claimsFreshness;
+    private volatile long revokedAllAt;
+
+    public PrincipalCache(JwtConfig jwtConfig) {
+        JwtConfig.PrincipalCache config = jwtConfig.getPrincipalCache();
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(config.getTtl()))
+                .maximumSize(config.getMaxSize())
+                .recordStats()
+                .build();
+        // A revocation only matters while tokens issued before it can still count as fresh
+        this.revocations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(config.getClaimsFreshness(), 1)))
+                .recordStats()
+                .build();
+        this.claimsFreshness = config.getClaimsFreshness();
+    }
+
+    // Concurrent misses for the same user wait for one load; its exceptions reach every caller
+    public UserDetails get(String userId, Supplier<UserDetails> loader) {
+        return principals.get(userId, ignored -> loader.get());
+    }
+
+    public boolean isFresh(String userId, Date issuedAt) {
+        if (claimsFreshness <= 0 || issuedAt == null) {
+            return false;
+        }
+        long issued = issuedAt.getTime();
+        if (System.currentTimeMillis() - issued > claimsFreshness) {
+            return false;
+        }
+        // iat has second precision, so a token from the same second as the revocation is treated as revoked
+        if (issued <= revokedAllAt) {
+            return false;
+        }
+        Long revokedAt = revocations.getIfPresent(userId);
+        return revokedAt == null || issued > revokedAt;
+    }
+
+    public void invalidate(String userId) {
+        revocations.put(userId, System.currentTimeMillis());
+        principals.invalidate(userId);
+    }
+
+    // For when the changed users are unknown, such as after the change stream was reopened
+    public void invalidateAll() {
+        revokedAllAt = System.currentTimeMillis();
+        principals.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, principals, "principals");
+        CaffeineCacheMetrics.monitor(registry, revocations, "principalRevocations");
+    }
+}
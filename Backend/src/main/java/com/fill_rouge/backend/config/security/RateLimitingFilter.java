@@ -1,17 +1,17 @@
 package com.fill_rouge.backend.config.security;
 
 import java.io.IOException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fill_rouge.backend.config.FeatureConfig;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.fill_rouge.backend.config.RateLimitProperties;
+import com.fill_rouge.backend.service.ratelimit.RateLimitDecision;
+import com.fill_rouge.backend.service.ratelimit.RateLimiter;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,27 +22,12 @@ import lombok.RequiredArgsConstructor;
 @Component
 @RequiredArgsConstructor
 public class RateLimitingFilter extends OncePerRequestFilter {
-    private static final int MAX_REQUESTS_PER_HOUR = 100;
-    private static final int MAX_REQUESTS_PER_MINUTE = 20;
+    private static final Duration HOUR = Duration.ofHours(1);
+    private static final Duration MINUTE = Duration.ofMinutes(1);
 
     private final FeatureConfig featureConfig;
-    private final LoadingCache<String, Integer> hourRequestsCache = CacheBuilder.newBuilder()
-            .expireAfterWrite(1, TimeUnit.HOURS)
-            .build(new CacheLoader<>() {
-                @Override
-                public Integer load(String key) {
-                    return 0;
-                }
-            });
-
-    private final LoadingCache<String, Integer> minuteRequestsCache = CacheBuilder.newBuilder()
-            .expireAfterWrite(1, TimeUnit.MINUTES)
-            .build(new CacheLoader<>() {
-                @Override
-                public Integer load(String key) {
-                    return 0;
-                }
-            });
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiter rateLimiter;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -53,30 +38,30 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         }
 
         String clientIp = getClientIP(request);
-        
-        try {
-            // Check hour limit
-            int hourRequests = hourRequestsCache.get(clientIp);
-            if (hourRequests >= MAX_REQUESTS_PER_HOUR) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                response.getWriter().write("Too many requests. Please try again in an hour.");
-                return;
-            }
-            hourRequestsCache.put(clientIp, hourRequests + 1);
 
-            // Check minute limit
-            int minuteRequests = minuteRequestsCache.get(clientIp);
-            if (minuteRequests >= MAX_REQUESTS_PER_MINUTE) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                response.getWriter().write("Too many requests. Please try again in a minute.");
-                return;
-            }
-            minuteRequestsCache.put(clientIp, minuteRequests + 1);
+        // Check hour limit
+        RateLimitDecision hourly = rateLimiter.tryAcquire(clientIp + ":hour",
+                rateLimitProperties.getRequestsPerHour(), HOUR);
+        if (!hourly.allowed()) {
+            reject(response, hourly, "Too many requests. Please try again in an hour.");
+            return;
+        }
 
-            filterChain.doFilter(request, response);
-        } catch (ExecutionException e) {
-            throw new ServletException("Error in rate limiting", e);
+        // Check minute limit
+        RateLimitDecision perMinute = rateLimiter.tryAcquire(clientIp + ":minute",
+                rateLimitProperties.getRequestsPerMinute(), MINUTE);
+        if (!perMinute.allowed()) {
+            reject(response, perMinute, "Too many requests. Please try again in a minute.");
+            return;
         }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, RateLimitDecision decision, String message) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.getWriter().write(message);
     }
 
     private String getClientIP(HttpServletRequest request) {
@@ -0,0 +1,21 @@
+package com.fill_rouge.backend.constant;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Volunteer metrics an achievement rule can depend on. Triggers pass the metrics they may have
+ * changed so that only the rules reading them are evaluated.
+ */
+public enum AchievementMetric {
+    EVENTS_ATTENDED,
+    HOURS_CONTRIBUTED,
+    AVERAGE_RATING,
+    CATEGORY_EVENTS,
+    STREAK;
+
+    // Attending an event moves every metric except the average rating
+    public static final Set<AchievementMetric> ATTENDANCE = Collections.unmodifiableSet(
+        EnumSet.of(EVENTS_ATTENDED, HOURS_CONTRIBUTED, CATEGORY_EVENTS, STREAK));
+}
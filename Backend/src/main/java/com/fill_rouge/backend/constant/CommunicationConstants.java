@@ -8,6 +8,7 @@ public final class CommunicationConstants {
     public static final String WEBSOCKET_ENDPOINT = "/ws";
     public static final String MESSAGE_QUEUE = "/queue/messages";
     public static final String NOTIFICATION_QUEUE = "/queue/notifications";
+    public static final String UNREAD_QUEUE = "/queue/unread";
     public static final String TOPIC_PREFIX = "/topic";
     public static final String QUEUE_PREFIX = "/queue";
     public static final String APP_PREFIX = "/app";
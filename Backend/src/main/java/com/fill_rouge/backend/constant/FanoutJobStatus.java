@@ -0,0 +1,8 @@
+package com.fill_rouge.backend.constant;
+
+public enum FanoutJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.fill_rouge.backend.constant;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    EXPIRED
+}
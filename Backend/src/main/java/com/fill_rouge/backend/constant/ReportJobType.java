@@ -0,0 +1,26 @@
+package com.fill_rouge.backend.constant;
+
+import java.util.Set;
+
+// Formats and roles match the synchronous export endpoints for the same report
+public enum ReportJobType {
+    VOLUNTEER(Set.of("PDF", "EXCEL", "CSV"), Set.of(Role.VOLUNTEER, Role.ADMIN)),
+    ORGANIZATION(Set.of("PDF", "EXCEL", "CSV"), Set.of(Role.ORGANIZATION, Role.ADMIN)),
+    ORGANIZATION_PARTICIPATIONS(Set.of("CSV", "NDJSON"), Set.of(Role.ORGANIZATION, Role.ADMIN));
+
+    private final Set<String> formats;
+    private final Set<Role> roles;
+
+    ReportJobType(Set<String> formats, Set<Role> roles) {
+        this.formats = formats;
+        this.roles = roles;
+    }
+
+    public boolean supports(String format) {
+        return format != null && formats.contains(format.toUpperCase());
+    }
+
+    public boolean allows(Role role) {
+        return role != null && roles.contains(role);
+    }
+}
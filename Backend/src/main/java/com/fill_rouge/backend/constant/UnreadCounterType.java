@@ -0,0 +1,20 @@
+package com.fill_rouge.backend.constant;
+
+/**
+ * Per-user unread counters: unread communications behind {@code /notifications/count} and
+ * unread direct messages behind {@code /messages/count}.
+ */
+public enum UnreadCounterType {
+    NOTIFICATIONS("notifications"),
+    MESSAGES("messages");
+
+    private final String field;
+
+    UnreadCounterType(String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
@@ -5,10 +5,13 @@ import com.fill_rouge.backend.domain.Event;
 import com.fill_rouge.backend.domain.Organization;
 import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.dto.response.AdminStatisticsResponse;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.EventResponse;
 import com.fill_rouge.backend.dto.response.OrganizationResponse;
 import com.fill_rouge.backend.dto.response.PageResponse;
+import com.fill_rouge.backend.dto.response.RollupConsistencyResponse;
 import com.fill_rouge.backend.service.organization.OrganizationService;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
 import com.fill_rouge.backend.service.statistics.StatisticsService;
 import com.fill_rouge.backend.service.user.UserService;
 import com.fill_rouge.backend.service.event.EventService;
@@ -22,14 +25,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -43,13 +43,15 @@ public class AdminController {
     private final OrganizationService organizationService;
     private final StatisticsService statisticsService;
     private final EventService eventService;
+    private final StatisticsRollupService rollupService;
 
     @Autowired
-    public AdminController(UserService userService, OrganizationService organizationService, StatisticsService statisticsService, EventService eventService) {
+    public AdminController(UserService userService, OrganizationService organizationService, StatisticsService statisticsService, EventService eventService, StatisticsRollupService rollupService) {
         this.userService = userService;
         this.organizationService = organizationService;
         this.statisticsService = statisticsService;
         this.eventService = eventService;
+        this.rollupService = rollupService;
         logger.info("AdminController initialized");
     }
 
@@ -72,7 +74,34 @@ public class AdminController {
         }
     }
 
-    @Operation(summary = "Get users", description = "Retrieve a paginated list of all users")
+    @Operation(summary = "Rebuild statistics rollups", description = "Recompute the statistics rollups from events, participations and feedback and correct the ones that drifted")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Rollups rebuilt successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/statistics/rollups/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildStatisticsRollups() {
+        logger.info("POST /admin/statistics/rollups/rebuild");
+        int rebuilt = rollupService.rebuildAll();
+        Map<String, Object> response = new HashMap<>();
+        response.put("rollupsRebuilt", rebuilt);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Check statistics rollups", description = "Compare the stored statistics rollups against a full recompute")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Consistency report generated successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/statistics/rollups/consistency")
+    public ResponseEntity<RollupConsistencyResponse> checkStatisticsRollups() {
+        logger.info("GET /admin/statistics/rollups/consistency");
+        return ResponseEntity.ok(rollupService.checkConsistency());
+    }
+
+    @Operation(summary = "Get users", description = "Retrieve users by registration date, with cursor pagination")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
@@ -80,22 +109,19 @@ public class AdminController {
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/users")
     public ResponseEntity<Map<String, Object>> getUsers(
-            @Parameter(description = "Page number (0-based)") 
-            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "nextCursor of the previous page, omitted for the first page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Number of items per page") 
             @RequestParam(defaultValue = "10") int size) {
-        logger.info("GET /admin/users with page: {}, size: {}", page, size);
+        logger.info("GET /admin/users with cursor: {}, size: {}", cursor, size);
         try {
-            Page<User> usersPage = userService.getAllUsers(PageRequest.of(page, size));
+            CursorPage<User> users = userService.getUsers(cursor, size);
             
             Map<String, Object> response = new HashMap<>();
-            response.put("users", usersPage.getContent());
-            response.put("totalUsers", usersPage.getTotalElements());
-            response.put("currentPage", usersPage.getNumber());
-            response.put("totalPages", usersPage.getTotalPages());
+            response.put("users", users.getContent());
+            response.put("nextCursor", users.getNextCursor());
             
-            logger.info("Users response generated successfully: {} users, page {}/{}", 
-                     usersPage.getContent().size(), usersPage.getNumber(), usersPage.getTotalPages());
+            logger.info("Users response generated successfully: {} users", users.getContent().size());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -178,7 +204,7 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Get organizations", description = "Retrieve a paginated list of all organizations")
+    @Operation(summary = "Get organizations", description = "Retrieve organizations by name, with cursor pagination")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Organizations retrieved successfully"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
@@ -186,25 +212,20 @@ public class AdminController {
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/organizations")
     public ResponseEntity<Map<String, Object>> getOrganizations(
-            @Parameter(description = "Page number (0-based)") 
-            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "nextCursor of the previous page, omitted for the first page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Number of items per page") 
             @RequestParam(defaultValue = "10") int size) {
-        logger.info("GET /admin/organizations with page: {}, size: {}", page, size);
+        logger.info("GET /admin/organizations with cursor: {}, size: {}", cursor, size);
         try {
-            List<OrganizationResponse> organizations = organizationService.getAllOrganizations();
-            int start = page * size;
-            int end = Math.min(start + size, organizations.size());
-            List<OrganizationResponse> pageContent = organizations.subList(start, end);
+            CursorPage<OrganizationResponse> organizations = organizationService.getOrganizations(cursor, size);
             
             Map<String, Object> response = new HashMap<>();
-            response.put("organizations", pageContent);
-            response.put("totalOrganizations", organizations.size());
-            response.put("currentPage", page);
-            response.put("totalPages", (int) Math.ceil(organizations.size() / (double) size));
+            response.put("organizations", organizations.getContent());
+            response.put("nextCursor", organizations.getNextCursor());
             
-            logger.info("Organizations response generated successfully: {} organizations, page {}/{}", 
-                      pageContent.size(), page, (int) Math.ceil(organizations.size() / (double) size));
+            logger.info("Organizations response generated successfully: {} organizations",
+                      organizations.getContent().size());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -285,7 +306,7 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Get events", description = "Retrieve a paginated list of all events")
+    @Operation(summary = "Get events", description = "Retrieve events by start date, with cursor pagination")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
@@ -293,24 +314,21 @@ public class AdminController {
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/events")
     public ResponseEntity<Map<String, Object>> getEvents(
-            @Parameter(description = "Page number (0-based)") 
-            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "nextCursor of the previous page, omitted for the first page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Number of items per page") 
             @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Include all events regardless of status") 
             @RequestParam(defaultValue = "false") boolean includeAll) {
-        logger.info("GET /admin/events with page: {}, size: {}, includeAll: {}", page, size, includeAll);
+        logger.info("GET /admin/events with cursor: {}, size: {}, includeAll: {}", cursor, size, includeAll);
         try {
-            Page<EventResponse> eventsPage = eventService.getAllEvents(PageRequest.of(page, size), includeAll);
+            CursorPage<EventResponse> events = eventService.getAllEvents(cursor, size, includeAll);
             
             Map<String, Object> response = new HashMap<>();
-            response.put("events", eventsPage.getContent());
-            response.put("totalEvents", eventsPage.getTotalElements());
-            response.put("currentPage", eventsPage.getNumber());
-            response.put("totalPages", eventsPage.getTotalPages());
+            response.put("events", events.getContent());
+            response.put("nextCursor", events.getNextCursor());
             
-            logger.info("Events response generated successfully: {} events, page {}/{}", 
-                     eventsPage.getContent().size(), eventsPage.getNumber(), eventsPage.getTotalPages());
+            logger.info("Events response generated successfully: {} events", events.getContent().size());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
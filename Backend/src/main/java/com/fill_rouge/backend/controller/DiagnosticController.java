@@ -13,7 +13,6 @@ import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import com.fill_rouge.backend.service.event.EventService;
-import com.fill_rouge.backend.service.event.impl.EventSchedulerService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,9 +36,6 @@ public class DiagnosticController {
     
     @Autowired
     private EventService eventService;
-    
-    @Autowired
-    private EventSchedulerService schedulerService;
 
     @GetMapping("/routes")
     public ResponseEntity<Map<String, Object>> getRoutes() {
@@ -95,7 +91,7 @@ public class DiagnosticController {
         log.info("Manual trigger for event status updates");
         
         try {
-            schedulerService.scheduleEventStatusUpdates();
+            eventService.updateEventStatuses();
             
             Map<String, Object> response = new HashMap<>();
             response.put("status", "SUCCESS");
@@ -44,13 +44,17 @@ import com.fill_rouge.backend.domain.EventFeedback;
 import com.fill_rouge.backend.domain.EventParticipation;
 import com.fill_rouge.backend.dto.request.EventRegistrationRequest;
 import com.fill_rouge.backend.dto.request.EventRequest;
+import com.fill_rouge.backend.dto.request.EventSearchRequest;
 import com.fill_rouge.backend.dto.request.FeedbackRequest;
 import com.fill_rouge.backend.dto.response.ApiResponse;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.EventResponse;
+import com.fill_rouge.backend.dto.response.EventSearchResponse;
 import com.fill_rouge.backend.dto.response.FeedbackResponse;
 import com.fill_rouge.backend.mapper.EventMapper;
 import com.fill_rouge.backend.service.event.EventFeedbackService;
 import com.fill_rouge.backend.service.event.EventParticipationService;
+import com.fill_rouge.backend.service.event.EventSearchService;
 import com.fill_rouge.backend.service.event.EventService;
 import com.fill_rouge.backend.service.user.UserService;
 
@@ -65,12 +69,17 @@ import jakarta.validation.Valid;
 public class EventController {
     
     private final EventService eventService;
+    private final EventSearchService eventSearchService;
     private final EventFeedbackService feedbackService;
     private final EventMapper eventMapper;
     private final EventParticipationService participationService;
     private final UserService userService;
     
     private static final Logger log = LoggerFactory.getLogger(EventController.class);
+
+    private static final String CURSOR_DESCRIPTION =
+        "Switches to cursor pagination: empty for the first page, then the previous meta.nextCursor. "
+            + "page and sort are ignored";
     
     @PostMapping
     @PreAuthorize("hasRole('ORGANIZATION')")
@@ -130,7 +139,11 @@ public class EventController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Events retrieved successfully")
     })
     public ResponseEntity<ApiResponse<List<EventResponse>>> getPublicEvents(
+            @Parameter(description = CURSOR_DESCRIPTION) @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10) Pageable pageable) {
+        if (cursor != null) {
+            return createCursorResponse(eventService.getPublicEvents(cursor, pageable.getPageSize()), null);
+        }
         log.info("Fetching public events with pagination: {}", pageable);
         Page<Event> eventPage = eventService.getPublicEvents(pageable);
         
@@ -182,12 +195,26 @@ public class EventController {
             @PageableDefault(size = 10) Pageable pageable) {
         return createPagedResponse(eventService.searchEvents(query, pageable), userId);
     }
+
+    @GetMapping("/search/faceted")
+    @Operation(summary = "Search events with facets",
+               description = "Full-text search combined with category, difficulty, tag, skill, date and distance filters, "
+                   + "with facet counts and cursor pagination")
+    public ResponseEntity<ApiResponse<EventSearchResponse>> searchEventsFaceted(
+            @Valid EventSearchRequest request,
+            @RequestHeader(value = "X-User-ID", required = false) String userId) {
+        return ResponseEntity.ok(ApiResponse.success(eventSearchService.search(request, userId)));
+    }
     
     @GetMapping("/upcoming")
     @Operation(summary = "Get upcoming events", description = "Get list of upcoming events")
     public ResponseEntity<ApiResponse<List<EventResponse>>> getUpcomingEvents(
             @RequestHeader(value = "X-User-ID", required = false) String userId,
+            @Parameter(description = CURSOR_DESCRIPTION) @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10) Pageable pageable) {
+        if (cursor != null) {
+            return createCursorResponse(eventService.getUpcomingEvents(cursor, pageable.getPageSize()), userId);
+        }
         return createPagedResponse(eventService.getUpcomingEvents(pageable), userId);
     }
     
@@ -317,8 +344,7 @@ public class EventController {
             
             // Add to waitlisted participants
             if (!event.getWaitlistedParticipants().contains(userId)) {
-                event.getWaitlistedParticipants().add(userId);
-                event = eventService.updateEvent(eventId, eventMapper.toRequest(event));
+                event = eventService.addToWaitlist(eventId, userId);
                 
                 // Create a participation record with WAITLISTED status
                 try {
@@ -355,8 +381,7 @@ public class EventController {
             
             // Remove from waitlisted participants
             if (event.getWaitlistedParticipants().contains(userId)) {
-                event.getWaitlistedParticipants().remove(userId);
-                eventService.updateEvent(eventId, eventMapper.toRequest(event));
+                eventService.removeFromWaitlist(eventId, userId);
                 
                 // Cancel the participation record
                 try {
@@ -644,6 +669,21 @@ public class EventController {
     }
 
     // Helper method to create paged response
+    private ResponseEntity<ApiResponse<List<EventResponse>>> createCursorResponse(
+            CursorPage<Event> eventPage,
+            String userId) {
+        List<EventResponse> events = eventPage.getContent().stream()
+                .map(event -> eventMapper.toResponse(event, userId))
+                .collect(Collectors.toList());
+
+        ApiResponse.Meta meta = ApiResponse.Meta.builder()
+                .size(eventPage.getSize())
+                .nextCursor(eventPage.getNextCursor())
+                .build();
+
+        return ResponseEntity.ok(ApiResponse.success(events, meta));
+    }
+
     private ResponseEntity<ApiResponse<List<EventResponse>>> createPagedResponse(
             Page<Event> eventPage,
             String userId) {
@@ -0,0 +1,63 @@
+package com.fill_rouge.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fill_rouge.backend.dto.response.ApiResponse;
+import com.fill_rouge.backend.dto.response.MatchRecommendation;
+import com.fill_rouge.backend.service.matching.MatchingService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/matching")
+@RequiredArgsConstructor
+@Tag(name = "Matching", description = "Volunteer and event recommendations by distance, skills, availability and preferences")
+public class MatchingController {
+
+    private final MatchingService matchingService;
+
+    @GetMapping("/events")
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @Operation(summary = "Recommend events", description = "Open events within the volunteer's preferred radius, best match first")
+    public ResponseEntity<ApiResponse<List<MatchRecommendation>>> recommendEvents(
+            @RequestHeader("X-User-ID") String volunteerId,
+            @RequestParam(defaultValue = "10") int k) {
+        return ResponseEntity.ok(ApiResponse.success(matchingService.recommendEvents(volunteerId, k)));
+    }
+
+    @GetMapping("/recommendations")
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @Operation(summary = "Get stored recommendations", description = "Event recommendations from the last nightly batch")
+    public ResponseEntity<ApiResponse<List<MatchRecommendation>>> getStoredRecommendations(
+            @RequestHeader("X-User-ID") String volunteerId) {
+        return ResponseEntity.ok(ApiResponse.success(matchingService.getStoredRecommendations(volunteerId)));
+    }
+
+    @GetMapping("/events/{eventId}/volunteers")
+    @PreAuthorize("hasAnyRole('ORGANIZATION', 'ADMIN')")
+    @Operation(summary = "Recommend volunteers", description = "Volunteers whose preferred radius reaches the event, best match first")
+    public ResponseEntity<ApiResponse<List<MatchRecommendation>>> recommendVolunteers(
+            @PathVariable String eventId,
+            @RequestParam(defaultValue = "10") int k) {
+        return ResponseEntity.ok(ApiResponse.success(matchingService.recommendVolunteers(eventId, k)));
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Run the recommendation batch", description = "Materialize recommendations for all active volunteers now")
+    public ResponseEntity<ApiResponse<Integer>> materializeAll() {
+        return ResponseEntity.ok(ApiResponse.success(matchingService.materializeAll()));
+    }
+}
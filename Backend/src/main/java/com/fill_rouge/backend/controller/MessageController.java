@@ -1,6 +1,8 @@
 package com.fill_rouge.backend.controller;
 
 import com.fill_rouge.backend.domain.Message;
+import com.fill_rouge.backend.dto.response.ConversationSummaryResponse;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.service.message.MessageService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -45,20 +47,46 @@ public class MessageController {
         );
     }
 
+    @GetMapping("/conversations")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get inbox", description = "Get the current user's conversations, most recently active first, with the last message and unread count of each")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Inbox retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPage<ConversationSummaryResponse>> getInbox(
+            @RequestHeader("X-User-ID") String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(messageService.getInbox(userId, cursor, size));
+    }
+
     @GetMapping("/conversation/{otherUserId}")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Get conversation", description = "Get messages between current user and another user")
+    @Operation(summary = "Get conversation", description = "Get messages between current user and another user, newest first; pass nextCursor back to load older ones")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Conversation retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Conversation retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
     })
-    public ResponseEntity<List<Message>> getConversation(
+    public ResponseEntity<CursorPage<Message>> getConversation(
             @RequestHeader("X-User-ID") String userId,
-            @PathVariable String otherUserId) {
+            @PathVariable String otherUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
         return ResponseEntity.ok(
-            messageService.getConversation(userId, otherUserId)
+            messageService.getConversation(userId, otherUserId, cursor, size)
         );
     }
 
+    @PatchMapping("/conversation/{otherUserId}/read")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Mark conversation as read", description = "Mark the messages received from another user as read and return how many were unread")
+    public ResponseEntity<Long> markConversationAsRead(
+            @RequestHeader("X-User-ID") String userId,
+            @PathVariable String otherUserId) {
+        return ResponseEntity.ok(messageService.markConversationAsRead(userId, otherUserId));
+    }
+
     @GetMapping("/unread")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get unread messages", description = "Get all unread messages for the current user")
@@ -74,7 +102,7 @@ public class MessageController {
 
     @GetMapping("/count")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Get unread count", description = "Get the count of unread messages")
+    @Operation(summary = "Get unread count", description = "Get the count of unread messages; changes are pushed to /user/queue/unread")
     public ResponseEntity<Long> getUnreadCount(
             @RequestHeader("X-User-ID") String userId) {
         return ResponseEntity.ok(messageService.getUnreadCount(userId));
@@ -90,11 +118,10 @@ public class MessageController {
 
     @PatchMapping("/mark-all-read")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Mark all as read", description = "Mark all messages as read")
-    public ResponseEntity<Void> markAllAsRead(
+    @Operation(summary = "Mark all as read", description = "Mark all messages as read and return how many were unread")
+    public ResponseEntity<Long> markAllAsRead(
             @RequestHeader("X-User-ID") String userId) {
-        messageService.markAllAsRead(userId);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(messageService.markAllAsRead(userId));
     }
 
     @DeleteMapping("/{messageId}")
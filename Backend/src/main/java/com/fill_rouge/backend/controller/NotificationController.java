@@ -1,13 +1,17 @@
 package com.fill_rouge.backend.controller;
 
 import com.fill_rouge.backend.domain.Communication;
+import com.fill_rouge.backend.dto.request.BulkNotificationRequest;
+import com.fill_rouge.backend.dto.response.NotificationFanoutResponse;
 import com.fill_rouge.backend.service.communication.CommunicationService;
+import com.fill_rouge.backend.service.communication.NotificationFanoutService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,6 +26,7 @@ import java.util.List;
 public class NotificationController {
 
     private final CommunicationService communicationService;
+    private final NotificationFanoutService notificationFanoutService;
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
@@ -41,7 +46,7 @@ public class NotificationController {
 
     @GetMapping("/count")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Get unread count", description = "Get the count of unread notifications")
+    @Operation(summary = "Get unread count", description = "Get the count of unread notifications; changes are pushed to /user/queue/unread")
     @ApiResponse(responseCode = "200", description = "Unread count retrieved successfully")
     public ResponseEntity<Long> getUnreadCount(@RequestHeader("X-User-ID") String userId) {
         return ResponseEntity.ok(communicationService.getUnreadCount(userId));
@@ -61,11 +66,10 @@ public class NotificationController {
 
     @PatchMapping("/read-all")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Mark all notifications as read", description = "Mark all notifications for the current user as read")
+    @Operation(summary = "Mark all notifications as read", description = "Mark all notifications for the current user as read and return how many were unread")
     @ApiResponse(responseCode = "200", description = "All notifications marked as read successfully")
-    public ResponseEntity<Void> markAllAsRead(@RequestHeader("X-User-ID") String userId) {
-        communicationService.markAllAsRead(userId);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Long> markAllAsRead(@RequestHeader("X-User-ID") String userId) {
+        return ResponseEntity.ok(communicationService.markAllAsRead(userId));
     }
 
     @DeleteMapping("/{notificationId}")
@@ -79,4 +83,26 @@ public class NotificationController {
         communicationService.deleteCommunication(notificationId);
         return ResponseEntity.noContent().build();
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Send bulk notification", description = "Queue a notification for many users and return the fan-out job")
+    @ApiResponse(responseCode = "202", description = "Notification job accepted")
+    public ResponseEntity<NotificationFanoutResponse> sendBulkNotification(
+            @Valid @RequestBody BulkNotificationRequest request) {
+        return ResponseEntity.accepted().body(
+            communicationService.sendBulkNotification(request.getUserIds(), request.getContent())
+        );
+    }
+
+    @GetMapping("/bulk/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get bulk notification progress", description = "Get the progress and throughput of a fan-out job")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job progress retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<NotificationFanoutResponse> getBulkNotificationJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(notificationFanoutService.getJob(jobId));
+    }
+}
@@ -32,9 +32,11 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
 import com.fill_rouge.backend.constant.ValidationConstants;
 import com.fill_rouge.backend.dto.request.OrganizationRequest;
+import com.fill_rouge.backend.dto.request.OrganizationVolunteerRequest;
 import com.fill_rouge.backend.dto.request.DocumentUrlRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.OrganizationResponse;
-import com.fill_rouge.backend.dto.response.VolunteerProfileResponse;
+import com.fill_rouge.backend.dto.response.OrganizationVolunteerRow;
 import com.fill_rouge.backend.service.organization.OrganizationService;
 import com.fill_rouge.backend.constant.OrganizationStatus;
 import com.fill_rouge.backend.domain.Organization;
@@ -129,9 +131,11 @@ public class OrganizationController {
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search completed successfully")
     })
-    public ResponseEntity<List<OrganizationResponse>> searchOrganizations(
-            @RequestParam(required = false, defaultValue = "") String query) {
-        return ResponseEntity.ok(organizationService.searchOrganizations(query));
+    public ResponseEntity<CursorPage<OrganizationResponse>> searchOrganizations(
+            @RequestParam(required = false, defaultValue = "") String query,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(organizationService.searchOrganizations(query, cursor, size));
     }
 
     @GetMapping("/focus-areas")
@@ -328,14 +332,15 @@ public class OrganizationController {
 
     @GetMapping("/{organizationId}/volunteers")
     @PreAuthorize("hasRole('ORGANIZATION')")
-    @Operation(summary = "Get organization volunteers", description = "Get all volunteers associated with an organization")
+    @Operation(summary = "Get organization volunteers",
+               description = "Page through the volunteers of an organization, sorted by name, email, city, rating or hours "
+                   + "and filtered by city, skill and minimum rating")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Volunteers retrieved successfully")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Organization not found")
-    public ResponseEntity<List<VolunteerProfileResponse>> getOrganizationVolunteers(
+    public ResponseEntity<CursorPage<OrganizationVolunteerRow>> getOrganizationVolunteers(
             @PathVariable String organizationId,
-            @RequestParam(required = false, defaultValue = "name") String sortBy,
-            @RequestParam(required = false, defaultValue = "asc") String sortOrder) {
-        return ResponseEntity.ok(organizationService.getOrganizationVolunteers(organizationId, sortBy, sortOrder));
+            @Valid OrganizationVolunteerRequest request) {
+        return ResponseEntity.ok(organizationService.getOrganizationVolunteers(organizationId, request));
     }
 
     @PatchMapping("/{organizationId}/approve")
@@ -404,13 +409,13 @@ public class OrganizationController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get all organizations", description = "Retrieve all organizations with pagination")
+    @Operation(summary = "Get all organizations", description = "Retrieve all organizations by name, with cursor pagination")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Organizations retrieved successfully")
-    public ResponseEntity<List<OrganizationResponse>> getAllOrganizations(
-            @RequestParam(defaultValue = "0") int page,
+    public ResponseEntity<CursorPage<OrganizationResponse>> getAllOrganizations(
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
-        log.info("Getting all organizations");
-        return ResponseEntity.ok(organizationService.getAllOrganizations());
+        log.info("Getting organizations after cursor {}", cursor);
+        return ResponseEntity.ok(organizationService.getOrganizations(cursor, size));
     }
 
     @PostMapping("/{id}/verify")
@@ -4,8 +4,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,16 +15,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fill_rouge.backend.constant.ReportJobStatus;
+import com.fill_rouge.backend.constant.ReportJobType;
+import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.dto.request.CustomReportRequest;
+import com.fill_rouge.backend.dto.request.ReportJobRequest;
 import com.fill_rouge.backend.dto.response.CustomReportResponse;
 import com.fill_rouge.backend.dto.response.DashboardOverviewResponse;
 import com.fill_rouge.backend.dto.response.EngagementReportResponse;
 import com.fill_rouge.backend.dto.response.ImpactReportResponse;
 import com.fill_rouge.backend.dto.response.OrganizationReportResponse;
+import com.fill_rouge.backend.dto.response.ReportJobResponse;
 import com.fill_rouge.backend.dto.response.SkillsMatchingReportResponse;
 import com.fill_rouge.backend.dto.response.TrendReportResponse;
 import com.fill_rouge.backend.dto.response.VolunteerReportResponse;
+import com.fill_rouge.backend.service.report.ReportExportService;
+import com.fill_rouge.backend.service.report.ReportJobService;
 import com.fill_rouge.backend.service.report.ReportService;
 
 import jakarta.validation.Valid;
@@ -34,6 +44,7 @@ import lombok.RequiredArgsConstructor;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportJobService reportJobService;
 
     // Volunteer Reports
     @GetMapping("/volunteer/{volunteerId}")
@@ -116,26 +127,82 @@ public class ReportController {
     // Export Reports
     @GetMapping("/export/volunteer/{volunteerId}")
     @PreAuthorize("hasAnyRole('VOLUNTEER', 'ADMIN')")
-    public ResponseEntity<byte[]> exportVolunteerReport(
+    public ResponseEntity<StreamingResponseBody> exportVolunteerReport(
             @PathVariable String volunteerId,
-            @RequestParam(defaultValue = "PDF") String format) {
-        byte[] report = reportService.exportVolunteerReport(volunteerId, format);
+            @RequestParam(defaultValue = "PDF") String format,
+            @AuthenticationPrincipal User user) {
+        reportService.checkExportAccess(user, ReportJobType.VOLUNTEER, volunteerId);
+        StreamingResponseBody body = reportService.prepareVolunteerReportExport(volunteerId, format)::accept;
         return ResponseEntity.ok()
                 .header("Content-Type", getContentType(format))
                 .header("Content-Disposition", "attachment; filename=volunteer-report." + format.toLowerCase())
-                .body(report);
+                .body(body);
     }
 
     @GetMapping("/export/organization/{organizationId}")
     @PreAuthorize("hasAnyRole('ORGANIZATION', 'ADMIN')")
-    public ResponseEntity<byte[]> exportOrganizationReport(
+    public ResponseEntity<StreamingResponseBody> exportOrganizationReport(
             @PathVariable String organizationId,
-            @RequestParam(defaultValue = "PDF") String format) {
-        byte[] report = reportService.exportOrganizationReport(organizationId, format);
+            @RequestParam(defaultValue = "PDF") String format,
+            @AuthenticationPrincipal User user) {
+        reportService.checkExportAccess(user, ReportJobType.ORGANIZATION, organizationId);
+        StreamingResponseBody body = reportService.prepareOrganizationReportExport(organizationId, format)::accept;
         return ResponseEntity.ok()
                 .header("Content-Type", getContentType(format))
                 .header("Content-Disposition", "attachment; filename=organization-report." + format.toLowerCase())
-                .body(report);
+                .body(body);
+    }
+
+    @GetMapping("/export/organization/{organizationId}/participations")
+    @PreAuthorize("hasAnyRole('ORGANIZATION', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportOrganizationParticipations(
+            @PathVariable String organizationId,
+            @RequestParam(defaultValue = "CSV") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @AuthenticationPrincipal User user) {
+        reportService.checkExportAccess(user, ReportJobType.ORGANIZATION_PARTICIPATIONS, organizationId);
+        StreamingResponseBody body = reportService.prepareOrganizationParticipationsExport(
+                organizationId, startDate, endDate, format)::accept;
+        String extension = "NDJSON".equalsIgnoreCase(format) ? "ndjson" : "csv";
+        return ResponseEntity.ok()
+                .header("Content-Type", getContentType(format))
+                .header("Content-Disposition", "attachment; filename=organization-participations." + extension)
+                .body(body);
+    }
+
+    // Background Report Jobs
+    @PostMapping("/jobs")
+    @PreAuthorize("hasAnyRole('VOLUNTEER', 'ORGANIZATION', 'ADMIN')")
+    public ResponseEntity<ReportJobResponse> submitReportJob(
+            @Valid @RequestBody ReportJobRequest request,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(reportJobService.submit(request, user));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasAnyRole('VOLUNTEER', 'ORGANIZATION', 'ADMIN')")
+    public ResponseEntity<ReportJobResponse> getReportJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(reportJobService.getJob(jobId, user));
+    }
+
+    @GetMapping("/jobs/{jobId}/download")
+    @PreAuthorize("hasAnyRole('VOLUNTEER', 'ORGANIZATION', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> downloadReportJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal User user) {
+        ReportJobResponse job = reportJobService.getJob(jobId, user);
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        StreamingResponseBody body = out -> reportJobService.writeResult(jobId, user, out);
+        return ResponseEntity.ok()
+                .header("Content-Type", getContentType(job.getFormat()))
+                .header("Content-Disposition", "attachment; filename=" + job.getFileName())
+                .body(body);
     }
 
     // Analytics Dashboard Data
@@ -155,11 +222,6 @@ public class ReportController {
     }
 
     private String getContentType(String format) {
-        return switch (format.toUpperCase()) {
-            case "PDF" -> "application/pdf";
-            case "EXCEL" -> "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
-            case "CSV" -> "text/csv";
-            default -> "application/octet-stream";
-        };
+        return ReportExportService.contentType(format);
     }
-} 
\ No newline at end of file
+}
@@ -20,6 +20,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.fill_rouge.backend.domain.VolunteerProfile;
 import com.fill_rouge.backend.dto.request.VolunteerProfileRequest;
+import com.fill_rouge.backend.dto.request.VolunteerSearchRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.dto.response.SkillSuggestion;
 import com.fill_rouge.backend.dto.response.VolunteerProfileResponse;
 import com.fill_rouge.backend.service.storage.GridFsService;
 import com.fill_rouge.backend.service.volunteer.VolunteerProfileService;
@@ -110,14 +113,24 @@ public class VolunteerProfileController {
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search volunteers", description = "Search volunteers by query string")
+    @Operation(summary = "Search volunteers",
+               description = "Full-text search over bio, skills and interests, filtered by city, province, languages, "
+                   + "certifications, available days and skills, ranked by relevance with cursor pagination")
     @ApiResponses(value = {
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search completed successfully")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search completed successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid search parameters or cursor")
     })
-    public ResponseEntity<ApiResponse<List<VolunteerProfileResponse>>> searchVolunteers(
-            @RequestParam(required = false, defaultValue = "") String query) {
-        List<VolunteerProfileResponse> profiles = profileService.searchVolunteers(query);
-        return ResponseEntity.ok(ApiResponse.success(profiles));
+    public ResponseEntity<ApiResponse<CursorPage<VolunteerProfileResponse>>> searchVolunteers(
+            @Valid VolunteerSearchRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(profileService.searchVolunteers(request)));
+    }
+
+    @GetMapping("/skills/suggest")
+    @Operation(summary = "Suggest skills", description = "Skills starting with the given prefix, most common first")
+    public ResponseEntity<ApiResponse<List<SkillSuggestion>>> suggestSkills(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(profileService.suggestSkills(prefix, limit)));
     }
 
     @PostMapping("/stats")
@@ -39,6 +39,7 @@ public class Communication {
     private LocalDateTime readAt;
     private boolean isDeleted;
     private LocalDateTime deletedAt;
+    private LocalDateTime expireAt; // set on soft delete, the TTL index removes the document then
     private LocalDateTime sentAt;
 
     @Builder.Default
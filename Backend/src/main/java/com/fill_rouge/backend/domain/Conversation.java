@@ -2,7 +2,9 @@ package com.fill_rouge.backend.domain;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
@@ -31,6 +33,10 @@ public class Conversation {
     private LocalDateTime lastMessageTime;
     private String lastMessageSenderId;
 
+    // Unread messages by participant id, changed with $inc alongside the messages
+    @Builder.Default
+    private Map<String, Long> unreadCounts = new HashMap<>();
+
     private boolean isGroupChat;
     private String groupName;
     private String groupAvatar;
@@ -49,6 +55,11 @@ public class Conversation {
     private LocalDateTime archivedAt;
     private String archivedBy;
 
+    // Direct conversations are keyed by their two participants, the same from either side
+    public static String directKey(String userId, String otherUserId) {
+        return userId.compareTo(otherUserId) <= 0 ? userId + ":" + otherUserId : otherUserId + ":" + userId;
+    }
+
     public void updateLastMessage(Message message) {
         this.lastMessageContent = message.getContent();
         this.lastMessageTime = message.getCreatedAt();
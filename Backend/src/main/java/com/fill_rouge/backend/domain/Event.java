@@ -14,6 +14,7 @@ import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fill_rouge.backend.constant.EventCategory;
 import com.fill_rouge.backend.constant.EventParticipationStatus;
 import com.fill_rouge.backend.constant.EventStatus;
@@ -27,7 +28,9 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Data
 @NoArgsConstructor
@@ -38,7 +41,10 @@ public class Event {
     @Id
     private String id;
     
-    @DBRef
+    @DBRef(lazy = true)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Organization organization;
     
     @NotBlank(message = "Event title is required")
@@ -96,7 +102,10 @@ public class Event {
     private String contactEmail;
     private String contactPhone;
     
-    @DBRef
+    @DBRef(lazy = true)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<EventParticipation> participations = new ArrayList<>();
     
     // Additional fields
@@ -116,6 +125,13 @@ public class Event {
     private int pointsAwarded = 0;
     private int durationHours = 0;
     private String bannerImage;
+    // Set when the event moves to COMPLETED and cleared once its attendees have been credited
+    private LocalDateTime completionRequestedAt;
+    // Completion run currently working on the event, taken over by another run after the lease
+    private String completionClaimedBy;
+    private LocalDateTime completionClaimedAt;
+    // Set once the completion pipeline has credited the attendees
+    private LocalDateTime completionProcessedAt;
     
     // Utility methods
     public boolean isRegistrationOpen() {
@@ -30,6 +30,8 @@ public class Message {
     @NotBlank(message = "Receiver ID is required")
     private String receiverId;
 
+    private String conversationKey; // id of the Conversation it belongs to
+
     @NotBlank(message = "Message content is required")
     @Size(min = 1, max = 2000, message = "Message must be between 1 and 2000 characters")
     private String content;
@@ -45,6 +47,7 @@ public class Message {
     private boolean deleted;
     private String deletedBy;
     private LocalDateTime deletedAt;
+    private LocalDateTime expireAt; // set on soft delete, the TTL index removes the document then
 
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
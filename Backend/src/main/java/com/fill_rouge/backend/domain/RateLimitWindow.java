@@ -0,0 +1,25 @@
+package com.fill_rouge.backend.domain;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Data;
+
+@Data
+@Document(collection = "rate_limits")
+public class RateLimitWindow {
+    @Id
+    private String id;
+
+    private long count;
+
+    @Indexed(expireAfterSeconds = 0)
+    private Instant expireAt;
+
+    public static String idOf(String key, long window) {
+        return key + "@" + window;
+    }
+}
@@ -0,0 +1,67 @@
+package com.fill_rouge.backend.domain;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.fill_rouge.backend.constant.ReportJobStatus;
+import com.fill_rouge.backend.constant.ReportJobType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A queued report export. Workers claim jobs by taking a lease, so jobs left RUNNING by a
+ * stopped instance are picked up again once the lease runs out.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "report_jobs")
+@CompoundIndex(name = "status_tenant_created", def = "{'status': 1, 'tenantId': 1, 'createdAt': 1}")
+public class ReportJob {
+    @Id
+    private String id;
+
+    private ReportJobType type;
+    private String subjectId;
+    private String tenantId;
+    private String format;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+    private String requestedBy;
+
+    // Callers whose identical request was collapsed onto this job; they may read it too
+    private Set<String> sharedWith;
+
+    // Only set while the job is queued or running, so identical requests collapse onto one job
+    @Indexed(unique = true, sparse = true)
+    private String activeKey;
+
+    @Builder.Default
+    private ReportJobStatus status = ReportJobStatus.QUEUED;
+    private int progress;
+    private int attempts;
+    private String error;
+
+    private String leaseOwner;
+    private LocalDateTime leaseExpiresAt;
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    private String fileId;
+    private String fileName;
+    private String contentType;
+    private long fileSize;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,30 @@
+package com.fill_rouge.backend.domain;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Data;
+
+/**
+ * Exclusive, expiring claim of one instance on a named background job. The token grows by one
+ * every time the lease changes hands, so a holder that outlived its lease cannot overwrite the
+ * state of the next one.
+ */
+@Data
+@Document(collection = "scheduler_leases")
+public class SchedulerLease {
+    @Id
+    private String name;
+
+    private String owner;
+
+    private long token;
+
+    private Instant expiresAt;
+
+    private Instant lastCompletedAt;
+
+    private Instant renewedAt; // leases not taken or renewed for a week are removed by a TTL index
+}
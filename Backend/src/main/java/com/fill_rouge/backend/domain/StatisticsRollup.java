@@ -0,0 +1,87 @@
+package com.fill_rouge.backend.domain;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.constant.RollupScope;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pre-aggregated dashboard counters for one scope (platform, organization, category or volunteer).
+ * Documents are only ever modified through $inc upserts, so concurrent writers never overwrite each other.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "statistics_rollups")
+public class StatisticsRollup {
+    public static final String PLATFORM_KEY = "all";
+
+    @Id
+    private String id;
+
+    @Indexed
+    private RollupScope scope;
+    private String scopeKey;
+
+    // Event counters
+    private long eventCount;
+    @Builder.Default
+    private Map<String, Long> eventsByStatus = new HashMap<>();
+    private long registeredParticipants;
+    private double eventRatingSum;
+    private long completedEventHours;
+    private double completedRatingSum;
+    private double completedFillRatioSum;
+
+    // Participation counters
+    private long participationCount;
+    @Builder.Default
+    private Map<String, Long> participationsByStatus = new HashMap<>();
+    private long participationHours;
+
+    // Feedback counters
+    private long feedbackCount;
+    private long feedbackRatingSum;
+
+    private LocalDateTime updatedAt;
+
+    public static String idOf(RollupScope scope, String scopeKey) {
+        return scope.name() + ":" + scopeKey;
+    }
+
+    public static StatisticsRollup empty(RollupScope scope, String scopeKey) {
+        return StatisticsRollup.builder()
+                .id(idOf(scope, scopeKey))
+                .scope(scope)
+                .scopeKey(scopeKey)
+                .build();
+    }
+
+    public long getEventsWithStatus(EventStatus status) {
+        return eventsByStatus != null ? eventsByStatus.getOrDefault(status.name(), 0L) : 0L;
+    }
+
+    public double getAverageFeedbackRating() {
+        return feedbackCount > 0 ? (double) feedbackRatingSum / feedbackCount : 0.0;
+    }
+
+    public double getAverageEventRating() {
+        return eventCount > 0 ? eventRatingSum / eventCount : 0.0;
+    }
+
+    public double getCompletionRate() {
+        return eventCount > 0 ? (double) getEventsWithStatus(EventStatus.COMPLETED) / eventCount * 100 : 0.0;
+    }
+}
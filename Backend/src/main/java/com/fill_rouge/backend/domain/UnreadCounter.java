@@ -0,0 +1,35 @@
+package com.fill_rouge.backend.domain;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.fill_rouge.backend.constant.UnreadCounterType;
+
+import lombok.Data;
+
+/**
+ * Unread counts of one user, keyed by user id. Only ever modified through $inc upserts.
+ */
+@Data
+@Document(collection = "unread_counters")
+public class UnreadCounter {
+    // Written once by the first instance that backfills the counters from existing documents
+    public static final String BACKFILL_MARKER = "#backfill";
+
+    @Id
+    private String id;
+
+    private long notifications;
+    private long messages;
+
+    private LocalDateTime updatedAt;
+
+    public long get(UnreadCounterType type) {
+        return switch (type) {
+            case NOTIFICATIONS -> notifications;
+            case MESSAGES -> messages;
+        };
+    }
+}
@@ -59,6 +59,8 @@ public class VolunteerProfile {
     @NotBlank(message = "Country is required")
     private String country;
 
+    private double[] location; // [longitude, latitude], like Event.coordinates
+
     // Status Fields for Approval System
     @Builder.Default
     private String approvalStatus = "APPROVED"; // PENDING, APPROVED, REJECTED
@@ -125,6 +127,10 @@ public class VolunteerProfile {
     @Builder.Default
     private int totalHoursVolunteered = 0;
     
+    @PositiveOrZero(message = "Total points cannot be negative")
+    @Builder.Default
+    private int totalPoints = 0;
+    
     @DecimalMin(value = "0.0", message = "Average rating cannot be negative")
     @DecimalMax(value = "5.0", message = "Average rating cannot exceed 5.0")
     @Builder.Default
@@ -147,6 +153,10 @@ public class VolunteerProfile {
     @Builder.Default
     private Set<String> badges = new HashSet<>();
 
+    // Events already credited to the totals above, so a retried completion counts once
+    @Builder.Default
+    private Set<String> creditedEventIds = new HashSet<>();
+
     // Background Check
     private boolean backgroundChecked;
     private String backgroundCheckStatus;
@@ -0,0 +1,42 @@
+package com.fill_rouge.backend.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Event recommendations of one volunteer, materialized by the nightly matching batch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "volunteer_recommendations")
+public class VolunteerRecommendations {
+    @Id
+    private String volunteerId;
+
+    @Builder.Default
+    private List<Recommendation> events = new ArrayList<>();
+
+    private LocalDateTime computedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Recommendation {
+        private String eventId;
+        private double score;
+        private double distanceKm;
+        private int sharedSkills;
+    }
+}
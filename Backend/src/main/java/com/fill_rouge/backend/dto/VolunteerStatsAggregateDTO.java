@@ -0,0 +1,57 @@
+package com.fill_rouge.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data class for the single-round-trip volunteer dashboard aggregation.
+ * Every property maps to one branch of the $facet stage, so each is a list
+ * even when the branch yields a single document.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolunteerStatsAggregateDTO {
+    @Builder.Default
+    private List<Totals> totals = new ArrayList<>();
+    @Builder.Default
+    private List<Bucket> hoursByMonth = new ArrayList<>();
+    @Builder.Default
+    private List<Bucket> eventsByMonth = new ArrayList<>();
+    @Builder.Default
+    private List<Bucket> eventsByCategory = new ArrayList<>();
+    @Builder.Default
+    private List<Bucket> impactByCategory = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Totals {
+        private Long totalEvents;
+        private Long registeredEvents;
+        private Long activeEvents;
+        private Long completedEvents;
+        private Long completedParticipations;
+        private Long totalHours;
+        private Double averageRating;
+        private Long peopleImpacted;
+        private Long organizationsSupported;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        @Field("_id")
+        private String id;
+        private Long value;
+    }
+}
@@ -0,0 +1,23 @@
+package com.fill_rouge.backend.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkNotificationRequest {
+
+    @NotEmpty(message = "At least one recipient is required")
+    private List<String> userIds;
+
+    @NotBlank(message = "Content is required")
+    private String content;
+}
@@ -0,0 +1,44 @@
+package com.fill_rouge.backend.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationVolunteerRequest {
+    @Pattern(regexp = "(?i)name|email|city|rating|hours", message = "Sort must be one of name, email, city, rating, hours")
+    @Builder.Default
+    private String sortBy = "name";
+
+    @Pattern(regexp = "(?i)asc|desc", message = "Sort order must be asc or desc")
+    @Builder.Default
+    private String sortOrder = "asc";
+
+    @Size(max = 100, message = "City cannot exceed 100 characters")
+    private String city;
+
+    @Size(max = 100, message = "Skill cannot exceed 100 characters")
+    private String skill;
+
+    @DecimalMin(value = "0.0", message = "Minimum rating cannot be negative")
+    @DecimalMax(value = "5.0", message = "Minimum rating cannot exceed 5.0")
+    private Double minRating;
+
+    // Opaque value returned as nextCursor by the previous page
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 100, message = "Page size cannot exceed 100")
+    @Builder.Default
+    private int size = 20;
+}
@@ -0,0 +1,31 @@
+package com.fill_rouge.backend.dto.request;
+
+import java.time.LocalDateTime;
+
+import com.fill_rouge.backend.constant.ReportJobType;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobRequest {
+
+    @NotNull(message = "Report type is required")
+    private ReportJobType type;
+
+    @NotBlank(message = "Subject id is required")
+    private String subjectId;
+
+    @NotBlank(message = "Format is required")
+    private String format;
+
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+}
@@ -38,6 +38,19 @@ public class VolunteerProfileRequest {
     @NotBlank(message = "Country is required")
     private String country;
 
+    // Both or neither, used to match the volunteer with nearby events
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    @Positive(message = "Preferred radius must be positive")
+    @Max(value = 500, message = "Preferred radius cannot exceed 500 km")
+    private Integer preferredRadius;
+
     @NotBlank(message = "Emergency contact name is required")
     @Size(min = 2, max = 100, message = "Emergency contact name must be between {min} and {max} characters")
     private String emergencyContact;
@@ -86,6 +99,11 @@ public class VolunteerProfileRequest {
         return availableDays != null && !availableDays.isEmpty();
     }
 
+    @AssertTrue(message = "Latitude and longitude must be given together")
+    private boolean isValidLocation() {
+        return (latitude == null) == (longitude == null);
+    }
+
     @AssertTrue(message = "At least one notification preference must be selected when notifications are enabled")
     private boolean isValidNotificationPreferences() {
         if (receiveNotifications) {
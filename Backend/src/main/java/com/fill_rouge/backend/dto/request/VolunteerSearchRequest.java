@@ -0,0 +1,37 @@
+package com.fill_rouge.backend.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolunteerSearchRequest {
+    // Matched against bio, skills and interests
+    @Size(max = 200, message = "Search query cannot exceed 200 characters")
+    private String query;
+
+    // Values within one filter are alternatives; different filters must all match
+    private List<String> cities;
+    private List<String> provinces;
+    private List<String> languages;
+    private List<String> certifications;
+    private List<String> availableDays;
+    private List<String> skills;
+
+    // Opaque value returned as nextCursor by the previous page
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 100, message = "Page size cannot exceed 100")
+    @Builder.Default
+    private int size = 20;
+}
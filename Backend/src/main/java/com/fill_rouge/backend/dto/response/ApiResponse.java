@@ -36,11 +36,13 @@ public class ApiResponse<T> {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Meta {
         private Integer page;
         private Integer size;
         private Long totalElements;
         private Integer totalPages;
+        private String nextCursor;
     }
 
     // Success response builders
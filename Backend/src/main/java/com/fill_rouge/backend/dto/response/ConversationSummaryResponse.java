@@ -0,0 +1,23 @@
+package com.fill_rouge.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationSummaryResponse {
+    private String conversationId;
+    private List<String> participantIds;
+    private String otherParticipantId; // null for group conversations
+    private String lastMessageContent;
+    private LocalDateTime lastMessageTime;
+    private String lastMessageSenderId;
+    private long unreadCount; // of the user reading the inbox
+}
@@ -0,0 +1,26 @@
+package com.fill_rouge.backend.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventSearchResponse {
+    private List<EventResponse> events;
+
+    // Only on the first page: category, difficulty, tags and requiredSkills counts for the whole result
+    private Map<String, List<FacetCount>> facets;
+
+    // Null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.fill_rouge.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchRecommendation {
+    private String id; // of the recommended event or volunteer
+    private double score; // between 0 and 1
+    private double distanceKm;
+    private int sharedSkills;
+}
@@ -0,0 +1,29 @@
+package com.fill_rouge.backend.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.fill_rouge.backend.constant.FanoutJobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFanoutResponse {
+    private String jobId;
+    private FanoutJobStatus status;
+    private int totalRecipients;
+    private long delivered;
+    private long failed;
+    private long pushed; // live copies sent to connected users
+    private int chunksWritten;
+    private double recipientsPerSecond;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String error;
+}
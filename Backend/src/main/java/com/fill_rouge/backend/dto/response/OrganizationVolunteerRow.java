@@ -0,0 +1,40 @@
+package com.fill_rouge.backend.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of an organization's volunteer list: only what the list shows, read straight from
+ * the aggregation without loading the profile or its user.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrganizationVolunteerRow {
+    private String id;
+    private String userId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String city;
+
+    @Builder.Default
+    private List<String> skills = new ArrayList<>();
+
+    // Serialized under the names the volunteer list has always used
+    @JsonProperty("averageEventRating")
+    private Double averageRating;
+    @JsonProperty("totalVolunteerHours")
+    private int totalHoursVolunteered;
+    private int totalEventsAttended;
+}
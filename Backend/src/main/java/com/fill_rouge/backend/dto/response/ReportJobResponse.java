@@ -0,0 +1,35 @@
+package com.fill_rouge.backend.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.fill_rouge.backend.constant.ReportJobStatus;
+import com.fill_rouge.backend.constant.ReportJobType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReportJobResponse {
+    private String jobId;
+    private ReportJobType type;
+    private String subjectId;
+    private String format;
+    private ReportJobStatus status;
+    private int progress;
+    private int attempts;
+    private boolean deduplicated; // true when the request joined an identical job already in flight
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String fileName;
+    private Long fileSize;
+    private LocalDateTime expiresAt;
+}
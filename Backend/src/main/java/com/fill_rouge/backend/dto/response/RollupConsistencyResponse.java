@@ -0,0 +1,34 @@
+package com.fill_rouge.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupConsistencyResponse {
+    private boolean consistent;
+    private int rollupsChecked;
+    private int mismatchCount;
+    @Builder.Default
+    private List<Mismatch> mismatches = new ArrayList<>();
+    private LocalDateTime checkedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Mismatch {
+        private String rollupId;
+        private String field;
+        private double stored;
+        private double expected;
+    }
+}
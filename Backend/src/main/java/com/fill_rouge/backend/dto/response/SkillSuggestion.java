@@ -0,0 +1,15 @@
+package com.fill_rouge.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillSuggestion {
+    private String name;
+    private int volunteers;
+}
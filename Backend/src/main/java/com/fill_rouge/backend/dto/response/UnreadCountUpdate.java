@@ -0,0 +1,18 @@
+package com.fill_rouge.backend.dto.response;
+
+import com.fill_rouge.backend.constant.UnreadCounterType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCountUpdate {
+    private UnreadCounterType type;
+    private long unread; // count after the change
+    private long delta;
+}
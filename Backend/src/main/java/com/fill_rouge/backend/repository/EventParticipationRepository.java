@@ -4,12 +4,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.fill_rouge.backend.constant.EventParticipationStatus;
 import com.fill_rouge.backend.domain.EventParticipation;
+import com.fill_rouge.backend.dto.VolunteerStatsAggregateDTO;
 
 @Repository
 public interface EventParticipationRepository extends MongoRepository<EventParticipation, String> {
@@ -53,4 +55,77 @@ public interface EventParticipationRepository extends MongoRepository<EventParti
 
     @Query(value = "{ 'status': 'COMPLETED' }", fields = "{ 'hours': 1 }")
     Long sumTotalHoursCompleted();
+
+    /**
+     * Computes every volunteer dashboard figure in one round trip.
+     * Participations are matched by profile id or user id, joined to a slim
+     * projection of their event and split into counters, monthly series and
+     * per-category maps by a single $facet stage.
+     *
+     * @param volunteerId the volunteer profile id
+     * @param userId the owning user id (legacy participations use it as volunteerId)
+     * @param now reference instant for active/completed event counters
+     * @param timezone zone id used to bucket dates by month
+     */
+    @Aggregation(pipeline = {
+        "{ $match: { 'volunteerId': { $in: [?0, ?1] } } }",
+        "{ $lookup: { " +
+            "from: 'events', " +
+            "let: { eventRef: { $convert: { input: '$eventId', to: 'objectId', onError: '$eventId', onNull: null } } }, " +
+            "pipeline: [ " +
+                "{ $match: { $expr: { $eq: ['$_id', '$$eventRef'] } } }, " +
+                "{ $project: { status: 1, category: 1, startDate: 1, endDate: 1, organizationId: 1, " +
+                    "participantCount: { $size: { $ifNull: ['$registeredParticipants', []] } } } } " +
+            "], " +
+            "as: 'event' " +
+        "} }",
+        "{ $unwind: '$event' }",
+        "{ $facet: { " +
+            "totals: [ " +
+                "{ $group: { " +
+                    "_id: null, " +
+                    "totalEvents: { $sum: 1 }, " +
+                    "registeredEvents: { $sum: { $cond: [{ $eq: ['$status', 'REGISTERED'] }, 1, 0] } }, " +
+                    "activeEvents: { $sum: { $cond: [{ $and: [" +
+                        "{ $eq: ['$event.status', 'ACTIVE'] }, " +
+                        "{ $eq: [{ $type: '$event.endDate' }, 'date'] }, " +
+                        "{ $gt: ['$event.endDate', ?2] }] }, 1, 0] } }, " +
+                    "completedEvents: { $sum: { $cond: [{ $and: [" +
+                        "{ $eq: ['$event.status', 'COMPLETED'] }, " +
+                        "{ $eq: [{ $type: '$event.endDate' }, 'date'] }, " +
+                        "{ $lt: ['$event.endDate', ?2] }] }, 1, 0] } }, " +
+                    "completedParticipations: { $sum: { $cond: [{ $eq: ['$status', 'COMPLETED'] }, 1, 0] } }, " +
+                    "totalHours: { $sum: { $cond: [{ $eq: ['$status', 'COMPLETED'] }, { $ifNull: ['$hours', 0] }, 0] } }, " +
+                    "averageRating: { $avg: '$rating' }, " +
+                    "peopleImpacted: { $sum: { $cond: [{ $eq: ['$status', 'COMPLETED'] }, '$event.participantCount', 0] } }, " +
+                    "organizations: { $addToSet: '$event.organizationId' } " +
+                "} }, " +
+                "{ $project: { " +
+                    "_id: 0, totalEvents: 1, registeredEvents: 1, activeEvents: 1, completedEvents: 1, " +
+                    "completedParticipations: 1, totalHours: 1, averageRating: 1, peopleImpacted: 1, " +
+                    "organizationsSupported: { $size: { $setDifference: ['$organizations', [null]] } } " +
+                "} } " +
+            "], " +
+            "hoursByMonth: [ " +
+                "{ $match: { 'status': 'COMPLETED', 'checkOutTime': { $type: 'date' } } }, " +
+                "{ $group: { _id: { $dateToString: { format: '%Y-%m', date: '$checkOutTime', timezone: ?3 } }, " +
+                    "value: { $sum: { $ifNull: ['$hours', 0] } } } }, " +
+                "{ $sort: { _id: 1 } } " +
+            "], " +
+            "eventsByMonth: [ " +
+                "{ $match: { 'event.startDate': { $type: 'date' } } }, " +
+                "{ $group: { _id: { $dateToString: { format: '%Y-%m', date: '$event.startDate', timezone: ?3 } }, " +
+                    "value: { $sum: 1 } } }, " +
+                "{ $sort: { _id: 1 } } " +
+            "], " +
+            "eventsByCategory: [ " +
+                "{ $group: { _id: '$event.category', value: { $sum: 1 } } } " +
+            "], " +
+            "impactByCategory: [ " +
+                "{ $match: { 'status': 'COMPLETED' } }, " +
+                "{ $group: { _id: '$event.category', value: { $sum: '$event.participantCount' } } } " +
+            "] " +
+        "} }"
+    })
+    VolunteerStatsAggregateDTO aggregateVolunteerStats(String volunteerId, String userId, LocalDateTime now, String timezone);
 } 
\ No newline at end of file
@@ -16,7 +16,7 @@ import com.fill_rouge.backend.constant.EventStatus;
 import com.fill_rouge.backend.domain.Event;
 
 @Repository
-public interface EventRepository extends MongoRepository<Event, String> {
+public interface EventRepository extends MongoRepository<Event, String>, EventRepositoryCustom {
     List<Event> findByOrganizationId(String organizationId, Pageable pageable);
     
     Page<Event> findByStatusAndStartDateAfter(EventStatus status, LocalDateTime date, Pageable pageable);
@@ -26,6 +26,7 @@ public interface EventRepository extends MongoRepository<Event, String> {
     
     Page<Event> findByCategory(EventCategory category, Pageable pageable);
     
+    // Case-insensitive substring of the title, matched against the keys of the title index
     Page<Event> findByTitleContainingIgnoreCase(String title, Pageable pageable);
     
     @Query("{'requiredSkills': {$in: ?0}}")
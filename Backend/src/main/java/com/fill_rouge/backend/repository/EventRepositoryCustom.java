@@ -0,0 +1,40 @@
+package com.fill_rouge.backend.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+
+/**
+ * Conditional single-document updates for event capacity, waitlist, status and detail changes.
+ * Each method applies its change atomically on the server and returns the event
+ * as it was just before the update, or empty when the guard did not match.
+ */
+public interface EventRepositoryCustom {
+    Optional<Event> addParticipantIfSeatAvailable(String eventId, String userId, int maxParticipants);
+
+    Optional<Event> addGuestIfSeatAvailable(String eventId, String email, int maxParticipants);
+
+    Optional<Event> removeParticipant(String eventId, String userId);
+
+    // A null maxWaitlistSize leaves the waitlist unbounded
+    Optional<Event> addToWaitlist(String eventId, String userId, Integer maxWaitlistSize);
+
+    Optional<Event> removeFromWaitlist(String eventId, String userId);
+
+    Optional<Event> promoteFromWaitlist(String eventId, String userId, int maxParticipants);
+
+    boolean markFullIfAtCapacity(String eventId, int maxParticipants);
+
+    boolean reopenIfBelowCapacity(String eventId, int maxParticipants);
+
+    // Sets the status alone, so seats and waitlist changed since the event was read are kept
+    Optional<Event> changeStatus(String eventId, Collection<EventStatus> from, EventStatus to);
+
+    // Sets the rating alone, from the feedback average computed by the caller
+    Optional<Event> setAverageRating(String eventId, double averageRating);
+
+    // Writes every field of the edited event except seats, waitlist, ratings and completion
+    Optional<Event> updateDetails(Event event, EventStatus expectedStatus);
+}
@@ -0,0 +1,207 @@
+package com.fill_rouge.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.bson.Document;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.service.cache.CacheInvalidator;
+import com.fill_rouge.backend.service.cache.EntityChanged;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    private static final List<EventStatus> CLOSED_STATUSES = List.of(EventStatus.CANCELLED, EventStatus.COMPLETED);
+    // Maintained by their own conditional updates, a detail edit from an older read must not overwrite them
+    private static final Set<String> SERVER_MANAGED_FIELDS = Set.of("_id", "_class", "organization", "participations",
+            "registeredParticipants", "waitlistedParticipants", "waitlistJoinTimes", "currentWaitlistSize",
+            "guestParticipantEmails", "averageRating", "numberOfRatings", "createdAt", "completionRequestedAt",
+            "completionClaimedBy", "completionClaimedAt", "completionProcessedAt");
+    private static final FindAndModifyOptions RETURN_PREVIOUS = FindAndModifyOptions.options().returnNew(false);
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher publisher;
+
+    @Override
+    public Optional<Event> addParticipantIfSeatAvailable(String eventId, String userId, int maxParticipants) {
+        if (maxParticipants <= 0) {
+            return Optional.empty();
+        }
+        Criteria criteria = seatAvailable(eventId, maxParticipants)
+                .and("status").nin(CLOSED_STATUSES)
+                .and("registeredParticipants").ne(userId);
+        Update update = new Update()
+                .addToSet("registeredParticipants", userId)
+                .set("updatedAt", LocalDateTime.now());
+        return modify(criteria, update);
+    }
+
+    @Override
+    public Optional<Event> addGuestIfSeatAvailable(String eventId, String email, int maxParticipants) {
+        if (maxParticipants <= 0) {
+            return Optional.empty();
+        }
+        Criteria criteria = seatAvailable(eventId, maxParticipants)
+                .and("status").nin(CLOSED_STATUSES)
+                .and("guestParticipantEmails").ne(email);
+        Update update = new Update()
+                .addToSet("guestParticipantEmails", email)
+                .set("updatedAt", LocalDateTime.now());
+        return modify(criteria, update);
+    }
+
+    @Override
+    public Optional<Event> removeParticipant(String eventId, String userId) {
+        Criteria criteria = Criteria.where("_id").is(eventId)
+                .and("registeredParticipants").is(userId);
+        Update update = new Update()
+                .pull("registeredParticipants", userId)
+                .set("updatedAt", LocalDateTime.now());
+        return modify(criteria, update);
+    }
+
+    @Override
+    public Optional<Event> addToWaitlist(String eventId, String userId, Integer maxWaitlistSize) {
+        Criteria criteria = Criteria.where("_id").is(eventId)
+                .and("waitlistEnabled").is(true)
+                .and("status").nin(CLOSED_STATUSES)
+                .and("registeredParticipants").ne(userId)
+                .and("waitlistedParticipants").ne(userId);
+        if (maxWaitlistSize != null) {
+            criteria = criteria.and("maxWaitlistSize").is(maxWaitlistSize)
+                    .and("currentWaitlistSize").lt(maxWaitlistSize);
+        }
+        Update update = new Update()
+                .addToSet("waitlistedParticipants", userId)
+                .set("waitlistJoinTimes." + userId, LocalDateTime.now())
+                .inc("currentWaitlistSize", 1)
+                .set("updatedAt", LocalDateTime.now());
+        return modify(criteria, update);
+    }
+
+    @Override
+    public Optional<Event> removeFromWaitlist(String eventId, String userId) {
+        Criteria criteria = Criteria.where("_id").is(eventId)
+                .and("waitlistedParticipants").is(userId);
+        Update update = new Update()
+                .pull("waitlistedParticipants", userId)
+                .unset("waitlistJoinTimes." + userId)
+                .inc("currentWaitlistSize", -1)
+                .set("updatedAt", LocalDateTime.now());
+        return modify(criteria, update);
+    }
+
+    @Override
+    public Optional<Event> promoteFromWaitlist(String eventId, String userId, int maxParticipants) {
+        if (maxParticipants <= 0) {
+            return Optional.empty();
+        }
+        Criteria criteria = seatAvailable(eventId, maxParticipants)
+                .and("waitlistedParticipants").is(userId);
+        Update update = new Update()
+                .pull("waitlistedParticipants", userId)
+                .unset("waitlistJoinTimes." + userId)
+                .inc("currentWaitlistSize", -1)
+                .addToSet("registeredParticipants", userId)
+                .set("updatedAt", LocalDateTime.now());
+        return modify(criteria, update);
+    }
+
+    @Override
+    public boolean markFullIfAtCapacity(String eventId, int maxParticipants) {
+        if (maxParticipants <= 0) {
+            return false;
+        }
+        Query query = Query.query(Criteria.where("_id").is(eventId)
+                .and("status").is(EventStatus.ACTIVE)
+                .and("maxParticipants").is(maxParticipants)
+                .and("registeredParticipants." + (maxParticipants - 1)).exists(true));
+        Update update = new Update()
+                .set("status", EventStatus.FULL)
+                .set("updatedAt", LocalDateTime.now());
+        boolean marked = mongoTemplate.updateFirst(query, update, Event.class).getModifiedCount() > 0;
+        if (marked) {
+            publisher.publishEvent(new EntityChanged(CacheInvalidator.EVENTS, eventId));
+        }
+        return marked;
+    }
+
+    @Override
+    public boolean reopenIfBelowCapacity(String eventId, int maxParticipants) {
+        if (maxParticipants <= 0) {
+            return false;
+        }
+        Query query = Query.query(seatAvailable(eventId, maxParticipants).and("status").is(EventStatus.FULL));
+        Update update = new Update()
+                .set("status", EventStatus.ACTIVE)
+                .set("updatedAt", LocalDateTime.now());
+        boolean reopened = mongoTemplate.updateFirst(query, update, Event.class).getModifiedCount() > 0;
+        if (reopened) {
+            publisher.publishEvent(new EntityChanged(CacheInvalidator.EVENTS, eventId));
+        }
+        return reopened;
+    }
+
+    @Override
+    public Optional<Event> changeStatus(String eventId, Collection<EventStatus> from, EventStatus to) {
+        Criteria criteria = Criteria.where("_id").is(eventId)
+                .and("status").in(from);
+        Update update = new Update()
+                .set("status", to)
+                .set("updatedAt", LocalDateTime.now());
+        return modify(criteria, update);
+    }
+
+    @Override
+    public Optional<Event> setAverageRating(String eventId, double averageRating) {
+        Criteria criteria = Criteria.where("_id").is(eventId);
+        Update update = new Update()
+                .set("averageRating", averageRating)
+                .set("updatedAt", LocalDateTime.now());
+        return modify(criteria, update);
+    }
+
+    @Override
+    public Optional<Event> updateDetails(Event event, EventStatus expectedStatus) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(event, document);
+        Update update = new Update();
+        document.forEach((field, value) -> {
+            if (!SERVER_MANAGED_FIELDS.contains(field)) {
+                update.set(field, value);
+            }
+        });
+        Criteria criteria = Criteria.where("_id").is(event.getId())
+                .and("status").is(expectedStatus);
+        return modify(criteria, update);
+    }
+
+    // The array has a free seat while its last allowed index is still empty; pinning
+    // maxParticipants keeps the guard valid if the limit is edited concurrently
+    private Criteria seatAvailable(String eventId, int maxParticipants) {
+        return Criteria.where("_id").is(eventId)
+                .and("maxParticipants").is(maxParticipants)
+                .and("registeredParticipants." + (maxParticipants - 1)).exists(false);
+    }
+
+    // Partial updates raise no mapping events, so cached copies of the event are invalidated here
+    private Optional<Event> modify(Criteria criteria, Update update) {
+        Optional<Event> previous = Optional.ofNullable(
+                mongoTemplate.findAndModify(Query.query(criteria), update, RETURN_PREVIOUS, Event.class));
+        previous.ifPresent(event -> publisher.publishEvent(new EntityChanged(CacheInvalidator.EVENTS, event.getId())));
+        return previous;
+    }
+}
@@ -0,0 +1,70 @@
+package com.fill_rouge.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import com.fill_rouge.backend.exception.ValidationException;
+
+/**
+ * Sort orders that listings can be paged through by key. Each is (field, _id) in one
+ * direction, so ties on the field are broken by id and every document has exactly one position.
+ */
+public enum Keyset {
+    START_DATE("startDate", LocalDateTime::parse, Direction.ASC),
+    CREATED_AT("createdAt", LocalDateTime::parse, Direction.ASC),
+    NAME("name", value -> value, Direction.ASC),
+    // Newest first, for message histories
+    CREATED_AT_DESC("createdAt", LocalDateTime::parse, Direction.DESC),
+    LAST_MESSAGE_TIME_DESC("lastMessageTime", LocalDateTime::parse, Direction.DESC);
+
+    private final String field;
+    private final Function<String, Object> parser;
+    private final Direction direction;
+
+    Keyset(String field, Function<String, Object> parser, Direction direction) {
+        this.field = field;
+        this.parser = parser;
+        this.direction = direction;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public Sort sort() {
+        return Sort.by(new Sort.Order(direction, field), new Sort.Order(direction, "_id"));
+    }
+
+    // Documents without the field sort first ascending and last descending
+    public Criteria after(PageCursor cursor) {
+        boolean ascending = direction.isAscending();
+        if (cursor.position() == null) {
+            Criteria sameNullPosition = Criteria.where(field).is(null).and("_id");
+            if (ascending) {
+                return new Criteria().orOperator(
+                    Criteria.where(field).ne(null),
+                    sameNullPosition.gt(cursor.id()));
+            }
+            return sameNullPosition.lt(cursor.id());
+        }
+        Object value;
+        try {
+            value = parser.apply(cursor.position());
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+        if (ascending) {
+            return new Criteria().orOperator(
+                Criteria.where(field).gt(value),
+                Criteria.where(field).is(value).and("_id").gt(cursor.id()));
+        }
+        return new Criteria().orOperator(
+            Criteria.where(field).lt(value),
+            Criteria.where(field).is(value).and("_id").lt(cursor.id()),
+            Criteria.where(field).is(null));
+    }
+}
@@ -0,0 +1,59 @@
+package com.fill_rouge.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fill_rouge.backend.dto.response.CursorPage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keyset pagination: a page continues after the (field, _id) of the previous page's last
+ * document instead of skipping over the documents before it, so with an index on
+ * (field, _id) every page costs the same however deep it is. One extra document is read
+ * to tell whether there is a next page; no count is run.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetQueries {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
+
+    // size is clamped to [1, MAX_PAGE_SIZE]
+    public <T> CursorPage<T> page(Class<T> type, Criteria filter, Keyset keyset, String cursor, int requestedSize) {
+        int size = Math.max(1, Math.min(requestedSize, MAX_PAGE_SIZE));
+        Criteria criteria = StringUtils.hasText(cursor)
+            ? new Criteria().andOperator(filter, keyset.after(PageCursor.decode(cursor)))
+            : filter;
+        Query query = Query.query(criteria).with(keyset.sort()).limit(size + 1);
+        List<T> documents = mongoTemplate.find(query, type);
+
+        if (documents.size() <= size) {
+            return new CursorPage<>(documents, size, null);
+        }
+        List<T> content = documents.subList(0, size);
+        return new CursorPage<>(List.copyOf(content), size, cursorAfter(content.get(size - 1), type, keyset));
+    }
+
+    public <T> CursorPage<T> page(Class<T> type, Keyset keyset, String cursor, int size) {
+        return page(type, new Criteria(), keyset, cursor, size);
+    }
+
+    private <T> String cursorAfter(T last, Class<T> type, Keyset keyset) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+            .getRequiredPersistentEntity(type);
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(last);
+        Object value = accessor.getProperty(entity.getRequiredPersistentProperty(keyset.getField()));
+        Object id = entity.getIdentifierAccessor(last).getRequiredIdentifier();
+        return new PageCursor(value == null ? null : value.toString(), id.toString()).encode();
+    }
+}
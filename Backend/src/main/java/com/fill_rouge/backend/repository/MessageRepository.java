@@ -9,8 +9,6 @@ import com.fill_rouge.backend.domain.Message;
 
 @Repository
 public interface MessageRepository extends MongoRepository<Message, String> {
-    List<Message> findBySenderIdAndReceiverIdOrReceiverIdAndSenderId(
-        String senderId1, String receiverId1, String senderId2, String receiverId2);
     List<Message> findByReceiverIdAndReadFalse(String receiverId);
     long countByReceiverIdAndReadFalse(String receiverId);
-} 
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.fill_rouge.backend.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.fill_rouge.backend.exception.ValidationException;
+
+/**
+ * Position of the last document of a page: its sort value, or null when the document has
+ * none, and its id. Clients only ever see the encoded, opaque form.
+ */
+public record PageCursor(String position, String id) {
+
+    public String encode() {
+        String payload = id + "|" + (position == null ? "-" : "+" + position);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor) {
+        String payload;
+        try {
+            payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+        int separator = payload.indexOf('|');
+        if (separator <= 0 || separator == payload.length() - 1) {
+            throw new ValidationException("Invalid cursor");
+        }
+        String id = payload.substring(0, separator);
+        String position = payload.substring(separator + 1);
+        return switch (position.charAt(0)) {
+            case '-' -> new PageCursor(null, id);
+            case '+' -> new PageCursor(position.substring(1), id);
+            default -> throw new ValidationException("Invalid cursor");
+        };
+    }
+}
@@ -0,0 +1,154 @@
+package com.fill_rouge.backend.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.DBRef;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads pages of documents together with their {@code @DBRef} targets in a fixed number of
+ * round trips. The named references are detached from the raw documents before mapping, so
+ * the converter does not resolve them one document at a time. Each is then fetched with a
+ * single {@code $in} query per target collection, for the whole page at once.
+ *
+ * <p>Reference paths may be nested with dots: {@code "volunteerProfiles.user"} resolves the
+ * profiles and then, in one more query, the users of all of those profiles.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceResolver {
+
+    private final MongoTemplate mongoTemplate;
+
+    public <T> List<T> find(Query query, Class<T> type, String... referencePaths) {
+        List<Document> documents = mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(type));
+        return read(documents, type, group(referencePaths));
+    }
+
+    private <T> List<T> read(List<Document> documents, Class<T> type, Map<String, List<String>> references) {
+        MongoConverter converter = mongoTemplate.getConverter();
+        MongoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+
+        Map<MongoPersistentProperty, List<Object>> detached = new LinkedHashMap<>();
+        for (String name : references.keySet()) {
+            MongoPersistentProperty property = entity.getRequiredPersistentProperty(name);
+            if (!property.isDbReference()) {
+                throw new IllegalArgumentException(type.getSimpleName() + "." + name + " is not a @DBRef");
+            }
+            List<Object> rawValues = new ArrayList<>(documents.size());
+            for (Document document : documents) {
+                rawValues.add(document.remove(property.getFieldName()));
+            }
+            detached.put(property, rawValues);
+        }
+
+        List<T> results = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            results.add(converter.read(type, document));
+        }
+
+        for (Map.Entry<MongoPersistentProperty, List<Object>> entry : detached.entrySet()) {
+            MongoPersistentProperty property = entry.getKey();
+            List<Object> rawValues = entry.getValue();
+            Map<Object, Object> targets = fetchTargets(property, rawValues, references.get(property.getName()));
+            for (int i = 0; i < results.size(); i++) {
+                PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(results.get(i));
+                accessor.setProperty(property, toPropertyValue(property, rawValues.get(i), targets));
+                results.set(i, accessor.getBean());
+            }
+        }
+        return results;
+    }
+
+    private Map<Object, Object> fetchTargets(MongoPersistentProperty property, List<Object> rawValues,
+                                             List<String> nestedPaths) {
+        Map<String, Set<Object>> idsByCollection = new HashMap<>();
+        for (Object raw : rawValues) {
+            for (DBRef ref : refs(raw)) {
+                idsByCollection.computeIfAbsent(ref.getCollectionName(), collection -> new LinkedHashSet<>())
+                    .add(ref.getId());
+            }
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        Map<String, List<String>> nested = group(nestedPaths.toArray(String[]::new));
+        for (Map.Entry<String, Set<Object>> entry : idsByCollection.entrySet()) {
+            List<Document> documents = mongoTemplate.find(
+                Query.query(Criteria.where("_id").in(entry.getValue())), Document.class, entry.getKey());
+            List<Object> ids = documents.stream().map(document -> document.get("_id")).toList();
+            List<?> loaded = read(documents, property.getActualType(), nested);
+            for (int i = 0; i < loaded.size(); i++) {
+                targets.put(ids.get(i), loaded.get(i));
+            }
+        }
+        return targets;
+    }
+
+    // Dangling references are dropped, as the converter does for collections of DBRefs
+    private Object toPropertyValue(MongoPersistentProperty property, Object raw, Map<Object, Object> targets) {
+        if (raw == null) {
+            return null;
+        }
+        if (!property.isCollectionLike()) {
+            return raw instanceof DBRef ref ? targets.get(ref.getId()) : null;
+        }
+        Collection<Object> values = Set.class.isAssignableFrom(property.getType())
+            ? new LinkedHashSet<>()
+            : new ArrayList<>();
+        for (DBRef ref : refs(raw)) {
+            Object target = targets.get(ref.getId());
+            if (target != null) {
+                values.add(target);
+            }
+        }
+        return values;
+    }
+
+    private static List<DBRef> refs(Object raw) {
+        if (raw instanceof DBRef ref) {
+            return List.of(ref);
+        }
+        if (raw instanceof Collection<?> collection) {
+            List<DBRef> refs = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                if (element instanceof DBRef ref) {
+                    refs.add(ref);
+                }
+            }
+            return refs;
+        }
+        return List.of();
+    }
+
+    // "a.b", "a.c", "d" -> {a: [b, c], d: []}
+    private static Map<String, List<String>> group(String... paths) {
+        Map<String, List<String>> grouped = new LinkedHashMap<>();
+        for (String path : paths) {
+            int dot = path.indexOf('.');
+            String head = dot < 0 ? path : path.substring(0, dot);
+            List<String> rest = grouped.computeIfAbsent(head, key -> new ArrayList<>());
+            if (dot >= 0) {
+                rest.add(path.substring(dot + 1));
+            }
+        }
+        return grouped;
+    }
+}
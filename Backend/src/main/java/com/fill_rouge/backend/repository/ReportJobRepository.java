@@ -0,0 +1,10 @@
+package com.fill_rouge.backend.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.fill_rouge.backend.domain.ReportJob;
+
+@Repository
+public interface ReportJobRepository extends MongoRepository<ReportJob, String> {
+}
@@ -0,0 +1,14 @@
+package com.fill_rouge.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.fill_rouge.backend.constant.RollupScope;
+import com.fill_rouge.backend.domain.StatisticsRollup;
+
+@Repository
+public interface StatisticsRollupRepository extends MongoRepository<StatisticsRollup, String> {
+    List<StatisticsRollup> findByScope(RollupScope scope);
+}
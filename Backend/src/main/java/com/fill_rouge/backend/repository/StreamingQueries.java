@@ -0,0 +1,45 @@
+package com.fill_rouge.backend.repository;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cursor-backed reads for statistics that have to visit large parts of a collection.
+ * Only the listed fields are fetched and documents are mapped one batch at a time, so
+ * callers can fold over millions of documents in constant memory. DBRefs left out of
+ * the projection are never resolved.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamingQueries {
+
+    public static final int CURSOR_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Opens a cursor over the matching documents. The stream holds a server cursor and must be closed.
+     */
+    public <T> Stream<T> stream(Class<T> type, Criteria criteria, String... fields) {
+        Query query = Query.query(criteria).cursorBatchSize(CURSOR_BATCH_SIZE);
+        query.fields().include(fields);
+        return mongoTemplate.stream(query, type);
+    }
+
+    public <T> void forEach(Class<T> type, Criteria criteria, Consumer<? super T> consumer, String... fields) {
+        try (Stream<T> stream = stream(type, criteria, fields)) {
+            stream.forEach(consumer);
+        }
+    }
+
+    public <T> void forEach(Class<T> type, Consumer<? super T> consumer, String... fields) {
+        forEach(type, new Criteria(), consumer, fields);
+    }
+}
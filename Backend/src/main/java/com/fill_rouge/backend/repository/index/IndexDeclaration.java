@@ -0,0 +1,9 @@
+package com.fill_rouge.backend.repository.index;
+
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+
+/**
+ * An index the application needs, together with the repository methods that rely on it.
+ */
+public record IndexDeclaration(String collection, IndexDefinition definition, String usedBy) {
+}
@@ -0,0 +1,10 @@
+package com.fill_rouge.backend.repository.index;
+
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * One row of {@code $indexStats}: how many operations used an index since {@code since}.
+ */
+public record IndexUsage(String collection, String name, Map<String, Object> key, long operations, Date since) {
+}
@@ -0,0 +1,260 @@
+package com.fill_rouge.backend.repository.index;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeospatialIndex;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition.TextIndexDefinitionBuilder;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Indexes declared for the repository queries, beyond those annotated on the domain classes,
+ * and the query shapes that are explained at startup to check that they are used.
+ *
+ * <p>Keep the two lists in step: a repository method that filters on a new field needs both
+ * an index here and a shape below, otherwise a collection scan goes unnoticed.
+ */
+public final class MongoIndexCatalog {
+
+    public static final String EVENT_TEXT_INDEX = "event_text";
+    public static final String VOLUNTEER_TEXT_INDEX = "volunteer_text";
+
+    private static final String EVENTS = "events";
+    private static final String ORGANIZATIONS = "organizations";
+    private static final String USERS = "users";
+    private static final String VOLUNTEER_PROFILES = "volunteer_profiles";
+    private static final String PARTICIPATIONS = "event_participations";
+    private static final String TOKENS = "tokens";
+    private static final String COMMUNICATIONS = "communications";
+    private static final String MESSAGES = "messages";
+    private static final String CONVERSATIONS = "conversations";
+    private static final String RECOMMENDATIONS = "volunteer_recommendations";
+    private static final String SCHEDULER_LEASES = "scheduler_leases";
+
+    private static final Date SOME_DATE = new Date(0);
+    private static final Document KEYSET_START = new Document("startDate", 1).append("_id", 1);
+    private static final Document NEAR_POINT = new Document("$near", new Document("$geometry",
+        new Document("type", "Point").append("coordinates", List.of(-6.84, 34.02))).append("$maxDistance", 10000));
+
+    public static final List<IndexDeclaration> INDEXES = List.of(
+        new IndexDeclaration(EVENTS, new Index().on("organizationId", Direction.ASC).on("status", Direction.ASC)
+            .on("endDate", Direction.ASC).named("organization_status_end"),
+            "EventRepository.findByOrganizationId, countByOrganizationIdAndStatusAnd*"),
+        new IndexDeclaration(EVENTS, new Index().on("status", Direction.ASC).on("startDate", Direction.ASC)
+            .on("_id", Direction.ASC).named("status_start_id"),
+            "EventRepository.findByStatus*, findByStartDateAfterAndStatusOrderByStartDateAsc, "
+                + "EventService public, upcoming and admin pages, event lifecycle starts"),
+        new IndexDeclaration(EVENTS, new Index().on("status", Direction.ASC).on("endDate", Direction.ASC)
+            .named("status_end"),
+            "EventRepository.findByStatusAndEndDateBefore, countByStatusAndEndDate*, event lifecycle ends"),
+        new IndexDeclaration(EVENTS, new Index().on("completionRequestedAt", Direction.ASC)
+            .partial(PartialIndexFilter.of(Criteria.where("completionRequestedAt").exists(true)))
+            .named("completion_requested"),
+            "EventCompletionPipeline.resubmitUnfinished, holds only the completions not finished yet"),
+        new IndexDeclaration(EVENTS, new Index().on("registeredParticipants", Direction.ASC)
+            .on("startDate", Direction.ASC).named("participant_start"),
+            "EventRepository.findByRegisteredParticipantsContaining, findEventsByParticipantAndDateRange"),
+        new IndexDeclaration(EVENTS, new Index().on("waitlistedParticipants", Direction.ASC).named("waitlisted"),
+            "EventRepository.findByWaitlistedParticipantsContaining"),
+        new IndexDeclaration(EVENTS, new Index().on("category", Direction.ASC).on("startDate", Direction.ASC)
+            .named("category_start"),
+            "EventRepository.findByCategory, countByCategory"),
+        new IndexDeclaration(EVENTS, new Index().on("startDate", Direction.ASC).on("_id", Direction.ASC)
+            .named("start_id"),
+            "EventRepository.findByStartDateBetween, EventSearchService date pages, EventService admin pages"),
+        new IndexDeclaration(EVENTS, new Index().on("title", Direction.ASC).named("title"),
+            "EventRepository.findByTitleContainingIgnoreCase, scans the title keys instead of the documents"),
+        new IndexDeclaration(EVENTS, new Index().on("requiredSkills", Direction.ASC).named("required_skills"),
+            "EventRepository.findByRequiredSkills"),
+        new IndexDeclaration(EVENTS, new GeospatialIndex("coordinates").typed(GeoSpatialIndexType.GEO_2DSPHERE)
+            .named("coordinates_2dsphere"),
+            "EventRepository.findNearbyEvents, EventSearchService radius filter"),
+        new IndexDeclaration(EVENTS, new TextIndexDefinitionBuilder()
+            .named(EVENT_TEXT_INDEX)
+            .onField("title", 10F)
+            .onField("tags", 5F)
+            .onField("description")
+            .build(),
+            "EventSearchService"),
+        new IndexDeclaration(ORGANIZATIONS, new Index().on("name", Direction.ASC).on("_id", Direction.ASC)
+            .named("name_id"),
+            "OrganizationRepository.findByName, OrganizationService pages and search"),
+        new IndexDeclaration(USERS, new Index().on("createdAt", Direction.ASC).on("_id", Direction.ASC)
+            .named("created_id"),
+            "UserService.getUsers pages"),
+        new IndexDeclaration(ORGANIZATIONS, new GeospatialIndex("coordinates").typed(GeoSpatialIndexType.GEO_2DSPHERE)
+            .named("coordinates_2dsphere"),
+            "OrganizationRepository.findNearbyOrganizations"),
+        // 2dsphere indexes skip profiles without a location
+        new IndexDeclaration(VOLUNTEER_PROFILES, new GeospatialIndex("location").typed(GeoSpatialIndexType.GEO_2DSPHERE)
+            .named("location_2dsphere"),
+            "VolunteerProfileRepository.findNearbyVolunteers"),
+        new IndexDeclaration(VOLUNTEER_PROFILES, new Index().on("user.$id", Direction.ASC).named("user_ref"),
+            "EventCompletionPipeline profile credits"),
+        new IndexDeclaration(VOLUNTEER_PROFILES, new TextIndexDefinitionBuilder()
+            .named(VOLUNTEER_TEXT_INDEX)
+            .onField("skills.name", 5F)
+            .onField("interests", 3F)
+            .onField("bio")
+            .build(),
+            "VolunteerSearchQueries ranked pages"),
+        new IndexDeclaration(VOLUNTEER_PROFILES, new Index().on("createdAt", Direction.ASC).on("_id", Direction.ASC)
+            .named("created_id"),
+            "VolunteerSearchQueries pages"),
+        new IndexDeclaration(VOLUNTEER_PROFILES, new Index().on("city", Direction.ASC).on("createdAt", Direction.ASC)
+            .on("_id", Direction.ASC).named("city_created"),
+            "VolunteerSearchQueries city filter"),
+        new IndexDeclaration(VOLUNTEER_PROFILES, new Index().on("province", Direction.ASC).on("createdAt", Direction.ASC)
+            .on("_id", Direction.ASC).named("province_created"),
+            "VolunteerSearchQueries province filter"),
+        new IndexDeclaration(VOLUNTEER_PROFILES, new Index().on("languages", Direction.ASC).named("languages"),
+            "VolunteerSearchQueries languages filter"),
+        new IndexDeclaration(VOLUNTEER_PROFILES, new Index().on("certifications", Direction.ASC).named("certifications"),
+            "VolunteerSearchQueries certifications filter"),
+        new IndexDeclaration(VOLUNTEER_PROFILES, new Index().on("availableDays", Direction.ASC).named("available_days"),
+            "VolunteerSearchQueries availableDays filter"),
+        new IndexDeclaration(PARTICIPATIONS, new Index().on("eventId", Direction.ASC).on("status", Direction.ASC)
+            .named("event_status"),
+            "EventParticipationRepository.findByEventId*, EventCompletionPipeline attendees"),
+        new IndexDeclaration(TOKENS, new Index().on("expiresAt", Direction.ASC).expire(Duration.ZERO)
+            .named("expires_ttl"),
+            "expired tokens are removed by the server"),
+        new IndexDeclaration(SCHEDULER_LEASES, new Index().on("renewedAt", Direction.ASC).expire(Duration.ofDays(7))
+            .named("renewed_ttl"),
+            "leases of jobs that stopped running are removed by the server"),
+        new IndexDeclaration(COMMUNICATIONS, new Index().on("type", Direction.ASC).on("sentAt", Direction.ASC)
+            .named("type_sent"),
+            "CommunicationRetentionService sweep"),
+        new IndexDeclaration(COMMUNICATIONS, new Index().on("expireAt", Direction.ASC).expire(Duration.ZERO)
+            .named("expire_ttl"),
+            "soft-deleted communications are removed by the server, CommunicationRetentionService passes"),
+        new IndexDeclaration(MESSAGES, new Index().on("receiverId", Direction.ASC).on("read", Direction.ASC)
+            .named("receiver_read"),
+            "MessageRepository.findByReceiverIdAndReadFalse, MessageService.markAllAsRead"),
+        new IndexDeclaration(MESSAGES, new Index().on("type", Direction.ASC).on("createdAt", Direction.ASC)
+            .named("type_created"),
+            "CommunicationRetentionService sweep"),
+        new IndexDeclaration(MESSAGES, new Index().on("expireAt", Direction.ASC).expire(Duration.ZERO)
+            .named("expire_ttl"),
+            "soft-deleted messages are removed by the server, CommunicationRetentionService passes"),
+        new IndexDeclaration(MESSAGES, new Index().on("conversationKey", Direction.ASC).on("createdAt", Direction.ASC)
+            .on("_id", Direction.ASC).named("conversation_created"),
+            "MessageService.getConversation pages, MessageService.markConversationAsRead"),
+        new IndexDeclaration(CONVERSATIONS, new Index().on("participantIds", Direction.ASC)
+            .on("lastMessageTime", Direction.ASC).on("_id", Direction.ASC).named("participant_last_message"),
+            "MessageService.getInbox pages"),
+        new IndexDeclaration(RECOMMENDATIONS, new Index().on("computedAt", Direction.ASC).named("computed"),
+            "MatchingService.materializeAll stale recommendations"));
+
+    public static final List<QueryShape> QUERY_SHAPES = List.of(
+        new QueryShape("EventRepository.findByOrganizationId", EVENTS,
+            new Document("organizationId", "org")),
+        new QueryShape("EventRepository.countByOrganizationIdAndStatusAndEndDateAfter", EVENTS,
+            new Document("organizationId", "org").append("status", "COMPLETED")
+                .append("endDate", new Document("$gt", SOME_DATE))),
+        new QueryShape("EventRepository.findByStatusAndStartDateBefore", EVENTS,
+            new Document("status", "ACTIVE").append("startDate", new Document("$lt", SOME_DATE))),
+        new QueryShape("EventRepository.findByStatusAndEndDateBefore", EVENTS,
+            new Document("status", "ONGOING").append("endDate", new Document("$lt", SOME_DATE))),
+        new QueryShape("EventRepository.findByStartDateAfterAndStatusOrderByStartDateAsc", EVENTS,
+            new Document("startDate", new Document("$gt", SOME_DATE)).append("status", "ACTIVE"),
+            new Document("startDate", 1)),
+        new QueryShape("EventRepository.findByStatusIn", EVENTS,
+            new Document("status", new Document("$in", List.of("ACTIVE", "ONGOING")))),
+        new QueryShape("EventRepository.findByRegisteredParticipantsContaining", EVENTS,
+            new Document("registeredParticipants", "user")),
+        new QueryShape("EventRepository.findEventsByParticipantAndDateRange", EVENTS,
+            new Document("registeredParticipants", "user")
+                .append("startDate", new Document("$gte", SOME_DATE).append("$lte", SOME_DATE))),
+        new QueryShape("EventRepository.findByWaitlistedParticipantsContaining", EVENTS,
+            new Document("waitlistedParticipants", "user")),
+        new QueryShape("EventRepository.findByTitleContainingIgnoreCase", EVENTS,
+            new Document("title", new Document("$regex", "clean").append("$options", "i"))),
+        new QueryShape("EventRepository.findByCategory", EVENTS,
+            new Document("category", "ENVIRONMENT")),
+        new QueryShape("EventRepository.findByRequiredSkills", EVENTS,
+            new Document("requiredSkills", new Document("$in", List.of("first-aid")))),
+        new QueryShape("EventRepository.findByStartDateBetween", EVENTS,
+            new Document("startDate", new Document("$gt", SOME_DATE).append("$lt", SOME_DATE))),
+        new QueryShape("EventRepository.findNearbyEvents", EVENTS,
+            new Document("coordinates", NEAR_POINT)),
+        new QueryShape("OrganizationRepository.findNearbyOrganizations", ORGANIZATIONS,
+            new Document("coordinates", NEAR_POINT)),
+        new QueryShape("VolunteerProfileRepository.findNearbyVolunteers", VOLUNTEER_PROFILES,
+            new Document("location", NEAR_POINT)),
+        new QueryShape("EventService.getUpcomingEvents(cursor)", EVENTS,
+            new Document("status", "ACTIVE").append("startDate", new Document("$gt", SOME_DATE)),
+            KEYSET_START),
+        new QueryShape("EventService.getPublicEvents(cursor)", EVENTS,
+            new Document("status", new Document("$in", List.of("ACTIVE", "ONGOING"))).append("$or", List.of(
+                new Document("startDate", new Document("$gt", SOME_DATE)),
+                new Document("startDate", SOME_DATE).append("_id", new Document("$gt", "id")))),
+            KEYSET_START),
+        new QueryShape("EventService.getAllEvents(cursor)", EVENTS, new Document(), KEYSET_START),
+        new QueryShape("OrganizationService.getOrganizations", ORGANIZATIONS, new Document(),
+            new Document("name", 1).append("_id", 1)),
+        new QueryShape("UserService.getUsers", USERS, new Document(),
+            new Document("createdAt", 1).append("_id", 1)),
+        new QueryShape("OrganizationVolunteerQueries.page", VOLUNTEER_PROFILES,
+            new Document("_id", new Document("$in", List.of(new ObjectId(), new ObjectId())))
+                .append("averageRating", new Document("$gte", 4.0)),
+            new Document("averageRating", -1).append("_id", -1)),
+        new QueryShape("VolunteerSearchQueries.page", VOLUNTEER_PROFILES, new Document(),
+            new Document("createdAt", 1).append("_id", 1)),
+        new QueryShape("VolunteerSearchQueries.page(city)", VOLUNTEER_PROFILES,
+            new Document("$and", List.of(new Document("city", new Document("$in", List.of("Rabat", "Sale"))))),
+            new Document("createdAt", 1).append("_id", 1)),
+        new QueryShape("VolunteerSearchQueries.page(languages)", VOLUNTEER_PROFILES,
+            new Document("languages", new Document("$in", List.of("Arabic")))
+                .append("availableDays", new Document("$in", List.of("MONDAY")))),
+        new QueryShape("MatchingService.refresh(events)", EVENTS,
+            new Document("status", "ACTIVE").append("startDate", new Document("$gt", SOME_DATE))
+                .append("coordinates", new Document("$exists", true))),
+        new QueryShape("EventLifecycleScheduler.reload", EVENTS,
+            new Document("$or", List.of(
+                new Document("status", new Document("$in", List.of("ACTIVE", "FULL")))
+                    .append("startDate", new Document("$lt", SOME_DATE)),
+                new Document("status", "ONGOING").append("endDate", new Document("$lt", SOME_DATE))))),
+        new QueryShape("EventTransitions.applyOverdue(start)", EVENTS,
+            new Document("status", new Document("$in", List.of("ACTIVE", "FULL")))
+                .append("startDate", new Document("$lte", SOME_DATE))),
+        new QueryShape("EventCompletionPipeline.resubmitUnfinished", EVENTS,
+            new Document("$and", List.of(
+                new Document("completionRequestedAt", new Document("$exists", true)),
+                new Document("status", "COMPLETED").append("completionProcessedAt", new Document("$exists", false))
+                    .append("$or", List.of(
+                        new Document("completionClaimedAt", new Document("$exists", false)),
+                        new Document("completionClaimedAt", new Document("$lt", SOME_DATE))))))),
+        new QueryShape("EventParticipationRepository.findByEventIdAndStatus", PARTICIPATIONS,
+            new Document("eventId", "event").append("status", "ATTENDED")),
+        new QueryShape("EventParticipationRepository.findByVolunteerId", PARTICIPATIONS,
+            new Document("volunteerId", "user")),
+        new QueryShape("CommunicationService.markAllAsRead", COMMUNICATIONS,
+            new Document("receiverId", "user").append("isRead", false).append("isDeleted", false)),
+        new QueryShape("MessageService.markAllAsRead", MESSAGES,
+            new Document("receiverId", "user").append("read", false).append("deleted", false)),
+        new QueryShape("CommunicationRetentionService.sweep(communications)", COMMUNICATIONS,
+            new Document("sentAt", new Document("$lt", SOME_DATE)).append("isDeleted", false)
+                .append("type", new Document("$in", List.of("NOTIFICATION", "EVENT_UPDATE")))),
+        new QueryShape("CommunicationRetentionService.sweep(messages)", MESSAGES,
+            new Document("createdAt", new Document("$lt", SOME_DATE)).append("deleted", false)
+                .append("type", new Document("$in", List.of("DIRECT")))),
+        new QueryShape("CommunicationRetentionService pass counts", COMMUNICATIONS,
+            new Document("expireAt", SOME_DATE).append("isDeleted", true)),
+        new QueryShape("MessageService.getConversation(cursor)", MESSAGES,
+            new Document("conversationKey", "a:b").append("deleted", false),
+            new Document("createdAt", -1).append("_id", -1)),
+        new QueryShape("MessageService.getInbox(cursor)", CONVERSATIONS,
+            new Document("participantIds", "user"),
+            new Document("lastMessageTime", -1).append("_id", -1)));
+
+    private MongoIndexCatalog() {
+    }
+}
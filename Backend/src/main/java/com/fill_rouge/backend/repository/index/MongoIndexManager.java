@@ -0,0 +1,177 @@
+package com.fill_rouge.backend.repository.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import com.fill_rouge.backend.config.MongoIndexProperties;
+import com.fill_rouge.backend.domain.Event;
+import com.mongodb.MongoException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the indexes the repositories rely on and checks that the planner uses them.
+ *
+ * <p>Index creation runs before the application takes traffic: the {@code @Indexed} and
+ * {@code @CompoundIndex} annotations of every {@code @Document} class, which the template
+ * built in {@code MongoConfig} does not create on its own, then the indexes of
+ * {@link MongoIndexCatalog}. Creating an index that already exists is a no-op, so this is
+ * safe on every start. Once the application is ready, each {@link QueryShape} is explained
+ * and shapes that fall back to a collection scan are logged.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexManager {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoIndexProperties properties;
+
+    private volatile List<QueryPlanCheck> lastVerification = List.of();
+
+    @PostConstruct
+    public void ensureIndexes() {
+        int created = 0;
+        MongoMappingContext context = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(context);
+        for (Class<?> type : documentTypes()) {
+            for (IndexDefinitionHolder holder : resolver.resolveIndexForEntity(context.getRequiredPersistentEntity(type))) {
+                created += ensure(holder.getCollection(), holder, type.getSimpleName() + "." + holder.getPath());
+            }
+        }
+        for (IndexDeclaration declaration : MongoIndexCatalog.INDEXES) {
+            created += ensure(declaration.collection(), declaration.definition(), declaration.usedBy());
+        }
+        log.info("Ensured {} MongoDB indexes", created);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        if (!properties.isVerifyOnStartup()) {
+            return;
+        }
+        List<QueryPlanCheck> unindexed = verify().stream()
+            .filter(check -> check.collectionScan() || check.error() != null)
+            .toList();
+        if (!unindexed.isEmpty() && properties.isFailOnCollectionScan()) {
+            throw new IllegalStateException("Repository queries without a usable index: "
+                + unindexed.stream().map(QueryPlanCheck::method).toList());
+        }
+    }
+
+    public List<QueryPlanCheck> verify() {
+        List<QueryPlanCheck> checks = new ArrayList<>(MongoIndexCatalog.QUERY_SHAPES.size());
+        for (QueryShape shape : MongoIndexCatalog.QUERY_SHAPES) {
+            QueryPlanCheck check = explain(shape);
+            if (check.error() != null) {
+                log.warn("Could not explain {}: {}", shape.method(), check.error());
+            } else if (check.collectionScan()) {
+                log.warn("{} scans the whole {} collection, plan {}", shape.method(), shape.collection(),
+                    check.stages());
+            }
+            checks.add(check);
+        }
+        lastVerification = List.copyOf(checks);
+        return lastVerification;
+    }
+
+    public List<QueryPlanCheck> getLastVerification() {
+        return lastVerification;
+    }
+
+    public List<IndexUsage> indexUsage() {
+        List<IndexUsage> usage = new ArrayList<>();
+        for (String collection : mongoTemplate.getCollectionNames()) {
+            if (collection.startsWith("system.")) {
+                continue;
+            }
+            for (Document stats : mongoTemplate.getCollection(collection)
+                    .aggregate(List.of(new Document("$indexStats", new Document())))) {
+                Document accesses = stats.get("accesses", Document.class);
+                usage.add(new IndexUsage(collection, stats.getString("name"), stats.get("key", Document.class),
+                    ((Number) accesses.get("ops")).longValue(), accesses.getDate("since")));
+            }
+        }
+        return usage;
+    }
+
+    QueryPlanCheck explain(QueryShape shape) {
+        Document find = new Document("find", shape.collection()).append("filter", shape.filter());
+        if (!shape.sort().isEmpty()) {
+            find.append("sort", shape.sort());
+        }
+        try {
+            Document result = mongoTemplate.getDb().runCommand(
+                new Document("explain", find).append("verbosity", "queryPlanner"));
+            Document winningPlan = result.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            List<String> stages = new ArrayList<>();
+            Set<String> indexes = new LinkedHashSet<>();
+            walk(winningPlan, stages, indexes);
+            return new QueryPlanCheck(shape.method(), shape.collection(), stages, List.copyOf(indexes), null);
+        } catch (MongoException e) {
+            return new QueryPlanCheck(shape.method(), shape.collection(), List.of(), List.of(), e.getMessage());
+        }
+    }
+
+    // Plans nest stages under inputStage, inputStages or, with the slot based engine, queryPlan
+    private static void walk(Object node, List<String> stages, Set<String> indexes) {
+        if (node instanceof Map<?, ?> map) {
+            if (map.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            if (map.get("indexName") instanceof String index) {
+                indexes.add(index);
+            }
+            for (Object child : map.values()) {
+                walk(child, stages, indexes);
+            }
+        } else if (node instanceof Collection<?> children) {
+            for (Object child : children) {
+                walk(child, stages, indexes);
+            }
+        }
+    }
+
+    private int ensure(String collection, IndexDefinition definition, String usedBy) {
+        try {
+            mongoTemplate.indexOps(collection).ensureIndex(definition);
+            return 1;
+        } catch (DataAccessException | MongoException e) {
+            // An index with the same keys and other options, or existing duplicates under a unique index
+            log.error("Could not create index {} on {} for {}: {}", definition.getIndexKeys(), collection, usedBy,
+                e.getMessage());
+            return 0;
+        }
+    }
+
+    private static List<Class<?>> documentTypes() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(org.springframework.data.mongodb.core.mapping.Document.class));
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(Event.class.getPackageName())) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), MongoIndexManager.class.getClassLoader()));
+        }
+        return types;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fill_rouge.backend.repository.index;
+
+import java.util.List;
+
+/**
+ * The winning plan chosen for a {@link QueryShape}. {@code stages} lists the plan stages from
+ * the root down, {@code indexes} the indexes it scans.
+ */
+public record QueryPlanCheck(String method, String collection, List<String> stages, List<String> indexes,
+                             String error) {
+
+    public boolean collectionScan() {
+        return stages.contains("COLLSCAN");
+    }
+}
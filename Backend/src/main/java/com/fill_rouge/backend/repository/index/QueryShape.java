@@ -0,0 +1,14 @@
+package com.fill_rouge.backend.repository.index;
+
+import org.bson.Document;
+
+/**
+ * A representative filter and sort of a repository query, explained at startup to check that
+ * the planner picks an index for it. Only the shape matters, the values are placeholders.
+ */
+public record QueryShape(String method, String collection, Document filter, Document sort) {
+
+    public QueryShape(String method, String collection, Document filter) {
+        this(method, collection, filter, new Document());
+    }
+}
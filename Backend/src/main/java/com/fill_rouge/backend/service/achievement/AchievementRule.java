@@ -0,0 +1,70 @@
+package com.fill_rouge.backend.service.achievement;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fill_rouge.backend.constant.AchievementMetric;
+import com.fill_rouge.backend.domain.Achievement;
+
+/**
+ * An achievement compiled down to the metric thresholds it requires. Progress is that of the
+ * least advanced threshold.
+ */
+public record AchievementRule(
+        String achievementId,
+        String prerequisiteId,
+        String category,
+        Map<AchievementMetric, Double> thresholds) {
+
+    /**
+     * Returns empty for achievements that are unavailable or have no measurable requirement;
+     * those are only ever awarded by hand.
+     */
+    public static Optional<AchievementRule> compile(Achievement achievement) {
+        if (!achievement.isAvailable() || achievement.getType() == null) {
+            return Optional.empty();
+        }
+        Map<AchievementMetric, Double> thresholds = new EnumMap<>(AchievementMetric.class);
+        int requiredEvents = achievement.getRequiredEvents();
+        switch (achievement.getType()) {
+            case STREAK -> putIfPositive(thresholds, AchievementMetric.STREAK, requiredEvents);
+            case CATEGORY_SPECIALIST -> {
+                if (achievement.getCategory() == null || achievement.getCategory().isBlank()) {
+                    return Optional.empty();
+                }
+                putIfPositive(thresholds, AchievementMetric.CATEGORY_EVENTS, requiredEvents);
+            }
+            case FIRST_TIME -> thresholds.put(AchievementMetric.EVENTS_ATTENDED, (double) Math.max(1, requiredEvents));
+            default -> putIfPositive(thresholds, AchievementMetric.EVENTS_ATTENDED, requiredEvents);
+        }
+        putIfPositive(thresholds, AchievementMetric.HOURS_CONTRIBUTED, achievement.getRequiredHours());
+        putIfPositive(thresholds, AchievementMetric.AVERAGE_RATING, achievement.getRequiredRating());
+        if (thresholds.isEmpty()) {
+            return Optional.empty();
+        }
+        String prerequisite = achievement.requiresPrerequisite() ? achievement.getPrerequisiteAchievementId() : null;
+        return Optional.of(new AchievementRule(achievement.getId(), prerequisite, achievement.getCategory(),
+            Collections.unmodifiableMap(thresholds)));
+    }
+
+    private static void putIfPositive(Map<AchievementMetric, Double> thresholds, AchievementMetric metric, double value) {
+        if (value > 0) {
+            thresholds.put(metric, value);
+        }
+    }
+
+    public int progress(VolunteerMetrics metrics) {
+        int progress = 100;
+        for (Map.Entry<AchievementMetric, Double> threshold : thresholds.entrySet()) {
+            double ratio = metrics.value(threshold.getKey(), category) / threshold.getValue();
+            progress = Math.min(progress, (int) Math.min(100, Math.floor(ratio * 100)));
+        }
+        return progress;
+    }
+
+    public boolean dependsOn(AchievementMetric metric) {
+        return thresholds.containsKey(metric);
+    }
+}
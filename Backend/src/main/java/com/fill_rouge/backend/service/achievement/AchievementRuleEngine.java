@@ -0,0 +1,30 @@
+package com.fill_rouge.backend.service.achievement;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import com.fill_rouge.backend.constant.AchievementMetric;
+
+public interface AchievementRuleEngine {
+    // Recompiles the rule set from the active achievement definitions
+    void reload();
+
+    /**
+     * Evaluates the rules reading any of the changed metrics for all the given volunteers and
+     * writes awards and progress changes in one bulk operation.
+     *
+     * @return the number of achievements awarded
+     */
+    int evaluate(Collection<String> volunteerIds, Set<AchievementMetric> changedMetrics);
+
+    /**
+     * Same as {@link #evaluate} for callers that already computed the volunteers' metrics.
+     */
+    int award(Map<String, VolunteerMetrics> metricsByVolunteer, Set<AchievementMetric> changedMetrics);
+
+    // Whether the rules reading these metrics need category counts or streaks
+    boolean needsEventMetrics(Set<AchievementMetric> changedMetrics);
+
+    int calculateProgress(String volunteerId, String achievementId);
+}
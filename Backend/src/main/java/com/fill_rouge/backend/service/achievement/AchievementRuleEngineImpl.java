@@ -0,0 +1,177 @@
+package com.fill_rouge.backend.service.achievement;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fill_rouge.backend.constant.AchievementMetric;
+import com.fill_rouge.backend.domain.VolunteerAchievement;
+import com.fill_rouge.backend.repository.AchievementRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evaluates compiled achievement rules against metrics computed in bulk. Whatever the number
+ * of volunteers or rules, an evaluation reads participation history, events and existing
+ * progress with one round trip each and writes with a single unordered bulk operation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AchievementRuleEngineImpl implements AchievementRuleEngine {
+
+    private static final Set<AchievementMetric> EVENT_METRICS =
+        EnumSet.of(AchievementMetric.CATEGORY_EVENTS, AchievementMetric.STREAK);
+
+    private final MongoTemplate mongoTemplate;
+    private final AchievementRepository achievementRepository;
+    private final VolunteerMetricsLoader metricsLoader;
+
+    private volatile AchievementRuleSet ruleSet = AchievementRuleSet.EMPTY;
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    // Picks up definitions changed through other instances
+    @Override
+    @Scheduled(fixedDelay = 60000)
+    public void reload() {
+        AchievementRuleSet compiled = AchievementRuleSet.compile(achievementRepository.findAll());
+        ruleSet = compiled;
+        log.debug("Compiled {} achievement rules", compiled.size());
+    }
+
+    @Override
+    public int evaluate(Collection<String> volunteerIds, Set<AchievementMetric> changedMetrics) {
+        List<AchievementRule> affected = ruleSet.affectedBy(changedMetrics);
+        if (affected.isEmpty() || volunteerIds.isEmpty()) {
+            return 0;
+        }
+        Set<String> volunteers = new HashSet<>(volunteerIds);
+        return apply(volunteers, metricsLoader.load(volunteers, needsEvents(affected)), affected);
+    }
+
+    @Override
+    public int award(Map<String, VolunteerMetrics> metricsByVolunteer, Set<AchievementMetric> changedMetrics) {
+        List<AchievementRule> affected = ruleSet.affectedBy(changedMetrics);
+        if (affected.isEmpty() || metricsByVolunteer.isEmpty()) {
+            return 0;
+        }
+        return apply(metricsByVolunteer.keySet(), metricsByVolunteer, affected);
+    }
+
+    @Override
+    public boolean needsEventMetrics(Set<AchievementMetric> changedMetrics) {
+        return needsEvents(ruleSet.affectedBy(changedMetrics));
+    }
+
+    private int apply(Set<String> volunteers, Map<String, VolunteerMetrics> metrics, List<AchievementRule> affected) {
+        Map<String, Map<String, Integer>> progress = loadProgress(volunteers, affected);
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VolunteerAchievement.class);
+        int writes = 0;
+        int awarded = 0;
+        for (String volunteerId : volunteers) {
+            VolunteerMetrics volunteerMetrics = metrics.getOrDefault(volunteerId, VolunteerMetrics.NONE);
+            Map<String, Integer> current = progress.computeIfAbsent(volunteerId, id -> new HashMap<>());
+            for (AchievementRule rule : affected) {
+                Integer before = current.get(rule.achievementId());
+                if (before != null && before == 100) {
+                    continue;
+                }
+                int after = rule.progress(volunteerMetrics);
+                // Held just short of complete until the prerequisite is earned
+                if (after == 100 && rule.prerequisiteId() != null
+                        && current.getOrDefault(rule.prerequisiteId(), 0) != 100) {
+                    after = 99;
+                }
+                if (before != null ? before == after : after == 0) {
+                    continue;
+                }
+                current.put(rule.achievementId(), after);
+                bulk.upsert(progressQuery(volunteerId, rule.achievementId()), progressUpdate(after, now));
+                writes++;
+                if (after == 100) {
+                    awarded++;
+                }
+            }
+        }
+        if (writes > 0) {
+            bulk.execute();
+        }
+        log.debug("Evaluated {} rules for {} volunteers: {} writes, {} awards",
+            affected.size(), volunteers.size(), writes, awarded);
+        return awarded;
+    }
+
+    @Override
+    public int calculateProgress(String volunteerId, String achievementId) {
+        AchievementRule rule = ruleSet.get(achievementId);
+        if (rule == null) {
+            return 0;
+        }
+        VolunteerMetrics metrics = metricsLoader.load(Set.of(volunteerId), needsEvents(List.of(rule)))
+            .getOrDefault(volunteerId, VolunteerMetrics.NONE);
+        return rule.progress(metrics);
+    }
+
+    private static boolean needsEvents(List<AchievementRule> rules) {
+        return rules.stream().anyMatch(rule -> EVENT_METRICS.stream().anyMatch(rule::dependsOn));
+    }
+
+    // Includes prerequisites of the affected rules, which gate their awards
+    private Map<String, Map<String, Integer>> loadProgress(Set<String> volunteerIds, List<AchievementRule> rules) {
+        Set<String> achievementIds = new HashSet<>();
+        for (AchievementRule rule : rules) {
+            achievementIds.add(rule.achievementId());
+            if (rule.prerequisiteId() != null) {
+                achievementIds.add(rule.prerequisiteId());
+            }
+        }
+        Query query = Query.query(Criteria.where("volunteerId").in(volunteerIds)
+            .and("achievementId").in(achievementIds));
+        query.fields().include("volunteerId", "achievementId", "progress");
+
+        Map<String, Map<String, Integer>> progress = new HashMap<>();
+        for (VolunteerAchievement achievement : mongoTemplate.find(query, VolunteerAchievement.class)) {
+            progress.computeIfAbsent(achievement.getVolunteerId(), id -> new HashMap<>())
+                .put(achievement.getAchievementId(), achievement.getProgress());
+        }
+        return progress;
+    }
+
+    private static Query progressQuery(String volunteerId, String achievementId) {
+        return Query.query(Criteria.where("volunteerId").is(volunteerId).and("achievementId").is(achievementId));
+    }
+
+    private static Update progressUpdate(int progress, LocalDateTime now) {
+        Update update = new Update()
+            .set("progress", progress)
+            .set("updatedAt", now)
+            .setOnInsert("createdAt", now);
+        if (progress == 100) {
+            update.set("earnedAt", now).set("isDisplayed", true);
+        } else {
+            update.setOnInsert("isDisplayed", false);
+        }
+        return update;
+    }
+}
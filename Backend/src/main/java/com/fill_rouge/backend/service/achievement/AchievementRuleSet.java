@@ -0,0 +1,98 @@
+package com.fill_rouge.backend.service.achievement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fill_rouge.backend.constant.AchievementMetric;
+import com.fill_rouge.backend.domain.Achievement;
+
+/**
+ * Immutable snapshot of the compiled achievement rules, indexed by the metrics they read.
+ * Rules are kept with prerequisites ahead of the achievements that need them, so one pass can
+ * award a chain.
+ */
+public final class AchievementRuleSet {
+
+    public static final AchievementRuleSet EMPTY = new AchievementRuleSet(List.of());
+
+    private final List<AchievementRule> rules;
+    private final Map<String, AchievementRule> byId = new HashMap<>();
+    private final Map<AchievementMetric, List<AchievementRule>> byMetric = new EnumMap<>(AchievementMetric.class);
+
+    private AchievementRuleSet(List<AchievementRule> rules) {
+        this.rules = List.copyOf(rules);
+        for (AchievementRule rule : this.rules) {
+            byId.put(rule.achievementId(), rule);
+            for (AchievementMetric metric : rule.thresholds().keySet()) {
+                byMetric.computeIfAbsent(metric, key -> new ArrayList<>()).add(rule);
+            }
+        }
+    }
+
+    public static AchievementRuleSet compile(Collection<Achievement> achievements) {
+        Map<String, AchievementRule> compiled = new LinkedHashMap<>();
+        for (Achievement achievement : achievements) {
+            AchievementRule.compile(achievement).ifPresent(rule -> compiled.put(rule.achievementId(), rule));
+        }
+        List<AchievementRule> ordered = new ArrayList<>(compiled.size());
+        Set<String> placed = new HashSet<>();
+        for (AchievementRule rule : compiled.values()) {
+            place(rule, compiled, placed, ordered, new HashSet<>());
+        }
+        return new AchievementRuleSet(ordered);
+    }
+
+    // Depth-first so prerequisites come first; a prerequisite cycle is broken where it is found
+    private static void place(AchievementRule rule, Map<String, AchievementRule> compiled, Set<String> placed,
+                              List<AchievementRule> ordered, Set<String> visiting) {
+        if (placed.contains(rule.achievementId()) || !visiting.add(rule.achievementId())) {
+            return;
+        }
+        AchievementRule prerequisite = rule.prerequisiteId() == null ? null : compiled.get(rule.prerequisiteId());
+        if (prerequisite != null) {
+            place(prerequisite, compiled, placed, ordered, visiting);
+        }
+        placed.add(rule.achievementId());
+        ordered.add(rule);
+    }
+
+    /**
+     * Rules reading any of the given metrics, in evaluation order, together with every rule
+     * that needs one of them as a prerequisite. A rule held back by its prerequisite must be
+     * looked at again when that prerequisite is earned, whichever metric earned it.
+     */
+    public List<AchievementRule> affectedBy(Set<AchievementMetric> metrics) {
+        if (metrics.containsAll(byMetric.keySet())) {
+            return rules;
+        }
+        // Prerequisites come first, so one pass also picks up dependents of dependents
+        Set<String> selected = new HashSet<>();
+        List<AchievementRule> affected = new ArrayList<>();
+        for (AchievementRule rule : rules) {
+            if (metrics.stream().anyMatch(rule::dependsOn) || selected.contains(rule.prerequisiteId())) {
+                selected.add(rule.achievementId());
+                affected.add(rule);
+            }
+        }
+        return affected;
+    }
+
+    public AchievementRule get(String achievementId) {
+        return byId.get(achievementId);
+    }
+
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    public int size() {
+        return rules.size();
+    }
+}
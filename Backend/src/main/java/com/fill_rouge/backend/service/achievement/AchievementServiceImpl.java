@@ -1,5 +1,6 @@
 package com.fill_rouge.backend.service.achievement;
 
+import com.fill_rouge.backend.constant.AchievementMetric;
 import com.fill_rouge.backend.domain.Achievement;
 import com.fill_rouge.backend.domain.VolunteerAchievement;
 import com.fill_rouge.backend.repository.AchievementRepository;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,12 +25,15 @@ public class AchievementServiceImpl implements AchievementService {
 
     private final AchievementRepository achievementRepository;
     private final VolunteerAchievementRepository volunteerAchievementRepository;
+    private final AchievementRuleEngine ruleEngine;
 
     @Override
     public Achievement createAchievement(Achievement achievement) {
         achievement.setCreatedAt(LocalDateTime.now());
         achievement.setUpdatedAt(LocalDateTime.now());
-        return achievementRepository.save(achievement);
+        Achievement saved = achievementRepository.save(achievement);
+        ruleEngine.reload();
+        return saved;
     }
 
     @Override
@@ -37,13 +42,16 @@ public class AchievementServiceImpl implements AchievementService {
         achievement.setId(existing.getId());
         achievement.setCreatedAt(existing.getCreatedAt());
         achievement.setUpdatedAt(LocalDateTime.now());
-        return achievementRepository.save(achievement);
+        Achievement saved = achievementRepository.save(achievement);
+        ruleEngine.reload();
+        return saved;
     }
 
     @Override
     public void deleteAchievement(String id) {
         Achievement achievement = getAchievementById(id);
         achievementRepository.delete(achievement);
+        ruleEngine.reload();
     }
 
     @Override
@@ -64,17 +72,7 @@ public class AchievementServiceImpl implements AchievementService {
 
     @Override
     public void checkAndAwardAchievements(String volunteerId) {
-        List<Achievement> allAchievements = achievementRepository.findAll();
-        for (Achievement achievement : allAchievements) {
-            if (!hasEarnedAchievement(volunteerId, achievement.getId())) {
-                int progress = calculateAchievementProgress(volunteerId, achievement.getId());
-                if (progress == 100) {
-                    awardAchievement(volunteerId, achievement.getId());
-            } else {
-                    updateProgress(volunteerId, achievement.getId(), progress);
-                }
-            }
-        }
+        ruleEngine.evaluate(List.of(volunteerId), EnumSet.allOf(AchievementMetric.class));
     }
 
     @Override
@@ -93,9 +91,8 @@ public class AchievementServiceImpl implements AchievementService {
 
     @Override
     public int calculateAchievementProgress(String volunteerId, String achievementId) {
-        Achievement achievement = getAchievementById(achievementId);
-        // Calculate progress based on achievement criteria
-        return 0; // Implement actual calculation logic
+        getAchievementById(achievementId);
+        return ruleEngine.calculateProgress(volunteerId, achievementId);
     }
 
     @Override
@@ -155,20 +152,6 @@ public class AchievementServiceImpl implements AchievementService {
         return achievementRepository.findByIdIn(inProgressIds);
     }
 
-    private void awardAchievement(String volunteerId, String achievementId) {
-        VolunteerAchievement va = volunteerAchievementRepository
-            .findByVolunteerIdAndAchievementId(volunteerId, achievementId)
-            .orElse(VolunteerAchievement.builder()
-                .volunteerId(volunteerId)
-                .achievementId(achievementId)
-                .build());
-        
-        va.setProgress(100);
-        va.setEarnedAt(LocalDateTime.now());
-        va.setDisplayed(true);
-        volunteerAchievementRepository.save(va);
-    }
-
     private void updateProgress(String volunteerId, String achievementId, int progress) {
         VolunteerAchievement va = volunteerAchievementRepository
             .findByVolunteerIdAndAchievementId(volunteerId, achievementId)
@@ -0,0 +1,90 @@
+package com.fill_rouge.backend.service.achievement;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fill_rouge.backend.constant.AchievementMetric;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
+
+/**
+ * The values achievement rules are checked against, computed once per volunteer from their
+ * attended participations.
+ */
+public record VolunteerMetrics(
+        int eventsAttended,
+        int hoursContributed,
+        double averageRating,
+        Map<String, Integer> eventsByCategory,
+        int streak) {
+
+    static final int STREAK_GAP_DAYS = 30;
+
+    public static final VolunteerMetrics NONE = new VolunteerMetrics(0, 0, 0.0, Map.of(), 0);
+
+    /**
+     * @param attended the volunteer's participations with status ATTENDED
+     * @param events   the attended events by id; only category and start date are read, and
+     *                 may be empty when no rule depends on them
+     */
+    public static VolunteerMetrics of(List<EventParticipation> attended, Map<String, Event> events) {
+        int hours = 0;
+        double ratingSum = 0;
+        int ratingCount = 0;
+        Map<String, Integer> byCategory = new HashMap<>();
+        for (EventParticipation participation : attended) {
+            hours += participation.getHours() != null ? participation.getHours() : 0;
+            if (participation.getRating() != null) {
+                ratingSum += participation.getRating();
+                ratingCount++;
+            }
+            Event event = events.get(participation.getEventId());
+            if (event != null && event.getCategory() != null) {
+                byCategory.merge(event.getCategory().name(), 1, Integer::sum);
+            }
+        }
+        List<LocalDateTime> dates = attended.stream()
+            .map(participation -> events.get(participation.getEventId()))
+            .filter(Objects::nonNull)
+            .map(Event::getStartDate)
+            .filter(Objects::nonNull)
+            .sorted(Comparator.reverseOrder())
+            .toList();
+        return new VolunteerMetrics(
+            attended.size(),
+            hours,
+            ratingCount == 0 ? 0.0 : ratingSum / ratingCount,
+            Collections.unmodifiableMap(byCategory),
+            currentStreak(dates));
+    }
+
+    // Most recent run of events no more than STREAK_GAP_DAYS apart, dates sorted newest first
+    static int currentStreak(List<LocalDateTime> dates) {
+        if (dates.isEmpty()) {
+            return 0;
+        }
+        int streak = 1;
+        for (int i = 1; i < dates.size(); i++) {
+            if (dates.get(i - 1).minusDays(STREAK_GAP_DAYS).isAfter(dates.get(i))) {
+                break;
+            }
+            streak++;
+        }
+        return streak;
+    }
+
+    public double value(AchievementMetric metric, String category) {
+        return switch (metric) {
+            case EVENTS_ATTENDED -> eventsAttended;
+            case HOURS_CONTRIBUTED -> hoursContributed;
+            case AVERAGE_RATING -> averageRating;
+            case CATEGORY_EVENTS -> category == null ? 0 : eventsByCategory.getOrDefault(category.toUpperCase(), 0);
+            case STREAK -> streak;
+        };
+    }
+}
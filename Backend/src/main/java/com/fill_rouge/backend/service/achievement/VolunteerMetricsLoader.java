@@ -0,0 +1,85 @@
+package com.fill_rouge.backend.service.achievement;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Computes {@link VolunteerMetrics} for many volunteers at once: one aggregation groups every
+ * attended participation by volunteer, and one {@code $in} query fetches the category and
+ * start date of the events involved.
+ */
+@Component
+@RequiredArgsConstructor
+public class VolunteerMetricsLoader {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * @param withEvents whether category counts and streaks are needed; skips the event query
+     *                   when they are not
+     */
+    public Map<String, VolunteerMetrics> load(Collection<String> volunteerIds, boolean withEvents) {
+        if (volunteerIds.isEmpty()) {
+            return Map.of();
+        }
+        Aggregation history = newAggregation(
+            match(Criteria.where("volunteerId").in(volunteerIds)
+                .and("status").is(EventParticipationStatus.ATTENDED)),
+            project("volunteerId", "eventId", "hours", "rating"),
+            group("volunteerId").push(Aggregation.ROOT).as("participations"));
+        Map<String, List<EventParticipation>> attended = new HashMap<>();
+        for (Document row : mongoTemplate.aggregate(history, EventParticipation.class, Document.class)) {
+            List<EventParticipation> participations = row.getList("participations", Document.class).stream()
+                .map(entry -> EventParticipation.builder()
+                    .eventId(entry.getString("eventId"))
+                    .hours(entry.getInteger("hours"))
+                    .rating(entry.getInteger("rating"))
+                    .build())
+                .toList();
+            attended.put(row.getString("_id"), participations);
+        }
+
+        Map<String, Event> events = withEvents ? loadEvents(attended) : Map.of();
+        Map<String, VolunteerMetrics> metrics = new HashMap<>();
+        attended.forEach((volunteerId, participations) ->
+            metrics.put(volunteerId, VolunteerMetrics.of(participations, events)));
+        return metrics;
+    }
+
+    private Map<String, Event> loadEvents(Map<String, List<EventParticipation>> attended) {
+        Set<String> eventIds = new HashSet<>();
+        attended.values().forEach(participations ->
+            participations.forEach(participation -> eventIds.add(participation.getEventId())));
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        Query query = Query.query(Criteria.where("_id").in(eventIds));
+        query.fields().include("category", "startDate");
+        return mongoTemplate.find(query, Event.class).stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+    }
+}
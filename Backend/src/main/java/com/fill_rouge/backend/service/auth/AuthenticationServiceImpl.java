@@ -20,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fill_rouge.backend.config.security.JwtService;
+import com.fill_rouge.backend.config.security.PrincipalCache;
 import com.fill_rouge.backend.constant.Role;
 import com.fill_rouge.backend.domain.Organization;
 import com.fill_rouge.backend.domain.Skill;
@@ -50,6 +51,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final OrganizationRepository organizationRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final PrincipalCache principalCache;
     private final AuthenticationManager authenticationManager;
     private final JavaMailSender mailSender;
     private final HttpServletRequest request;
@@ -187,6 +189,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 }
 
                 userRepository.save(user);
+                if (!user.isAccountNonLocked()) {
+                    principalCache.invalidate(user.getId());
+                }
                 throw new BadCredentialsException("Invalid email or password");
             }
 
@@ -468,6 +473,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         
         // Save updated user
         User savedUser = userRepository.save(user);
+        principalCache.invalidate(savedUser.getId());
         
         // Generate new tokens with updated role
         String jwtToken = jwtService.generateToken(savedUser);
@@ -0,0 +1,100 @@
+package com.fill_rouge.backend.service.cache;
+
+import java.util.Set;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.config.security.PrincipalCache;
+import com.fill_rouge.backend.constant.RollupScope;
+import com.fill_rouge.backend.domain.StatisticsRollup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Removes the cache entries a changed document can appear in. Entries keyed by the document
+ * are evicted one by one; listings, whose pages cannot be told apart, are cleared.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    public static final String EVENTS = "events";
+    public static final String ORGANIZATIONS = "organizations";
+    public static final String ROLLUPS = "statistics_rollups";
+    public static final String UNREAD_COUNTERS = "unread_counters";
+    public static final String USERS = "users";
+    public static final Set<String> COLLECTIONS = Set.of(EVENTS, ORGANIZATIONS, ROLLUPS, UNREAD_COUNTERS, USERS);
+
+    private final CacheManager cacheManager;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener
+    public void onEntityChanged(EntityChanged change) {
+        invalidate(change, "local");
+    }
+
+    public void invalidate(EntityChanged change, String source) {
+        switch (change.collection()) {
+            case EVENTS -> {
+                evict(CacheNames.EVENTS, change.id(), source);
+                evict(CacheNames.PUBLIC_EVENTS, null, source);
+                evict(CacheNames.UPCOMING_EVENTS, null, source);
+            }
+            case ORGANIZATIONS -> {
+                evict(CacheNames.ORGANIZATIONS, change.id(), source);
+                evict(CacheNames.ADMIN_STATISTICS, null, source);
+            }
+            case ROLLUPS -> rollupChanged(change.id(), source);
+            case UNREAD_COUNTERS -> evict(CacheNames.UNREAD_COUNTERS, change.id(), source);
+            case USERS -> userChanged(change.id(), source);
+            default -> {
+            }
+        }
+    }
+
+    // Organization statistics are recomputed from the same events and participations as its rollup
+    private void rollupChanged(String rollupId, String source) {
+        String organizationPrefix = StatisticsRollup.idOf(RollupScope.ORGANIZATION, "");
+        if (rollupId == null) {
+            evict(CacheNames.ADMIN_DASHBOARD, null, source);
+            evict(CacheNames.ADMIN_STATISTICS, null, source);
+            evict(CacheNames.ORGANIZATION_DASHBOARDS, null, source);
+            evict(CacheNames.ORGANIZATION_STATISTICS, null, source);
+        } else if (rollupId.startsWith(organizationPrefix)) {
+            String organizationId = rollupId.substring(organizationPrefix.length());
+            evict(CacheNames.ORGANIZATION_DASHBOARDS, organizationId, source);
+            evict(CacheNames.ORGANIZATION_STATISTICS, organizationId, source);
+        } else if (rollupId.startsWith(StatisticsRollup.idOf(RollupScope.PLATFORM, ""))) {
+            evict(CacheNames.ADMIN_DASHBOARD, null, source);
+            evict(CacheNames.ADMIN_STATISTICS, null, source);
+        }
+    }
+
+    // A locked, demoted or deleted user must stop being trusted on every replica, not only the one that changed it
+    private void userChanged(String userId, String source) {
+        if (userId == null) {
+            principalCache.invalidateAll();
+        } else {
+            principalCache.invalidate(userId);
+        }
+        meterRegistry.counter("cache.invalidations", "cache", "principals", "source", source).increment();
+    }
+
+    private void evict(String name, String key, String source) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+        meterRegistry.counter("cache.invalidations", "cache", name, "source", source).increment();
+    }
+}
@@ -0,0 +1,42 @@
+package com.fill_rouge.backend.service.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import com.fill_rouge.backend.config.CachingProperties.Spec;
+
+public final class CacheNames {
+
+    // Stored event documents by id, read into a new Event on every hit
+    public static final String EVENTS = "events";
+    public static final String PUBLIC_EVENTS = "publicEvents";
+    public static final String UPCOMING_EVENTS = "upcomingEvents";
+    public static final String ORGANIZATIONS = "organizations";
+    public static final String ORGANIZATION_STATISTICS = "organizationStatistics";
+    public static final String ORGANIZATION_DASHBOARDS = "organizationDashboards";
+    // Its user counts are only refreshed by the TTL
+    public static final String ADMIN_STATISTICS = "adminStatistics";
+    public static final String ADMIN_DASHBOARD = "adminDashboard";
+    public static final String UNREAD_COUNTERS = "unreadCounters";
+
+    // Entries are removed on every change, the TTL only bounds what a missed invalidation can cost
+    public static final Map<String, Spec> LIMITS = Map.of(
+        EVENTS, new Spec(10_000, Duration.ofMinutes(10)),
+        PUBLIC_EVENTS, new Spec(500, Duration.ofSeconds(30)),
+        UPCOMING_EVENTS, new Spec(500, Duration.ofSeconds(30)),
+        ORGANIZATIONS, new Spec(5_000, Duration.ofMinutes(10)),
+        ORGANIZATION_STATISTICS, new Spec(1_000, Duration.ofMinutes(5)),
+        ORGANIZATION_DASHBOARDS, new Spec(1_000, Duration.ofMinutes(5)),
+        ADMIN_STATISTICS, new Spec(1, Duration.ofMinutes(1)),
+        ADMIN_DASHBOARD, new Spec(1, Duration.ofMinutes(5)),
+        UNREAD_COUNTERS, new Spec(50_000, Duration.ofMinutes(10)));
+
+    // Report caches have no invalidation and expire after the defaults' TTL
+    public static final String[] REPORTS = {
+        "volunteerProfiles", "volunteerReports", "organizationReports", "impactReports", "dashboardReports",
+        "customReports", "skillsReports", "engagementReports", "trendReports"
+    };
+
+    private CacheNames() {
+    }
+}
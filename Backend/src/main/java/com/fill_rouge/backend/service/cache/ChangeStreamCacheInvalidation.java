@@ -0,0 +1,126 @@
+package com.fill_rouge.backend.service.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Broadcasts invalidations between replicas: every instance follows one change stream over the
+ * cached collections and evicts what any instance wrote, including partial updates and bulk
+ * writes. Whenever the stream has to be reopened the cached collections are cleared, since
+ * changes made while it was closed are unknown. Needs a replica set; on a standalone server
+ * invalidation stays local.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "caching", name = "invalidation", havingValue = "change-stream")
+public class ChangeStreamCacheInvalidation implements SmartLifecycle {
+
+    private static final String SOURCE = "change-stream";
+    private static final int CHANGE_STREAMS_NOT_SUPPORTED = 40573;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final MongoTemplate mongoTemplate;
+    private final CacheInvalidator invalidator;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        Thread watcher = new Thread(this::watch, "cache-invalidation");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watch() {
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mongoTemplate.getDb()
+                    .watch(List.of(Aggregates.match(Filters.in("ns.coll", CacheInvalidator.COLLECTIONS))))
+                    .maxAwaitTime(1, TimeUnit.SECONDS)
+                    .cursor()) {
+                CacheInvalidator.COLLECTIONS.forEach(collection ->
+                    invalidator.invalidate(new EntityChanged(collection, null), SOURCE));
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        apply(change);
+                    }
+                }
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == CHANGE_STREAMS_NOT_SUPPORTED) {
+                    log.warn("Change streams are not supported by this server, cache invalidation stays local");
+                    running = false;
+                    return;
+                }
+                retryLater(e);
+            } catch (RuntimeException e) {
+                retryLater(e);
+            }
+        }
+    }
+
+    private void apply(ChangeStreamDocument<Document> change) {
+        BsonDocument namespace = change.getNamespaceDocument();
+        if (namespace == null || !namespace.containsKey("coll")) {
+            CacheInvalidator.COLLECTIONS.forEach(collection ->
+                invalidator.invalidate(new EntityChanged(collection, null), SOURCE));
+            return;
+        }
+        BsonDocument key = change.getDocumentKey();
+        String id = key == null ? null : idOf(key.get("_id"));
+        invalidator.invalidate(new EntityChanged(namespace.getString("coll").getValue(), id), SOURCE);
+    }
+
+    // Ids that are neither ObjectIds nor strings invalidate the whole collection
+    private static String idOf(BsonValue id) {
+        if (id == null) {
+            return null;
+        }
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : null;
+    }
+
+    private void retryLater(RuntimeException e) {
+        if (!running) {
+            return;
+        }
+        log.warn("Cache invalidation change stream closed, reopening in {}s: {}", RETRY_DELAY.toSeconds(), e.getMessage());
+        try {
+            Thread.sleep(RETRY_DELAY.toMillis());
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.fill_rouge.backend.service.cache;
+
+/**
+ * A document of a cached collection was written on this instance. A null id means any
+ * document of the collection may have changed.
+ */
+public record EntityChanged(String collection, String id) {
+}
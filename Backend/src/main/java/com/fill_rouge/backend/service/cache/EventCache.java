@@ -0,0 +1,48 @@
+package com.fill_rouge.backend.service.cache;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.domain.Event;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Events by id, cached as their stored document and read into a new {@link Event} on every
+ * hit, so callers can modify what they get without touching the cache. Lazy references stay
+ * unresolved in the cached document.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventCache {
+
+    private final CacheManager cacheManager;
+    private final MongoTemplate mongoTemplate;
+
+    public Optional<Event> get(String eventId, Supplier<Optional<Event>> loader) {
+        Cache cache = cacheManager.getCache(CacheNames.EVENTS);
+        Document document;
+        try {
+            // Loaded atomically per id: an invalidation arriving during the load removes its result
+            document = cache.get(eventId, () -> loader.get().map(this::toDocument).orElse(null));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return Optional.ofNullable(document).map(found -> mongoTemplate.getConverter().read(Event.class, found));
+    }
+
+    private Document toDocument(Event event) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(event, document);
+        return document;
+    }
+}
@@ -0,0 +1,42 @@
+package com.fill_rouge.backend.service.cache;
+
+import org.bson.Document;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Turns entity saves and deletes on this instance into {@link EntityChanged} events, so a
+ * write is visible to the next read here without waiting for the change stream.
+ * Partial updates through {@code MongoTemplate} publish {@link EntityChanged} themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class MappingEventCacheInvalidation {
+
+    private final ApplicationEventPublisher publisher;
+
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        publish(event.getCollectionName(), event.getDocument());
+    }
+
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        publish(event.getCollectionName(), event.getDocument());
+    }
+
+    private void publish(String collection, Document document) {
+        if (!CacheInvalidator.COLLECTIONS.contains(collection)) {
+            return;
+        }
+        Object id = document == null ? null : document.get("_id");
+        // Deletes by query carry the filter, not a single id
+        String key = id == null || id instanceof Document ? null : id.toString();
+        publisher.publishEvent(new EntityChanged(collection, key));
+    }
+}
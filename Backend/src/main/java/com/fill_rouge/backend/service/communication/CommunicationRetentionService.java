@@ -0,0 +1,18 @@
+package com.fill_rouge.backend.service.communication;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import com.fill_rouge.backend.domain.Communication.CommunicationType;
+import com.fill_rouge.backend.domain.Message.MessageType;
+
+public interface CommunicationRetentionService {
+
+    // Soft-deletes everything past its type's retention and returns the number of documents deleted
+    long sweep();
+
+    // A null type list matches every type
+    long deleteCommunicationsSentBefore(LocalDateTime cutoff, Collection<CommunicationType> types);
+
+    long deleteMessagesCreatedBefore(LocalDateTime cutoff, Collection<MessageType> types);
+}
@@ -0,0 +1,148 @@
+package com.fill_rouge.backend.service.communication;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fill_rouge.backend.annotation.ClusterJob;
+import com.fill_rouge.backend.config.RetentionProperties;
+import com.fill_rouge.backend.constant.UnreadCounterType;
+import com.fill_rouge.backend.domain.Communication;
+import com.fill_rouge.backend.domain.Communication.CommunicationType;
+import com.fill_rouge.backend.domain.Message;
+import com.fill_rouge.backend.domain.Message.MessageType;
+import com.fill_rouge.backend.service.message.ConversationSummaries;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Soft-deletes communications and messages once they are older than the retention of their
+ * type; the TTL index on {@code expireAt} removes them {@code purge-after} later. A pass costs
+ * the same few round trips however many documents it deletes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommunicationRetentionServiceImpl implements CommunicationRetentionService {
+
+    private static final Source COMMUNICATIONS = new Source(Communication.class, "sentAt", "isRead", "isDeleted",
+        UnreadCounterType.NOTIFICATIONS, false);
+    private static final Source MESSAGES = new Source(Message.class, "createdAt", "read", "deleted",
+        UnreadCounterType.MESSAGES, true);
+
+    private final MongoTemplate mongoTemplate;
+    private final UnreadCounterService unreadCounterService;
+    private final ConversationSummaries conversationSummaries;
+    private final RetentionProperties properties;
+
+    @Scheduled(fixedDelayString = "${retention.sweep-interval:3600000}")
+    @ClusterJob(value = "retention-sweep", interval = "${retention.sweep-interval:3600000}")
+    public void scheduledSweep() {
+        sweep();
+    }
+
+    @Override
+    public long sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        long deleted = 0;
+        for (Map.Entry<Duration, List<CommunicationType>> age : byAge(CommunicationType.values(), properties::ageOf).entrySet()) {
+            deleted += deleteCommunicationsSentBefore(now.minus(age.getKey()), age.getValue());
+        }
+        for (Map.Entry<Duration, List<MessageType>> age : byAge(MessageType.values(), properties::ageOf).entrySet()) {
+            deleted += deleteMessagesCreatedBefore(now.minus(age.getKey()), age.getValue());
+        }
+        if (deleted > 0) {
+            log.info("Retention sweep deleted {} communications and messages", deleted);
+        }
+        return deleted;
+    }
+
+    @Override
+    public long deleteCommunicationsSentBefore(LocalDateTime cutoff, Collection<CommunicationType> types) {
+        return softDelete(COMMUNICATIONS, cutoff, types);
+    }
+
+    @Override
+    public long deleteMessagesCreatedBefore(LocalDateTime cutoff, Collection<MessageType> types) {
+        return softDelete(MESSAGES, cutoff, types);
+    }
+
+    private long softDelete(Source source, LocalDateTime cutoff, Collection<?> types) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        // Stored to the millisecond, so it also tells this pass's documents apart; a delete in the same
+        // millisecond would be counted with them
+        LocalDateTime expireAt = now.plus(properties.getPurgeAfter());
+        Update delete = new Update().set(source.deletedField, true).set("deletedAt", now).set("expireAt", expireAt);
+
+        // Unread ones first: everything this update marks was unread, whatever happens to it afterwards
+        long unread = mongoTemplate.updateMulti(
+            Query.query(source.expired(cutoff, types).and(source.readField).is(false)), delete, source.type)
+            .getModifiedCount();
+        if (unread > 0) {
+            decrementUnread(source, expireAt);
+        }
+        long read = mongoTemplate.updateMulti(Query.query(source.expired(cutoff, types)), delete, source.type)
+            .getModifiedCount();
+        return unread + read;
+    }
+
+    private void decrementUnread(Source source, LocalDateTime expireAt) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("expireAt").is(expireAt).and(source.deletedField).is(true)),
+            Aggregation.group(source.conversations ? Fields.fields("receiverId", "conversationKey") : Fields.fields("receiverId"))
+                .count().as("count"));
+        Map<String, Long> byReceiver = new HashMap<>();
+        Map<String, Map<String, Long>> byConversation = new HashMap<>();
+        for (Document count : mongoTemplate.aggregate(aggregation, source.type, Document.class)) {
+            long delta = -((Number) count.get("count")).longValue();
+            if (!source.conversations) {
+                byReceiver.merge(count.getString("_id"), delta, Long::sum);
+                continue;
+            }
+            Document key = count.get("_id", Document.class);
+            byReceiver.merge(key.getString("receiverId"), delta, Long::sum);
+            if (key.getString("conversationKey") != null) {
+                byConversation.computeIfAbsent(key.getString("conversationKey"), conversation -> new HashMap<>())
+                    .put(key.getString("receiverId"), delta);
+            }
+        }
+        unreadCounterService.incrementAll(byReceiver, source.counter);
+        conversationSummaries.changeUnread(byConversation);
+    }
+
+    // Types sharing a retention are deleted together
+    private static <T> Map<Duration, List<T>> byAge(T[] types, Function<T, Duration> ageOf) {
+        Map<Duration, List<T>> groups = new TreeMap<>();
+        for (T type : types) {
+            groups.computeIfAbsent(ageOf.apply(type), age -> new ArrayList<>()).add(type);
+        }
+        return groups;
+    }
+
+    private record Source(Class<?> type, String dateField, String readField, String deletedField,
+                          UnreadCounterType counter, boolean conversations) {
+
+        Criteria expired(LocalDateTime cutoff, Collection<?> types) {
+            Criteria criteria = Criteria.where(dateField).lt(cutoff).and(deletedField).is(false);
+            return types == null ? criteria : criteria.and("type").in(types);
+        }
+    }
+}
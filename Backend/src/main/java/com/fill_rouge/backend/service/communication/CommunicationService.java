@@ -3,6 +3,7 @@ package com.fill_rouge.backend.service.communication;
 import java.util.List;
 
 import com.fill_rouge.backend.domain.Communication;
+import com.fill_rouge.backend.dto.response.NotificationFanoutResponse;
 
 public interface CommunicationService {
     // Message operations
@@ -17,13 +18,13 @@ public interface CommunicationService {
     
     // Common operations
     void markAsRead(String communicationId);
-    void markAllAsRead(String userId);
+    long markAllAsRead(String userId);
     long getUnreadCount(String userId);
     void deleteCommunication(String communicationId);
     
     // Bulk operations
-    void sendBulkNotification(List<String> userIds, String content);
-    void cleanupOldCommunications(int daysOld);
+    NotificationFanoutResponse sendBulkNotification(List<String> userIds, String content);
+    long cleanupOldCommunications(int daysOld);
     
     // Event notifications
     void notifyEventParticipants(String eventId, String content);
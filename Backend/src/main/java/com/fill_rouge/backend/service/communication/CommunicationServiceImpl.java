@@ -1,23 +1,27 @@
 package com.fill_rouge.backend.service.communication;
 
+import com.fill_rouge.backend.config.RetentionProperties;
 import com.fill_rouge.backend.domain.Communication;
 import com.fill_rouge.backend.domain.Event;
 import com.fill_rouge.backend.domain.Organization;
+import com.fill_rouge.backend.dto.response.NotificationFanoutResponse;
 import com.fill_rouge.backend.repository.CommunicationRepository;
 import com.fill_rouge.backend.repository.EventRepository;
 import com.fill_rouge.backend.repository.OrganizationRepository;
 import com.fill_rouge.backend.exception.ResourceNotFoundException;
 import com.fill_rouge.backend.constant.CommunicationConstants;
+import com.fill_rouge.backend.constant.UnreadCounterType;
 
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.ArrayList;
 
 @Service
 @Transactional
@@ -28,6 +32,11 @@ public class CommunicationServiceImpl implements CommunicationService {
     private final EventRepository eventRepository;
     private final OrganizationRepository organizationRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationFanoutService notificationFanoutService;
+    private final MongoTemplate mongoTemplate;
+    private final UnreadCounterService unreadCounterService;
+    private final CommunicationRetentionService retentionService;
+    private final RetentionProperties retentionProperties;
 
     @Override
     public Communication sendMessage(String senderId, String receiverId, String content, String attachmentUrl) {
@@ -41,7 +50,9 @@ public class CommunicationServiceImpl implements CommunicationService {
             .sentAt(LocalDateTime.now())
             .build();
             
-        return communicationRepository.save(message);
+        message = communicationRepository.save(message);
+        unreadCounterService.increment(receiverId, UnreadCounterType.NOTIFICATIONS, 1);
+        return message;
     }
 
     @Override
@@ -76,6 +87,7 @@ public class CommunicationServiceImpl implements CommunicationService {
             .build();
         
         notification = communicationRepository.save(notification);
+        unreadCounterService.increment(userId, UnreadCounterType.NOTIFICATIONS, 1);
         
         // Send real-time notification via WebSocket
         messagingTemplate.convertAndSendToUser(
@@ -87,83 +99,64 @@ public class CommunicationServiceImpl implements CommunicationService {
         return notification;
     }
 
+    // Each change is conditional on the current state, so only the request that makes it moves the counter
     @Override
     public void markAsRead(String communicationId) {
-        Communication communication = communicationRepository.findById(communicationId)
-            .orElseThrow(() -> new ResourceNotFoundException("Communication not found"));
-        communication.setRead(true);
-        communication.setReadAt(LocalDateTime.now());
-        communicationRepository.save(communication);
+        Communication previous = mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(communicationId).and("isRead").is(false)),
+            new Update().set("isRead", true).set("readAt", LocalDateTime.now()),
+            Communication.class);
+        if (previous == null) {
+            requireExists(communicationId);
+        } else if (!previous.isDeleted()) {
+            unreadCounterService.increment(previous.getReceiverId(), UnreadCounterType.NOTIFICATIONS, -1);
+        }
     }
 
     @Override
-    public void markAllAsRead(String userId) {
-        List<Communication> unreadCommunications = communicationRepository.findAllUnreadByReceiverId(userId);
-        LocalDateTime now = LocalDateTime.now();
-        unreadCommunications.forEach(comm -> {
-            comm.setRead(true);
-            comm.setReadAt(now);
-        });
-        communicationRepository.saveAll(unreadCommunications);
+    public long markAllAsRead(String userId) {
+        long marked = mongoTemplate.updateMulti(unread(Criteria.where("receiverId").is(userId)),
+            new Update().set("isRead", true).set("readAt", LocalDateTime.now()),
+            Communication.class).getModifiedCount();
+        unreadCounterService.increment(userId, UnreadCounterType.NOTIFICATIONS, -marked);
+        return marked;
     }
 
     @Override
     public long getUnreadCount(String userId) {
-        return communicationRepository.findAllUnreadByReceiverId(userId).size();
+        return unreadCounterService.getUnreadCount(userId, UnreadCounterType.NOTIFICATIONS);
     }
 
     @Override
     public void deleteCommunication(String communicationId) {
-        Communication communication = communicationRepository.findById(communicationId)
-            .orElseThrow(() -> new ResourceNotFoundException("Communication not found"));
-        communication.setDeleted(true);
-        communication.setDeletedAt(LocalDateTime.now());
-        communicationRepository.save(communication);
-    }
-
-    @Override
-    public void sendBulkNotification(List<String> userIds, String content) {
-        List<Communication> notifications = userIds.stream()
-            .map(userId -> Communication.builder()
-                .senderId(CommunicationConstants.SYSTEM_SENDER)
-                .receiverId(userId)
-                .content(content)
-                .type(Communication.CommunicationType.NOTIFICATION)
-                .isRead(false)
-                .sentAt(LocalDateTime.now())
-                .build())
-            .collect(Collectors.toList());
-        
-        communicationRepository.saveAll(notifications);
-        
-        // Send real-time notifications via WebSocket
-        notifications.forEach(notification -> 
-            messagingTemplate.convertAndSendToUser(
-                notification.getReceiverId(),
-                CommunicationConstants.NOTIFICATION_QUEUE,
-                notification
-            )
-        );
+        LocalDateTime now = LocalDateTime.now();
+        Communication previous = mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(communicationId).and("isDeleted").is(false)),
+            new Update().set("isDeleted", true).set("deletedAt", now)
+                .set("expireAt", now.plus(retentionProperties.getPurgeAfter())),
+            Communication.class);
+        if (previous == null) {
+            requireExists(communicationId);
+        } else if (!previous.isRead()) {
+            unreadCounterService.increment(previous.getReceiverId(), UnreadCounterType.NOTIFICATIONS, -1);
+        }
     }
 
     @Override
-    public void cleanupOldCommunications(int daysOld) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
-        List<Communication> oldCommunications = communicationRepository.findBySentAtBeforeAndDeletedFalse(cutoffDate);
-        
-        oldCommunications.forEach(comm -> {
-            comm.setDeleted(true);
-            comm.setDeletedAt(LocalDateTime.now());
-        });
-        communicationRepository.saveAll(oldCommunications);
+    public NotificationFanoutResponse sendBulkNotification(List<String> userIds, String content) {
+        return notificationFanoutService.submit(userIds, content, null, null);
+    }
+
+    @Override
+    public long cleanupOldCommunications(int daysOld) {
+        return retentionService.deleteCommunicationsSentBefore(LocalDateTime.now().minusDays(daysOld), null);
     }
 
     @Override
     public void notifyEventParticipants(String eventId, String content) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
-        List<String> participantIds = new ArrayList<>(event.getRegisteredParticipants());
-        sendBulkNotification(participantIds, content);
+        notificationFanoutService.submit(event.getRegisteredParticipants(), content, eventId, event.getOrganizationId());
     }
 
     @Override
@@ -184,14 +177,14 @@ public class CommunicationServiceImpl implements CommunicationService {
 
     @Override
     public void notifyOrganizationMembers(String organizationId, String content) {
-        Organization org = organizationRepository.findById(organizationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
-        List<Event> events = eventRepository.findByOrganizationId(organizationId, Pageable.unpaged());
-        List<String> memberIds = events.stream()
-                .flatMap(event -> event.getRegisteredParticipants().stream())
-                .distinct()
-                .collect(Collectors.toList());
-        sendBulkNotification(memberIds, content);
+        if (!organizationRepository.existsById(organizationId)) {
+            throw new ResourceNotFoundException("Organization not found");
+        }
+        // Let the server collect distinct participant ids instead of loading every event
+        List<String> memberIds = mongoTemplate.findDistinct(
+                Query.query(Criteria.where("organizationId").is(organizationId)),
+                "registeredParticipants", Event.class, String.class);
+        notificationFanoutService.submit(memberIds, content, null, organizationId);
     }
 
     @Override
@@ -201,4 +194,14 @@ public class CommunicationServiceImpl implements CommunicationService {
         String content = String.format(CommunicationConstants.ORGANIZATION_UPDATE_TEMPLATE, org.getName(), updateType);
         notifyOrganizationMembers(organizationId, content);
     }
-} 
\ No newline at end of file
+
+    private void requireExists(String communicationId) {
+        if (!communicationRepository.existsById(communicationId)) {
+            throw new ResourceNotFoundException("Communication not found");
+        }
+    }
+
+    private static Query unread(Criteria criteria) {
+        return Query.query(criteria.and("isRead").is(false).and("isDeleted").is(false));
+    }
+}
@@ -0,0 +1,18 @@
+package com.fill_rouge.backend.service.communication;
+
+import java.util.Collection;
+
+import com.fill_rouge.backend.dto.response.NotificationFanoutResponse;
+
+public interface NotificationFanoutService {
+
+    /**
+     * Queues a notification for every recipient and returns straight away; the
+     * notifications are written in chunks in the background. Duplicate ids are
+     * only notified once.
+     */
+    NotificationFanoutResponse submit(Collection<String> recipientIds, String content,
+                                      String eventId, String organizationId);
+
+    NotificationFanoutResponse getJob(String jobId);
+}
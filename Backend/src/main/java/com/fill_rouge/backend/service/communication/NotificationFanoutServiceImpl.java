@@ -0,0 +1,270 @@
+package com.fill_rouge.backend.service.communication;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fill_rouge.backend.constant.CommunicationConstants;
+import com.fill_rouge.backend.constant.FanoutJobStatus;
+import com.fill_rouge.backend.constant.UnreadCounterType;
+import com.fill_rouge.backend.domain.Communication;
+import com.fill_rouge.backend.dto.response.NotificationFanoutResponse;
+import com.fill_rouge.backend.exception.ResourceNotFoundException;
+import com.mongodb.bulk.BulkWriteError;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes notifications for large recipient lists in unordered bulk inserts off the request
+ * thread, pushing live copies to recipients that currently hold a STOMP session.
+ */
+@Slf4j
+@Service
+public class NotificationFanoutServiceImpl implements NotificationFanoutService {
+
+    static final int CHUNK_SIZE = 1000;
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final UnreadCounterService unreadCounterService;
+    private final Executor executor;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter pushedCounter;
+    private final Timer chunkTimer;
+    private final Map<String, FanoutJob> jobs = new ConcurrentHashMap<>();
+
+    public NotificationFanoutServiceImpl(MongoTemplate mongoTemplate,
+                                         SimpMessagingTemplate messagingTemplate,
+                                         SimpUserRegistry userRegistry,
+                                         UnreadCounterService unreadCounterService,
+                                         @Qualifier("notificationFanoutExecutor") Executor executor,
+                                         MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.unreadCounterService = unreadCounterService;
+        this.executor = executor;
+        this.deliveredCounter = meterRegistry.counter("notifications.fanout.delivered");
+        this.failedCounter = meterRegistry.counter("notifications.fanout.failed");
+        this.pushedCounter = meterRegistry.counter("notifications.fanout.pushed");
+        this.chunkTimer = meterRegistry.timer("notifications.fanout.chunk");
+    }
+
+    @Override
+    public NotificationFanoutResponse submit(Collection<String> recipientIds, String content,
+                                             String eventId, String organizationId) {
+        List<String> recipients = new ArrayList<>(new LinkedHashSet<>(recipientIds));
+        recipients.removeIf(id -> id == null || id.isBlank());
+        FanoutJob job = new FanoutJob(UUID.randomUUID().toString(), recipients.size());
+        jobs.put(job.id, job);
+
+        try {
+            executor.execute(() -> run(job, recipients, content, eventId, organizationId));
+        } catch (TaskRejectedException e) {
+            log.error("Notification fan-out queue is full, rejecting job {}", job.id);
+            job.fail("Notification fan-out queue is full");
+        }
+        return job.toResponse();
+    }
+
+    @Override
+    public NotificationFanoutResponse getJob(String jobId) {
+        FanoutJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Notification job not found: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    @Scheduled(fixedDelay = 600000)
+    public void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(cutoff));
+    }
+
+    private void run(FanoutJob job, List<String> recipients, String content, String eventId, String organizationId) {
+        job.start();
+        try {
+            for (int from = 0; from < recipients.size(); from += CHUNK_SIZE) {
+                List<String> chunkRecipients = recipients.subList(from, Math.min(from + CHUNK_SIZE, recipients.size()));
+                LocalDateTime sentAt = LocalDateTime.now();
+                List<Communication> chunk = new ArrayList<>(chunkRecipients.size());
+                for (String recipientId : chunkRecipients) {
+                    chunk.add(Communication.builder()
+                        // Assigned up front so the live copies carry the stored id
+                        .id(ObjectId.get().toHexString())
+                        .senderId(CommunicationConstants.SYSTEM_SENDER)
+                        .receiverId(recipientId)
+                        .content(content)
+                        .eventId(eventId)
+                        .organizationId(organizationId)
+                        .type(Communication.CommunicationType.NOTIFICATION)
+                        .isRead(false)
+                        .sentAt(sentAt)
+                        .build());
+                }
+                writeChunk(job, chunk);
+            }
+            job.complete();
+            log.info("Notification job {} delivered {} of {} notifications at {}/s",
+                job.id, job.delivered.get(), job.totalRecipients, Math.round(job.throughput()));
+        } catch (RuntimeException e) {
+            log.error("Notification job {} failed after {} notifications", job.id, job.delivered.get(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void writeChunk(FanoutJob job, List<Communication> chunk) {
+        Set<Integer> failedIndexes = Set.of();
+        Timer.Sample sample = Timer.start();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Communication.class)
+                .insert(chunk)
+                .execute();
+        } catch (BulkOperationException e) {
+            // Unordered: everything except the reported documents was written
+            failedIndexes = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                failedIndexes.add(error.getIndex());
+            }
+            log.warn("Notification job {}: {} of {} inserts in chunk failed", job.id, failedIndexes.size(), chunk.size());
+        } catch (DataAccessException e) {
+            log.warn("Notification job {}: chunk of {} failed: {}", job.id, chunk.size(), e.getMessage());
+            job.recordChunk(0, chunk.size());
+            failedCounter.increment(chunk.size());
+            return;
+        } finally {
+            sample.stop(chunkTimer);
+        }
+
+        int written = chunk.size() - failedIndexes.size();
+        job.recordChunk(written, failedIndexes.size());
+        deliveredCounter.increment(written);
+        failedCounter.increment(failedIndexes.size());
+
+        Map<String, Long> writtenRecipients = new HashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (!failedIndexes.contains(i)) {
+                writtenRecipients.put(chunk.get(i).getReceiverId(), 1L);
+            }
+        }
+        unreadCounterService.incrementAll(writtenRecipients, UnreadCounterType.NOTIFICATIONS);
+
+        long pushed = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            Communication notification = chunk.get(i);
+            if (!failedIndexes.contains(i) && userRegistry.getUser(notification.getReceiverId()) != null) {
+                messagingTemplate.convertAndSendToUser(
+                    notification.getReceiverId(),
+                    CommunicationConstants.NOTIFICATION_QUEUE,
+                    notification
+                );
+                pushed++;
+            }
+        }
+        job.pushed.addAndGet(pushed);
+        pushedCounter.increment(pushed);
+    }
+
+    private static final class FanoutJob {
+        private final String id;
+        private final int totalRecipients;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong pushed = new AtomicLong();
+        private final AtomicInteger chunksWritten = new AtomicInteger();
+        private volatile FanoutJobStatus status = FanoutJobStatus.QUEUED;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile String error;
+
+        FanoutJob(String id, int totalRecipients) {
+            this.id = id;
+            this.totalRecipients = totalRecipients;
+        }
+
+        void start() {
+            startedNanos = System.nanoTime();
+            startedAt = LocalDateTime.now();
+            status = FanoutJobStatus.RUNNING;
+        }
+
+        void recordChunk(int written, int failedCount) {
+            delivered.addAndGet(written);
+            failed.addAndGet(failedCount);
+            chunksWritten.incrementAndGet();
+        }
+
+        void complete() {
+            finishedNanos = System.nanoTime();
+            completedAt = LocalDateTime.now();
+            status = FanoutJobStatus.COMPLETED;
+        }
+
+        void fail(String message) {
+            finishedNanos = System.nanoTime();
+            completedAt = LocalDateTime.now();
+            error = message;
+            status = FanoutJobStatus.FAILED;
+        }
+
+        double throughput() {
+            if (startedAt == null) {
+                return 0.0;
+            }
+            long end = completedAt != null ? finishedNanos : System.nanoTime();
+            double seconds = (end - startedNanos) / 1_000_000_000.0;
+            return seconds > 0 ? delivered.get() / seconds : 0.0;
+        }
+
+        NotificationFanoutResponse toResponse() {
+            return NotificationFanoutResponse.builder()
+                .jobId(id)
+                .status(status)
+                .totalRecipients(totalRecipients)
+                .delivered(delivered.get())
+                .failed(failed.get())
+                .pushed(pushed.get())
+                .chunksWritten(chunksWritten.get())
+                .recipientsPerSecond(throughput())
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .completedAt(completedAt)
+                .error(error)
+                .build();
+        }
+    }
+}
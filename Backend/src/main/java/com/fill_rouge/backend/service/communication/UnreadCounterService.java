@@ -0,0 +1,19 @@
+package com.fill_rouge.backend.service.communication;
+
+import java.util.Map;
+
+import com.fill_rouge.backend.constant.UnreadCounterType;
+
+public interface UnreadCounterService {
+
+    long getUnreadCount(String userId, UnreadCounterType type);
+
+    /**
+     * Applies a change that has already been written to the source collection and pushes the
+     * new count to the user's {@code /user/queue/unread} destination if they are connected.
+     */
+    void increment(String userId, UnreadCounterType type, long delta);
+
+    // Deltas by user id, applied in one bulk write
+    void incrementAll(Map<String, Long> deltas, UnreadCounterType type);
+}
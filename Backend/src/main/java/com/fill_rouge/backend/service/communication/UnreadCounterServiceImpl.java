@@ -0,0 +1,171 @@
+package com.fill_rouge.backend.service.communication;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+
+import com.fill_rouge.backend.constant.CommunicationConstants;
+import com.fill_rouge.backend.constant.UnreadCounterType;
+import com.fill_rouge.backend.domain.Communication;
+import com.fill_rouge.backend.domain.Message;
+import com.fill_rouge.backend.domain.UnreadCounter;
+import com.fill_rouge.backend.dto.response.UnreadCountUpdate;
+import com.fill_rouge.backend.service.cache.CacheNames;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps one {@code unread_counters} document per user, incremented atomically by every send,
+ * read and delete, so a count is a single cached lookup instead of a scan of the user's
+ * unread documents. Counters for documents written before this service existed are
+ * backfilled once at startup; a write racing that backfill can be counted twice.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCounterServiceImpl implements UnreadCounterService {
+
+    private static final int BACKFILL_CHUNK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final CacheManager cacheManager;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+
+    @Override
+    public long getUnreadCount(String userId, UnreadCounterType type) {
+        UnreadCounter counter = cache().get(userId, () -> mongoTemplate.findById(userId, UnreadCounter.class));
+        return counter == null ? 0 : Math.max(0, counter.get(type));
+    }
+
+    @Override
+    public void increment(String userId, UnreadCounterType type, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        UnreadCounter counter;
+        try {
+            counter = mongoTemplate.findAndModify(Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc(type.getField(), delta).set("updatedAt", LocalDateTime.now()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                UnreadCounter.class);
+        } catch (DataAccessException e) {
+            // The source write already succeeded; the count stays off by this delta
+            log.error("Failed to update {} unread counter of {}: {}", type, userId, e.getMessage());
+            return;
+        } finally {
+            cache().evict(userId);
+        }
+        push(userId, type, counter.get(type), delta);
+    }
+
+    @Override
+    public void incrementAll(Map<String, Long> deltas, UnreadCounterType type) {
+        Map<String, Long> changes = new HashMap<>(deltas);
+        changes.values().removeIf(delta -> delta == 0);
+        if (changes.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UnreadCounter.class);
+        changes.forEach((userId, delta) -> operations.upsert(Query.query(Criteria.where("_id").is(userId)),
+            new Update().inc(type.getField(), delta).set("updatedAt", now)));
+        try {
+            operations.execute();
+        } catch (DataAccessException e) {
+            log.error("Failed to update {} unread counters of {} users: {}", type, changes.size(), e.getMessage());
+            return;
+        } finally {
+            changes.keySet().forEach(cache()::evict);
+        }
+
+        List<String> connected = changes.keySet().stream().filter(userId -> userRegistry.getUser(userId) != null).toList();
+        if (!connected.isEmpty()) {
+            mongoTemplate.find(Query.query(Criteria.where("_id").in(connected)), UnreadCounter.class)
+                .forEach(counter -> push(counter.getId(), type, counter.get(type), changes.get(counter.getId())));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String collection = mongoTemplate.getCollectionName(UnreadCounter.class);
+        try {
+            mongoTemplate.insert(new Document("_id", UnreadCounter.BACKFILL_MARKER).append("startedAt", new Date()), collection);
+        } catch (DuplicateKeyException e) {
+            return;
+        }
+        int notifications = backfill(Communication.class,
+            Criteria.where("isRead").is(false).and("isDeleted").is(false), UnreadCounterType.NOTIFICATIONS);
+        int messages = backfill(Message.class,
+            Criteria.where("read").is(false).and("deleted").is(false), UnreadCounterType.MESSAGES);
+        cache().clear();
+        log.info("Backfilled unread counters: {} users with notifications, {} with messages", notifications, messages);
+    }
+
+    private int backfill(Class<?> source, Criteria unread, UnreadCounterType type) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(unread.and("receiverId").ne(null)),
+            Aggregation.group("receiverId").count().as("count"));
+        int users = 0;
+        List<Document> chunk = new ArrayList<>(BACKFILL_CHUNK_SIZE);
+        try (Stream<Document> counts = mongoTemplate.aggregateStream(aggregation, source, Document.class)) {
+            Iterator<Document> iterator = counts.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == BACKFILL_CHUNK_SIZE || !iterator.hasNext()) {
+                    writeCounts(chunk, type);
+                    users += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        return users;
+    }
+
+    // $inc rather than $set, so increments made since startup are kept
+    private void writeCounts(List<Document> counts, UnreadCounterType type) {
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UnreadCounter.class);
+        for (Document count : counts) {
+            operations.upsert(Query.query(Criteria.where("_id").is(count.get("_id"))),
+                new Update().inc(type.getField(), ((Number) count.get("count")).longValue()).set("updatedAt", now));
+        }
+        operations.execute();
+    }
+
+    private void push(String userId, UnreadCounterType type, long unread, long delta) {
+        if (userRegistry.getUser(userId) == null) {
+            return;
+        }
+        messagingTemplate.convertAndSendToUser(userId, CommunicationConstants.UNREAD_QUEUE,
+            UnreadCountUpdate.builder().type(type).unread(Math.max(0, unread)).delta(delta).build());
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheNames.UNREAD_COUNTERS);
+    }
+}
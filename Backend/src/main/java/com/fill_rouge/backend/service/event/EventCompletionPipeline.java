@@ -0,0 +1,29 @@
+package com.fill_rouge.backend.service.event;
+
+import java.time.Duration;
+
+public interface EventCompletionPipeline {
+    /**
+     * Records that the event needs its completion work, then queues it on the bounded completion
+     * executor. The record outlives the queue, so work lost in a restart is found by
+     * {@link #resubmitUnfinished()}.
+     */
+    void submit(String eventId);
+
+    /**
+     * Credits the attendees of a completed event: hours, events attended and points on their
+     * profiles, then achievements. The event is claimed for {@code event-lifecycle.completion-lease}
+     * and only marked processed once every stage succeeded; later calls, and calls while another
+     * run holds the claim, return {@link Result#skipped()}.
+     */
+    Result complete(String eventId);
+
+    // Queues again the requested completions that never finished, once their claim is free or expired
+    int resubmitUnfinished();
+
+    record Result(String eventId, int attendees, int achievementsAwarded, Duration elapsed, boolean skipped) {
+        public static Result alreadyProcessed(String eventId) {
+            return new Result(eventId, 0, 0, Duration.ZERO, true);
+        }
+    }
+}
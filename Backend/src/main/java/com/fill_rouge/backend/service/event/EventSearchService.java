@@ -0,0 +1,12 @@
+package com.fill_rouge.backend.service.event;
+
+import com.fill_rouge.backend.dto.request.EventSearchRequest;
+import com.fill_rouge.backend.dto.response.EventSearchResponse;
+
+public interface EventSearchService {
+    /**
+     * Full-text search ranked by relevance when a query is given, otherwise ordered by start
+     * date. Category, difficulty, tag, skill, date and distance filters all combine.
+     */
+    EventSearchResponse search(EventSearchRequest request, String userId);
+}
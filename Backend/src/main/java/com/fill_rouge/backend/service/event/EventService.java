@@ -11,6 +11,7 @@ import com.fill_rouge.backend.domain.Event;
 import com.fill_rouge.backend.domain.EventFeedback;
 import com.fill_rouge.backend.dto.request.EventRegistrationRequest;
 import com.fill_rouge.backend.dto.request.EventRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.EventResponse;
 import com.fill_rouge.backend.dto.response.EventStatisticsResponse;
 
@@ -24,6 +25,7 @@ public interface EventService {
     Page<Event> getAllEvents(Pageable pageable);
     Page<EventResponse> getAllEvents(Pageable pageable, boolean includeAll);
     Page<Event> getAllEventsForAdmin(Pageable pageable);
+    CursorPage<EventResponse> getAllEvents(String cursor, int size, boolean includeAll);
     
     // Admin Event Management
     EventResponse approveEvent(String eventId);
@@ -31,11 +33,13 @@ public interface EventService {
     
     // Public Events (no authentication required)
     Page<Event> getPublicEvents(Pageable pageable);
+    CursorPage<Event> getPublicEvents(String cursor, int size);
     
     // Event Search & Filtering
     Page<Event> getEventsByOrganization(String organizationId, Pageable pageable);
     Page<Event> searchEvents(String query, Pageable pageable);
     Page<Event> getUpcomingEvents(Pageable pageable);
+    CursorPage<Event> getUpcomingEvents(String cursor, int size);
     Page<Event> getNearbyEvents(double[] coordinates, double maxDistance, Pageable pageable);
     Page<Event> getEventsByCategory(String category, Pageable pageable);
     Page<Event> getEventsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable);
@@ -45,6 +49,8 @@ public interface EventService {
     Event registerParticipant(String eventId, String userId);
     Event registerParticipantWithDetails(String eventId, String email, EventRegistrationRequest registrationData);
     Event unregisterParticipant(String eventId, String userId);
+    Event addToWaitlist(String eventId, String userId);
+    Event removeFromWaitlist(String eventId, String userId);
     boolean isEventFull(String eventId);
     long getParticipantCount(String eventId);
     List<Event> getEventsByParticipant(String userId);
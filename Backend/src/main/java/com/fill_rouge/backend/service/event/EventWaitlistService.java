@@ -1,83 +1,97 @@
 package com.fill_rouge.backend.service.event;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fill_rouge.backend.constant.EventStatus;
 import com.fill_rouge.backend.domain.Event;
 import com.fill_rouge.backend.exception.AlreadyRegisteredException;
 import com.fill_rouge.backend.exception.EventNotFoundException;
 import com.fill_rouge.backend.exception.WaitlistDisabledException;
 import com.fill_rouge.backend.exception.WaitlistFullException;
 import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.service.statistics.EventRollupSnapshot;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class EventWaitlistService {
+    private static final int MAX_ATTEMPTS = 5;
+
     private final EventRepository eventRepository;
+    private final StatisticsRollupService rollupService;
 
     @Transactional
     public void joinWaitlist(String eventId, String userId) {
-        Event event = eventRepository.findById(eventId)
-            .orElseThrow(() -> new EventNotFoundException("Event not found"));
-
-        if (!event.isWaitlistEnabled()) {
-            throw new WaitlistDisabledException("Waitlist is not enabled for this event");
-        }
-
-        if (event.getRegisteredParticipants().contains(userId)) {
-            throw new AlreadyRegisteredException("User is already registered for this event");
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event not found"));
+
+            if (!event.isWaitlistEnabled()) {
+                throw new WaitlistDisabledException("Waitlist is not enabled for this event");
+            }
+
+            if (event.getRegisteredParticipants().contains(userId)) {
+                throw new AlreadyRegisteredException("User is already registered for this event");
+            }
+
+            if (event.getWaitlistedParticipants().contains(userId)) {
+                throw new AlreadyRegisteredException("User is already on the waitlist");
+            }
+
+            if (event.getCurrentWaitlistSize() >= event.getMaxWaitlistSize()) {
+                throw new WaitlistFullException("Waitlist is full");
+            }
+
+            if (eventRepository.addToWaitlist(eventId, userId, event.getMaxWaitlistSize()).isPresent()) {
+                return;
+            }
+            // A concurrent update changed the event between the checks and the write, re-check
         }
-
-        if (event.getWaitlistedParticipants().contains(userId)) {
-            throw new AlreadyRegisteredException("User is already on the waitlist");
-        }
-
-        if (event.getCurrentWaitlistSize() >= event.getMaxWaitlistSize()) {
-            throw new WaitlistFullException("Waitlist is full");
-        }
-
-        event.getWaitlistedParticipants().add(userId);
-        event.getWaitlistJoinTimes().put(userId, LocalDateTime.now());
-        event.setCurrentWaitlistSize(event.getCurrentWaitlistSize() + 1);
-        
-        eventRepository.save(event);
+        throw new WaitlistFullException("Waitlist is full");
     }
 
     @Transactional
     public void leaveWaitlist(String eventId, String userId) {
-        Event event = eventRepository.findById(eventId)
-            .orElseThrow(() -> new EventNotFoundException("Event not found"));
-
-        if (event.getWaitlistedParticipants().remove(userId)) {
-            event.getWaitlistJoinTimes().remove(userId);
-            event.setCurrentWaitlistSize(event.getCurrentWaitlistSize() - 1);
-            eventRepository.save(event);
+        if (eventRepository.removeFromWaitlist(eventId, userId).isEmpty() && !eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException("Event not found");
         }
     }
 
     @Transactional
     public void promoteFromWaitlist(String eventId, String userId) {
-        Event event = eventRepository.findById(eventId)
-            .orElseThrow(() -> new EventNotFoundException("Event not found"));
-
-        if (!event.getWaitlistedParticipants().contains(userId)) {
-            throw new EventNotFoundException("User is not on the waitlist");
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event not found"));
+
+            if (!event.getWaitlistedParticipants().contains(userId)) {
+                throw new EventNotFoundException("User is not on the waitlist");
+            }
+
+            if (event.getRegisteredParticipants().size() >= event.getMaxParticipants()) {
+                throw new WaitlistFullException("Event is at maximum capacity");
+            }
+
+            Optional<Event> previous = eventRepository.promoteFromWaitlist(eventId, userId, event.getMaxParticipants());
+            if (previous.isPresent()) {
+                Event promoted = previous.get();
+                EventRollupSnapshot before = EventRollupSnapshot.of(promoted);
+                promoted.getWaitlistedParticipants().remove(userId);
+                promoted.getRegisteredParticipants().add(userId);
+                if (promoted.getRegisteredParticipants().size() >= promoted.getMaxParticipants()
+                        && eventRepository.markFullIfAtCapacity(eventId, promoted.getMaxParticipants())) {
+                    promoted.setStatus(EventStatus.FULL);
+                }
+                rollupService.recordEventChange(before, EventRollupSnapshot.of(promoted));
+                return;
+            }
         }
-
-        if (event.getRegisteredParticipants().size() >= event.getMaxParticipants()) {
-            throw new WaitlistFullException("Event is at maximum capacity");
-        }
-
-        event.getWaitlistedParticipants().remove(userId);
-        event.getWaitlistJoinTimes().remove(userId);
-        event.getRegisteredParticipants().add(userId);
-        event.setCurrentWaitlistSize(event.getCurrentWaitlistSize() - 1);
-        
-        eventRepository.save(event);
+        throw new WaitlistFullException("Event is at maximum capacity");
     }
 
     public boolean isOnWaitlist(String eventId, String userId) {
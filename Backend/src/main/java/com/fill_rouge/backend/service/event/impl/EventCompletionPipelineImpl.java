@@ -0,0 +1,253 @@
+package com.fill_rouge.backend.service.event.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.fill_rouge.backend.config.EventLifecycleProperties;
+import com.fill_rouge.backend.constant.AchievementMetric;
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.repository.StreamingQueries;
+import com.fill_rouge.backend.service.achievement.AchievementRuleEngine;
+import com.fill_rouge.backend.service.achievement.VolunteerMetrics;
+import com.fill_rouge.backend.service.achievement.VolunteerMetricsLoader;
+import com.fill_rouge.backend.service.event.EventCompletionPipeline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Completion work for all attendees of an event in a fixed number of round trips: claim the
+ * event, read the attendees, load their history in one aggregation, credit their profiles in
+ * one bulk write and award achievements in one more. Each stage is timed under
+ * {@code events.completion.stage}.
+ *
+ * <p>The claim is a lease, not a mark of success: {@code completionProcessedAt} is only set after
+ * the last stage, and a run that failed or died with its instance is retried by the hourly
+ * sweep once the lease is over. Every stage is safe to repeat; profiles record the events they
+ * were credited for and achievements are recomputed from history.
+ */
+@Slf4j
+@Service
+public class EventCompletionPipelineImpl implements EventCompletionPipeline {
+
+    private final MongoTemplate mongoTemplate;
+    private final StreamingQueries streamingQueries;
+    private final VolunteerMetricsLoader metricsLoader;
+    private final AchievementRuleEngine ruleEngine;
+    private final Executor executor;
+    private final EventLifecycleProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer totalTimer;
+    private final Counter failedCounter;
+
+    public EventCompletionPipelineImpl(MongoTemplate mongoTemplate,
+                                       StreamingQueries streamingQueries,
+                                       VolunteerMetricsLoader metricsLoader,
+                                       AchievementRuleEngine ruleEngine,
+                                       @Qualifier("eventCompletionExecutor") Executor executor,
+                                       EventLifecycleProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.streamingQueries = streamingQueries;
+        this.metricsLoader = metricsLoader;
+        this.ruleEngine = ruleEngine;
+        this.executor = executor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.totalTimer = meterRegistry.timer("events.completion");
+        this.failedCounter = meterRegistry.counter("events.completion.failed");
+    }
+
+    @Override
+    public void submit(String eventId) {
+        try {
+            markRequested(eventId);
+        } catch (DataAccessException e) {
+            // Still worth trying now; only the retry after a restart is lost
+            log.warn("Could not record the completion request of event {}: {}", eventId, e.getMessage());
+        }
+        queue(eventId);
+    }
+
+    @Override
+    public int resubmitUnfinished() {
+        List<String> ids = new ArrayList<>();
+        // Only requested ones: older completed events were processed before the request was recorded
+        Criteria requested = new Criteria().andOperator(
+            Criteria.where("completionRequestedAt").exists(true), unfinished(LocalDateTime.now()));
+        streamingQueries.forEach(Event.class, requested, event -> ids.add(event.getId()), "_id");
+        ids.forEach(this::queue);
+        if (!ids.isEmpty()) {
+            log.info("Resubmitted {} unfinished event completions", ids.size());
+        }
+        return ids.size();
+    }
+
+    private void queue(String eventId) {
+        executor.execute(() -> {
+            try {
+                complete(eventId);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("Completion pipeline failed for event {}", eventId, e);
+            }
+        });
+    }
+
+    @Override
+    public Result complete(String eventId) {
+        long started = System.nanoTime();
+        String claimId = UUID.randomUUID().toString();
+        Event event = stage("claim", () -> claim(eventId, claimId));
+        if (event == null) {
+            return Result.alreadyProcessed(eventId);
+        }
+
+        int credited;
+        int awarded;
+        try {
+            List<EventParticipation> attendees = stage("attendees", () -> findAttendees(eventId));
+            List<String> volunteerIds = attendees.stream().map(EventParticipation::getVolunteerId).distinct().toList();
+            credited = volunteerIds.size();
+            if (attendees.isEmpty()) {
+                awarded = 0;
+            } else {
+                boolean withEvents = ruleEngine.needsEventMetrics(AchievementMetric.ATTENDANCE);
+                Map<String, VolunteerMetrics> metrics = stage("history", () -> metricsLoader.load(volunteerIds, withEvents));
+                stage("profiles", () -> creditProfiles(event, attendees));
+                awarded = stage("achievements", () -> ruleEngine.award(metrics, AchievementMetric.ATTENDANCE));
+            }
+        } catch (RuntimeException e) {
+            release(eventId, claimId);
+            throw e;
+        }
+        finish(eventId, claimId);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        totalTimer.record(elapsed);
+        log.info("Completed event {}: {} attendees credited, {} achievements awarded in {} ms",
+            eventId, credited, awarded, elapsed.toMillis());
+        return new Result(eventId, credited, awarded, elapsed, false);
+    }
+
+    private void markRequested(String eventId) {
+        mongoTemplate.updateFirst(
+            Query.query(Criteria.where("_id").is(eventId)
+                .and("status").is(EventStatus.COMPLETED)
+                .and("completionProcessedAt").exists(false)
+                .and("completionRequestedAt").exists(false)),
+            Update.update("completionRequestedAt", LocalDateTime.now()), Event.class);
+    }
+
+    // Completed events still unprocessed whose claim is free or has outlived the lease
+    private Criteria unfinished(LocalDateTime now) {
+        return Criteria.where("status").is(EventStatus.COMPLETED)
+            .and("completionProcessedAt").exists(false)
+            .orOperator(
+                Criteria.where("completionClaimedAt").exists(false),
+                Criteria.where("completionClaimedAt").lt(now.minus(properties.getCompletionLease())));
+    }
+
+    // Leases the event to this run; a completion seen twice runs once unless the first one stops
+    private Event claim(String eventId, String claimId) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(new Criteria().andOperator(Criteria.where("_id").is(eventId), unfinished(now)));
+        query.fields().include("pointsAwarded", "durationHours", "startDate", "endDate");
+        return mongoTemplate.findAndModify(query,
+            new Update().set("completionClaimedBy", claimId).set("completionClaimedAt", now), Event.class);
+    }
+
+    // Guarded by the claim, so a run that lost its lease leaves the event to the one that took it
+    private void finish(String eventId, String claimId) {
+        mongoTemplate.updateFirst(
+            Query.query(Criteria.where("_id").is(eventId).and("completionClaimedBy").is(claimId)),
+            new Update().set("completionProcessedAt", LocalDateTime.now())
+                .unset("completionRequestedAt")
+                .unset("completionClaimedBy")
+                .unset("completionClaimedAt"),
+            Event.class);
+    }
+
+    private void release(String eventId, String claimId) {
+        try {
+            mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(eventId).and("completionClaimedBy").is(claimId)),
+                new Update().unset("completionClaimedBy").unset("completionClaimedAt"), Event.class);
+        } catch (DataAccessException e) {
+            log.warn("Could not release the completion claim of event {}, retried after the lease", eventId);
+        }
+    }
+
+    private List<EventParticipation> findAttendees(String eventId) {
+        Query query = Query.query(Criteria.where("eventId").is(eventId)
+            .and("status").is(EventParticipationStatus.ATTENDED));
+        query.fields().include("volunteerId", "hours");
+        return mongoTemplate.find(query, EventParticipation.class);
+    }
+
+    private Integer creditProfiles(Event event, List<EventParticipation> attendees) {
+        LocalDateTime now = LocalDateTime.now();
+        int defaultHours = defaultHours(event);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VolunteerProfile.class);
+        for (EventParticipation attendee : attendees) {
+            int hours = attendee.getHours() != null ? attendee.getHours() : defaultHours;
+            bulk.updateOne(
+                Query.query(Criteria.where("user.$id").in(userIdForms(attendee.getVolunteerId()))
+                    .and("creditedEventIds").ne(event.getId())),
+                new Update()
+                    .addToSet("creditedEventIds", event.getId())
+                    .inc("totalEventsAttended", 1)
+                    .inc("totalHoursVolunteered", hours)
+                    .inc("totalPoints", event.getPointsAwarded())
+                    .set("lastActivityDate", now)
+                    .set("updatedAt", now));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    private static int defaultHours(Event event) {
+        if (event.getDurationHours() > 0) {
+            return event.getDurationHours();
+        }
+        if (event.getStartDate() != null && event.getEndDate() != null) {
+            return (int) Duration.between(event.getStartDate(), event.getEndDate()).toHours();
+        }
+        return 0;
+    }
+
+    // Profiles reference their user by DBRef, whose id is stored as an ObjectId when it is one
+    private static List<Object> userIdForms(String userId) {
+        List<Object> forms = new ArrayList<>(2);
+        forms.add(userId);
+        if (ObjectId.isValid(userId)) {
+            forms.add(new ObjectId(userId));
+        }
+        return forms;
+    }
+
+    private <T> T stage(String name, Supplier<T> work) {
+        return meterRegistry.timer("events.completion.stage", "stage", name).record(work);
+    }
+}
@@ -6,6 +6,8 @@ import com.fill_rouge.backend.exception.ResourceNotFoundException;
 import com.fill_rouge.backend.repository.EventFeedbackRepository;
 import com.fill_rouge.backend.repository.EventRepository;
 import com.fill_rouge.backend.service.event.EventFeedbackService;
+import com.fill_rouge.backend.service.statistics.EventRollupSnapshot;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,6 +22,7 @@ public class EventFeedbackServiceImpl implements EventFeedbackService {
     
     private final EventRepository eventRepository;
     private final EventFeedbackRepository feedbackRepository;
+    private final StatisticsRollupService rollupService;
     
     @Override
     public EventFeedback submitFeedback(String eventId, String volunteerId, EventFeedback feedback) {
@@ -32,6 +35,7 @@ public class EventFeedbackServiceImpl implements EventFeedbackService {
         feedback.setVolunteerId(volunteerId);
         
         EventFeedback savedFeedback = feedbackRepository.save(feedback);
+        rollupService.recordFeedbackSubmitted(savedFeedback, event);
         updateEventRating(event);
         
         return savedFeedback;
@@ -75,6 +79,7 @@ public class EventFeedbackServiceImpl implements EventFeedbackService {
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
         
         feedbackRepository.delete(feedback);
+        rollupService.recordFeedbackDeleted(feedback, event);
         updateEventRating(event);
     }
     
@@ -93,9 +98,13 @@ public class EventFeedbackServiceImpl implements EventFeedbackService {
         }
     }
     
+    // Only the rating is written, so seats, waitlist and status changed since the event was read are kept
     private void updateEventRating(Event event) {
         double averageRating = getEventAverageRating(event.getId());
-        event.setAverageRating(averageRating);
-        eventRepository.save(event);
+        Event previous = eventRepository.setAverageRating(event.getId(), averageRating)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        EventRollupSnapshot before = EventRollupSnapshot.of(previous);
+        previous.setAverageRating(averageRating);
+        rollupService.recordEventChange(before, EventRollupSnapshot.of(previous));
     }
 } 
\ No newline at end of file
@@ -6,13 +6,18 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fill_rouge.backend.constant.EventParticipationStatus;
 import com.fill_rouge.backend.domain.EventParticipation;
 import com.fill_rouge.backend.repository.EventParticipationRepository;
+import com.fill_rouge.backend.repository.ReferenceResolver;
 import com.fill_rouge.backend.service.event.EventParticipationService;
+import com.fill_rouge.backend.service.statistics.ParticipationRollupSnapshot;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,7 +26,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EventParticipationServiceImpl implements EventParticipationService {
 
+    private static final String[] PARTICIPATION_REFERENCES = {"event", "volunteer.user"};
+
     private final EventParticipationRepository participationRepository;
+    private final StatisticsRollupService rollupService;
+    private final ReferenceResolver referenceResolver;
 
     @Override
     public EventParticipation registerForEvent(String volunteerId, String eventId) {
@@ -38,7 +47,7 @@ public class EventParticipationServiceImpl implements EventParticipationService
             .updatedAt(LocalDateTime.now())
             .build();
 
-        return participationRepository.save(participation);
+        return saveAndRecord(null, participation);
     }
 
     @Override
@@ -59,7 +68,7 @@ public class EventParticipationServiceImpl implements EventParticipationService
             .notes(notes)
             .build();
 
-        return participationRepository.save(participation);
+        return saveAndRecord(null, participation);
     }
 
     @Override
@@ -70,6 +79,7 @@ public class EventParticipationServiceImpl implements EventParticipationService
         
         if (existingRegistration.isPresent()) {
             EventParticipation participation = existingRegistration.get();
+            ParticipationRollupSnapshot before = ParticipationRollupSnapshot.of(participation);
             
             // Update with new details if provided
             if (specialRequirements != null && !specialRequirements.isBlank()) {
@@ -91,7 +101,7 @@ public class EventParticipationServiceImpl implements EventParticipationService
                 throw new IllegalArgumentException("Invalid participation status: " + status);
             }
             
-            return participationRepository.save(participation);
+            return saveAndRecord(before, participation);
         }
 
         EventParticipationStatus participationStatus;
@@ -112,7 +122,7 @@ public class EventParticipationServiceImpl implements EventParticipationService
             .notes(notes)
             .build();
 
-        return participationRepository.save(participation);
+        return saveAndRecord(null, participation);
     }
 
     @Override
@@ -120,8 +130,9 @@ public class EventParticipationServiceImpl implements EventParticipationService
         EventParticipation participation = participationRepository.findByVolunteerIdAndEventId(volunteerId, eventId)
             .orElseThrow(() -> new RuntimeException("Participation not found"));
 
+        ParticipationRollupSnapshot before = ParticipationRollupSnapshot.of(participation);
         participation.checkIn();
-        return participationRepository.save(participation);
+        return saveAndRecord(before, participation);
     }
 
     @Override
@@ -129,8 +140,9 @@ public class EventParticipationServiceImpl implements EventParticipationService
         EventParticipation participation = participationRepository.findByVolunteerIdAndEventId(volunteerId, eventId)
             .orElseThrow(() -> new RuntimeException("Participation not found"));
 
+        ParticipationRollupSnapshot before = ParticipationRollupSnapshot.of(participation);
         participation.checkOut();
-        return participationRepository.save(participation);
+        return saveAndRecord(before, participation);
     }
 
     @Override
@@ -138,8 +150,9 @@ public class EventParticipationServiceImpl implements EventParticipationService
         EventParticipation participation = participationRepository.findByVolunteerIdAndEventId(volunteerId, eventId)
             .orElseThrow(() -> new RuntimeException("Participation not found"));
 
+        ParticipationRollupSnapshot before = ParticipationRollupSnapshot.of(participation);
         participation.submitFeedback(rating, feedback);
-        return participationRepository.save(participation);
+        return saveAndRecord(before, participation);
     }
 
     @Override
@@ -147,9 +160,10 @@ public class EventParticipationServiceImpl implements EventParticipationService
         EventParticipation participation = participationRepository.findByVolunteerIdAndEventId(volunteerId, eventId)
             .orElseThrow(() -> new RuntimeException("Participation not found"));
 
+        ParticipationRollupSnapshot before = ParticipationRollupSnapshot.of(participation);
         participation.setStatus(EventParticipationStatus.CANCELLED);
         participation.setUpdatedAt(LocalDateTime.now());
-        return participationRepository.save(participation);
+        return saveAndRecord(before, participation);
     }
 
     @Override
@@ -159,12 +173,14 @@ public class EventParticipationServiceImpl implements EventParticipationService
 
     @Override
     public List<EventParticipation> getVolunteerParticipations(String volunteerId) {
-        return participationRepository.findByVolunteerId(volunteerId);
+        return referenceResolver.find(Query.query(Criteria.where("volunteerId").is(volunteerId)),
+            EventParticipation.class, PARTICIPATION_REFERENCES);
     }
 
     @Override
     public List<EventParticipation> getEventParticipations(String eventId) {
-        return participationRepository.findByEventId(eventId);
+        return referenceResolver.find(Query.query(Criteria.where("eventId").is(eventId)),
+            EventParticipation.class, PARTICIPATION_REFERENCES);
     }
 
     @Override
@@ -188,4 +204,10 @@ public class EventParticipationServiceImpl implements EventParticipationService
             .map(EventParticipation::hasCompleted)
             .orElse(false);
     }
-} 
\ No newline at end of file
+
+    private EventParticipation saveAndRecord(ParticipationRollupSnapshot before, EventParticipation participation) {
+        EventParticipation saved = participationRepository.save(participation);
+        rollupService.recordParticipationChange(before, ParticipationRollupSnapshot.of(saved));
+        return saved;
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fill_rouge.backend.annotation.ClusterJob;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,12 +23,13 @@ public class EventSchedulerService {
     private final EventServiceImpl eventService;
     
     /**
-     * Automatically updates event statuses based on time and conditions
-     * Runs every 15 minutes
+     * Reconciliation sweep behind the event lifecycle scheduler, which applies transitions as they fall due
+     * Runs hourly by default, on one instance of the cluster
      */
-    @Scheduled(fixedRate = 900000) // Every 15 minutes (in milliseconds)
+    @Scheduled(fixedDelayString = "${event-lifecycle.sweep-interval:3600000}")
+    @ClusterJob(value = "event-status-sweep", interval = "${event-lifecycle.sweep-interval:3600000}")
     public void scheduleEventStatusUpdates() {
-        log.info("Running scheduled event status update");
+        log.debug("Running scheduled event status sweep");
         try {
             eventService.updateEventStatuses();
         } catch (Exception e) {
@@ -0,0 +1,204 @@
+package com.fill_rouge.backend.service.event.impl;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.facet;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.limit;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sortByCount;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.unwind;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.dto.request.EventSearchRequest;
+import com.fill_rouge.backend.dto.response.EventResponse;
+import com.fill_rouge.backend.dto.response.EventSearchResponse;
+import com.fill_rouge.backend.dto.response.FacetCount;
+import com.fill_rouge.backend.exception.ValidationException;
+import com.fill_rouge.backend.mapper.EventMapper;
+import com.fill_rouge.backend.repository.Keyset;
+import com.fill_rouge.backend.repository.PageCursor;
+import com.fill_rouge.backend.repository.index.MongoIndexCatalog;
+import com.fill_rouge.backend.service.event.EventSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Event search over the {@code event_text} text index declared in {@link MongoIndexCatalog}.
+ * Pages are keyset based: relevance pages continue after the last (score, _id), date-ordered
+ * pages after the last (startDate, _id), so a deep page costs the same as the first one.
+ * Facet counts are computed once, with the first page, in a single {@code $facet} stage.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventSearchServiceImpl implements EventSearchService {
+
+    private static final int FACET_LIMIT = 20;
+    private static final String SCORE = "score";
+
+    private final MongoTemplate mongoTemplate;
+    private final EventMapper eventMapper;
+
+    @Override
+    public EventSearchResponse search(EventSearchRequest request, String userId) {
+        Criteria filters = filters(request);
+        boolean ranked = StringUtils.hasText(request.getQuery());
+        int size = request.getSize();
+
+        List<Event> events = new ArrayList<>(size + 1);
+        List<Double> scores = new ArrayList<>(size + 1);
+        if (ranked) {
+            searchRanked(request, filters, size + 1, events, scores);
+        } else {
+            events.addAll(searchByDate(request, filters, size + 1));
+        }
+
+        String nextCursor = null;
+        if (events.size() > size) {
+            events = events.subList(0, size);
+            Event last = events.get(size - 1);
+            nextCursor = ranked
+                ? new PageCursor(scores.get(size - 1).toString(), last.getId()).encode()
+                : new PageCursor(last.getStartDate().toString(), last.getId()).encode();
+        }
+
+        List<EventResponse> results = events.stream()
+            .map(event -> eventMapper.toResponse(event, userId))
+            .toList();
+        return EventSearchResponse.builder()
+            .events(results)
+            .facets(request.getCursor() == null ? facets(request, filters) : null)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    private void searchRanked(EventSearchRequest request, Criteria filters, int limit,
+                              List<Event> events, List<Double> scores) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(match(TextCriteria.forDefaultLanguage().matching(request.getQuery())));
+        stages.add(match(filters));
+        stages.add(context -> new Document("$addFields", new Document(SCORE, new Document("$meta", "textScore"))));
+        if (request.getCursor() != null) {
+            PageCursor cursor = PageCursor.decode(request.getCursor());
+            double score = parse(() -> Double.parseDouble(cursor.position()));
+            stages.add(match(new Criteria().orOperator(
+                Criteria.where(SCORE).lt(score),
+                Criteria.where(SCORE).is(score).and("_id").gt(cursor.id()))));
+        }
+        stages.add(sort(Sort.by(Sort.Order.desc(SCORE), Sort.Order.asc("_id"))));
+        stages.add(limit(limit));
+
+        TypedAggregation<Event> aggregation = newAggregation(Event.class, stages);
+        for (Document document : mongoTemplate.aggregate(aggregation, Document.class)) {
+            Number score = document.get(SCORE, Number.class);
+            scores.add(score == null ? 0.0 : score.doubleValue());
+            events.add(mongoTemplate.getConverter().read(Event.class, document));
+        }
+    }
+
+    private List<Event> searchByDate(EventSearchRequest request, Criteria filters, int limit) {
+        Query query = Query.query(filters);
+        if (request.getCursor() != null) {
+            query.addCriteria(Keyset.START_DATE.after(PageCursor.decode(request.getCursor())));
+        }
+        query.with(Keyset.START_DATE.sort()).limit(limit);
+        return mongoTemplate.find(query, Event.class);
+    }
+
+    private Map<String, List<FacetCount>> facets(EventSearchRequest request, Criteria filters) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        if (StringUtils.hasText(request.getQuery())) {
+            stages.add(match(TextCriteria.forDefaultLanguage().matching(request.getQuery())));
+        }
+        stages.add(match(filters));
+        stages.add(facet(sortByCount("category")).as("category")
+            .and(sortByCount("difficulty")).as("difficulty")
+            .and(unwind("tags"), sortByCount("tags"), limit(FACET_LIMIT)).as("tags")
+            .and(unwind("requiredSkills"), sortByCount("requiredSkills"), limit(FACET_LIMIT)).as("requiredSkills"));
+
+        Document result = mongoTemplate.aggregate(newAggregation(Event.class, stages), Document.class).getUniqueMappedResult();
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        for (String facet : List.of("category", "difficulty", "tags", "requiredSkills")) {
+            List<FacetCount> counts = new ArrayList<>();
+            if (result != null) {
+                for (Document bucket : result.getList(facet, Document.class, List.of())) {
+                    if (bucket.get("_id") != null) {
+                        counts.add(new FacetCount(bucket.get("_id").toString(), bucket.get("count", Number.class).longValue()));
+                    }
+                }
+            }
+            facets.put(facet, counts);
+        }
+        return facets;
+    }
+
+    private static Criteria filters(EventSearchRequest request) {
+        List<Criteria> filters = new ArrayList<>();
+        if (request.getCategories() != null && !request.getCategories().isEmpty()) {
+            filters.add(Criteria.where("category").in(request.getCategories()));
+        }
+        if (request.getDifficulties() != null && !request.getDifficulties().isEmpty()) {
+            filters.add(Criteria.where("difficulty").in(request.getDifficulties()));
+        }
+        if (request.getTags() != null && !request.getTags().isEmpty()) {
+            filters.add(Criteria.where("tags").in(request.getTags()));
+        }
+        if (request.getSkills() != null && !request.getSkills().isEmpty()) {
+            filters.add(Criteria.where("requiredSkills").in(request.getSkills()));
+        }
+        if (request.getFrom() != null || request.getTo() != null) {
+            if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+                throw new ValidationException("Search start date must be before end date");
+            }
+            Criteria dates = Criteria.where("startDate");
+            if (request.getFrom() != null) {
+                dates.gte(request.getFrom());
+            }
+            if (request.getTo() != null) {
+                dates.lte(request.getTo());
+            }
+            filters.add(dates);
+        }
+        boolean anyGeo = request.getLatitude() != null || request.getLongitude() != null || request.getRadiusKm() != null;
+        if (anyGeo) {
+            if (request.getLatitude() == null || request.getLongitude() == null || request.getRadiusKm() == null) {
+                throw new ValidationException("Latitude, longitude and radiusKm must be given together");
+            }
+            // $near cannot be combined with $text, $geoWithin can
+            Circle area = new Circle(new Point(request.getLongitude(), request.getLatitude()),
+                new Distance(request.getRadiusKm(), Metrics.KILOMETERS));
+            filters.add(Criteria.where("coordinates").withinSphere(area));
+        }
+        return filters.isEmpty() ? new Criteria() : new Criteria().andOperator(filters);
+    }
+
+    private static <T> T parse(Supplier<T> parser) {
+        try {
+            return parser.get();
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.fill_rouge.backend.service.event.impl;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,14 +27,23 @@ import com.fill_rouge.backend.domain.VolunteerProfile;
 import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.dto.request.EventRegistrationRequest;
 import com.fill_rouge.backend.dto.request.EventRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.EventResponse;
 import com.fill_rouge.backend.dto.response.EventStatisticsResponse;
 import com.fill_rouge.backend.exception.ResourceNotFoundException;
 import com.fill_rouge.backend.mapper.EventMapper;
 import com.fill_rouge.backend.repository.EventFeedbackRepository;
 import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.Keyset;
+import com.fill_rouge.backend.repository.KeysetQueries;
+import com.fill_rouge.backend.service.cache.CacheNames;
+import com.fill_rouge.backend.service.cache.EventCache;
+import com.fill_rouge.backend.service.event.EventCompletionPipeline;
 import com.fill_rouge.backend.service.event.EventParticipationService;
 import com.fill_rouge.backend.service.event.EventService;
+import com.fill_rouge.backend.service.event.lifecycle.EventTransitions;
+import com.fill_rouge.backend.service.statistics.EventRollupSnapshot;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
 import com.fill_rouge.backend.service.user.UserService;
 import com.fill_rouge.backend.service.volunteer.VolunteerProfileService;
 
@@ -39,12 +56,21 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class EventServiceImpl implements EventService {
 
+    // Each failed conditional update means another request changed the event; maxParticipants is capped at 100
+    private static final int MAX_SEAT_CLAIM_ATTEMPTS = 128;
+    private static final Set<EventStatus> APPROVABLE_STATUSES = Set.of(EventStatus.PENDING, EventStatus.REJECTED);
+
     private final EventRepository eventRepository;
     private final EventFeedbackRepository eventFeedbackRepository;
     private final UserService userService;
     private final EventMapper eventMapper;
     private final EventParticipationService participationService;
     private final VolunteerProfileService volunteerProfileService;
+    private final StatisticsRollupService rollupService;
+    private final EventCompletionPipeline completionPipeline;
+    private final KeysetQueries keysetQueries;
+    private final EventCache eventCache;
+    private final EventTransitions eventTransitions;
 
     @Override
     public List<Event> getEventsByParticipant(String userId) {
@@ -59,6 +85,7 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
+    @Cacheable(CacheNames.UPCOMING_EVENTS)
     public Page<Event> getUpcomingEvents(Pageable pageable) {
         log.info("Fetching upcoming events with pagination {}", pageable);
         return eventRepository.findByStartDateAfterAndStatusOrderByStartDateAsc(
@@ -68,6 +95,13 @@ public class EventServiceImpl implements EventService {
         );
     }
 
+    @Override
+    @Cacheable(CacheNames.UPCOMING_EVENTS)
+    public CursorPage<Event> getUpcomingEvents(String cursor, int size) {
+        Criteria upcoming = Criteria.where("status").is(EventStatus.ACTIVE).and("startDate").gt(LocalDateTime.now());
+        return keysetQueries.page(Event.class, upcoming, Keyset.START_DATE, cursor, size);
+    }
+
     @Override
     public Page<Event> searchEvents(String query, Pageable pageable) {
         log.info("Searching events with query '{}' and pagination {}", query, pageable);
@@ -111,12 +145,25 @@ public class EventServiceImpl implements EventService {
             // Set the updated timestamp
             event.setUpdatedAt(LocalDateTime.now());
             
-            // Save and return the updated event
-            return eventRepository.save(event);
+            // Seats and waitlist are left as stored, registrations made since the read are kept
+            Event previous = eventRepository.updateDetails(event, originalStatus)
+                .orElseThrow(() -> new IllegalStateException("Event " + eventId + " was changed concurrently, please retry"));
+            
+            // Capacity status follows the new limit against the seats taken by now
+            if (EventStatus.FULL.equals(event.getStatus())) {
+                eventRepository.reopenIfBelowCapacity(eventId, event.getMaxParticipants());
+            } else if (EventStatus.ACTIVE.equals(event.getStatus())) {
+                eventRepository.markFullIfAtCapacity(eventId, event.getMaxParticipants());
+            }
+            
+            Event updated = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+            recordChange(EventRollupSnapshot.of(previous), updated);
+            return updated;
             
         } catch (ResourceNotFoundException e) {
             throw e;
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | IllegalStateException e) {
             throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error updating event: " + e.getMessage(), e);
@@ -180,10 +227,46 @@ public class EventServiceImpl implements EventService {
     @Override
     public Event unregisterParticipant(String eventId, String userId) {
         log.info("Unregistering participant {} from event {}", userId, eventId);
-        Event event = eventRepository.findById(eventId)
-            .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
+        Optional<Event> previous = eventRepository.removeParticipant(eventId, userId);
+        if (previous.isEmpty()) {
+            // Not registered, nothing to release
+            return eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
+        }
+        Event event = previous.get();
+        EventRollupSnapshot before = EventRollupSnapshot.of(event);
         event.getRegisteredParticipants().remove(userId);
-        return eventRepository.save(event);
+        event.setUpdatedAt(LocalDateTime.now());
+        if (EventStatus.FULL.equals(event.getStatus())
+                && eventRepository.reopenIfBelowCapacity(eventId, event.getMaxParticipants())) {
+            log.info("Event {} has a free seat again, updating status", eventId);
+            event.setStatus(EventStatus.ACTIVE);
+        }
+        rollupService.recordEventChange(before, EventRollupSnapshot.of(event));
+        return event;
+    }
+
+    @Override
+    public Event addToWaitlist(String eventId, String userId) {
+        log.info("Adding participant {} to waitlist of event {}", userId, eventId);
+        return eventRepository.addToWaitlist(eventId, userId, null)
+            .map(previous -> completeWaitlisting(previous, userId))
+            .orElseGet(() -> eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId)));
+    }
+
+    @Override
+    public Event removeFromWaitlist(String eventId, String userId) {
+        log.info("Removing participant {} from waitlist of event {}", userId, eventId);
+        return eventRepository.removeFromWaitlist(eventId, userId)
+            .map(previous -> {
+                previous.getWaitlistedParticipants().remove(userId);
+                previous.getWaitlistJoinTimes().remove(userId);
+                previous.setCurrentWaitlistSize(previous.getCurrentWaitlistSize() - 1);
+                return previous;
+            })
+            .orElseGet(() -> eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId)));
     }
 
     @Override
@@ -225,16 +308,16 @@ public class EventServiceImpl implements EventService {
             .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
         feedback.setEventId(eventId);
         feedback.setVolunteerId(volunteerId);
-        return eventFeedbackRepository.save(feedback);
+        EventFeedback savedFeedback = eventFeedbackRepository.save(feedback);
+        rollupService.recordFeedbackSubmitted(savedFeedback, event);
+        return savedFeedback;
     }
 
     @Override
     public Event updateEventStatus(String eventId, EventStatus status) {
         log.info("Updating status of event {} to {}", eventId, status);
-        Event event = eventRepository.findById(eventId)
+        return changeStatus(eventId, EnumSet.allOf(EventStatus.class), status)
             .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
-        event.setStatus(status);
-        return eventRepository.save(event);
     }
 
     @Override
@@ -243,53 +326,21 @@ public class EventServiceImpl implements EventService {
         log.info("Registering participant {} for event {}", userId, eventId);
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
-            
-        // Check if the user is already registered
-        if (event.getRegisteredParticipants().contains(userId)) {
-            log.info("User {} is already registered for event {}", userId, eventId);
-            return event; // Return the event without making changes
-        }
-        
-        // Check if the event is cancelled or completed
-        if (EventStatus.CANCELLED.equals(event.getStatus()) || EventStatus.COMPLETED.equals(event.getStatus())) {
-            throw new IllegalStateException("Cannot register for event with status: " + event.getStatus());
-        }
-        
-        // Synchronize on the event ID to prevent race conditions
-        synchronized (eventId.intern()) {
-            // Re-fetch the event to get the latest state within the synchronized block
-            event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
-                
-            // Check if the event is full now
-            boolean isFull = event.getRegisteredParticipants().size() >= event.getMaxParticipants();
-            
-            if (isFull) {
-                // Add to waitlist if event is full and waitlist is enabled
-                if (event.isWaitlistEnabled()) {
-                    // Check if the user is already on the waitlist
-                    if (!event.getWaitlistedParticipants().contains(userId)) {
-                        event.getWaitlistedParticipants().add(userId);
-                        log.info("Event {} is full, adding participant {} to waitlist", eventId, userId);
-                    }
-                } else {
-                    throw new IllegalStateException("Event is full and waitlist is not enabled");
-                }
-            } else {
-                // Add to registered participants
-                event.getRegisteredParticipants().add(userId);
+
+        SeatClaim claim = claimSeat(event, userId);
+        switch (claim.outcome()) {
+            case REGISTERED -> {
                 log.info("Successfully registered participant {} for event {}", userId, eventId);
-                
-                // Check if the event is now full and update the status if necessary
-                if (event.getRegisteredParticipants().size() >= event.getMaxParticipants()) {
-                    log.info("Event {} is now full, updating status", eventId);
-                    if (EventStatus.ACTIVE.equals(event.getStatus())) {
-                        event.setStatus(EventStatus.FULL);
-                    }
-                }
+                return completeRegistration(claim.event(), userId);
+            }
+            case WAITLISTED -> {
+                log.info("Event {} is full, adding participant {} to waitlist", eventId, userId);
+                return completeWaitlisting(claim.event(), userId);
+            }
+            default -> {
+                log.info("User {} is already registered or waitlisted for event {}", userId, eventId);
+                return claim.event();
             }
-            
-            return eventRepository.save(event);
         }
     }
 
@@ -334,103 +385,61 @@ public class EventServiceImpl implements EventService {
         if (EventStatus.CANCELLED.equals(event.getStatus()) || EventStatus.COMPLETED.equals(event.getStatus())) {
             throw new IllegalStateException("Cannot register for event with status: " + event.getStatus());
         }
-        
-        // Synchronize on the event ID to prevent race conditions
-        synchronized (eventId.intern()) {
-            // Re-fetch the event to get the latest state within the synchronized block
-            event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
-            
-            // Check if the event is full
-            boolean isFull = event.getRegisteredParticipants().size() >= event.getMaxParticipants();
-            
-            // If user ID is provided, register the user with details
-            if (registrationData.getUserId() != null && !registrationData.getUserId().isEmpty()) {
-                // Check if the user is already registered
-                if (event.getRegisteredParticipants().contains(registrationData.getUserId())) {
-                    log.info("User {} is already registered for event {}", registrationData.getUserId(), eventId);
-                    return event; // Return the event without making changes
-                }
-                
-                if (isFull) {
-                    // Add to waitlist if event is full and waitlist is enabled
-                    if (event.isWaitlistEnabled()) {
-                        // Check if the user is already on the waitlist
-                        if (!event.getWaitlistedParticipants().contains(registrationData.getUserId())) {
-                            event.getWaitlistedParticipants().add(registrationData.getUserId());
-                            log.info("Event {} is full, adding participant {} to waitlist", eventId, registrationData.getUserId());
-                            
-                            // Register with participation service for waitlist
-                            try {
-                                // Validate user exists
-                                userService.getUserById(registrationData.getUserId());
-                                
-                                // Use the participation service to register with details and waitlist status
-                                participationService.registerForEventWithDetailsAndStatus(
-                                    registrationData.getUserId(), 
-                                    eventId, 
-                                    registrationData.getSpecialRequirements(),
-                                    registrationData.getNotes(),
-                                    "WAITLISTED"
-                                );
-                            } catch (Exception e) {
-                                // Rollback changes if participation registration fails
-                                event.getWaitlistedParticipants().remove(registrationData.getUserId());
-                                throw new RuntimeException("Error registering user: " + e.getMessage());
-                            }
-                        }
-                    } else {
-                        throw new IllegalStateException("Event is full and waitlist is not enabled");
-                    }
-                } else {
-                    // Add to registered participants
-                    event.getRegisteredParticipants().add(registrationData.getUserId());
-                    log.info("Successfully registered participant {} for event {}", registrationData.getUserId(), eventId);
-                    
-                    // Register with participation service
-                    try {
-                        // Validate user exists
-                        userService.getUserById(registrationData.getUserId());
-                        
-                        // Use the participation service to register with details
-                        participationService.registerForEventWithDetailsAndStatus(
-                            registrationData.getUserId(), 
-                            eventId, 
-                            registrationData.getSpecialRequirements(),
-                            registrationData.getNotes(),
-                            "REGISTERED"
-                        );
-                    } catch (Exception e) {
-                        // Rollback changes if participation registration fails
-                        event.getRegisteredParticipants().remove(registrationData.getUserId());
-                        throw new RuntimeException("Error registering user: " + e.getMessage());
-                    }
+
+        // For guest registrations (no user account)
+        if (registrationData.getUserId() == null || registrationData.getUserId().isEmpty()) {
+            return registerGuest(event, email);
+        }
+
+        String userId = registrationData.getUserId();
+        SeatClaim claim = claimSeat(event, userId);
+        switch (claim.outcome()) {
+            case REGISTERED -> {
+                try {
+                    // Validate user exists
+                    userService.getUserById(userId);
                     
-                    // Check if the event is now full and update the status if necessary
-                    if (event.getRegisteredParticipants().size() >= event.getMaxParticipants()) {
-                        log.info("Event {} is now full, updating status", eventId);
-                        if (EventStatus.ACTIVE.equals(event.getStatus())) {
-                            event.setStatus(EventStatus.FULL);
-                        }
-                    }
+                    // Use the participation service to register with details
+                    participationService.registerForEventWithDetailsAndStatus(
+                        userId, 
+                        eventId, 
+                        registrationData.getSpecialRequirements(),
+                        registrationData.getNotes(),
+                        "REGISTERED"
+                    );
+                } catch (Exception e) {
+                    // Release the claimed seat if participation registration fails
+                    eventRepository.removeParticipant(eventId, userId);
+                    throw new RuntimeException("Error registering user: " + e.getMessage());
                 }
-            } else {
-                // For guest registrations (no user account)
-                if (isFull) {
-                    throw new IllegalStateException("Event is full. Guest registration is not available for full events.");
-                }
-                
-                // Verify that the email is not already registered
-                if (event.getGuestParticipantEmails().contains(email)) {
-                    throw new IllegalStateException("This email is already registered for the event");
+                log.info("Successfully registered participant {} for event {}", userId, eventId);
+                return completeRegistration(claim.event(), userId);
+            }
+            case WAITLISTED -> {
+                try {
+                    // Validate user exists
+                    userService.getUserById(userId);
+                    
+                    // Use the participation service to register with details and waitlist status
+                    participationService.registerForEventWithDetailsAndStatus(
+                        userId, 
+                        eventId, 
+                        registrationData.getSpecialRequirements(),
+                        registrationData.getNotes(),
+                        "WAITLISTED"
+                    );
+                } catch (Exception e) {
+                    // Release the waitlist spot if participation registration fails
+                    eventRepository.removeFromWaitlist(eventId, userId);
+                    throw new RuntimeException("Error registering user: " + e.getMessage());
                 }
-                
-                // Store the guest email to track the registration
-                event.getGuestParticipantEmails().add(email);
-                log.info("Successfully registered guest with email {} for event {}", email, eventId);
+                log.info("Event {} is full, adding participant {} to waitlist", eventId, userId);
+                return completeWaitlisting(claim.event(), userId);
+            }
+            default -> {
+                log.info("User {} is already registered or waitlisted for event {}", userId, eventId);
+                return claim.event();
             }
-            
-            return eventRepository.save(event);
         }
     }
 
@@ -443,7 +452,11 @@ public class EventServiceImpl implements EventService {
     @Override
     public void deleteEvent(String eventId) {
         log.info("Deleting event {}", eventId);
+        EventRollupSnapshot before = eventRepository.findById(eventId)
+            .map(EventRollupSnapshot::of)
+            .orElse(null);
         eventRepository.deleteById(eventId);
+        rollupService.recordEventChange(before, null);
     }
 
     @Override
@@ -452,7 +465,7 @@ public class EventServiceImpl implements EventService {
         List<Event> eventsList = eventRepository.findByOrganizationId(organizationId, pageable);
         
         // Update statuses for all retrieved events
-        eventsList.forEach(this::updateEventStatusIfNeeded);
+        applyDueTransitions(eventsList);
         
         return new PageImpl<>(eventsList, pageable, eventsList.size());
     }
@@ -470,51 +483,54 @@ public class EventServiceImpl implements EventService {
         return 0;
     }
 
+    /**
+     * Served from the event cache, so the result may lag other instances; do not save it back.
+     */
     @Override
     public Event getEventById(String eventId) {
         log.info("Fetching event with ID {}", eventId);
-        Event event = eventRepository.findById(eventId)
+        Event event = eventCache.get(eventId, () -> eventRepository.findById(eventId))
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
         
         // Check and update status instantly based on current time
-        updateEventStatusIfNeeded(event);
+        applyDueTransitions(List.of(event));
         
         return event;
     }
 
     /**
-     * Check and update event status if needed based on current time and participants
-     * This method instantly updates status without waiting for scheduled tasks
+     * Applies the start and end transitions already due to the given events without waiting for the
+     * lifecycle scheduler. The updates are conditional on the stored status, so only the status is
+     * written and seats taken since the events were read are kept.
      */
-    private void updateEventStatusIfNeeded(Event event) {
-        boolean statusChanged = false;
+    private void applyDueTransitions(List<Event> events) {
         LocalDateTime now = LocalDateTime.now();
-        EventStatus currentStatus = event.getStatus();
-        
-        // Don't update status for PENDING or REJECTED events
-        if (EventStatus.PENDING.equals(currentStatus) || 
-            EventStatus.REJECTED.equals(currentStatus)) {
+        List<String> due = events.stream()
+            .filter(event -> isTransitionDue(event, now))
+            .map(Event::getId)
+            .toList();
+        if (due.isEmpty()) {
             return;
         }
-        
-        // Check if ACTIVE event should be ONGOING (started)
-        if (EventStatus.ACTIVE.equals(currentStatus) && now.isAfter(event.getStartDate())) {
-            log.info("Instant status update: Event {} changing from ACTIVE to ONGOING", event.getId());
-            event.setStatus(EventStatus.ONGOING);
-            statusChanged = true;
-        }
-        
-        // Check if ONGOING event should be COMPLETED (ended)
-        if (EventStatus.ONGOING.equals(currentStatus) && now.isAfter(event.getEndDate())) {
-            log.info("Instant status update: Event {} changing from ONGOING to COMPLETED", event.getId());
-            event.setStatus(EventStatus.COMPLETED);
-            statusChanged = true;
+        Map<String, Event> changed = eventTransitions.apply(due).stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+        for (Event event : events) {
+            Event moved = changed.get(event.getId());
+            if (moved != null) {
+                log.info("Instant status update: Event {} changing from {} to {}", event.getId(), event.getStatus(),
+                    moved.getStatus());
+                event.setStatus(moved.getStatus());
+                event.setUpdatedAt(moved.getUpdatedAt());
+            }
         }
-        
-        if (statusChanged) {
-            event.setUpdatedAt(LocalDateTime.now());
-            eventRepository.save(event);
+    }
+
+    private static boolean isTransitionDue(Event event, LocalDateTime now) {
+        if (EventTransitions.NOT_STARTED.contains(event.getStatus())) {
+            return event.getStartDate() != null && now.isAfter(event.getStartDate());
         }
+        return EventStatus.ONGOING.equals(event.getStatus()) && event.getEndDate() != null
+            && now.isAfter(event.getEndDate());
     }
 
     @Override
@@ -538,7 +554,7 @@ public class EventServiceImpl implements EventService {
         
         event.setCreatedAt(LocalDateTime.now());
         event.setUpdatedAt(LocalDateTime.now());
-        return eventRepository.save(event);
+        return saveAndRecord(null, event);
     }
 
     @Override
@@ -547,7 +563,7 @@ public class EventServiceImpl implements EventService {
         Page<Event> events = eventRepository.findAll(pageable);
         
         // Update statuses for all retrieved events
-        events.getContent().forEach(this::updateEventStatusIfNeeded);
+        applyDueTransitions(events.getContent());
         
         return events;
     }
@@ -577,6 +593,14 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
+    public CursorPage<EventResponse> getAllEvents(String cursor, int size, boolean includeAll) {
+        Criteria filter = includeAll ? new Criteria() : Criteria.where("status").is(EventStatus.ACTIVE);
+        return keysetQueries.page(Event.class, filter, Keyset.START_DATE, cursor, size)
+            .map(event -> eventMapper.toResponse(event, null));
+    }
+
+    @Override
+    @Cacheable(CacheNames.PUBLIC_EVENTS)
     public Page<Event> getPublicEvents(Pageable pageable) {
         log.info("Fetching all public events with pagination {}", pageable);
         return eventRepository.findByStatusIn(
@@ -585,6 +609,13 @@ public class EventServiceImpl implements EventService {
         );
     }
 
+    @Override
+    @Cacheable(CacheNames.PUBLIC_EVENTS)
+    public CursorPage<Event> getPublicEvents(String cursor, int size) {
+        Criteria visible = Criteria.where("status").in(EventStatus.ACTIVE, EventStatus.ONGOING);
+        return keysetQueries.page(Event.class, visible, Keyset.START_DATE, cursor, size);
+    }
+
     @Override
     public List<EventResponse> getUpcomingEvents() {
         log.info("Fetching upcoming events list");
@@ -613,35 +644,30 @@ public class EventServiceImpl implements EventService {
     @Override
     public EventResponse approveEvent(String eventId) {
         log.info("Approving event with ID: {}", eventId);
-        Event event = getEventById(eventId);
-        
         // Only allow approval of PENDING or REJECTED events
-        if (!EventStatus.PENDING.equals(event.getStatus()) && !EventStatus.REJECTED.equals(event.getStatus())) {
-            throw new IllegalStateException("Only PENDING or REJECTED events can be approved. Current status: " + event.getStatus());
-        }
-        
-        event.setStatus(EventStatus.ACTIVE);
-        event.setUpdatedAt(LocalDateTime.now());
-        Event updatedEvent = eventRepository.save(event);
+        Event updatedEvent = changeStatus(eventId, APPROVABLE_STATUSES, EventStatus.ACTIVE)
+            .orElseThrow(() -> new IllegalStateException(
+                "Only PENDING or REJECTED events can be approved. Current status: " + currentStatus(eventId)));
         return eventMapper.toResponse(updatedEvent, null);
     }
     
     @Override
     public EventResponse rejectEvent(String eventId, String reason) {
         log.info("Rejecting event with id: {}, reason: {}", eventId, reason);
-        Event event = getEventById(eventId);
-        
         // Only allow rejection of PENDING events
-        if (!EventStatus.PENDING.equals(event.getStatus())) {
-            throw new IllegalStateException("Only PENDING events can be rejected. Current status: " + event.getStatus());
-        }
-        
-        event.setStatus(EventStatus.REJECTED);
-        event.setUpdatedAt(LocalDateTime.now());
-        Event savedEvent = eventRepository.save(event);
+        Event savedEvent = changeStatus(eventId, Set.of(EventStatus.PENDING), EventStatus.REJECTED)
+            .orElseThrow(() -> new IllegalStateException(
+                "Only PENDING events can be rejected. Current status: " + currentStatus(eventId)));
         return eventMapper.toResponse(savedEvent, null);
     }
 
+    // Read from the database, a cached copy may predate the change that made the update miss
+    private EventStatus currentStatus(String eventId) {
+        return eventRepository.findById(eventId)
+            .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId))
+            .getStatus();
+    }
+
     /**
      * Determines the appropriate event status based on its current state and dates
      * @param event The event to evaluate
@@ -683,65 +709,146 @@ public class EventServiceImpl implements EventService {
     }
 
     /**
-     * Updates the status of events based on their date and time
-     * This should be called by a scheduled task
+     * Applies every overdue start and end transition. The lifecycle scheduler applies them as they
+     * fall due; this catches up on whatever it missed, e.g. while no instance held its lease.
+     * Capacity changes are applied where seats are taken and released.
      */
     @Override
-    @Transactional
     public void updateEventStatuses() {
-        log.info("Updating event statuses automatically");
-        LocalDateTime now = LocalDateTime.now();
-        
-        // 1. Update ACTIVE events to ONGOING once they've started
-        List<Event> activeEvents = eventRepository.findByStatusAndStartDateBefore(
-                EventStatus.ACTIVE.toString(), now);
-        for (Event event : activeEvents) {
-            log.info("Updating event {} status from ACTIVE to ONGOING", event.getId());
-            event.setStatus(EventStatus.ONGOING);
-            event.setUpdatedAt(LocalDateTime.now());
-            eventRepository.save(event);
+        int changed = eventTransitions.applyOverdue();
+        if (changed > 0) {
+            log.info("Applied {} overdue event status transitions", changed);
         }
-        
-        // 2. Update ONGOING events to COMPLETED once they've ended
-        List<Event> ongoingEvents = eventRepository.findByStatusAndEndDateBefore(
-                EventStatus.ONGOING.toString(), now);
-        for (Event event : ongoingEvents) {
-            log.info("Updating event {} status from ONGOING to COMPLETED", event.getId());
-            event.setStatus(EventStatus.COMPLETED);
-            event.setUpdatedAt(LocalDateTime.now());
-            eventRepository.save(event);
+    }
+
+    /**
+     * Claims a seat, or a waitlist spot once the event is full, with conditional updates instead of a lock.
+     * The returned event is the state just before the winning update.
+     */
+    private SeatClaim claimSeat(Event event, String userId) {
+        String eventId = event.getId();
+        for (int attempt = 0; attempt < MAX_SEAT_CLAIM_ATTEMPTS; attempt++) {
+            if (event.getRegisteredParticipants().contains(userId)) {
+                return new SeatClaim(event, SeatOutcome.ALREADY_REGISTERED);
+            }
+            if (EventStatus.CANCELLED.equals(event.getStatus()) || EventStatus.COMPLETED.equals(event.getStatus())) {
+                throw new IllegalStateException("Cannot register for event with status: " + event.getStatus());
+            }
+
+            if (event.getRegisteredParticipants().size() < event.getMaxParticipants()) {
+                Optional<Event> previous = eventRepository.addParticipantIfSeatAvailable(
+                    eventId, userId, event.getMaxParticipants());
+                if (previous.isPresent()) {
+                    return new SeatClaim(previous.get(), SeatOutcome.REGISTERED);
+                }
+            } else if (!event.isWaitlistEnabled()) {
+                throw new IllegalStateException("Event is full and waitlist is not enabled");
+            } else if (event.getWaitlistedParticipants().contains(userId)) {
+                return new SeatClaim(event, SeatOutcome.ALREADY_WAITLISTED);
+            } else {
+                Optional<Event> previous = eventRepository.addToWaitlist(eventId, userId, null);
+                if (previous.isPresent()) {
+                    return new SeatClaim(previous.get(), SeatOutcome.WAITLISTED);
+                }
+            }
+
+            // Lost a race with a concurrent update, decide again on the latest state
+            event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
         }
-        
-        // 3. Mark ACTIVE events as FULL if they've reached maximum capacity
-        Page<Event> activePage = eventRepository.findByStatus(EventStatus.ACTIVE, Pageable.unpaged());
-        List<Event> allActiveEvents = activePage.getContent();
-        for (Event event : allActiveEvents) {
+        throw new IllegalStateException("Could not register for event " + eventId + " due to concurrent updates");
+    }
+
+    private Event completeRegistration(Event previous, String userId) {
+        EventRollupSnapshot before = EventRollupSnapshot.of(previous);
+        Event event = previous;
+        event.getRegisteredParticipants().add(userId);
+        event.setUpdatedAt(LocalDateTime.now());
+
+        // Only the request that took the last seat can see the event reach capacity
+        if (event.getRegisteredParticipants().size() >= event.getMaxParticipants()
+                && eventRepository.markFullIfAtCapacity(event.getId(), event.getMaxParticipants())) {
+            log.info("Event {} is now full, updating status", event.getId());
+            event.setStatus(EventStatus.FULL);
+        }
+        rollupService.recordEventChange(before, EventRollupSnapshot.of(event));
+        return event;
+    }
+
+    private Event completeWaitlisting(Event previous, String userId) {
+        previous.getWaitlistedParticipants().add(userId);
+        previous.getWaitlistJoinTimes().put(userId, LocalDateTime.now());
+        previous.setCurrentWaitlistSize(previous.getCurrentWaitlistSize() + 1);
+        previous.setUpdatedAt(LocalDateTime.now());
+        return previous;
+    }
+
+    private Event registerGuest(Event event, String email) {
+        String eventId = event.getId();
+        for (int attempt = 0; attempt < MAX_SEAT_CLAIM_ATTEMPTS; attempt++) {
             if (event.getRegisteredParticipants().size() >= event.getMaxParticipants()) {
-                log.info("Updating event {} status from ACTIVE to FULL", event.getId());
-                event.setStatus(EventStatus.FULL);
-                event.setUpdatedAt(LocalDateTime.now());
-                eventRepository.save(event);
+                throw new IllegalStateException("Event is full. Guest registration is not available for full events.");
             }
-        }
-        
-        // 4. Check FULL events that had cancellations and are no longer full
-        Page<Event> fullPage = eventRepository.findByStatus(EventStatus.FULL, Pageable.unpaged());
-        List<Event> fullEvents = fullPage.getContent();
-        for (Event event : fullEvents) {
-            if (event.getRegisteredParticipants().size() < event.getMaxParticipants()) {
-                log.info("Updating event {} status from FULL back to ACTIVE", event.getId());
-                event.setStatus(EventStatus.ACTIVE);
-                event.setUpdatedAt(LocalDateTime.now());
-                eventRepository.save(event);
+            // Verify that the email is not already registered
+            if (event.getGuestParticipantEmails().contains(email)) {
+                throw new IllegalStateException("This email is already registered for the event");
+            }
+            if (EventStatus.CANCELLED.equals(event.getStatus()) || EventStatus.COMPLETED.equals(event.getStatus())) {
+                throw new IllegalStateException("Cannot register for event with status: " + event.getStatus());
+            }
+
+            Optional<Event> previous = eventRepository.addGuestIfSeatAvailable(eventId, email, event.getMaxParticipants());
+            if (previous.isPresent()) {
+                Event registered = previous.get();
+                registered.getGuestParticipantEmails().add(email);
+                registered.setUpdatedAt(LocalDateTime.now());
+                log.info("Successfully registered guest with email {} for event {}", email, eventId);
+                return registered;
             }
+
+            event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
         }
-        
-        // 5. Update events that were PENDING for too long (optional warning)
-        List<Event> pendingEvents = eventRepository.findByStatusAndStartDateBefore(
-                EventStatus.PENDING.toString(), now.plusDays(1));
-        for (Event event : pendingEvents) {
-            log.warn("Event {} is PENDING but start date is approaching in less than 24 hours", event.getId());
-            // No automatic approval - admin must manually approve
+        throw new IllegalStateException("Could not register for event " + eventId + " due to concurrent updates");
+    }
+
+    private enum SeatOutcome {
+        REGISTERED,
+        WAITLISTED,
+        ALREADY_REGISTERED,
+        ALREADY_WAITLISTED
+    }
+
+    private record SeatClaim(Event event, SeatOutcome outcome) {
+    }
+
+    /**
+     * Saves the event and moves its statistics rollup contribution from the previous state to the saved one
+     */
+    private Event saveAndRecord(EventRollupSnapshot before, Event event) {
+        Event saved = eventRepository.save(event);
+        recordChange(before, saved);
+        return saved;
+    }
+
+    /**
+     * Moves the event to the status if it is still in one of the expected ones. Only the status is
+     * written, so seats and waitlist changed since the event was read are kept.
+     */
+    private Optional<Event> changeStatus(String eventId, Collection<EventStatus> from, EventStatus to) {
+        return eventRepository.changeStatus(eventId, from, to).map(previous -> {
+            EventRollupSnapshot before = EventRollupSnapshot.of(previous);
+            previous.setStatus(to);
+            previous.setUpdatedAt(LocalDateTime.now());
+            recordChange(before, previous);
+            return previous;
+        });
+    }
+
+    private void recordChange(EventRollupSnapshot before, Event after) {
+        rollupService.recordEventChange(before, EventRollupSnapshot.of(after));
+        if (after.getStatus() == EventStatus.COMPLETED && (before == null || before.status() != EventStatus.COMPLETED)) {
+            completionPipeline.submit(after.getId());
         }
     }
 
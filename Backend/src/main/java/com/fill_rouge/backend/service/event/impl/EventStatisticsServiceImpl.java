@@ -1,17 +1,24 @@
 package com.fill_rouge.backend.service.event.impl;
 
 import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.constant.RollupScope;
 import com.fill_rouge.backend.dto.response.EventStatisticsResponse;
 import com.fill_rouge.backend.exception.ResourceNotFoundException;
 import com.fill_rouge.backend.repository.*;
+import com.fill_rouge.backend.service.cache.CacheNames;
 import com.fill_rouge.backend.service.event.EventStatisticsService;
 import com.fill_rouge.backend.domain.Event;
 import com.fill_rouge.backend.domain.EventFeedback;
+import com.fill_rouge.backend.domain.StatisticsRollup;
 import com.fill_rouge.backend.dto.response.VolunteerStatsResponse;
+import com.fill_rouge.backend.service.statistics.EventRangeStats;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -28,67 +35,74 @@ public class EventStatisticsServiceImpl implements EventStatisticsService {
     private final EventRepository eventRepository;
     private final EventFeedbackRepository feedbackRepository;
     private final VolunteerProfileRepository volunteerProfileRepository;
+    private final StatisticsRollupService rollupService;
+    private final StreamingQueries streamingQueries;
 
     @Override
+    @Cacheable(CacheNames.ADMIN_DASHBOARD)
     public EventStatisticsResponse getAdminDashboardStats() {
+        StatisticsRollup platform = rollupService.getPlatformRollup();
         return EventStatisticsResponse.builder()
-                .participantCount(calculateTotalParticipants())
-                .averageRating(calculateOverallAverageRating())
-                .totalVolunteerHours(calculateTotalVolunteerHours())
-                .successRate(calculateOverallSuccessRate())
+                .participantCount(platform.getRegisteredParticipants())
+                .averageRating(platform.getAverageFeedbackRating())
+                .totalVolunteerHours((int) platform.getCompletedEventHours())
+                .successRate(calculateOverallSuccessRate(platform))
                 .build();
     }
 
     @Override
     public EventStatisticsResponse getAdminDashboardStatsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        EventRangeStats stats = new EventRangeStats();
+        streamingQueries.forEach(Event.class, Criteria.where("startDate").gt(startDate).lt(endDate),
+                stats, EventRangeStats.FIELDS);
         return EventStatisticsResponse.builder()
-                .participantCount(calculateTotalParticipantsInRange(startDate, endDate))
-                .averageRating(calculateAverageRatingInRange(startDate, endDate))
-                .totalVolunteerHours(calculateVolunteerHoursInRange(startDate, endDate))
-                .successRate(calculateSuccessRateInRange(startDate, endDate))
+                .participantCount(stats.getParticipantCount())
+                .averageRating(stats.getAverageRating())
+                .totalVolunteerHours(stats.getCompletedHours())
+                .successRate(stats.getAverageSuccessRate())
                 .build();
     }
     @Override
     public double calculateEventSuccessRate(String eventId) {
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
-        
-        double participationRate = event.getRegisteredParticipants().size() / 
-                (double) event.getMaxParticipants();
-        double averageRating = event.getAverageRating() / 5.0; // Normalize to 0-1
-        boolean isCompleted = event.getStatus() == EventStatus.COMPLETED;
-        
-        // Weight factors: 40% participation, 40% rating, 20% completion
-        return (participationRate * 0.4 + averageRating * 0.4 + (isCompleted ? 0.2 : 0)) * 100;
+        return EventRangeStats.successRate(event);
     }
     @Override
+    @Cacheable(CacheNames.ORGANIZATION_DASHBOARDS)
     public EventStatisticsResponse getOrganizationDashboardStats(String organizationId) {
+        StatisticsRollup organization = rollupService.getRollup(RollupScope.ORGANIZATION, organizationId);
         return EventStatisticsResponse.builder()
-                .participantCount(calculateOrganizationParticipants(organizationId))
-                .averageRating(calculateOrganizationAverageRating(organizationId))
-                .totalVolunteerHours(calculateOrganizationVolunteerHours(organizationId))
-                .successRate(calculateOrganizationSuccessRate(organizationId))
+                .participantCount(organization.getRegisteredParticipants())
+                .averageRating(organization.getAverageEventRating())
+                .totalVolunteerHours((int) organization.getCompletedEventHours())
+                .successRate(organization.getCompletionRate())
                 .build();
     }
 
     @Override
     public EventStatisticsResponse getOrganizationDashboardStatsByDateRange(
             String organizationId, LocalDateTime startDate, LocalDateTime endDate) {
+        EventRangeStats stats = new EventRangeStats();
+        streamingQueries.forEach(Event.class,
+                Criteria.where("organizationId").is(organizationId).and("startDate").gt(startDate).lt(endDate),
+                stats, EventRangeStats.FIELDS);
         return EventStatisticsResponse.builder()
-                .participantCount(calculateOrganizationParticipantsInRange(organizationId, startDate, endDate))
-                .averageRating(calculateOrganizationAverageRatingInRange(organizationId, startDate, endDate))
-                .totalVolunteerHours(calculateOrganizationVolunteerHoursInRange(organizationId, startDate, endDate))
-                .successRate(calculateOrganizationSuccessRateInRange(organizationId, startDate, endDate))
+                .participantCount(stats.getParticipantCount())
+                .averageRating(stats.getAverageRating())
+                .totalVolunteerHours(stats.getCompletedHours())
+                .successRate(stats.getCompletionRate())
                 .build();
     }
 
     @Override
     public EventStatisticsResponse getVolunteerDashboardStats(String volunteerId) {
+        StatisticsRollup volunteer = rollupService.getRollup(RollupScope.VOLUNTEER, volunteerId);
         return EventStatisticsResponse.builder()
-                .participantCount(calculateVolunteerEventCount(volunteerId))
-                .averageRating(calculateVolunteerAverageRating(volunteerId))
-                .totalVolunteerHours(calculateVolunteerTotalHours(volunteerId))
-                .successRate(calculateVolunteerSuccessRate(volunteerId))
+                .participantCount(volunteer.getEventCount())
+                .averageRating(volunteer.getAverageFeedbackRating())
+                .totalVolunteerHours((int) volunteer.getCompletedEventHours())
+                .successRate(volunteer.getCompletionRate())
                 .build();
     }
 
@@ -301,223 +315,19 @@ public class EventStatisticsServiceImpl implements EventStatisticsService {
     }
 
     // Private helper methods
-    private long calculateTotalParticipants() {
-        return eventRepository.findAll().stream()
-                .mapToLong(event -> event.getRegisteredParticipants().size())
-                .sum();
-    }
-
-    private double calculateOverallAverageRating() {
-        return feedbackRepository.findAll().stream()
-                .mapToDouble(feedback -> feedback.getRating())
-                .average()
-                .orElse(0.0);
-    }
-
-    private int calculateTotalVolunteerHours() {
-        return eventRepository.findAll().stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED)
-                .mapToInt(this::calculateEventHours)
-                .sum();
-    }
-
     private int calculateEventHours(Event event) {
-        if (event == null || event.getStartDate() == null || event.getEndDate() == null) {
-            return 0;
-        }
-        
-        try {
-            long hours = java.time.Duration.between(event.getStartDate(), event.getEndDate()).toHours();
-            return (int) Math.max(hours, 0);
-        } catch (Exception e) {
-            // Log exception and return 0 for safety
-            return 0;
-        }
-    }
-
-    private double calculateOverallSuccessRate() {
-        List<Event> completedEvents = eventRepository.findAll().stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED)
-                .collect(Collectors.toList());
-        if (completedEvents.isEmpty()) {
-            return 0.0;
-        }
-        
-        return completedEvents.stream()
-                .mapToDouble(event -> calculateEventSuccessRate(event.getId()))
-                .average()
-                .orElse(0.0);
-    }
-
-    private long calculateTotalParticipantsInRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return eventRepository.findByStartDateBetween(startDate, endDate, Pageable.unpaged())
-                .getContent().stream()
-                .mapToLong(event -> event.getRegisteredParticipants().size())
-                .sum();
-    }
-
-    private double calculateAverageRatingInRange(LocalDateTime startDate, LocalDateTime endDate) {
-        List<Event> events = eventRepository.findByStartDateBetween(startDate, endDate, Pageable.unpaged())
-                .getContent();
-        if (events.isEmpty()) {
-            return 0.0;
-        }
-        
-        return events.stream()
-                .mapToDouble(Event::getAverageRating)
-                .average()
-                .orElse(0.0);
-    }
-
-    private int calculateVolunteerHoursInRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return eventRepository.findByStartDateBetween(startDate, endDate, Pageable.unpaged())
-                .getContent().stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED)
-                .mapToInt(this::calculateEventHours)
-                .sum();
+        return EventRangeStats.eventHours(event);
     }
 
-    private double calculateSuccessRateInRange(LocalDateTime startDate, LocalDateTime endDate) {
-        List<Event> events = eventRepository.findByStartDateBetween(startDate, endDate, Pageable.unpaged())
-                .getContent().stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED)
-                .collect(Collectors.toList());
-        if (events.isEmpty()) {
+    // Average of calculateEventSuccessRate over completed events, expanded over the rollup sums
+    private double calculateOverallSuccessRate(StatisticsRollup platform) {
+        long completedEvents = platform.getEventsWithStatus(EventStatus.COMPLETED);
+        if (completedEvents == 0) {
             return 0.0;
         }
-        
-        return events.stream()
-                .mapToDouble(event -> calculateEventSuccessRate(event.getId()))
-                .average()
-                .orElse(0.0);
-    }
-
-    private long calculateOrganizationParticipants(String organizationId) {
-        return eventRepository.findByOrganizationId(organizationId, null)
-                .stream()
-                .mapToLong(event -> event.getRegisteredParticipants().size())
-                .sum();
-    }
-
-    private double calculateOrganizationAverageRating(String organizationId) {
-        List<Event> events = eventRepository.findByOrganizationId(organizationId, Pageable.unpaged());
-        if (events.isEmpty()) {
-            return 0.0;
-        }
-        
-        return events.stream()
-                .mapToDouble(Event::getAverageRating)
-                .average()
-                .orElse(0.0);
-    }
-
-    private int calculateOrganizationVolunteerHours(String organizationId) {
-        return eventRepository.findByOrganizationId(organizationId, Pageable.unpaged())
-                .stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED)
-                .mapToInt(this::calculateEventHours)
-                .sum();
-    }
-
-    private double calculateOrganizationSuccessRate(String organizationId) {
-        List<Event> events = eventRepository.findByOrganizationId(organizationId, Pageable.unpaged())
-                .stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED)
-                .collect(Collectors.toList());
-        if (events.isEmpty()) {
-            return 0.0;
-        }
-        
-        return (double) events.size() / eventRepository.findByOrganizationId(organizationId, Pageable.unpaged()).size() * 100;
-    }
-
-    private long calculateOrganizationParticipantsInRange(
-            String organizationId, LocalDateTime startDate, LocalDateTime endDate) {
-        return eventRepository.findByOrganizationId(organizationId, Pageable.unpaged())
-                .stream()
-                .filter(event -> event.getStartDate().isAfter(startDate) && 
-                               event.getStartDate().isBefore(endDate))
-                .mapToLong(event -> event.getRegisteredParticipants().size())
-                .sum();
-    }
-
-    private double calculateOrganizationAverageRatingInRange(
-            String organizationId, LocalDateTime startDate, LocalDateTime endDate) {
-        List<Event> events = eventRepository.findByOrganizationId(organizationId, Pageable.unpaged())
-                .stream()
-                .filter(event -> event.getStartDate().isAfter(startDate) && 
-                               event.getStartDate().isBefore(endDate))
-                .collect(Collectors.toList());
-        if (events.isEmpty()) {
-            return 0.0;
-        }
-        
-        return events.stream()
-                .mapToDouble(Event::getAverageRating)
-                .average()
-                .orElse(0.0);
-    }
-
-    private int calculateOrganizationVolunteerHoursInRange(
-            String organizationId, LocalDateTime startDate, LocalDateTime endDate) {
-        return eventRepository.findByOrganizationId(organizationId, Pageable.unpaged())
-                .stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED &&
-                               event.getStartDate().isAfter(startDate) && 
-                               event.getStartDate().isBefore(endDate))
-                .mapToInt(this::calculateEventHours)
-                .sum();
-    }
-
-    private double calculateOrganizationSuccessRateInRange(
-            String organizationId, LocalDateTime startDate, LocalDateTime endDate) {
-        List<Event> events = eventRepository.findByOrganizationId(organizationId, Pageable.unpaged())
-                .stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED &&
-                               event.getStartDate().isAfter(startDate) && 
-                               event.getStartDate().isBefore(endDate))
-                .collect(Collectors.toList());
-        if (events.isEmpty()) {
-            return 0.0;
-        }
-        
-        long totalEvents = eventRepository.findByOrganizationId(organizationId, Pageable.unpaged())
-                .stream()
-                .filter(event -> event.getStartDate().isAfter(startDate) && 
-                               event.getStartDate().isBefore(endDate))
-                .count();
-        return totalEvents > 0 ? (double) events.size() / totalEvents * 100 : 0.0;
-    }
-
-    private int calculateVolunteerEventCount(String volunteerId) {
-        return eventRepository.findEventsByParticipant(volunteerId).size();
-    }
-
-    private double calculateVolunteerAverageRating(String volunteerId) {
-        return feedbackRepository.findByVolunteerId(volunteerId, Pageable.unpaged()).stream()
-            .mapToDouble(feedback -> feedback.getRating())
-            .average()
-            .orElse(0.0);
-    }
-
-    private int calculateVolunteerTotalHours(String volunteerId) {
-        return eventRepository.findEventsByParticipant(volunteerId).stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED)
-                .mapToInt(this::calculateEventHours)
-                .sum();
-    }
-
-    private double calculateVolunteerSuccessRate(String volunteerId) {
-        List<Event> events = eventRepository.findEventsByParticipant(volunteerId);
-        if (events.isEmpty()) {
-            return 0.0;
-        }
-        
-        long completedEvents = events.stream()
-            .filter(event -> event.getStatus() == EventStatus.COMPLETED)
-            .count();
-            
-        return (double) completedEvents / events.size() * 100;
+        double participationRate = platform.getCompletedFillRatioSum() / completedEvents;
+        double averageRating = platform.getCompletedRatingSum() / completedEvents / 5.0;
+        return (participationRate * 0.4 + averageRating * 0.4 + 0.2) * 100;
     }
 
     private int calculateVolunteerEventCountInRange(String volunteerId, LocalDateTime startDate, LocalDateTime endDate) {
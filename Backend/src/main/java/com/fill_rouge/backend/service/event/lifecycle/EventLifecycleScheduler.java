@@ -0,0 +1,303 @@
+package com.fill_rouge.backend.service.event.lifecycle;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.config.EventLifecycleProperties;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.service.lease.SchedulerLeases;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves events to ONGOING and COMPLETED at their start and end instead of on a polling sweep.
+ * The instance holding the {@value #LEASE} lease keeps the next transition of every event due
+ * within {@code event-lifecycle.horizon} in a {@link TransitionQueue}, sleeps until the earliest
+ * one and applies everything due through {@link EventTransitions} in batches.
+ *
+ * <p>The queue is loaded from the status/date indexes when the lease is taken and every half
+ * horizon, and kept current from a change stream over {@code events}, so saves on any instance
+ * are seen. Without change streams only local saves are; others wait for the next load or the
+ * reconciliation sweep.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "event-lifecycle", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EventLifecycleScheduler implements SmartLifecycle {
+
+    static final String LEASE = "event-lifecycle";
+    private static final String COLLECTION = "events";
+    private static final int CHANGE_STREAMS_NOT_SUPPORTED = 40573;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final MongoTemplate mongoTemplate;
+    private final EventTransitions transitions;
+    private final SchedulerLeases leases;
+    private final EventLifecycleProperties properties;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final TransitionQueue queue = new TransitionQueue();
+    private final Object wakeUp = new Object();
+    private boolean woken; // guarded by wakeUp, so a signal sent before the wait is not lost
+
+    private volatile boolean running;
+    private volatile boolean leader;
+    private volatile boolean reloadRequested;
+    private volatile long horizonEnd;
+
+    @Override
+    public void start() {
+        running = true;
+        start(this::run, "event-lifecycle");
+        start(this::watch, "event-lifecycle-changes");
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        signal();
+        if (leader) {
+            leader = false;
+            leases.release(LEASE, instanceId);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        if (event.getSource() instanceof Event saved && saved.getId() != null) {
+            offer(saved.getId(), saved.getStatus(), saved.getStartDate(), saved.getEndDate());
+        }
+    }
+
+    private void run() {
+        long renewAt = 0;
+        long reloadAt = 0;
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                if (now >= renewAt) {
+                    boolean held = leases.tryAcquire(LEASE, instanceId, properties.getLease()).isPresent();
+                    if (held != leader) {
+                        log.info(held ? "Took the event lifecycle lease" : "Lost the event lifecycle lease");
+                        leader = held;
+                        queue.clear();
+                        reloadAt = now;
+                    }
+                    renewAt = now + properties.getLease().toMillis() / 3;
+                }
+                if (leader) {
+                    if (now >= reloadAt || reloadRequested) {
+                        reload();
+                        reloadAt = now + properties.getHorizon().toMillis() / 2;
+                    }
+                    fireDue();
+                }
+                long wakeAt = leader ? Math.min(renewAt, Math.min(reloadAt, queue.nextDue())) : renewAt;
+                await(wakeAt - System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                log.warn("Event lifecycle scheduler failed, retrying in {}s: {}", RETRY_DELAY.toSeconds(), e.getMessage());
+                await(RETRY_DELAY.toMillis());
+            }
+        }
+    }
+
+    private void reload() {
+        reloadRequested = false;
+        long start = System.nanoTime();
+        LocalDateTime until = LocalDateTime.now().plus(properties.getHorizon());
+        queue.clear();
+        horizonEnd = epochMillis(until);
+        Query query = Query.query(new Criteria().orOperator(
+            Criteria.where("status").in(EventTransitions.NOT_STARTED).and("startDate").lt(until),
+            Criteria.where("status").is(EventStatus.ONGOING).and("endDate").lt(until)));
+        query.fields().include("status", "startDate", "endDate");
+        try (var events = mongoTemplate.stream(query, Event.class)) {
+            events.forEach(event -> offer(event.getId(), event.getStatus(), event.getStartDate(), event.getEndDate()));
+        }
+        log.debug("Event lifecycle queue loaded with {} transitions in {} ms", queue.size(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void fireDue() {
+        List<String> due;
+        while (running && leader
+                && !(due = queue.drainDue(System.currentTimeMillis(), properties.getBatchSize())).isEmpty()) {
+            try {
+                transitions.apply(due).forEach(event ->
+                    offer(event.getId(), event.getStatus(), event.getStartDate(), event.getEndDate()));
+            } catch (RuntimeException e) {
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+                for (String eventId : due) {
+                    queue.schedule(eventId, retryAt);
+                }
+                throw e;
+            }
+        }
+    }
+
+    // Queues the next transition of the event, or drops it when there is none within the horizon
+    private void offer(String eventId, EventStatus status, LocalDateTime startDate, LocalDateTime endDate) {
+        if (!leader) {
+            return;
+        }
+        LocalDateTime next = null;
+        if (EventTransitions.NOT_STARTED.contains(status)) {
+            next = startDate;
+        } else if (status == EventStatus.ONGOING) {
+            next = endDate;
+        }
+        long at = next == null ? Long.MAX_VALUE : epochMillis(next);
+        if (at < horizonEnd) {
+            if (queue.schedule(eventId, at)) {
+                signal();
+            }
+        } else {
+            queue.cancel(eventId);
+        }
+    }
+
+    private void watch() {
+        while (running) {
+            if (!leader) {
+                pause();
+                continue;
+            }
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mongoTemplate.getCollection(COLLECTION)
+                    .watch(List.of(
+                        Aggregates.match(Filters.in("operationType", List.of("insert", "update", "replace", "delete"))),
+                        Aggregates.project(Projections.include("operationType", "documentKey",
+                            "fullDocument.status", "fullDocument.startDate", "fullDocument.endDate"))))
+                    .fullDocument(FullDocument.UPDATE_LOOKUP)
+                    .maxAwaitTime(1, TimeUnit.SECONDS)
+                    .cursor()) {
+                // Changes made while the stream was closed are unknown
+                reloadRequested = true;
+                signal();
+                while (running && leader) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        apply(change);
+                    }
+                }
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == CHANGE_STREAMS_NOT_SUPPORTED) {
+                    log.warn("Change streams are not supported by this server, event lifecycle follows local saves only");
+                    return;
+                }
+                log.warn("Event lifecycle change stream closed, reopening: {}", e.getMessage());
+                pause();
+            } catch (RuntimeException e) {
+                log.warn("Event lifecycle change stream closed, reopening: {}", e.getMessage());
+                pause();
+            }
+        }
+    }
+
+    private void apply(ChangeStreamDocument<Document> change) {
+        BsonDocument key = change.getDocumentKey();
+        String eventId = key == null ? null : idOf(key.get("_id"));
+        if (eventId == null) {
+            return;
+        }
+        Document document = change.getFullDocument();
+        if (change.getOperationType() == OperationType.DELETE || document == null) {
+            queue.cancel(eventId);
+            return;
+        }
+        MongoConverter converter = mongoTemplate.getConverter();
+        Event event = converter.read(Event.class, document);
+        offer(eventId, event.getStatus(), event.getStartDate(), event.getEndDate());
+    }
+
+    private static String idOf(BsonValue id) {
+        if (id == null) {
+            return null;
+        }
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : null;
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void start(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void signal() {
+        synchronized (wakeUp) {
+            woken = true;
+            wakeUp.notifyAll();
+        }
+    }
+
+    private void await(long millis) {
+        synchronized (wakeUp) {
+            try {
+                if (!woken && millis > 0 && running) {
+                    wakeUp.wait(millis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                woken = false;
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RETRY_DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
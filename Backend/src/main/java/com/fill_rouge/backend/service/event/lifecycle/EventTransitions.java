@@ -0,0 +1,138 @@
+package com.fill_rouge.backend.service.event.lifecycle;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.config.EventLifecycleProperties;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.repository.StreamingQueries;
+import com.fill_rouge.backend.service.cache.CacheInvalidator;
+import com.fill_rouge.backend.service.cache.EntityChanged;
+import com.fill_rouge.backend.service.event.EventCompletionPipeline;
+import com.fill_rouge.backend.service.statistics.EventRollupSnapshot;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Time-driven status changes, applied to a batch of events with one conditional updateMany per
+ * transition: ACTIVE and FULL events whose start has passed become ONGOING, ONGOING events whose
+ * end has passed become COMPLETED. The update re-checks status and date, so stale or repeated
+ * ids are no-ops and two callers never both apply, or both record, the same change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventTransitions {
+
+    public static final Set<EventStatus> NOT_STARTED = Set.of(EventStatus.ACTIVE, EventStatus.FULL);
+
+    private static final String[] ROLLUP_FIELDS = {"organizationId", "category", "status", "registeredParticipants",
+        "startDate", "endDate", "maxParticipants", "averageRating"};
+
+    private final MongoTemplate mongoTemplate;
+    private final StreamingQueries streamingQueries;
+    private final StatisticsRollupService rollupService;
+    private final EventCompletionPipeline completionPipeline;
+    private final ApplicationEventPublisher publisher;
+    private final EventLifecycleProperties properties;
+
+    public static Criteria startDue(LocalDateTime now) {
+        return Criteria.where("status").in(NOT_STARTED).and("startDate").lte(now);
+    }
+
+    public static Criteria endDue(LocalDateTime now) {
+        return Criteria.where("status").is(EventStatus.ONGOING).and("endDate").lte(now);
+    }
+
+    /**
+     * Applies the transitions due now to the given events and returns the ones changed, in their
+     * new state.
+     */
+    public List<Event> apply(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        // Stored to the millisecond, finer would keep the lookup below from finding this run's writes
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Map<String, Event> changed = new LinkedHashMap<>();
+        transition(eventIds, startDue(now), EventStatus.ONGOING, now)
+            .forEach(event -> changed.put(event.getId(), event));
+        // Runs after the start so events that are already over complete in the same pass
+        transition(eventIds, endDue(now), EventStatus.COMPLETED, now).forEach(event -> {
+            changed.put(event.getId(), event);
+            completionPipeline.submit(event.getId());
+        });
+        return new ArrayList<>(changed.values());
+    }
+
+    /**
+     * Applies every overdue transition, whatever queued it, in batches, then queues again the
+     * completions that never finished. The lookups are covered by the status/date indexes and the
+     * partial completion_requested index, so the cost follows the number of overdue events.
+     */
+    public int applyOverdue() {
+        int batchSize = properties.getBatchSize();
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> overdue = new LinkedHashSet<>();
+        streamingQueries.forEach(Event.class, startDue(now), event -> overdue.add(event.getId()), "_id");
+        streamingQueries.forEach(Event.class, endDue(now), event -> overdue.add(event.getId()), "_id");
+
+        List<String> ids = new ArrayList<>(overdue);
+        int changed = 0;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            changed += apply(ids.subList(from, Math.min(from + batchSize, ids.size()))).size();
+        }
+        completionPipeline.resubmitUnfinished();
+        return changed;
+    }
+
+    private List<Event> transition(Collection<String> eventIds, Criteria due, EventStatus to, LocalDateTime stamp) {
+        Query candidates = Query.query(new Criteria().andOperator(Criteria.where("_id").in(eventIds), due));
+        candidates.fields().include(ROLLUP_FIELDS);
+        List<Event> events = mongoTemplate.find(candidates, Event.class);
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        List<String> ids = events.stream().map(Event::getId).toList();
+        long modified = mongoTemplate.updateMulti(
+            Query.query(new Criteria().andOperator(Criteria.where("_id").in(ids), due)),
+            new Update().set("status", to).set("updatedAt", stamp), Event.class).getModifiedCount();
+        if (modified < events.size()) {
+            // Some changed since they were read; keep the ones this update moved
+            Query moved = Query.query(Criteria.where("_id").in(ids).and("status").is(to).and("updatedAt").is(stamp));
+            moved.fields().include("_id");
+            Set<String> movedIds = mongoTemplate.find(moved, Event.class).stream()
+                .map(Event::getId)
+                .collect(Collectors.toSet());
+            events = events.stream().filter(event -> movedIds.contains(event.getId())).toList();
+        }
+
+        for (Event event : events) {
+            EventRollupSnapshot before = EventRollupSnapshot.of(event);
+            event.setStatus(to);
+            event.setUpdatedAt(stamp);
+            rollupService.recordEventChange(before, EventRollupSnapshot.of(event));
+            publisher.publishEvent(new EntityChanged(CacheInvalidator.EVENTS, event.getId()));
+        }
+        log.info("Moved {} events to {}", events.size(), to);
+        return events;
+    }
+}
@@ -0,0 +1,72 @@
+package com.fill_rouge.backend.service.event.lifecycle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Delay queue of event ids ordered by the epoch millisecond of their next transition. An event
+ * has at most one entry; scheduling it again moves it.
+ */
+final class TransitionQueue {
+
+    private final NavigableMap<Long, Set<String>> slots = new TreeMap<>();
+    private final Map<String, Long> dueAt = new HashMap<>();
+
+    // True when the entry became the earliest one, so a sleeping consumer has to wake up sooner
+    synchronized boolean schedule(String eventId, long at) {
+        cancel(eventId);
+        slots.computeIfAbsent(at, ignored -> new LinkedHashSet<>()).add(eventId);
+        dueAt.put(eventId, at);
+        return slots.firstKey() == at;
+    }
+
+    synchronized void cancel(String eventId) {
+        Long previous = dueAt.remove(eventId);
+        if (previous != null) {
+            Set<String> slot = slots.get(previous);
+            slot.remove(eventId);
+            if (slot.isEmpty()) {
+                slots.remove(previous);
+            }
+        }
+    }
+
+    synchronized List<String> drainDue(long now, int limit) {
+        List<String> due = new ArrayList<>();
+        Iterator<Map.Entry<Long, Set<String>>> entries = slots.headMap(now, true).entrySet().iterator();
+        while (entries.hasNext() && due.size() < limit) {
+            Set<String> slot = entries.next().getValue();
+            Iterator<String> ids = slot.iterator();
+            while (ids.hasNext() && due.size() < limit) {
+                String eventId = ids.next();
+                ids.remove();
+                dueAt.remove(eventId);
+                due.add(eventId);
+            }
+            if (slot.isEmpty()) {
+                entries.remove();
+            }
+        }
+        return due;
+    }
+
+    synchronized long nextDue() {
+        return slots.isEmpty() ? Long.MAX_VALUE : slots.firstKey();
+    }
+
+    synchronized int size() {
+        return dueAt.size();
+    }
+
+    synchronized void clear() {
+        slots.clear();
+        dueAt.clear();
+    }
+}
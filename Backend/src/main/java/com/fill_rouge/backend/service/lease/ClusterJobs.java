@@ -0,0 +1,185 @@
+package com.fill_rouge.backend.service.lease;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.fill_rouge.backend.annotation.ClusterJob;
+import com.fill_rouge.backend.config.ClusterJobProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs {@link ClusterJob} methods under their lease. A run takes the lease for at most
+ * {@code max-run-time} and, once done, holds it until an interval after it started, so whichever
+ * instance fires first afterwards runs next. The lease token fences the end of a run: one that
+ * outlived its lease does not overwrite the state of the run that took over.
+ *
+ * <p>Runs are timed under {@code scheduler.jobs}, skips counted under
+ * {@code scheduler.jobs.skipped} with the reason.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterJobs {
+
+    @FunctionalInterface
+    public interface Job {
+        Object run() throws Throwable;
+    }
+
+    private final SchedulerLeases leases;
+    private final ClusterJobProperties properties;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationContext applicationContext;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Set<String> runningHere = ConcurrentHashMap.newKeySet();
+
+    public Object run(ClusterJob clusterJob, Job job) throws Throwable {
+        String name = clusterJob.value();
+        if (!runningHere.add(name)) {
+            skipped(name, "running");
+            return null;
+        }
+        try {
+            if (!waitJitter(durationOf(clusterJob.jitter(), properties.getJitter()))) {
+                skipped(name, "interrupted");
+                return null;
+            }
+            Instant startedAt = Instant.now();
+            OptionalLong token = leases.tryTake(name, instanceId,
+                durationOf(clusterJob.maxRunTime(), properties.getMaxRunTime()));
+            if (token.isEmpty()) {
+                skipped(name, "leased");
+                return null;
+            }
+            return runHolding(name, token.getAsLong(), startedAt, durationOf(clusterJob.interval(), null), job);
+        } finally {
+            runningHere.remove(name);
+        }
+    }
+
+    private Object runHolding(String name, long token, Instant startedAt, Duration interval, Job job) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = job.run();
+        } catch (Throwable e) {
+            sample.stop(meterRegistry.timer("scheduler.jobs", "job", name, "outcome", "failure"));
+            // Left free so the next instance to fire retries
+            leases.release(name, token);
+            throw e;
+        }
+        sample.stop(meterRegistry.timer("scheduler.jobs", "job", name, "outcome", "success"));
+        if (!leases.complete(name, token, startedAt.plus(interval))) {
+            log.warn("Job {} outlived its lease of {}, another instance may have run it meanwhile", name,
+                properties.getMaxRunTime());
+            meterRegistry.counter("scheduler.jobs.overrun", "job", name).increment();
+        }
+        return result;
+    }
+
+    /**
+     * Runs, once the application is ready, the jobs no instance ran during their last interval,
+     * for instance a nightly job whose time passed while every instance was down.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        if (!properties.isCatchUp()) {
+            return;
+        }
+        List<Runnable> missed = new ArrayList<>();
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(beanName, false);
+            if (type == null) {
+                continue;
+            }
+            Map<Method, ClusterJob> methods = MethodIntrospector.selectMethods(ClassUtils.getUserClass(type),
+                (MethodIntrospector.MetadataLookup<ClusterJob>) method ->
+                    AnnotatedElementUtils.findMergedAnnotation(method, ClusterJob.class));
+            methods.forEach((method, clusterJob) -> {
+                if (method.getReturnType() != void.class || method.getParameterCount() > 0) {
+                    throw new IllegalStateException("@ClusterJob method " + method + " must take nothing and return void");
+                }
+                if (clusterJob.catchUp() && missed(clusterJob)) {
+                    Object bean = applicationContext.getBean(beanName);
+                    missed.add(() -> ReflectionUtils.invokeMethod(method, bean));
+                }
+            });
+        }
+        if (missed.isEmpty()) {
+            return;
+        }
+        Thread thread = new Thread(() -> missed.forEach(run -> {
+            try {
+                run.run();
+            } catch (RuntimeException e) {
+                log.error("Catch-up run failed", e);
+            }
+        }), "cluster-job-catch-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private boolean missed(ClusterJob clusterJob) {
+        Instant due = Instant.now().minus(durationOf(clusterJob.interval(), null));
+        boolean missed = leases.lastCompletedAt(clusterJob.value()).map(last -> last.isBefore(due)).orElse(true);
+        if (missed) {
+            log.info("Job {} did not run during its last interval, catching up", clusterJob.value());
+        }
+        return missed;
+    }
+
+    private Duration durationOf(String expression, Duration fallback) {
+        String value = environment.resolveRequiredPlaceholders(expression).trim();
+        if (value.isEmpty()) {
+            return fallback;
+        }
+        return value.chars().allMatch(Character::isDigit)
+            ? Duration.ofMillis(Long.parseLong(value))
+            : DurationStyle.detectAndParse(value);
+    }
+
+    private void skipped(String name, String reason) {
+        log.debug("Skipped job {}: {}", name, reason);
+        meterRegistry.counter("scheduler.jobs.skipped", "job", name, "reason", reason).increment();
+    }
+
+    // False when interrupted, the run is then skipped
+    private static boolean waitJitter(Duration jitter) {
+        if (jitter.isZero() || jitter.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
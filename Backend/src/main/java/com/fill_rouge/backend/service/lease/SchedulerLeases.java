@@ -0,0 +1,89 @@
+package com.fill_rouge.backend.service.lease;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.domain.SchedulerLease;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Named leases in {@code scheduler_leases}, so only one instance at a time runs a background
+ * job. The holder renews before expiry; once it stops, the next instance to ask takes over.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeases {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Acquires or renews the lease for the owner and returns its token, or nothing while
+     * another owner holds it.
+     */
+    public OptionalLong tryAcquire(String name, String owner, Duration ttl) {
+        Instant now = Instant.now();
+        SchedulerLease renewed = mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(name).and("owner").is(owner).and("expiresAt").gt(now)),
+            new Update().set("expiresAt", now.plus(ttl)).set("renewedAt", now),
+            FindAndModifyOptions.options().returnNew(true), SchedulerLease.class);
+        if (renewed != null) {
+            return OptionalLong.of(renewed.getToken());
+        }
+        return tryTake(name, owner, ttl);
+    }
+
+    /**
+     * Takes the lease only when it is free, even from the same owner, and returns the new token.
+     */
+    public OptionalLong tryTake(String name, String owner, Duration ttl) {
+        Instant now = Instant.now();
+        try {
+            // Matches a missing or expired lease; a live one makes the upsert collide on _id
+            SchedulerLease taken = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(name).and("expiresAt").lte(now)),
+                new Update().set("owner", owner).set("expiresAt", now.plus(ttl)).set("renewedAt", now)
+                    .inc("token", 1),
+                FindAndModifyOptions.options().upsert(true).returnNew(true), SchedulerLease.class);
+            return taken == null ? OptionalLong.empty() : OptionalLong.of(taken.getToken());
+        } catch (DuplicateKeyException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Records a finished run and keeps the lease until the given time. False when the token is
+     * stale because the lease expired and was taken again meanwhile.
+     */
+    public boolean complete(String name, long token, Instant holdUntil) {
+        Instant now = Instant.now();
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(name).and("token").is(token)),
+            new Update().set("expiresAt", holdUntil).set("lastCompletedAt", now).set("renewedAt", now),
+            SchedulerLease.class).getMatchedCount() > 0;
+    }
+
+    public Optional<Instant> lastCompletedAt(String name) {
+        return Optional.ofNullable(mongoTemplate.findById(name, SchedulerLease.class))
+            .map(SchedulerLease::getLastCompletedAt);
+    }
+
+    public void release(String name, String owner) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(name).and("owner").is(owner)),
+            new Update().set("expiresAt", Instant.EPOCH), SchedulerLease.class);
+    }
+
+    public void release(String name, long token) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(name).and("token").is(token)),
+            new Update().set("expiresAt", Instant.EPOCH), SchedulerLease.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.fill_rouge.backend.service.matching;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Points bucketed by fixed-size latitude/longitude cells, a geohash of one chosen precision.
+ * A radius query visits only the cells overlapping the radius' bounding box; callers still
+ * check the exact distance. Boxes are not wrapped across the antimeridian.
+ */
+final class GeoGrid<T> {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final double cellDegrees;
+    private final Map<Long, List<T>> cells = new HashMap<>();
+
+    GeoGrid(double cellSizeKm) {
+        this.cellDegrees = cellSizeKm / KM_PER_DEGREE;
+    }
+
+    void add(double longitude, double latitude, T value) {
+        cells.computeIfAbsent(key(row(latitude), column(longitude)), ignored -> new ArrayList<>()).add(value);
+    }
+
+    void forEachNear(double longitude, double latitude, double radiusKm, Consumer<T> action) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        double longitudeDelta = radiusKm / (KM_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(latitude))));
+        long firstRow = row(latitude - latitudeDelta);
+        long lastRow = row(latitude + latitudeDelta);
+        long firstColumn = column(longitude - longitudeDelta);
+        long lastColumn = column(longitude + longitudeDelta);
+        for (long row = firstRow; row <= lastRow; row++) {
+            for (long column = firstColumn; column <= lastColumn; column++) {
+                List<T> cell = cells.get(key(row, column));
+                if (cell != null) {
+                    cell.forEach(action);
+                }
+            }
+        }
+    }
+
+    static double distanceKm(double longitude1, double latitude1, double longitude2, double latitude2) {
+        double latitudeDelta = Math.toRadians(latitude2 - latitude1);
+        double longitudeDelta = Math.toRadians(longitude2 - longitude1);
+        double a = Math.pow(Math.sin(latitudeDelta / 2), 2)
+            + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+            * Math.pow(Math.sin(longitudeDelta / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private long row(double latitude) {
+        return (long) Math.floor(Math.max(-90.0, Math.min(90.0, latitude)) / cellDegrees);
+    }
+
+    private long column(double longitude) {
+        return (long) Math.floor(Math.max(-180.0, Math.min(180.0, longitude)) / cellDegrees);
+    }
+
+    private static long key(long row, long column) {
+        return (row << 32) ^ (column & 0xFFFFFFFFL);
+    }
+}
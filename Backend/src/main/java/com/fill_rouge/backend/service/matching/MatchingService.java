@@ -0,0 +1,25 @@
+package com.fill_rouge.backend.service.matching;
+
+import java.util.List;
+
+import com.fill_rouge.backend.dto.response.MatchRecommendation;
+
+public interface MatchingService {
+    /**
+     * Open events within the volunteer's preferred radius, best match first. Empty when the
+     * volunteer has no location or is not active.
+     */
+    List<MatchRecommendation> recommendEvents(String volunteerId, int k);
+
+    // Volunteers whose preferred radius reaches the event, best match first
+    List<MatchRecommendation> recommendVolunteers(String eventId, int k);
+
+    // As materialized by the last batch, computed live when the volunteer has none yet
+    List<MatchRecommendation> getStoredRecommendations(String volunteerId);
+
+    // Reloads volunteers and events into memory
+    void refresh();
+
+    // Stores the top recommendations of every active volunteer, returns how many were written
+    int materializeAll();
+}
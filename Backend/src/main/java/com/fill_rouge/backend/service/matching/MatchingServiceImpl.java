@@ -0,0 +1,129 @@
+package com.fill_rouge.backend.service.matching;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fill_rouge.backend.annotation.ClusterJob;
+import com.fill_rouge.backend.config.MatchingProperties;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.domain.VolunteerRecommendations;
+import com.fill_rouge.backend.dto.response.MatchRecommendation;
+import com.fill_rouge.backend.service.skill.SkillDictionary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers recommendation queries from a {@link MatchingSnapshot} reloaded every
+ * {@code matching.refresh-interval}, so a query never reads Mongo. Profile and event changes
+ * show up with the next reload.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchingServiceImpl implements MatchingService {
+
+    private static final int MAX_K = 100;
+    private static final int CHUNK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final MatchingProperties properties;
+    private final SkillDictionary skillDictionary;
+
+    private volatile MatchingSnapshot snapshot = MatchingSnapshot.empty();
+
+    @Override
+    public List<MatchRecommendation> recommendEvents(String volunteerId, int k) {
+        return snapshot.eventsFor(volunteerId, clamp(k));
+    }
+
+    @Override
+    public List<MatchRecommendation> recommendVolunteers(String eventId, int k) {
+        return snapshot.volunteersFor(eventId, clamp(k));
+    }
+
+    @Override
+    public List<MatchRecommendation> getStoredRecommendations(String volunteerId) {
+        VolunteerRecommendations stored = mongoTemplate.findById(volunteerId, VolunteerRecommendations.class);
+        if (stored == null) {
+            return recommendEvents(volunteerId, properties.getTopK());
+        }
+        return stored.getEvents().stream()
+            .map(match -> new MatchRecommendation(match.getEventId(), match.getScore(), match.getDistanceKm(),
+                match.getSharedSkills()))
+            .toList();
+    }
+
+    // Serialized so a reload started earlier cannot replace a newer one
+    @Override
+    @Scheduled(fixedDelayString = "${matching.refresh-interval:600000}")
+    public synchronized void refresh() {
+        long start = System.nanoTime();
+        Query profiles = Query.query(Criteria.where("active").ne(false).and("banned").ne(true)
+            .and("location").exists(true));
+        profiles.fields().include("location", "preferredRadius", "skills", "availableDays", "preferredCategories");
+        Query events = Query.query(Criteria.where("status").is(EventStatus.ACTIVE)
+            .and("startDate").gt(LocalDateTime.now()).and("coordinates").exists(true));
+        events.fields().include("coordinates", "requiredSkills", "category", "startDate");
+
+        snapshot = MatchingSnapshot.build(mongoTemplate.find(profiles, VolunteerProfile.class),
+            mongoTemplate.find(events, Event.class), properties, skillDictionary);
+        log.debug("Matching snapshot loaded with {} volunteers in {} ms", snapshot.volunteerCount(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Nightly batch, run by one instance of the cluster
+    @Scheduled(cron = "${matching.batch-cron:0 0 3 * * *}")
+    @ClusterJob(value = "matching-materialize", interval = "${matching.batch-hold:23h}")
+    public void materializeNightly() {
+        materializeAll();
+    }
+
+    // Volunteers left out of this run lose their previous recommendations
+    @Override
+    public int materializeAll() {
+        refresh();
+        MatchingSnapshot current = snapshot;
+        // Stored to the millisecond, finer would make this run's documents look older than it
+        LocalDateTime computedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        int written = 0;
+        BulkOperations operations = null;
+        for (String volunteerId : current.volunteerIds()) {
+            if (operations == null) {
+                operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VolunteerRecommendations.class);
+            }
+            List<VolunteerRecommendations.Recommendation> events = current.eventsFor(volunteerId, properties.getTopK())
+                .stream()
+                .map(match -> new VolunteerRecommendations.Recommendation(match.getId(), match.getScore(),
+                    match.getDistanceKm(), match.getSharedSkills()))
+                .toList();
+            operations.upsert(Query.query(Criteria.where("_id").is(volunteerId)),
+                new Update().set("events", events).set("computedAt", computedAt));
+            if (++written % CHUNK_SIZE == 0) {
+                operations.execute();
+                operations = null;
+            }
+        }
+        if (operations != null) {
+            operations.execute();
+        }
+        mongoTemplate.remove(Query.query(Criteria.where("computedAt").lt(computedAt)), VolunteerRecommendations.class);
+        log.info("Materialized recommendations for {} volunteers", written);
+        return written;
+    }
+
+    private static int clamp(int k) {
+        return Math.max(1, Math.min(k, MAX_K));
+    }
+}
@@ -0,0 +1,220 @@
+package com.fill_rouge.backend.service.matching;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.fill_rouge.backend.config.MatchingProperties;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.Skill;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.dto.response.MatchRecommendation;
+import com.fill_rouge.backend.service.skill.SkillDictionary;
+
+/**
+ * Immutable in-memory view of the located active volunteers and open events, each side held
+ * in a {@link GeoGrid}. Skills are held as bitsets of {@link SkillDictionary} ids, so the overlap
+ * of a volunteer and an event is a popcount over a few words.
+ *
+ * <p>A pair matches when the event lies within the volunteer's preferred radius. Its score
+ * weighs the share of required skills the volunteer has, whether the event falls on one of
+ * their available days, whether its category is one they prefer and how close it is.
+ */
+final class MatchingSnapshot {
+
+    private static final double SKILL_WEIGHT = 0.4;
+    private static final double DAY_WEIGHT = 0.2;
+    private static final double CATEGORY_WEIGHT = 0.2;
+    private static final double DISTANCE_WEIGHT = 0.2;
+    // Events requiring no particular skill
+    private static final double NO_SKILLS_REQUIRED = 0.5;
+
+    private record Volunteer(String id, double longitude, double latitude, double radiusKm, long[] skills,
+                             int days, Set<String> categories) {
+    }
+
+    private record OpenEvent(String id, double longitude, double latitude, long[] skills, int requiredSkills,
+                             int day, String category) {
+    }
+
+    private final double maxRadiusKm;
+    private final Map<String, Volunteer> volunteers = new HashMap<>();
+    private final Map<String, OpenEvent> events = new HashMap<>();
+    private final GeoGrid<Volunteer> volunteerGrid;
+    private final GeoGrid<OpenEvent> eventGrid;
+
+    private MatchingSnapshot(MatchingProperties properties) {
+        this.maxRadiusKm = properties.getMaxRadiusKm();
+        this.volunteerGrid = new GeoGrid<>(properties.getCellSizeKm());
+        this.eventGrid = new GeoGrid<>(properties.getCellSizeKm());
+    }
+
+    static MatchingSnapshot empty() {
+        return new MatchingSnapshot(new MatchingProperties());
+    }
+
+    // Profiles without a location and events without coordinates are left out
+    static MatchingSnapshot build(Collection<VolunteerProfile> profiles, Collection<Event> openEvents,
+                                  MatchingProperties properties, SkillDictionary dictionary) {
+        MatchingSnapshot snapshot = new MatchingSnapshot(properties);
+        SkillDictionary.Local skillIds = dictionary.local();
+        for (VolunteerProfile profile : profiles) {
+            double[] location = profile.getLocation();
+            if (location == null || location.length < 2) {
+                continue;
+            }
+            List<String> skills = profile.getSkills() == null ? List.of()
+                : profile.getSkills().stream().map(Skill::getName).toList();
+            double radius = profile.getPreferredRadius() == null || profile.getPreferredRadius() <= 0
+                ? properties.getDefaultRadiusKm() : profile.getPreferredRadius();
+            Volunteer volunteer = new Volunteer(profile.getId(), location[0], location[1],
+                Math.min(radius, properties.getMaxRadiusKm()), bits(skills, skillIds).toLongArray(), days(profile.getAvailableDays()),
+                normalized(profile.getPreferredCategories()));
+            snapshot.volunteers.put(volunteer.id(), volunteer);
+            snapshot.volunteerGrid.add(volunteer.longitude(), volunteer.latitude(), volunteer);
+        }
+        for (Event event : openEvents) {
+            double[] coordinates = event.getCoordinates();
+            if (coordinates == null || coordinates.length < 2 || event.getStartDate() == null) {
+                continue;
+            }
+            BitSet required = bits(event.getRequiredSkills() == null ? List.of() : event.getRequiredSkills(), skillIds);
+            OpenEvent open = new OpenEvent(event.getId(), coordinates[0], coordinates[1], required.toLongArray(),
+                required.cardinality(),
+                event.getStartDate().getDayOfWeek().getValue() - 1,
+                event.getCategory() == null ? null : event.getCategory().name());
+            snapshot.events.put(open.id(), open);
+            snapshot.eventGrid.add(open.longitude(), open.latitude(), open);
+        }
+        return snapshot;
+    }
+
+    int volunteerCount() {
+        return volunteers.size();
+    }
+
+    Set<String> volunteerIds() {
+        return volunteers.keySet();
+    }
+
+    List<MatchRecommendation> eventsFor(String volunteerId, int k) {
+        Volunteer volunteer = volunteers.get(volunteerId);
+        if (volunteer == null) {
+            return List.of();
+        }
+        TopK top = new TopK(k);
+        eventGrid.forEachNear(volunteer.longitude(), volunteer.latitude(), volunteer.radiusKm(),
+            event -> score(volunteer, event, event.id(), top));
+        return top.sorted();
+    }
+
+    List<MatchRecommendation> volunteersFor(String eventId, int k) {
+        OpenEvent event = events.get(eventId);
+        if (event == null) {
+            return List.of();
+        }
+        TopK top = new TopK(k);
+        volunteerGrid.forEachNear(event.longitude(), event.latitude(), maxRadiusKm,
+            volunteer -> score(volunteer, event, volunteer.id(), top));
+        return top.sorted();
+    }
+
+    private static void score(Volunteer volunteer, OpenEvent event, String targetId, Consumer<MatchRecommendation> sink) {
+        double distance = GeoGrid.distanceKm(volunteer.longitude(), volunteer.latitude(),
+            event.longitude(), event.latitude());
+        if (distance > volunteer.radiusKm()) {
+            return;
+        }
+        int shared = overlap(volunteer.skills(), event.skills());
+        double skills = event.requiredSkills() == 0 ? NO_SKILLS_REQUIRED : (double) shared / event.requiredSkills();
+        double day = (volunteer.days() & (1 << event.day())) != 0 ? 1 : 0;
+        double category = event.category() != null && volunteer.categories().contains(event.category()) ? 1 : 0;
+        double proximity = volunteer.radiusKm() == 0 ? 1 : 1 - distance / volunteer.radiusKm();
+        double score = SKILL_WEIGHT * skills + DAY_WEIGHT * day + CATEGORY_WEIGHT * category + DISTANCE_WEIGHT * proximity;
+        sink.accept(new MatchRecommendation(targetId, score, distance, shared));
+    }
+
+    private static int overlap(long[] first, long[] second) {
+        int shared = 0;
+        for (int i = 0, words = Math.min(first.length, second.length); i < words; i++) {
+            shared += Long.bitCount(first[i] & second[i]);
+        }
+        return shared;
+    }
+
+    private static BitSet bits(Collection<String> names, SkillDictionary.Local skillIds) {
+        BitSet bits = new BitSet();
+        for (String name : names) {
+            int id = skillIds.id(name);
+            if (id != SkillDictionary.UNKNOWN) {
+                bits.set(id);
+            }
+        }
+        return bits;
+    }
+
+    // Bit 0 is Monday; unknown names are ignored
+    private static int days(Collection<String> names) {
+        int days = 0;
+        if (names != null) {
+            for (String name : names) {
+                try {
+                    days |= 1 << (DayOfWeek.valueOf(normalize(name).toUpperCase(Locale.ROOT)).getValue() - 1);
+                } catch (IllegalArgumentException e) {
+                    // not a day
+                }
+            }
+        }
+        return days;
+    }
+
+    private static Set<String> normalized(Collection<String> categories) {
+        return categories == null ? Set.of() : categories.stream()
+            .map(category -> normalize(category).toUpperCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Keeps the k best scores seen in a min-heap
+    private static final class TopK implements Consumer<MatchRecommendation> {
+        private static final Comparator<MatchRecommendation> ORDER = Comparator
+            .comparingDouble(MatchRecommendation::getScore)
+            .thenComparing(MatchRecommendation::getDistanceKm, Comparator.reverseOrder())
+            .thenComparing(MatchRecommendation::getId, Comparator.reverseOrder());
+
+        private final int k;
+        private final PriorityQueue<MatchRecommendation> heap;
+
+        private TopK(int k) {
+            this.k = Math.max(1, k);
+            this.heap = new PriorityQueue<>(this.k + 1, ORDER);
+        }
+
+        @Override
+        public void accept(MatchRecommendation candidate) {
+            heap.add(candidate);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        private List<MatchRecommendation> sorted() {
+            List<MatchRecommendation> best = new ArrayList<>(heap);
+            best.sort(ORDER.reversed());
+            return best;
+        }
+    }
+}
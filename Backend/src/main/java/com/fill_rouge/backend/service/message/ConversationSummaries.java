@@ -0,0 +1,163 @@
+package com.fill_rouge.backend.service.message;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.domain.Conversation;
+import com.fill_rouge.backend.domain.Message;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the last message and the unread count of each participant denormalized on the
+ * {@link Conversation}, so the inbox is one indexed query over conversations. Messages written
+ * before conversations were kept are given their key and summarized once at startup; a
+ * message sent while that runs can leave its conversation's unread count off by one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConversationSummaries {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public void recordMessage(Message message) {
+        Update update = new Update()
+            .setOnInsert("participantIds", participantsOf(message.getConversationKey()))
+            .setOnInsert("createdAt", message.getCreatedAt())
+            .set("lastMessageContent", message.getContent())
+            .set("lastMessageTime", message.getCreatedAt())
+            .set("lastMessageSenderId", message.getSenderId())
+            .set("updatedAt", LocalDateTime.now());
+        if (!message.isRead()) {
+            update.inc(unreadField(message.getReceiverId()), 1);
+        }
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(message.getConversationKey())), update,
+            Conversation.class);
+    }
+
+    public void changeUnread(String conversationKey, String userId, long delta) {
+        if (conversationKey == null || delta == 0) {
+            return;
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(conversationKey)),
+            new Update().inc(unreadField(userId), delta), Conversation.class);
+    }
+
+    // Deltas by conversation key, then by participant id
+    public void changeUnread(Map<String, Map<String, Long>> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Conversation.class);
+        deltas.forEach((conversationKey, byParticipant) -> {
+            Update update = new Update();
+            byParticipant.forEach((userId, delta) -> update.inc(unreadField(userId), delta));
+            operations.updateOne(Query.query(Criteria.where("_id").is(conversationKey)), update);
+        });
+        operations.execute();
+    }
+
+    public void clearUnread(String userId) {
+        mongoTemplate.updateMulti(Query.query(Criteria.where("participantIds").is(userId)),
+            new Update().set(unreadField(userId), 0L), Conversation.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        // Computed by the server, the same key Conversation.directKey gives
+        long keyed = mongoTemplate.updateMulti(Query.query(Criteria.where("conversationKey").exists(false)),
+            AggregationUpdate.update().set("conversationKey").toValueOf(
+                ConditionalOperators.when(ComparisonOperators.valueOf("senderId").lessThanEqualTo("receiverId"))
+                    .then(StringOperators.valueOf("senderId").concat(":").concatValueOf("receiverId"))
+                    .otherwise(StringOperators.valueOf("receiverId").concat(":").concatValueOf("senderId"))),
+            Message.class).getModifiedCount();
+        if (keyed == 0) {
+            return;
+        }
+
+        AggregationOptions options = AggregationOptions.builder().allowDiskUse(true).build();
+        Aggregation lastMessages = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("deleted").is(false).and("conversationKey").ne(null)),
+            Aggregation.sort(Sort.by("createdAt", "_id")),
+            Aggregation.group("conversationKey")
+                .first("createdAt").as("createdAt")
+                .last("content").as("content")
+                .last("createdAt").as("lastMessageTime")
+                .last("senderId").as("senderId"))
+            .withOptions(options);
+        int conversations = upsertAll(lastMessages, (summary, operations) -> operations.upsert(
+            Query.query(Criteria.where("_id").is(summary.getString("_id"))),
+            new Update()
+                .setOnInsert("participantIds", participantsOf(summary.getString("_id")))
+                .setOnInsert("createdAt", summary.get("createdAt"))
+                .set("lastMessageContent", summary.get("content"))
+                .set("lastMessageTime", summary.get("lastMessageTime"))
+                .set("lastMessageSenderId", summary.get("senderId"))
+                .set("updatedAt", LocalDateTime.now())));
+
+        Aggregation unread = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("read").is(false).and("deleted").is(false).and("conversationKey").ne(null)),
+            Aggregation.group("conversationKey", "receiverId").count().as("count"))
+            .withOptions(options);
+        upsertAll(unread, (count, operations) -> {
+            Document key = count.get("_id", Document.class);
+            operations.updateOne(Query.query(Criteria.where("_id").is(key.getString("conversationKey"))),
+                new Update().set(unreadField(key.getString("receiverId")), ((Number) count.get("count")).longValue()));
+        });
+        log.info("Keyed {} messages and summarized {} conversations", keyed, conversations);
+    }
+
+    private int upsertAll(Aggregation aggregation, BiConsumer<Document, BulkOperations> write) {
+        int written = 0;
+        List<Document> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Stream<Document> results = mongoTemplate.aggregateStream(aggregation, Message.class, Document.class)) {
+            Iterator<Document> iterator = results.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Conversation.class);
+                    chunk.forEach(document -> write.accept(document, operations));
+                    operations.execute();
+                    written += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        return written;
+    }
+
+    private static List<String> participantsOf(String conversationKey) {
+        return Arrays.stream(conversationKey.split(":")).distinct().toList();
+    }
+
+    private static String unreadField(String userId) {
+        return "unreadCounts." + userId;
+    }
+}
@@ -3,13 +3,19 @@ package com.fill_rouge.backend.service.message;
 import java.util.List;
 
 import com.fill_rouge.backend.domain.Message;
+import com.fill_rouge.backend.dto.response.ConversationSummaryResponse;
+import com.fill_rouge.backend.dto.response.CursorPage;
 
 public interface MessageService {
     Message sendMessage(String senderId, String receiverId, String content, String attachmentUrl);
-    List<Message> getConversation(String userId, String otherUserId);
+    // Newest first
+    CursorPage<Message> getConversation(String userId, String otherUserId, String cursor, int size);
+    // Conversations by latest message, newest first
+    CursorPage<ConversationSummaryResponse> getInbox(String userId, String cursor, int size);
     List<Message> getUnreadMessages(String userId);
     long getUnreadCount(String userId);
     void markAsRead(String messageId);
-    void markAllAsRead(String userId);
+    long markConversationAsRead(String userId, String otherUserId);
+    long markAllAsRead(String userId);
     void deleteMessage(String messageId);
-} 
\ No newline at end of file
+}
@@ -1,11 +1,23 @@
 package com.fill_rouge.backend.service.message;
 
+import com.fill_rouge.backend.config.RetentionProperties;
+import com.fill_rouge.backend.constant.UnreadCounterType;
+import com.fill_rouge.backend.domain.Conversation;
 import com.fill_rouge.backend.domain.Message;
 import com.fill_rouge.backend.domain.Message.MessageType;
+import com.fill_rouge.backend.dto.response.ConversationSummaryResponse;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.repository.Keyset;
+import com.fill_rouge.backend.repository.KeysetQueries;
 import com.fill_rouge.backend.repository.MessageRepository;
 import com.fill_rouge.backend.exception.ResourceNotFoundException;
+import com.fill_rouge.backend.service.communication.UnreadCounterService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,25 +30,42 @@ import java.util.List;
 public class MessageServiceImpl implements MessageService {
 
     private final MessageRepository messageRepository;
+    private final MongoTemplate mongoTemplate;
+    private final UnreadCounterService unreadCounterService;
+    private final RetentionProperties retentionProperties;
+    private final KeysetQueries keysetQueries;
+    private final ConversationSummaries conversationSummaries;
 
     @Override
     public Message sendMessage(String senderId, String receiverId, String content, String attachmentUrl) {
         Message message = Message.builder()
             .senderId(senderId)
             .receiverId(receiverId)
+            .conversationKey(Conversation.directKey(senderId, receiverId))
             .content(content)
             .type(MessageType.DIRECT)
             .read(false)
             .createdAt(LocalDateTime.now())
             .build();
             
-        return messageRepository.save(message);
+        message = messageRepository.save(message);
+        conversationSummaries.recordMessage(message);
+        unreadCounterService.increment(receiverId, UnreadCounterType.MESSAGES, 1);
+        return message;
     }
 
     @Override
-    public List<Message> getConversation(String userId, String otherUserId) {
-        return messageRepository.findBySenderIdAndReceiverIdOrReceiverIdAndSenderId(
-            userId, otherUserId, userId, otherUserId);
+    public CursorPage<Message> getConversation(String userId, String otherUserId, String cursor, int size) {
+        Criteria conversation = Criteria.where("conversationKey").is(Conversation.directKey(userId, otherUserId))
+            .and("deleted").is(false);
+        return keysetQueries.page(Message.class, conversation, Keyset.CREATED_AT_DESC, cursor, size);
+    }
+
+    @Override
+    public CursorPage<ConversationSummaryResponse> getInbox(String userId, String cursor, int size) {
+        return keysetQueries.page(Conversation.class, Criteria.where("participantIds").is(userId),
+                Keyset.LAST_MESSAGE_TIME_DESC, cursor, size)
+            .map(conversation -> toSummary(conversation, userId));
     }
 
     @Override
@@ -46,39 +75,80 @@ public class MessageServiceImpl implements MessageService {
 
     @Override
     public long getUnreadCount(String userId) {
-        return messageRepository.countByReceiverIdAndReadFalse(userId);
+        return unreadCounterService.getUnreadCount(userId, UnreadCounterType.MESSAGES);
     }
 
+    // Each change is conditional on the current state, so only the request that makes it moves the counter
     @Override
     public void markAsRead(String messageId) {
-        Message message = messageRepository.findById(messageId)
-            .orElseThrow(() -> new ResourceNotFoundException("Message not found"));
-            
-        message.setRead(true);
-        message.setReadAt(LocalDateTime.now());
-        messageRepository.save(message);
+        Message previous = mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(messageId).and("read").is(false)),
+            new Update().set("read", true).set("readAt", LocalDateTime.now()),
+            Message.class);
+        if (previous == null) {
+            requireExists(messageId);
+        } else if (!previous.isDeleted()) {
+            unreadCounterService.increment(previous.getReceiverId(), UnreadCounterType.MESSAGES, -1);
+            conversationSummaries.changeUnread(previous.getConversationKey(), previous.getReceiverId(), -1);
+        }
     }
 
     @Override
-    public void markAllAsRead(String userId) {
-        List<Message> unreadMessages = messageRepository.findByReceiverIdAndReadFalse(userId);
-        LocalDateTime now = LocalDateTime.now();
-        
-        unreadMessages.forEach(message -> {
-            message.setRead(true);
-            message.setReadAt(now);
-        });
-        
-        messageRepository.saveAll(unreadMessages);
+    public long markConversationAsRead(String userId, String otherUserId) {
+        String conversationKey = Conversation.directKey(userId, otherUserId);
+        long marked = mongoTemplate.updateMulti(
+            Query.query(Criteria.where("conversationKey").is(conversationKey).and("receiverId").is(userId)
+                .and("read").is(false).and("deleted").is(false)),
+            new Update().set("read", true).set("readAt", LocalDateTime.now()),
+            Message.class).getModifiedCount();
+        unreadCounterService.increment(userId, UnreadCounterType.MESSAGES, -marked);
+        conversationSummaries.changeUnread(conversationKey, userId, -marked);
+        return marked;
+    }
+
+    @Override
+    public long markAllAsRead(String userId) {
+        long marked = mongoTemplate.updateMulti(
+            Query.query(Criteria.where("receiverId").is(userId).and("read").is(false).and("deleted").is(false)),
+            new Update().set("read", true).set("readAt", LocalDateTime.now()),
+            Message.class).getModifiedCount();
+        unreadCounterService.increment(userId, UnreadCounterType.MESSAGES, -marked);
+        conversationSummaries.clearUnread(userId);
+        return marked;
     }
 
     @Override
     public void deleteMessage(String messageId) {
-        Message message = messageRepository.findById(messageId)
-            .orElseThrow(() -> new ResourceNotFoundException("Message not found"));
-            
-        message.setDeleted(true);
-        message.setDeletedAt(LocalDateTime.now());
-        messageRepository.save(message);
+        LocalDateTime now = LocalDateTime.now();
+        Message previous = mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(messageId).and("deleted").is(false)),
+            new Update().set("deleted", true).set("deletedAt", now)
+                .set("expireAt", now.plus(retentionProperties.getPurgeAfter())),
+            Message.class);
+        if (previous == null) {
+            requireExists(messageId);
+        } else if (!previous.isRead()) {
+            unreadCounterService.increment(previous.getReceiverId(), UnreadCounterType.MESSAGES, -1);
+            conversationSummaries.changeUnread(previous.getConversationKey(), previous.getReceiverId(), -1);
+        }
+    }
+
+    private static ConversationSummaryResponse toSummary(Conversation conversation, String userId) {
+        List<String> others = conversation.getParticipantIds().stream().filter(id -> !id.equals(userId)).toList();
+        return ConversationSummaryResponse.builder()
+            .conversationId(conversation.getId())
+            .participantIds(conversation.getParticipantIds())
+            .otherParticipantId(conversation.isGroupChat() ? null : others.isEmpty() ? userId : others.get(0))
+            .lastMessageContent(conversation.getLastMessageContent())
+            .lastMessageTime(conversation.getLastMessageTime())
+            .lastMessageSenderId(conversation.getLastMessageSenderId())
+            .unreadCount(Math.max(0, conversation.getUnreadCounts().getOrDefault(userId, 0L)))
+            .build();
+    }
+
+    private void requireExists(String messageId) {
+        if (!messageRepository.existsById(messageId)) {
+            throw new ResourceNotFoundException("Message not found");
+        }
     }
-} 
\ No newline at end of file
+}
@@ -6,8 +6,10 @@ import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fill_rouge.backend.dto.request.OrganizationRequest;
+import com.fill_rouge.backend.dto.request.OrganizationVolunteerRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.OrganizationResponse;
-import com.fill_rouge.backend.dto.response.VolunteerProfileResponse;
+import com.fill_rouge.backend.dto.response.OrganizationVolunteerRow;
 
 public interface OrganizationService {
     // Core operations
@@ -18,8 +20,8 @@ public interface OrganizationService {
     void deleteOrganization(String organizationId);
     
     // Search and filtering
-    List<OrganizationResponse> searchOrganizations(String query);
-    List<OrganizationResponse> getAllOrganizations();
+    CursorPage<OrganizationResponse> searchOrganizations(String query, String cursor, int size);
+    CursorPage<OrganizationResponse> getOrganizations(String cursor, int size);
     List<OrganizationResponse> findByFocusAreas(List<String> areas);
     List<OrganizationResponse> findNearbyOrganizations(double latitude, double longitude, double radius);
     List<OrganizationResponse> findByCity(String city);
@@ -52,7 +54,7 @@ public interface OrganizationService {
     boolean isTaxIdValid(String taxId);
     
     // Volunteer listing
-    List<VolunteerProfileResponse> getOrganizationVolunteers(String organizationId, String sortBy, String sortOrder);
+    CursorPage<OrganizationVolunteerRow> getOrganizationVolunteers(String organizationId, OrganizationVolunteerRequest request);
     
     /**
      * Update the status of an organization
@@ -4,13 +4,15 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -19,16 +21,19 @@ import org.springframework.web.multipart.MultipartFile;
 import com.fill_rouge.backend.constant.EventStatus;
 import com.fill_rouge.backend.domain.Event;
 import com.fill_rouge.backend.domain.Organization;
-import com.fill_rouge.backend.domain.Skill;
 import com.fill_rouge.backend.domain.User;
-import com.fill_rouge.backend.domain.VolunteerProfile;
 import com.fill_rouge.backend.dto.request.OrganizationRequest;
+import com.fill_rouge.backend.dto.request.OrganizationVolunteerRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.OrganizationResponse;
-import com.fill_rouge.backend.dto.response.VolunteerProfileResponse;
+import com.fill_rouge.backend.dto.response.OrganizationVolunteerRow;
 import com.fill_rouge.backend.exception.ResourceNotFoundException;
 import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.Keyset;
+import com.fill_rouge.backend.repository.KeysetQueries;
 import com.fill_rouge.backend.repository.OrganizationRepository;
 import com.fill_rouge.backend.repository.UserRepository;
+import com.fill_rouge.backend.service.cache.CacheNames;
 import com.fill_rouge.backend.service.storage.GridFsService;
 
 import lombok.RequiredArgsConstructor;
@@ -41,6 +46,8 @@ public class OrganizationServiceImpl implements OrganizationService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final GridFsService gridFsService;
+    private final KeysetQueries keysetQueries;
+    private final OrganizationVolunteerQueries volunteerQueries;
     @Override
     public OrganizationResponse createOrganization(String userId, OrganizationRequest request) {
         validateOrganizationRequest(request);
@@ -89,6 +96,7 @@ public class OrganizationServiceImpl implements OrganizationService {
     }
 
     @Override
+    @Cacheable(CacheNames.ORGANIZATIONS)
     public OrganizationResponse getOrganization(String organizationId) {
         Organization organization = organizationRepository.findById(organizationId)
             .orElseThrow(() -> new ResourceNotFoundException("Organization", organizationId));
@@ -119,17 +127,12 @@ public class OrganizationServiceImpl implements OrganizationService {
     }
 
     @Override
-    public List<OrganizationResponse> searchOrganizations(String query) {
-        if (!StringUtils.hasText(query)) {
-            return organizationRepository.findAll().stream()
-                .map(OrganizationResponse::fromOrganization)
-                .collect(Collectors.toList());
-        }
-
-        return organizationRepository.searchByName(query).stream()
-            .distinct()
-            .map(OrganizationResponse::fromOrganization)
-            .collect(Collectors.toList());
+    public CursorPage<OrganizationResponse> searchOrganizations(String query, String cursor, int size) {
+        Criteria filter = StringUtils.hasText(query)
+            ? Criteria.where("name").regex(Pattern.compile(Pattern.quote(query.trim()), Pattern.CASE_INSENSITIVE))
+            : new Criteria();
+        return keysetQueries.page(Organization.class, filter, Keyset.NAME, cursor, size)
+            .map(OrganizationResponse::fromOrganization);
     }
 
     @Override
@@ -333,59 +336,9 @@ public class OrganizationServiceImpl implements OrganizationService {
     }
 
     @Override
-    public List<VolunteerProfileResponse> getOrganizationVolunteers(String organizationId, String sortBy, String sortOrder) {
-        Organization organization = getOrganizationEntity(organizationId);
-        List<VolunteerProfile> volunteers = organization.getVolunteerProfiles();
-
-        // Apply sorting
-        Comparator<VolunteerProfile> comparator = switch (sortBy.toLowerCase()) {
-            case "name" -> Comparator.comparing((VolunteerProfile v) -> {
-                User user = v.getUser();
-                return (user != null) ? (user.getFirstName() + " " + user.getLastName()) : "";
-            });
-            case "email" -> Comparator.comparing((VolunteerProfile v) -> {
-                User user = v.getUser();
-                return (user != null) ? user.getEmail() : "";
-            });
-            case "city" -> Comparator.comparing(VolunteerProfile::getCity);
-            case "rating" -> Comparator.comparing(VolunteerProfile::getAverageRating, Comparator.nullsLast(Double::compareTo));
-            case "hours" -> Comparator.comparing(VolunteerProfile::getTotalHoursVolunteered, Comparator.nullsLast(Integer::compareTo));
-            default -> Comparator.comparing((VolunteerProfile v) -> {
-                User user = v.getUser();
-                return (user != null) ? (user.getFirstName() + " " + user.getLastName()) : "";
-            });
-        };
-
-        if ("desc".equalsIgnoreCase(sortOrder)) {
-            comparator = comparator.reversed();
-        }
-
-        return volunteers.stream()
-            .sorted(comparator)
-            .map(this::toVolunteerProfileResponse)
-            .collect(Collectors.toList());
-    }
-
-    private VolunteerProfileResponse toVolunteerProfileResponse(VolunteerProfile profile) {
-        User user = profile.getUser();
-        return VolunteerProfileResponse.builder()
-            .id(profile.getId())
-            .firstName(user != null ? user.getFirstName() : "")
-            .lastName(user != null ? user.getLastName() : "")
-            .email(user != null ? user.getEmail() : "")
-            .phoneNumber(profile.getPhoneNumber())
-            .address(profile.getAddress())
-            .bio(profile.getBio())
-            .profilePicture(profile.getProfilePicture())
-            .city(profile.getCity())
-            .country(profile.getCountry())
-            .skills(profile.getSkills().stream().map(Skill::getName).collect(Collectors.toSet()))
-            .interests(profile.getInterests())
-            .preferredCategories(profile.getPreferredCategories())
-            .totalEventsAttended(profile.getTotalEventsAttended())
-            .totalVolunteerHours(profile.getTotalHoursVolunteered())
-            .averageEventRating(profile.getAverageRating())
-            .build();
+    public CursorPage<OrganizationVolunteerRow> getOrganizationVolunteers(String organizationId,
+                                                                         OrganizationVolunteerRequest request) {
+        return volunteerQueries.page(organizationId, request);
     }
 
     @Override
@@ -465,11 +418,9 @@ public class OrganizationServiceImpl implements OrganizationService {
     }
 
     @Override
-    public List<OrganizationResponse> getAllOrganizations() {
-        List<Organization> organizations = organizationRepository.findAll();
-        return organizations.stream()
-                .map(OrganizationResponse::fromOrganization)
-                .collect(Collectors.toList());
+    public CursorPage<OrganizationResponse> getOrganizations(String cursor, int size) {
+        return keysetQueries.page(Organization.class, Keyset.NAME, cursor, size)
+            .map(OrganizationResponse::fromOrganization);
     }
 
     // Helper methods
@@ -0,0 +1,210 @@
+package com.fill_rouge.backend.service.organization;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.limit;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fill_rouge.backend.dto.request.OrganizationVolunteerRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.dto.response.OrganizationVolunteerRow;
+import com.fill_rouge.backend.exception.ResourceNotFoundException;
+import com.fill_rouge.backend.exception.ValidationException;
+import com.fill_rouge.backend.repository.KeysetQueries;
+import com.fill_rouge.backend.repository.PageCursor;
+import com.mongodb.DBRef;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pages through an organization's volunteers in one aggregation over {@code volunteer_profiles}.
+ * The organization document is read only for its profile references, which are never resolved.
+ * Filtering, sorting and the keyset cut all run in Mongo; the user is joined with a
+ * {@code $lookup} before the sort when sorting by name or email, and only for the page rows
+ * otherwise.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganizationVolunteerQueries {
+
+    private static final String SORT_KEY = "sortKey";
+    private static final String ACCOUNT = "account";
+
+    private static final Document ROW = new Document("_id", 1)
+        .append("userId", "$account._id")
+        .append("firstName", "$account.firstName")
+        .append("lastName", "$account.lastName")
+        .append("email", "$account.email")
+        .append("city", 1)
+        .append("skills", "$skills.name")
+        .append("averageRating", 1)
+        .append("totalHoursVolunteered", 1)
+        .append("totalEventsAttended", 1)
+        .append(SORT_KEY, 1);
+
+    private final MongoTemplate mongoTemplate;
+
+    private enum Order {
+        NAME(new Document("$concat", List.of(
+            new Document("$ifNull", List.of("$account.firstName", "")), " ",
+            new Document("$ifNull", List.of("$account.lastName", "")))), value -> value),
+        EMAIL("$account.email", value -> value),
+        CITY("city", value -> value),
+        RATING("averageRating", Double::parseDouble),
+        HOURS("totalHoursVolunteered", Integer::parseInt);
+
+        // An expression over the joined user, or a profile field
+        private final Object key;
+        private final Function<String, Object> parser;
+
+        Order(Object key, Function<String, Object> parser) {
+            this.key = key;
+            this.parser = parser;
+        }
+
+        boolean onUser() {
+            return this == NAME || this == EMAIL;
+        }
+
+        String field() {
+            return onUser() ? SORT_KEY : (String) key;
+        }
+
+        static Order of(String sortBy) {
+            return sortBy == null ? NAME : switch (sortBy.toLowerCase()) {
+                case "email" -> EMAIL;
+                case "city" -> CITY;
+                case "rating" -> RATING;
+                case "hours" -> HOURS;
+                default -> NAME;
+            };
+        }
+    }
+
+    public CursorPage<OrganizationVolunteerRow> page(String organizationId, OrganizationVolunteerRequest request) {
+        int size = Math.max(1, Math.min(request.getSize(), KeysetQueries.MAX_PAGE_SIZE));
+        List<Object> profileIds = profileIds(organizationId);
+        if (profileIds.isEmpty()) {
+            return new CursorPage<>(List.of(), size, null);
+        }
+        Order order = Order.of(request.getSortBy());
+        int direction = "desc".equalsIgnoreCase(request.getSortOrder()) ? -1 : 1;
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(match(filters(profileIds, request)));
+        if (order.onUser()) {
+            stages.addAll(joinUser());
+            stages.add(context -> new Document("$addFields", new Document(SORT_KEY, order.key)));
+        }
+        if (StringUtils.hasText(request.getCursor())) {
+            stages.add(match(after(order, direction, PageCursor.decode(request.getCursor()))));
+        }
+        stages.add(context -> new Document("$sort", new Document(order.field(), direction).append("_id", direction)));
+        stages.add(limit(size + 1));
+        if (!order.onUser()) {
+            stages.addAll(joinUser());
+        }
+        stages.add(context -> new Document("$project", ROW));
+
+        List<Document> documents = mongoTemplate
+            .aggregate(newAggregation(stages), "volunteer_profiles", Document.class)
+            .getMappedResults();
+        List<OrganizationVolunteerRow> rows = documents.stream()
+            .limit(size)
+            .map(document -> mongoTemplate.getConverter().read(OrganizationVolunteerRow.class, document))
+            .toList();
+        if (documents.size() <= size) {
+            return new CursorPage<>(rows, size, null);
+        }
+        Document last = documents.get(size - 1);
+        Object position = last.get(order.field());
+        String cursor = new PageCursor(position == null ? null : position.toString(), last.get("_id").toString()).encode();
+        return new CursorPage<>(rows, size, cursor);
+    }
+
+    private List<Object> profileIds(String organizationId) {
+        Query query = Query.query(Criteria.where("_id").is(organizationId));
+        query.fields().include("volunteerProfiles");
+        Document organization = mongoTemplate.findOne(query, Document.class, "organizations");
+        if (organization == null) {
+            throw new ResourceNotFoundException("Organization", organizationId);
+        }
+        return organization.getList("volunteerProfiles", DBRef.class, List.of()).stream()
+            .map(DBRef::getId)
+            .toList();
+    }
+
+    private static Criteria filters(List<Object> profileIds, OrganizationVolunteerRequest request) {
+        Criteria criteria = Criteria.where("_id").in(profileIds);
+        if (StringUtils.hasText(request.getCity())) {
+            criteria.and("city").regex(exactly(request.getCity()));
+        }
+        if (StringUtils.hasText(request.getSkill())) {
+            criteria.and("skills.name").regex(exactly(request.getSkill()));
+        }
+        if (request.getMinRating() != null) {
+            criteria.and("averageRating").gte(request.getMinRating());
+        }
+        return criteria;
+    }
+
+    private static Pattern exactly(String value) {
+        return Pattern.compile("^" + Pattern.quote(value.trim()) + "$", Pattern.CASE_INSENSITIVE);
+    }
+
+    // Only the fields a row needs; the DBRef id is read with $getField since "$id" is not a valid path
+    private static List<AggregationOperation> joinUser() {
+        Document userId = new Document("$getField",
+            new Document("field", new Document("$literal", "$id")).append("input", "$user"));
+        Document lookup = new Document("from", "users")
+            .append("let", new Document("userId", userId))
+            .append("pipeline", List.of(
+                new Document("$match", new Document("$expr", new Document("$eq", List.of("$_id", "$$userId")))),
+                new Document("$project", new Document("firstName", 1).append("lastName", 1).append("email", 1))))
+            .append("as", ACCOUNT);
+        return List.of(
+            context -> new Document("$lookup", lookup),
+            context -> new Document("$unwind", new Document("path", "$" + ACCOUNT)
+                .append("preserveNullAndEmptyArrays", true)));
+    }
+
+    // Nulls sort first ascending and last descending, ties are broken by _id in the same direction
+    private static Criteria after(Order order, int direction, PageCursor cursor) {
+        String field = order.field();
+        Object id = ObjectId.isValid(cursor.id()) ? new ObjectId(cursor.id()) : cursor.id();
+        if (cursor.position() == null) {
+            return direction > 0
+                ? new Criteria().orOperator(
+                    Criteria.where(field).ne(null),
+                    Criteria.where(field).is(null).and("_id").gt(id))
+                : Criteria.where(field).is(null).and("_id").lt(id);
+        }
+        Object value;
+        try {
+            value = order.parser.apply(cursor.position());
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+        return direction > 0
+            ? new Criteria().orOperator(
+                Criteria.where(field).gt(value),
+                Criteria.where(field).is(value).and("_id").gt(id))
+            : new Criteria().orOperator(
+                Criteria.where(field).lt(value),
+                Criteria.where(field).is(value).and("_id").lt(id),
+                Criteria.where(field).is(null));
+    }
+}
@@ -0,0 +1,139 @@
+package com.fill_rouge.backend.service.ratelimit;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.config.RateLimitProperties;
+
+/**
+ * Sliding-window counter kept per key in a single {@link AtomicLong}, so a request costs
+ * one map lookup and one CAS. The previous window's count is weighted by how much of it
+ * still overlaps the sliding window, which avoids the burst allowed at fixed-window edges.
+ */
+@Component
+public class InMemoryRateLimiter implements RateLimiter {
+
+    // State layout: 24-bit window index | 20-bit previous window count | 20-bit current window count
+    static final int MAX_LIMIT = (1 << 20) - 1;
+    private static final long COUNT_MASK = MAX_LIMIT;
+    private static final long WINDOW_MASK = (1L << 24) - 1;
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxKeys;
+    private final LongSupplier clock;
+
+    @Autowired
+    public InMemoryRateLimiter(RateLimitProperties properties) {
+        this(properties.getMaxKeys(), System::currentTimeMillis);
+    }
+
+    InMemoryRateLimiter(int maxKeys, LongSupplier clock) {
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window) {
+        long windowMillis = window.toMillis();
+        if (windowMillis <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("Rate limit window and limit must be positive");
+        }
+        Window state = windows.get(key);
+        if (state == null) {
+            state = windows.computeIfAbsent(key, k -> new Window(windowMillis));
+            if (windows.size() > maxKeys) {
+                evict();
+            }
+        }
+        return state.tryAcquire(Math.min(limit, MAX_LIMIT), clock.getAsLong());
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        windows.values().removeIf(window -> window.isIdle(now));
+    }
+
+    int trackedKeys() {
+        return windows.size();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            evictIdle();
+            int excess = windows.size() - maxKeys;
+            if (excess > 0) {
+                // Still over budget: drop live keys too, leaving headroom so this doesn't run on every new key.
+                // Forgetting a key only ever makes the limiter more lenient for that client.
+                excess += maxKeys / 10;
+                Iterator<String> keys = windows.keySet().iterator();
+                while (excess-- > 0 && keys.hasNext()) {
+                    keys.next();
+                    keys.remove();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    static final class Window {
+        private final long windowMillis;
+        private final AtomicLong state = new AtomicLong();
+
+        Window(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        RateLimitDecision tryAcquire(int limit, long now) {
+            long index = now / windowMillis;
+            long slot = index & WINDOW_MASK;
+            long elapsed = now % windowMillis;
+            double previousWeight = 1.0 - (double) elapsed / windowMillis;
+
+            while (true) {
+                long current = state.get();
+                long storedSlot = current >>> 40;
+                long previous;
+                long count;
+                if (storedSlot == slot) {
+                    previous = (current >>> 20) & COUNT_MASK;
+                    count = current & COUNT_MASK;
+                } else if (storedSlot == ((index - 1) & WINDOW_MASK)) {
+                    previous = current & COUNT_MASK;
+                    count = 0;
+                } else {
+                    previous = 0;
+                    count = 0;
+                }
+
+                double estimated = previous * previousWeight + count;
+                if (estimated + 1 > limit) {
+                    return RateLimitDecision.rejected(windowMillis - elapsed);
+                }
+                long next = (slot << 40) | (previous << 20) | (count + 1);
+                if (state.compareAndSet(current, next)) {
+                    return RateLimitDecision.allowed((int) (limit - estimated - 1));
+                }
+            }
+        }
+
+        boolean isIdle(long now) {
+            long index = now / windowMillis;
+            long storedSlot = state.get() >>> 40;
+            return storedSlot != (index & WINDOW_MASK) && storedSlot != ((index - 1) & WINDOW_MASK);
+        }
+    }
+}
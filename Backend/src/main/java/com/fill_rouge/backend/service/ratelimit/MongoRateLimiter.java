@@ -0,0 +1,243 @@
+package com.fill_rouge.backend.service.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fill_rouge.backend.config.RateLimitProperties;
+import com.fill_rouge.backend.domain.RateLimitWindow;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shares the sliding-window counters between replicas through the {@code rate_limits}
+ * collection without putting Mongo on the request path. A request is decided from local
+ * state: this replica's unsynced count plus the shared totals read at the last sync, so it
+ * costs one map lookup and a short lock, and a rejection writes nothing. Every
+ * {@code rate-limit.sync-interval} the unsynced counts go out in one bulk {@code $inc} and the
+ * totals of the keys used since come back in one query. Until then each replica can admit up
+ * to the whole remaining budget, so a key can overshoot by what the other replicas let through
+ * within one interval. While Mongo is unreachable the limits are enforced per replica.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "rate-limit", name = "backend", havingValue = "mongo")
+public class MongoRateLimiter implements RateLimiter {
+
+    private static final int READ_BATCH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ConcurrentHashMap<String, SharedWindow> windows = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final LongSupplier clock;
+
+    @Autowired
+    public MongoRateLimiter(MongoTemplate mongoTemplate, RateLimitProperties properties) {
+        this(mongoTemplate, properties.getMaxKeys(), System::currentTimeMillis);
+    }
+
+    MongoRateLimiter(MongoTemplate mongoTemplate, int maxKeys, LongSupplier clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window) {
+        long windowMillis = window.toMillis();
+        if (windowMillis <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("Rate limit window and limit must be positive");
+        }
+        SharedWindow state = windows.get(key);
+        if (state == null) {
+            state = windows.computeIfAbsent(key, k -> new SharedWindow(k, windowMillis));
+        }
+        return state.tryAcquire(limit, clock.getAsLong());
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sync-interval:1000}")
+    public synchronized void sync() {
+        long now = clock.getAsLong();
+        List<Flush> flushes = new ArrayList<>();
+        for (SharedWindow window : windows.values()) {
+            window.collect(now, flushes);
+        }
+        if (flushes.isEmpty()) {
+            evictIdle(now);
+            return;
+        }
+        try {
+            write(flushes);
+        } catch (DataAccessException e) {
+            log.warn("Shared rate limit store unavailable, enforcing local limits only: {}", e.getMessage());
+            flushes.forEach(flush -> flush.window().restore(flush));
+            return;
+        }
+        Map<String, Long> totals;
+        try {
+            totals = read(flushes);
+        } catch (DataAccessException e) {
+            log.warn("Could not read shared rate limit totals: {}", e.getMessage());
+            totals = Map.of();
+        }
+        for (Flush flush : flushes) {
+            flush.window().synced(flush, totals.get(flush.id()));
+        }
+        evictIdle(now);
+    }
+
+    private void write(List<Flush> flushes) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RateLimitWindow.class);
+        boolean pending = false;
+        for (Flush flush : flushes) {
+            if (flush.amount() > 0) {
+                // Kept for one extra window so it can still be weighted in as the previous window
+                Instant expireAt = Instant.ofEpochMilli((flush.index() + 2) * flush.window().windowMillis);
+                operations.upsert(Query.query(Criteria.where("_id").is(flush.id())),
+                    new Update().inc("count", flush.amount()).setOnInsert("expireAt", expireAt));
+                pending = true;
+            }
+        }
+        if (pending) {
+            operations.execute();
+        }
+    }
+
+    private Map<String, Long> read(List<Flush> flushes) {
+        Map<String, Long> totals = new HashMap<>();
+        for (int from = 0; from < flushes.size(); from += READ_BATCH) {
+            List<String> ids = flushes.subList(from, Math.min(from + READ_BATCH, flushes.size())).stream()
+                .map(Flush::id)
+                .toList();
+            mongoTemplate.find(Query.query(Criteria.where("_id").in(ids)), RateLimitWindow.class)
+                .forEach(window -> totals.put(window.getId(), window.getCount()));
+        }
+        return totals;
+    }
+
+    // Runs right after a sync, so dropping a key never loses counts the other replicas need
+    private void evictIdle(long now) {
+        windows.values().removeIf(window -> window.isIdle(now));
+        int excess = windows.size() - maxKeys;
+        if (excess > 0) {
+            Iterator<SharedWindow> iterator = windows.values().iterator();
+            while (excess > 0 && iterator.hasNext()) {
+                if (!iterator.next().hasPending()) {
+                    iterator.remove();
+                    excess--;
+                }
+            }
+        }
+    }
+
+    private record Flush(SharedWindow window, Slot slot, long index, long amount) {
+        String id() {
+            return RateLimitWindow.idOf(window.key, index);
+        }
+    }
+
+    // One window of one key: the shared total seen at the last sync plus this replica's counts since
+    private static final class Slot {
+        private final long index;
+        private long shared;
+        private long flushing;
+        private long pending;
+
+        Slot(long index) {
+            this.index = index;
+        }
+
+        long total() {
+            return shared + flushing + pending;
+        }
+    }
+
+    private static final class SharedWindow {
+        private final String key;
+        private final long windowMillis;
+        private Slot current;
+        private Slot previous;
+        private boolean used;
+
+        SharedWindow(String key, long windowMillis) {
+            this.key = key;
+            this.windowMillis = windowMillis;
+            this.current = new Slot(-1);
+            this.previous = new Slot(-2);
+        }
+
+        synchronized RateLimitDecision tryAcquire(int limit, long now) {
+            roll(now / windowMillis);
+            used = true;
+            long elapsed = now % windowMillis;
+            double previousWeight = 1.0 - (double) elapsed / windowMillis;
+            double estimated = previous.total() * previousWeight + current.total();
+            if (estimated + 1 > limit) {
+                return RateLimitDecision.rejected(windowMillis - elapsed);
+            }
+            current.pending++;
+            return RateLimitDecision.allowed((int) (limit - estimated - 1));
+        }
+
+        // Hands out the unsynced counts, and asks for the totals of keys used since the last sync
+        synchronized void collect(long now, List<Flush> flushes) {
+            roll(now / windowMillis);
+            for (Slot slot : new Slot[] {previous, current}) {
+                if (slot.pending > 0 || used) {
+                    slot.flushing += slot.pending;
+                    flushes.add(new Flush(this, slot, slot.index, slot.pending));
+                    slot.pending = 0;
+                }
+            }
+            used = false;
+        }
+
+        synchronized void restore(Flush flush) {
+            flush.slot().flushing -= flush.amount();
+            flush.slot().pending += flush.amount();
+        }
+
+        synchronized void synced(Flush flush, Long total) {
+            Slot slot = flush.slot();
+            slot.flushing -= flush.amount();
+            // The read includes the counts just written; without one, keep them as seen locally
+            slot.shared = total != null ? Math.max(total, slot.shared + flush.amount()) : slot.shared + flush.amount();
+        }
+
+        // Neither window is still weighted in, so whatever was left unsynced no longer matters
+        synchronized boolean isIdle(long now) {
+            return current.index < now / windowMillis - 1;
+        }
+
+        synchronized boolean hasPending() {
+            return current.pending > 0 || previous.pending > 0;
+        }
+
+        private void roll(long index) {
+            if (index == current.index) {
+                return;
+            }
+            previous = index == current.index + 1 ? current : new Slot(index - 1);
+            current = new Slot(index);
+        }
+    }
+}
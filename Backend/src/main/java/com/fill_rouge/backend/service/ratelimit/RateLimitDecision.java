@@ -0,0 +1,16 @@
+package com.fill_rouge.backend.service.ratelimit;
+
+public record RateLimitDecision(boolean allowed, int remaining, long retryAfterMillis) {
+
+    public static RateLimitDecision allowed(int remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    public static RateLimitDecision rejected(long retryAfterMillis) {
+        return new RateLimitDecision(false, 0, retryAfterMillis);
+    }
+
+    public long retryAfterSeconds() {
+        return (retryAfterMillis + 999) / 1000;
+    }
+}
@@ -0,0 +1,13 @@
+package com.fill_rouge.backend.service.ratelimit;
+
+import java.time.Duration;
+
+public interface RateLimiter {
+
+    /**
+     * Records a request against {@code key} and reports whether it fits within
+     * {@code limit} requests per sliding {@code window}. A key is expected to be
+     * used with a single window length.
+     */
+    RateLimitDecision tryAcquire(String key, int limit, Duration window);
+}
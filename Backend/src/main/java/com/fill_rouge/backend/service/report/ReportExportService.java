@@ -1,5 +1,8 @@
 package com.fill_rouge.backend.service.report;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
 import com.fill_rouge.backend.dto.response.OrganizationReportResponse;
 import com.fill_rouge.backend.dto.response.VolunteerReportResponse;
 import com.itextpdf.text.*;
@@ -9,41 +12,128 @@ import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
+@RequiredArgsConstructor
 public class ReportExportService {
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
 
     public byte[] exportVolunteerReport(VolunteerReportResponse report, String format) {
-        return switch (format.toUpperCase()) {
-            case "PDF" -> exportVolunteerReportToPdf(report);
-            case "EXCEL" -> exportVolunteerReportToExcel(report);
-            case "CSV" -> exportVolunteerReportToCsv(report);
-            default -> throw new IllegalArgumentException("Unsupported format: " + format);
-        };
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        exportVolunteerReport(report, format, baos);
+        return baos.toByteArray();
     }
 
     public byte[] exportOrganizationReport(OrganizationReportResponse report, String format) {
-        return switch (format.toUpperCase()) {
-            case "PDF" -> exportOrganizationReportToPdf(report);
-            case "EXCEL" -> exportOrganizationReportToExcel(report);
-            case "CSV" -> exportOrganizationReportToCsv(report);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        exportOrganizationReport(report, format, baos);
+        return baos.toByteArray();
+    }
+
+    public void exportVolunteerReport(VolunteerReportResponse report, String format, OutputStream out) {
+        switch (format.toUpperCase()) {
+            case "PDF" -> exportVolunteerReportToPdf(report, out);
+            case "EXCEL" -> exportVolunteerReportToExcel(report, out);
+            case "CSV" -> exportVolunteerReportToCsv(report, out);
+            default -> throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+
+    public void exportOrganizationReport(OrganizationReportResponse report, String format, OutputStream out) {
+        switch (format.toUpperCase()) {
+            case "PDF" -> exportOrganizationReportToPdf(report, out);
+            case "EXCEL" -> exportOrganizationReportToExcel(report, out);
+            case "CSV" -> exportOrganizationReportToCsv(report, out);
+            default -> throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+
+    /**
+     * Writes one row per participation in the organization's events, reading participations
+     * through a cursor so memory use does not grow with the number of rows.
+     */
+    public void exportOrganizationParticipations(String organizationId, LocalDateTime startDate,
+                                                 LocalDateTime endDate, String format, OutputStream out) {
+        boolean ndjson = switch (format.toUpperCase()) {
+            case "CSV" -> false;
+            case "NDJSON" -> true;
             default -> throw new IllegalArgumentException("Unsupported format: " + format);
         };
+
+        Criteria eventCriteria = Criteria.where("organizationId").is(organizationId);
+        if (startDate != null && endDate != null) {
+            eventCriteria = eventCriteria.and("startDate").gte(startDate).lte(endDate);
+        }
+        Query eventQuery = Query.query(eventCriteria);
+        eventQuery.fields().include("title", "category", "startDate");
+        Map<String, Event> events = new HashMap<>();
+        try (Stream<Event> stream = mongoTemplate.stream(eventQuery, Event.class)) {
+            stream.forEach(event -> events.put(event.getId(), event));
+        }
+
+        Query participationQuery = Query.query(Criteria.where("eventId").in(events.keySet()))
+                .with(Sort.by("eventId", "_id"))
+                .cursorBatchSize(EXPORT_BATCH_SIZE);
+        // Leave the DBRefs out so each row is not resolved into its event and volunteer
+        participationQuery.fields().include("eventId", "volunteerId", "status", "registeredAt",
+                "checkInTime", "checkOutTime", "hours", "rating");
+
+        try (Stream<EventParticipation> participations = mongoTemplate.stream(participationQuery, EventParticipation.class)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (!ndjson) {
+                writer.write("Event ID,Event Title,Category,Event Start,Volunteer ID,Status,Registered At,Check In,Check Out,Hours,Rating\n");
+            }
+            int rows = 0;
+            for (EventParticipation participation : (Iterable<EventParticipation>) participations::iterator) {
+                ParticipationExportRow row = ParticipationExportRow.of(participation, events.get(participation.getEventId()));
+                writer.write(ndjson ? objectMapper.writeValueAsString(row) : row.toCsv());
+                writer.write('\n');
+                if (++rows % EXPORT_BATCH_SIZE == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export participations", e);
+        }
     }
 
-    private byte[] exportVolunteerReportToPdf(VolunteerReportResponse report) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+    private void exportVolunteerReportToPdf(VolunteerReportResponse report, OutputStream out) {
+        try {
             Document document = new Document();
-            PdfWriter.getInstance(document, baos);
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            // The caller owns the stream, e.g. the servlet response
+            writer.setCloseStream(false);
             document.open();
 
             // Add title
@@ -79,17 +169,18 @@ public class ReportExportService {
             document.add(categoryTable);
 
             document.close();
-            return baos.toByteArray();
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate PDF report", e);
         }
     }
 
-    private byte[] exportVolunteerReportToExcel(VolunteerReportResponse report) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+    private void exportVolunteerReportToExcel(VolunteerReportResponse report, OutputStream out) {
+        // Only ROW_ACCESS_WINDOW rows per sheet stay in memory, the rest are flushed to a temp file
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        try {
             
-            Sheet sheet = workbook.createSheet("Volunteer Report");
+            SXSSFSheet sheet = workbook.createSheet("Volunteer Report");
+            sheet.trackAllColumnsForAutoSizing();
             int rowNum = 0;
 
             // Create header style
@@ -140,31 +231,32 @@ public class ReportExportService {
                 sheet.autoSizeColumn(i);
             }
 
-            workbook.write(baos);
-            return baos.toByteArray();
+            workbook.write(out);
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate Excel report", e);
+        } finally {
+            workbook.dispose();
         }
     }
 
-    private byte[] exportVolunteerReportToCsv(VolunteerReportResponse report) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            StringBuilder csv = new StringBuilder();
+    private void exportVolunteerReportToCsv(VolunteerReportResponse report, OutputStream out) {
+        try {
+            Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
 
             // Add header
             csv.append("Volunteer Report\n");
             csv.append("Generated on: ").append(DATE_FORMATTER.format(report.getReportGeneratedAt())).append("\n\n");
 
             // Add volunteer info
-            csv.append("Volunteer Name,").append(report.getVolunteerName()).append("\n");
-            csv.append("Total Events Attended,").append(report.getTotalEventsAttended()).append("\n");
-            csv.append("Total Hours Contributed,").append(report.getTotalHoursContributed()).append("\n");
+            csv.append("Volunteer Name,").append(escapeCsv(report.getVolunteerName())).append("\n");
+            csv.append("Total Events Attended,").append(String.valueOf(report.getTotalEventsAttended())).append("\n");
+            csv.append("Total Hours Contributed,").append(String.valueOf(report.getTotalHoursContributed())).append("\n");
             csv.append("Average Rating,").append(String.format("%.2f", report.getAverageRating())).append("\n\n");
 
             // Add skills
             csv.append("Top Skills\n");
             for (String skill : report.getTopSkills()) {
-                csv.append(skill).append("\n");
+                csv.append(escapeCsv(skill)).append("\n");
             }
             csv.append("\n");
 
@@ -172,10 +264,10 @@ public class ReportExportService {
             csv.append("Events by Category\n");
             csv.append("Category,Count\n");
             for (Map.Entry<String, Integer> entry : report.getEventsByCategory().entrySet()) {
-                csv.append(entry.getKey()).append(",").append(entry.getValue()).append("\n");
+                csv.append(escapeCsv(entry.getKey())).append(",").append(String.valueOf(entry.getValue())).append("\n");
             }
 
-            return baos.toString().getBytes();
+            csv.flush();
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate CSV report", e);
         }
@@ -194,10 +286,12 @@ public class ReportExportService {
         row.createCell(1).setCellValue(value);
     }
 
-    private byte[] exportOrganizationReportToPdf(OrganizationReportResponse report) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+    private void exportOrganizationReportToPdf(OrganizationReportResponse report, OutputStream out) {
+        try {
             Document document = new Document();
-            PdfWriter.getInstance(document, baos);
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            // The caller owns the stream, e.g. the servlet response
+            writer.setCloseStream(false);
             document.open();
 
             // Add title
@@ -270,15 +364,15 @@ public class ReportExportService {
             document.add(additionalTable);
 
             document.close();
-            return baos.toByteArray();
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate PDF report", e);
         }
     }
 
-    private byte[] exportOrganizationReportToExcel(OrganizationReportResponse report) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+    private void exportOrganizationReportToExcel(OrganizationReportResponse report, OutputStream out) {
+        // Only ROW_ACCESS_WINDOW rows per sheet stay in memory, the rest are flushed to a temp file
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        try {
             
             // Create styles
             CellStyle headerStyle = createHeaderStyle(workbook);
@@ -394,10 +488,11 @@ public class ReportExportService {
                 valueCell.setCellStyle(numberStyle);
             }
 
-            workbook.write(baos);
-            return baos.toByteArray();
+            workbook.write(out);
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate Excel report", e);
+        } finally {
+            workbook.dispose();
         }
     }
 
@@ -475,9 +570,9 @@ public class ReportExportService {
         valueCell.setCellStyle(style);
     }
 
-    private byte[] exportOrganizationReportToCsv(OrganizationReportResponse report) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            StringBuilder csv = new StringBuilder();
+    private void exportOrganizationReportToCsv(OrganizationReportResponse report, OutputStream out) {
+        try {
+            Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
 
             // Header
             csv.append("Organization Report\n");
@@ -485,7 +580,7 @@ public class ReportExportService {
 
             // Organization Info
             csv.append("Organization Information\n");
-            csv.append("Organization Name,").append(report.getOrganizationName()).append("\n");
+            csv.append("Organization Name,").append(escapeCsv(report.getOrganizationName())).append("\n");
             csv.append("Report Period,")
                .append(DATE_FORMATTER.format(report.getPeriodStart()))
                .append(" to ")
@@ -494,23 +589,23 @@ public class ReportExportService {
 
             // Key Statistics
             csv.append("Key Statistics\n");
-            csv.append("Total Events Hosted,").append(report.getTotalEventsHosted()).append("\n");
-            csv.append("Total Volunteers Engaged,").append(report.getTotalVolunteersEngaged()).append("\n");
-            csv.append("Total Volunteer Hours,").append(report.getTotalVolunteerHours()).append("\n");
+            csv.append("Total Events Hosted,").append(String.valueOf(report.getTotalEventsHosted())).append("\n");
+            csv.append("Total Volunteers Engaged,").append(String.valueOf(report.getTotalVolunteersEngaged())).append("\n");
+            csv.append("Total Volunteer Hours,").append(String.valueOf(report.getTotalVolunteerHours())).append("\n");
             csv.append("Average Event Rating,").append(String.format("%.2f", report.getAverageEventRating())).append("\n\n");
 
             // Events by Category
             csv.append("Events by Category\n");
             csv.append("Category,Count\n");
             for (Map.Entry<String, Integer> entry : report.getEventsByCategory().entrySet()) {
-                csv.append(entry.getKey()).append(",").append(entry.getValue()).append("\n");
+                csv.append(escapeCsv(entry.getKey())).append(",").append(String.valueOf(entry.getValue())).append("\n");
             }
             csv.append("\n");
 
             // Most Requested Skills
             csv.append("Most Requested Skills\n");
             for (String skill : report.getMostRequestedSkills()) {
-                csv.append(skill).append("\n");
+                csv.append(escapeCsv(skill)).append("\n");
             }
             csv.append("\n");
 
@@ -518,7 +613,7 @@ public class ReportExportService {
             csv.append("Impact Metrics\n");
             csv.append("Metric,Value\n");
             for (Map.Entry<String, Double> entry : report.getImpactMetrics().entrySet()) {
-                csv.append(entry.getKey()).append(",").append(String.format("%.2f", entry.getValue())).append("\n");
+                csv.append(escapeCsv(entry.getKey())).append(",").append(String.format("%.2f", entry.getValue())).append("\n");
             }
             csv.append("\n");
 
@@ -526,12 +621,68 @@ public class ReportExportService {
             csv.append("Additional Statistics\n");
             csv.append("Metric,Value\n");
             for (Map.Entry<String, Object> entry : report.getAdditionalStats().entrySet()) {
-                csv.append(entry.getKey()).append(",").append(entry.getValue().toString()).append("\n");
+                csv.append(escapeCsv(entry.getKey())).append(",").append(escapeCsv(String.valueOf(entry.getValue()))).append("\n");
             }
 
-            return csv.toString().getBytes();
+            csv.flush();
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate CSV report", e);
         }
     }
-} 
\ No newline at end of file
+
+    public static String contentType(String format) {
+        return switch (format.toUpperCase()) {
+            case "PDF" -> "application/pdf";
+            case "EXCEL" -> "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+            case "CSV" -> "text/csv";
+            case "NDJSON" -> "application/x-ndjson";
+            default -> "application/octet-stream";
+        };
+    }
+
+    public static String fileExtension(String format) {
+        return "EXCEL".equalsIgnoreCase(format) ? "xlsx" : format.toLowerCase();
+    }
+
+    static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    record ParticipationExportRow(String eventId, String eventTitle, String eventCategory, LocalDateTime eventStart,
+                                  String volunteerId, String status, LocalDateTime registeredAt,
+                                  LocalDateTime checkInTime, LocalDateTime checkOutTime, Integer hours, Integer rating) {
+
+        static ParticipationExportRow of(EventParticipation participation, Event event) {
+            return new ParticipationExportRow(
+                participation.getEventId(),
+                event != null ? event.getTitle() : null,
+                event != null && event.getCategory() != null ? event.getCategory().name() : null,
+                event != null ? event.getStartDate() : null,
+                participation.getVolunteerId(),
+                participation.getStatus() != null ? participation.getStatus().name() : null,
+                participation.getRegisteredAt(),
+                participation.getCheckInTime(),
+                participation.getCheckOutTime(),
+                participation.getHours(),
+                participation.getRating());
+        }
+
+        String toCsv() {
+            return String.join(",",
+                escapeCsv(eventId), escapeCsv(eventTitle), escapeCsv(eventCategory), format(eventStart),
+                escapeCsv(volunteerId), escapeCsv(status), format(registeredAt),
+                format(checkInTime), format(checkOutTime),
+                hours != null ? hours.toString() : "", rating != null ? rating.toString() : "");
+        }
+
+        private static String format(LocalDateTime value) {
+            return value != null ? DATE_FORMATTER.format(value) : "";
+        }
+    }
+}
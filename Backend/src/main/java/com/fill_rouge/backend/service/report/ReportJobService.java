@@ -0,0 +1,13 @@
+package com.fill_rouge.backend.service.report;
+
+import java.io.OutputStream;
+
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.dto.request.ReportJobRequest;
+import com.fill_rouge.backend.dto.response.ReportJobResponse;
+
+public interface ReportJobService {
+    ReportJobResponse submit(ReportJobRequest request, User caller);
+    ReportJobResponse getJob(String jobId, User caller);
+    void writeResult(String jobId, User caller, OutputStream out);
+}
@@ -0,0 +1,425 @@
+package com.fill_rouge.backend.service.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import com.fill_rouge.backend.annotation.ClusterJob;
+import com.fill_rouge.backend.config.ReportJobProperties;
+import com.fill_rouge.backend.constant.ReportJobStatus;
+import com.fill_rouge.backend.constant.ReportJobType;
+import com.fill_rouge.backend.constant.Role;
+import com.fill_rouge.backend.domain.ReportJob;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.dto.request.ReportJobRequest;
+import com.fill_rouge.backend.dto.response.ReportJobResponse;
+import com.fill_rouge.backend.exception.ResourceNotFoundException;
+import com.fill_rouge.backend.exception.ValidationException;
+import com.fill_rouge.backend.repository.ReportJobRepository;
+import com.fill_rouge.backend.service.storage.GridFsService;
+import com.google.common.io.CountingOutputStream;
+import com.mongodb.client.gridfs.GridFSUploadStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs report exports from the report_jobs queue on a bounded worker pool and stores the
+ * generated files in GridFS. Workers hold a renewable lease on the jobs they run, so queued
+ * work and the jobs of a stopped instance are resumed after a restart.
+ */
+@Slf4j
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final Duration JOB_RETENTION = Duration.ofDays(7);
+
+    private final ReportJobRepository reportJobRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ReportService reportService;
+    private final GridFsService gridFsService;
+    private final ReportJobProperties properties;
+    private final Executor executor;
+    private final Semaphore workers;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    private final String instanceId = UUID.randomUUID().toString();
+    private String lastTenant = ""; // only touched by the scheduler thread
+
+    public ReportJobServiceImpl(ReportJobRepository reportJobRepository,
+                                MongoTemplate mongoTemplate,
+                                ReportService reportService,
+                                GridFsService gridFsService,
+                                ReportJobProperties properties,
+                                @Qualifier("reportJobExecutor") Executor executor) {
+        this.reportJobRepository = reportJobRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.reportService = reportService;
+        this.gridFsService = gridFsService;
+        this.properties = properties;
+        this.executor = executor;
+        this.workers = new Semaphore(properties.getWorkers());
+    }
+
+    @Override
+    public ReportJobResponse submit(ReportJobRequest request, User caller) {
+        reportService.checkExportAccess(caller, request.getType(), request.getSubjectId());
+        String format = request.getFormat().toUpperCase();
+        if (!request.getType().supports(format)) {
+            throw new ValidationException("Format " + format + " is not available for " + request.getType() + " reports");
+        }
+
+        // Two attempts: an identical job may finish between our insert and the lookup
+        for (int attempt = 0; attempt < 2; attempt++) {
+            ReportJob job = newJob(request, format, caller.getId());
+            try {
+                return toResponse(reportJobRepository.insert(job), false);
+            } catch (DuplicateKeyException e) {
+                Optional<ReportJob> existing = joinActiveJob(job.getActiveKey(), caller.getId());
+                if (existing.isPresent()) {
+                    return toResponse(existing.get(), true);
+                }
+            }
+        }
+        throw new IllegalStateException("Could not queue report job for " + request.getSubjectId());
+    }
+
+    @Override
+    public ReportJobResponse getJob(String jobId, User caller) {
+        return toResponse(findJob(jobId, caller), false);
+    }
+
+    @Override
+    public void writeResult(String jobId, User caller, OutputStream out) {
+        ReportJob job = findJob(jobId, caller);
+        if (job.getStatus() != ReportJobStatus.COMPLETED || job.getFileId() == null) {
+            throw new ResourceNotFoundException("No report file available for job: " + jobId);
+        }
+        try {
+            GridFsResource resource = gridFsService.getAsResource(job.getFileId());
+            if (resource == null) {
+                throw new ResourceNotFoundException("Report file not found for job: " + jobId);
+            }
+            try (InputStream in = resource.getInputStream()) {
+                in.transferTo(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read report file for job " + jobId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report-jobs.poll-interval:2000}")
+    public void dispatch() {
+        while (workers.tryAcquire()) {
+            ReportJob job = claimNext();
+            if (job == null) {
+                workers.release();
+                return;
+            }
+            runningJobs.add(job.getId());
+            try {
+                executor.execute(() -> {
+                    try {
+                        run(job);
+                    } finally {
+                        runningJobs.remove(job.getId());
+                        workers.release();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                runningJobs.remove(job.getId());
+                workers.release();
+                requeue(job);
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 30000)
+    public void renewLeases() {
+        if (runningJobs.isEmpty()) {
+            return;
+        }
+        Query owned = Query.query(Criteria.where("_id").in(runningJobs)
+            .and("leaseOwner").is(instanceId)
+            .and("status").is(ReportJobStatus.RUNNING));
+        mongoTemplate.updateMulti(owned, new Update().set("leaseExpiresAt", leaseExpiry()), ReportJob.class);
+    }
+
+    @Scheduled(fixedDelay = 900000)
+    @ClusterJob(value = "report-results-purge", interval = "900000")
+    public void purgeExpiredResults() {
+        LocalDateTime now = LocalDateTime.now();
+        Query expired = Query.query(Criteria.where("status").is(ReportJobStatus.COMPLETED).and("expiresAt").lt(now));
+        for (ReportJob job : mongoTemplate.find(expired, ReportJob.class)) {
+            try {
+                gridFsService.delete(job.getFileId());
+            } catch (RuntimeException e) {
+                log.warn("Could not delete report file {} of job {}: {}", job.getFileId(), job.getId(), e.getMessage());
+            }
+            mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(job.getId()).and("status").is(ReportJobStatus.COMPLETED)),
+                new Update().set("status", ReportJobStatus.EXPIRED).unset("fileId"),
+                ReportJob.class);
+        }
+
+        // Jobs whose last attempt was lost with its worker will never be claimed again
+        mongoTemplate.updateMulti(
+            Query.query(Criteria.where("status").is(ReportJobStatus.RUNNING)
+                .and("leaseExpiresAt").lt(now)
+                .and("attempts").gte(properties.getMaxAttempts())),
+            new Update().set("status", ReportJobStatus.FAILED)
+                .set("error", "Worker stopped before the report was finished")
+                .set("completedAt", now)
+                .unset("activeKey")
+                .unset("leaseOwner"),
+            ReportJob.class);
+
+        mongoTemplate.remove(
+            Query.query(Criteria.where("status").in(ReportJobStatus.FAILED, ReportJobStatus.EXPIRED)
+                .and("completedAt").lt(now.minus(JOB_RETENTION))),
+            ReportJob.class);
+    }
+
+    private ReportJob claimNext() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> tenants = mongoTemplate.findDistinct(
+            Query.query(claimable(now)), "tenantId", ReportJob.class, String.class);
+        if (tenants.isEmpty()) {
+            return null;
+        }
+
+        // Round-robin over tenants, starting after the one served last, so a tenant
+        // with a long queue cannot starve the others
+        Collections.sort(tenants);
+        int start = 0;
+        while (start < tenants.size() && tenants.get(start).compareTo(lastTenant) <= 0) {
+            start++;
+        }
+        for (int i = 0; i < tenants.size(); i++) {
+            String tenant = tenants.get((start + i) % tenants.size());
+            if (runningCount(tenant, now) >= properties.getPerTenantConcurrency()) {
+                continue;
+            }
+            Query query = Query.query(claimable(now).and("tenantId").is(tenant)).with(Sort.by("createdAt"));
+            Update update = new Update()
+                .set("status", ReportJobStatus.RUNNING)
+                .set("leaseOwner", instanceId)
+                .set("leaseExpiresAt", leaseExpiry())
+                .set("startedAt", now)
+                .set("progress", 0)
+                .inc("attempts", 1);
+            ReportJob job = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), ReportJob.class);
+            if (job != null) {
+                lastTenant = tenant;
+                return job;
+            }
+        }
+        return null;
+    }
+
+    private Criteria claimable(LocalDateTime now) {
+        return new Criteria().orOperator(
+                Criteria.where("status").is(ReportJobStatus.QUEUED).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(ReportJobStatus.RUNNING).and("leaseExpiresAt").lt(now))
+            .and("attempts").lt(properties.getMaxAttempts());
+    }
+
+    private long runningCount(String tenant, LocalDateTime now) {
+        return mongoTemplate.count(Query.query(Criteria.where("tenantId").is(tenant)
+            .and("status").is(ReportJobStatus.RUNNING)
+            .and("leaseExpiresAt").gt(now)), ReportJob.class);
+    }
+
+    private void run(ReportJob job) {
+        String fileName = job.getType().name().toLowerCase().replace('_', '-') + "-report-" + job.getSubjectId()
+            + "." + ReportExportService.fileExtension(job.getFormat());
+        String contentType = ReportExportService.contentType(job.getFormat());
+        Document metadata = new Document("fileType", "report").append("reportJobId", job.getId());
+
+        log.info("Running report job {} ({} {} for {}), attempt {}",
+            job.getId(), job.getType(), job.getFormat(), job.getSubjectId(), job.getAttempts());
+        GridFSUploadStream upload = gridFsService.openUploadStream(fileName, contentType, metadata);
+        CountingOutputStream out = new CountingOutputStream(upload);
+        try {
+            updateProgress(job, 10);
+            generate(job, out);
+            updateProgress(job, 90);
+            upload.close();
+        } catch (RuntimeException e) {
+            try {
+                upload.abort();
+            } catch (RuntimeException abortFailure) {
+                log.warn("Could not discard partial upload of report job {}", job.getId(), abortFailure);
+            }
+            handleFailure(job, e);
+            return;
+        }
+        complete(job, upload.getObjectId().toHexString(), fileName, contentType, out.getCount());
+    }
+
+    private void generate(ReportJob job, OutputStream out) {
+        switch (job.getType()) {
+            case VOLUNTEER -> reportService.prepareVolunteerReportExport(job.getSubjectId(), job.getFormat()).accept(out);
+            case ORGANIZATION -> reportService.prepareOrganizationReportExport(job.getSubjectId(), job.getFormat()).accept(out);
+            case ORGANIZATION_PARTICIPATIONS -> reportService.prepareOrganizationParticipationsExport(
+                job.getSubjectId(), job.getPeriodStart(), job.getPeriodEnd(), job.getFormat()).accept(out);
+        }
+    }
+
+    private void complete(ReportJob job, String fileId, String fileName, String contentType, long fileSize) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+            .set("status", ReportJobStatus.COMPLETED)
+            .set("progress", 100)
+            .set("completedAt", now)
+            .set("fileId", fileId)
+            .set("fileName", fileName)
+            .set("contentType", contentType)
+            .set("fileSize", fileSize)
+            .set("expiresAt", now.plus(properties.getResultTtl()))
+            .unset("error")
+            .unset("activeKey")
+            .unset("leaseOwner")
+            .unset("leaseExpiresAt");
+        if (mongoTemplate.updateFirst(owned(job), update, ReportJob.class).getModifiedCount() == 0) {
+            // The lease ran out and another worker took the job over; its copy wins
+            log.warn("Report job {} lost its lease before completing, discarding file {}", job.getId(), fileId);
+            gridFsService.delete(fileId);
+            return;
+        }
+        log.info("Report job {} completed: {} bytes stored as {}", job.getId(), fileSize, fileId);
+    }
+
+    private void handleFailure(ReportJob job, RuntimeException e) {
+        boolean retry = !(e instanceof ResourceNotFoundException) && job.getAttempts() < properties.getMaxAttempts();
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+            .set("error", e.getMessage())
+            .unset("leaseOwner")
+            .unset("leaseExpiresAt");
+        if (retry) {
+            Duration backoff = properties.getRetryBackoff().multipliedBy(1L << (job.getAttempts() - 1));
+            update.set("status", ReportJobStatus.QUEUED)
+                .set("progress", 0)
+                .set("nextAttemptAt", now.plus(backoff));
+            log.warn("Report job {} failed on attempt {}, retrying in {}s: {}",
+                job.getId(), job.getAttempts(), backoff.toSeconds(), e.getMessage());
+        } else {
+            update.set("status", ReportJobStatus.FAILED)
+                .set("completedAt", now)
+                .unset("activeKey");
+            log.error("Report job {} failed after {} attempts", job.getId(), job.getAttempts(), e);
+        }
+        mongoTemplate.updateFirst(owned(job), update, ReportJob.class);
+    }
+
+    private void requeue(ReportJob job) {
+        mongoTemplate.updateFirst(owned(job), new Update()
+            .set("status", ReportJobStatus.QUEUED)
+            .unset("leaseOwner")
+            .unset("leaseExpiresAt")
+            .inc("attempts", -1), ReportJob.class);
+    }
+
+    private void updateProgress(ReportJob job, int progress) {
+        mongoTemplate.updateFirst(owned(job), new Update()
+            .set("progress", progress)
+            .set("leaseExpiresAt", leaseExpiry()), ReportJob.class);
+    }
+
+    private Query owned(ReportJob job) {
+        return Query.query(Criteria.where("_id").is(job.getId())
+            .and("leaseOwner").is(instanceId)
+            .and("status").is(ReportJobStatus.RUNNING));
+    }
+
+    private LocalDateTime leaseExpiry() {
+        return LocalDateTime.now().plus(properties.getLease());
+    }
+
+    private ReportJob findJob(String jobId, User caller) {
+        ReportJob job = reportJobRepository.findById(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("Report job not found: " + jobId));
+        boolean allowed = caller != null && (caller.getRole() == Role.ADMIN
+            || caller.getId().equals(job.getRequestedBy())
+            || (job.getSharedWith() != null && job.getSharedWith().contains(caller.getId())));
+        if (!allowed) {
+            throw new AccessDeniedException("Not allowed to access report job " + jobId);
+        }
+        return job;
+    }
+
+    private Optional<ReportJob> joinActiveJob(String activeKey, String userId) {
+        Query query = Query.query(Criteria.where("activeKey").is(activeKey));
+        Update update = new Update().addToSet("sharedWith", userId);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+            FindAndModifyOptions.options().returnNew(true), ReportJob.class));
+    }
+
+    private ReportJob newJob(ReportJobRequest request, String format, String requestedBy) {
+        boolean dated = request.getType() == ReportJobType.ORGANIZATION_PARTICIPATIONS;
+        LocalDateTime start = dated ? request.getStartDate() : null;
+        LocalDateTime end = dated ? request.getEndDate() : null;
+        LocalDateTime now = LocalDateTime.now();
+        return ReportJob.builder()
+            .type(request.getType())
+            .subjectId(request.getSubjectId())
+            .tenantId(request.getSubjectId())
+            .format(format)
+            .periodStart(start)
+            .periodEnd(end)
+            .requestedBy(requestedBy)
+            .activeKey(String.join("|", request.getType().name(), request.getSubjectId(), format,
+                String.valueOf(start), String.valueOf(end)))
+            .status(ReportJobStatus.QUEUED)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .build();
+    }
+
+    private ReportJobResponse toResponse(ReportJob job, boolean deduplicated) {
+        return ReportJobResponse.builder()
+            .jobId(job.getId())
+            .type(job.getType())
+            .subjectId(job.getSubjectId())
+            .format(job.getFormat())
+            .status(job.getStatus())
+            .progress(job.getProgress())
+            .attempts(job.getAttempts())
+            .deduplicated(deduplicated)
+            .error(job.getError())
+            .createdAt(job.getCreatedAt())
+            .startedAt(job.getStartedAt())
+            .completedAt(job.getCompletedAt())
+            .fileName(job.getFileName())
+            .fileSize(job.getFileId() != null ? job.getFileSize() : null)
+            .expiresAt(job.getExpiresAt())
+            .build();
+    }
+}
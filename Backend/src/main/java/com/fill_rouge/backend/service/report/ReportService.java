@@ -1,13 +1,17 @@
 package com.fill_rouge.backend.service.report;
 
+import com.fill_rouge.backend.constant.ReportJobType;
+import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.dto.request.CustomReportRequest;
 import com.fill_rouge.backend.dto.response.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface ReportService {
     // Core Report Generation
@@ -23,6 +27,13 @@ public interface ReportService {
     // Report Export
     byte[] exportVolunteerReport(String volunteerId, String format);
     byte[] exportOrganizationReport(String organizationId, String format);
+    // Throws AccessDeniedException unless the caller's role and account may export reports about the subject
+    void checkExportAccess(User caller, ReportJobType type, String subjectId);
+    // Validate the format and load the subject up front; the returned writer only serializes
+    Consumer<OutputStream> prepareVolunteerReportExport(String volunteerId, String format);
+    Consumer<OutputStream> prepareOrganizationReportExport(String organizationId, String format);
+    Consumer<OutputStream> prepareOrganizationParticipationsExport(String organizationId, LocalDateTime startDate,
+                                                                   LocalDateTime endDate, String format);
     CompletableFuture<byte[]> exportVolunteerReportAsync(String volunteerId, String format);
     CompletableFuture<byte[]> exportOrganizationReportAsync(String organizationId, String format);
     
@@ -1,26 +1,35 @@
 package com.fill_rouge.backend.service.report;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.constant.ReportJobType;
+import com.fill_rouge.backend.constant.Role;
 import com.fill_rouge.backend.domain.Event;
 import com.fill_rouge.backend.domain.EventFeedback;
 import com.fill_rouge.backend.domain.Skill;
+import com.fill_rouge.backend.domain.StatisticsRollup;
+import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.dto.CategoryStatsDTO;
 import com.fill_rouge.backend.dto.request.CustomReportRequest;
 import com.fill_rouge.backend.dto.response.CustomReportResponse;
@@ -33,13 +42,17 @@ import com.fill_rouge.backend.dto.response.SkillsMatchingReportResponse;
 import com.fill_rouge.backend.dto.response.TrendReportResponse;
 import com.fill_rouge.backend.dto.response.VolunteerReportResponse;
 import com.fill_rouge.backend.exception.ResourceNotFoundException;
-import com.fill_rouge.backend.repository.EventFeedbackRepository;
+import com.fill_rouge.backend.exception.ValidationException;
 import com.fill_rouge.backend.repository.EventRepository;
 import com.fill_rouge.backend.repository.OrganizationRepository;
 import com.fill_rouge.backend.repository.ReportRepository;
+import com.fill_rouge.backend.repository.StreamingQueries;
 import com.fill_rouge.backend.repository.VolunteerProfileRepository;
 import com.fill_rouge.backend.service.event.EventService;
 import com.fill_rouge.backend.service.event.EventStatisticsService;
+import com.fill_rouge.backend.service.skill.SkillIndex;
+import com.fill_rouge.backend.service.statistics.EventRangeStats;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
 import com.fill_rouge.backend.service.volunteer.VolunteerProfileService;
 import com.fill_rouge.backend.util.ReportCalculationUtil;
 
@@ -49,15 +62,19 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReportServiceImpl implements ReportService {
 
+    private static final int HIGH_DEMAND_SKILLS = 10;
+
     private final EventService eventService;
     private final EventStatisticsService eventStatisticsService;
     private final VolunteerProfileService volunteerProfileService;
     private final EventRepository eventRepository;
     private final VolunteerProfileRepository volunteerProfileRepository;
     private final OrganizationRepository organizationRepository;
-    private final EventFeedbackRepository feedbackRepository;
     private final ReportExportService reportExportService;
     private final ReportRepository reportRepository;
+    private final StatisticsRollupService rollupService;
+    private final StreamingQueries streamingQueries;
+    private final SkillIndex skillIndex;
 
     @Override
     @Cacheable(value = "volunteerReports", key = "#volunteerId + #startDate + #endDate")
@@ -203,11 +220,12 @@ public class ReportServiceImpl implements ReportService {
     @Override
     @Cacheable(value = "dashboardReports")
     public DashboardOverviewResponse generateDashboardOverview() {
+        StatisticsRollup platform = rollupService.getPlatformRollup();
         Map<String, Object> metrics = ReportCalculationUtil.calculateBasicStats(
-            calculateTotalParticipants(),
-            calculateOverallAverageRating(),
+            platform.getRegisteredParticipants(),
+            platform.getAverageFeedbackRating(),
             calculateTotalVolunteerHours(),
-            calculateOverallSuccessRate()
+            platform.getCompletionRate()
         );
 
         return DashboardOverviewResponse.builder()
@@ -221,7 +239,6 @@ public class ReportServiceImpl implements ReportService {
                 .build();
     }
 
-    @Scheduled(cron = "0 0 * * * *") // Every hour
     @CacheEvict(value = {
         "volunteerReports", 
         "organizationReports", 
@@ -249,12 +266,19 @@ public class ReportServiceImpl implements ReportService {
     @Override
     @Cacheable(value = "skillsReports")
     public SkillsMatchingReportResponse generateSkillsMatchingReport() {
+        SkillIndex.Snapshot index = skillIndex.current();
         return SkillsMatchingReportResponse.builder()
                 .id(UUID.randomUUID().toString())
                 .generatedAt(LocalDateTime.now())
-                .skillDemand(calculateSkillDemand())
-                .skillSupply(calculateSkillSupply())
-                .matchingMetrics(calculateSkillMatchingMetrics())
+                .skillDemand(index.demandBySkill())
+                .skillSupply(index.supplyBySkill())
+                .highDemandSkills(findHighDemandSkills(index))
+                .matchingMetrics(calculateSkillCoverage(index))
+                .skillGaps(findSkillGapsByCity(index))
+                .additionalMetrics(Map.of(
+                    "volunteers", index.volunteerCount(),
+                    "openEvents", index.openEventCount(),
+                    "supplyByCity", calculateSupplyByCity(index)))
                 .build();
     }
 
@@ -291,6 +315,55 @@ public class ReportServiceImpl implements ReportService {
         return reportExportService.exportOrganizationReport(report, format);
     }
 
+    @Override
+    public void checkExportAccess(User caller, ReportJobType type, String subjectId) {
+        if (caller == null || !type.allows(caller.getRole())) {
+            throw new AccessDeniedException("Not allowed to export " + type + " reports");
+        }
+        if (caller.getRole() != Role.ADMIN && !ownsSubject(caller, type, subjectId)) {
+            throw new AccessDeniedException("Not allowed to export reports for " + subjectId);
+        }
+    }
+
+    private boolean ownsSubject(User caller, ReportJobType type, String subjectId) {
+        return switch (type) {
+            case VOLUNTEER -> caller.getId().equals(subjectId);
+            case ORGANIZATION, ORGANIZATION_PARTICIPATIONS -> organizationRepository.findByUserId(caller.getId())
+                .map(organization -> organization.getId().equals(subjectId))
+                .orElse(false);
+        };
+    }
+
+    @Override
+    public Consumer<OutputStream> prepareVolunteerReportExport(String volunteerId, String format) {
+        requireFormat(ReportJobType.VOLUNTEER, format);
+        VolunteerReportResponse report = generateVolunteerReport(volunteerId, LocalDateTime.now().minusMonths(1), LocalDateTime.now());
+        return out -> reportExportService.exportVolunteerReport(report, format, out);
+    }
+
+    @Override
+    public Consumer<OutputStream> prepareOrganizationReportExport(String organizationId, String format) {
+        requireFormat(ReportJobType.ORGANIZATION, format);
+        OrganizationReportResponse report = generateOrganizationReport(organizationId, LocalDateTime.now().minusMonths(1), LocalDateTime.now());
+        return out -> reportExportService.exportOrganizationReport(report, format, out);
+    }
+
+    @Override
+    public Consumer<OutputStream> prepareOrganizationParticipationsExport(String organizationId, LocalDateTime startDate,
+                                                                          LocalDateTime endDate, String format) {
+        requireFormat(ReportJobType.ORGANIZATION_PARTICIPATIONS, format);
+        if (!organizationRepository.existsById(organizationId)) {
+            throw new ResourceNotFoundException("Organization not found with id: " + organizationId);
+        }
+        return out -> reportExportService.exportOrganizationParticipations(organizationId, startDate, endDate, format, out);
+    }
+
+    private void requireFormat(ReportJobType type, String format) {
+        if (!type.supports(format)) {
+            throw new ValidationException("Unsupported format: " + format);
+        }
+    }
+
     @Override
     public Page<ReportResponse> getReports(Pageable pageable) {
         return reportRepository.findAll(pageable)
@@ -314,36 +387,54 @@ public class ReportServiceImpl implements ReportService {
         return new HashMap<>();
     }
 
-    private Map<String, Integer> calculateSkillDemand() {
-        return eventRepository.findAll().stream()
-                .flatMap(event -> event.getRegisteredParticipants().stream())
-                .collect(Collectors.groupingBy(
-                    skill -> skill,
-                    Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
-    }
-
-    private Map<String, Integer> calculateSkillSupply() {
-        return volunteerProfileRepository.findAll().stream()
-                .flatMap(volunteer -> volunteer.getSkills().stream())
-                .map(Skill::getName)
-                .collect(Collectors.groupingBy(
-                    skillName -> skillName,
-                    Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+    private List<String> findHighDemandSkills(SkillIndex.Snapshot index) {
+        return index.demandedSkills().stream()
+                .sorted(Comparator.<Integer>comparingInt(index::demand).reversed().thenComparing(index::name))
+                .limit(HIGH_DEMAND_SKILLS)
+                .map(index::name)
+                .toList();
     }
 
-    private Map<String, Double> calculateSkillMatchingMetrics() {
-        Map<String, Integer> demand = calculateSkillDemand();
-        Map<String, Integer> supply = calculateSkillSupply();
-        Map<String, Double> metrics = new HashMap<>();
-        
-        demand.forEach((skill, demandCount) -> {
-            int supplyCount = supply.getOrDefault(skill, 0);
-            metrics.put(skill, supplyCount / (double) demandCount);
-        });
-        
-        return metrics;
+    // Volunteers with the skill per open event requiring it
+    private Map<String, Double> calculateSkillCoverage(SkillIndex.Snapshot index) {
+        Map<String, Double> coverage = new HashMap<>();
+        for (int skill : index.demandedSkills()) {
+            coverage.put(index.name(skill), index.supply(skill) / (double) index.demand(skill));
+        }
+        return coverage;
+    }
+
+    // Demanded skills no volunteer in the city has
+    private Map<String, List<String>> findSkillGapsByCity(SkillIndex.Snapshot index) {
+        List<Integer> demanded = index.demandedSkills();
+        Map<String, List<String>> gaps = new LinkedHashMap<>();
+        for (String city : index.cities()) {
+            List<String> missing = demanded.stream()
+                    .filter(skill -> index.supplyIn(city, skill) == 0)
+                    .map(index::name)
+                    .sorted()
+                    .toList();
+            if (!missing.isEmpty()) {
+                gaps.put(city, missing);
+            }
+        }
+        return gaps;
+    }
+
+    private Map<String, Map<String, Integer>> calculateSupplyByCity(SkillIndex.Snapshot index) {
+        List<Integer> demanded = index.demandedSkills();
+        Map<String, Map<String, Integer>> byCity = new LinkedHashMap<>();
+        for (String city : index.cities()) {
+            Map<String, Integer> supply = new HashMap<>();
+            for (int skill : demanded) {
+                int count = index.supplyIn(city, skill);
+                if (count > 0) {
+                    supply.put(index.name(skill), count);
+                }
+            }
+            byCity.put(city, supply);
+        }
+        return byCity;
     }
 
     private Map<String, Object> calculateEngagementMetrics(LocalDateTime startDate, LocalDateTime endDate) {
@@ -462,20 +553,21 @@ public class ReportServiceImpl implements ReportService {
     }
 
     private int calculateTotalVolunteerHours(LocalDateTime startDate, LocalDateTime endDate) {
-        return feedbackRepository.findAll().stream()
-                .filter(feedback -> {
-                    LocalDateTime submittedAt = feedback.getSubmittedAt();
-                    return submittedAt.isAfter(startDate) && submittedAt.isBefore(endDate);
-                })
-                .mapToInt(this::calculateEventHours)
-                .sum();
-    }
+        // Count feedback per event first, then read each event's dates once instead of once per feedback
+        Map<String, Integer> feedbackPerEvent = new HashMap<>();
+        streamingQueries.forEach(EventFeedback.class,
+                Criteria.where("submittedAt").gt(startDate).lt(endDate),
+                feedback -> feedbackPerEvent.merge(feedback.getEventId(), 1, Integer::sum),
+                "eventId");
+        if (feedbackPerEvent.isEmpty()) {
+            return 0;
+        }
 
-    private int calculateEventHours(EventFeedback feedback) {
-        Event event = eventRepository.findById(feedback.getEventId())
-            .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
-        if (event.getStartDate() == null || event.getEndDate() == null) return 0;
-        return (int) java.time.Duration.between(event.getStartDate(), event.getEndDate()).toHours();
+        int[] total = {0};
+        streamingQueries.forEach(Event.class, Criteria.where("_id").in(feedbackPerEvent.keySet()),
+                event -> total[0] += EventRangeStats.eventHours(event) * feedbackPerEvent.get(event.getId()),
+                "startDate", "endDate");
+        return total[0];
     }
 
     private double calculateCompletionRate(String volunteerId) {
@@ -586,31 +678,10 @@ public class ReportServiceImpl implements ReportService {
                (double) completedEvents / events.size() * 100 : 0.0;
     }
 
-    private long calculateTotalParticipants() {
-        return eventRepository.findAll().stream()
-                .mapToLong(event -> event.getRegisteredParticipants().size())
-                .sum();
-    }
-
-    private double calculateOverallAverageRating() {
-        return feedbackRepository.findAll().stream()
-                .mapToDouble(feedback -> feedback.getRating())
-                .average()
-                .orElse(0.0);
-    }
-
     private int calculateTotalVolunteerHours() {
         return calculateTotalVolunteerHours(
             LocalDateTime.now().minusMonths(1),
             LocalDateTime.now()
         );
     }
-
-    private double calculateOverallSuccessRate() {
-        var events = eventRepository.findAll();
-        long completedEvents = events.stream()
-                .filter(event -> event.getStatus() == EventStatus.COMPLETED)
-                .count();
-        return events.size() > 0 ? (double) completedEvents / events.size() * 100 : 0.0;
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.fill_rouge.backend.service.skill;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fill_rouge.backend.domain.Skill;
+import com.fill_rouge.backend.repository.SkillRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Canonical skill names interned to small dense ids, so skill sets can be held as bitsets.
+ * Names are compared trimmed and case-insensitively; the first spelling seen is the canonical
+ * one. The dictionary only holds the {@code skills} catalog and never writes to it; free-text
+ * names outside the catalog get ids from a {@link Local} that lives as long as one index build.
+ * Ids are only stable for the lifetime of this instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class SkillDictionary {
+
+    public static final int UNKNOWN = -1;
+
+    private final SkillRepository skillRepository;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private volatile boolean loaded;
+
+    public int idOf(String name) {
+        if (!StringUtils.hasText(name)) {
+            return UNKNOWN;
+        }
+        ensureLoaded();
+        return ids.getOrDefault(normalize(name), UNKNOWN);
+    }
+
+    public synchronized String name(int id) {
+        return names.get(id);
+    }
+
+    public synchronized int size() {
+        return names.size();
+    }
+
+    /**
+     * Picks up skills added to the catalog since the last load. Existing ids are kept.
+     */
+    public synchronized void refresh() {
+        skillRepository.findAll().stream()
+            .map(Skill::getName)
+            .filter(StringUtils::hasText)
+            .forEach(name -> register(name.trim()));
+        loaded = true;
+    }
+
+    // Ids for one build: catalog skills keep their id, other names are numbered after them
+    public Local local() {
+        ensureLoaded();
+        return new Local(this, size());
+    }
+
+    public static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            refresh();
+        }
+    }
+
+    private synchronized void register(String name) {
+        String key = normalize(name);
+        if (!ids.containsKey(key)) {
+            ids.put(key, names.size());
+            names.add(name);
+        }
+    }
+
+    /**
+     * Skill ids valid within one build of an index. Names missing from the catalog are numbered
+     * from the dictionary size at creation, so they never collide with catalog ids and are
+     * dropped along with the build. Not thread-safe.
+     */
+    public static final class Local {
+
+        private final SkillDictionary dictionary;
+        private final int catalogSize;
+        private final Map<String, Integer> extraIds = new HashMap<>();
+        private final List<String> extraNames = new ArrayList<>();
+
+        private Local(SkillDictionary dictionary, int catalogSize) {
+            this.dictionary = dictionary;
+            this.catalogSize = catalogSize;
+        }
+
+        /**
+         * Returns the id of the skill, or {@link #UNKNOWN} for a blank name.
+         */
+        public int id(String name) {
+            if (!StringUtils.hasText(name)) {
+                return UNKNOWN;
+            }
+            int id = dictionary.idOf(name);
+            // Catalog entries added after this build started are treated like free text
+            if (id != UNKNOWN && id < catalogSize) {
+                return id;
+            }
+            return extraIds.computeIfAbsent(normalize(name), key -> {
+                extraNames.add(name.trim());
+                return catalogSize + extraNames.size() - 1;
+            });
+        }
+
+        public String name(int id) {
+            return id < catalogSize ? dictionary.name(id) : extraNames.get(id - catalogSize);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.fill_rouge.backend.service.skill;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.Skill;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.repository.StreamingQueries;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bitset index from each {@link SkillDictionary} id to the volunteers listing the skill and the
+ * open events requiring it, plus volunteers by city. Volunteers and events are numbered by
+ * position during a rebuild, so supply, demand and per-city counts are popcounts over a few
+ * words per skill rather than scans of the collections. Rebuilt every
+ * {@code skills.index-refresh}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillIndex {
+
+    // Events still taking or about to take volunteers
+    static final Set<EventStatus> OPEN_STATUSES =
+        Set.of(EventStatus.PENDING, EventStatus.ACTIVE, EventStatus.FULL, EventStatus.ONGOING);
+
+    private final SkillDictionary dictionary;
+    private final StreamingQueries streamingQueries;
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot current() {
+        if (snapshot == null) {
+            rebuild();
+        }
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${skills.index-refresh:300000}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        dictionary.refresh();
+        SkillDictionary.Local skills = dictionary.local();
+        List<BitSet> volunteersBySkill = new ArrayList<>();
+        List<BitSet> eventsBySkill = new ArrayList<>();
+        Map<String, BitSet> volunteersByCity = new HashMap<>();
+        int[] volunteers = {0};
+        streamingQueries.forEach(VolunteerProfile.class, profile -> {
+            int position = volunteers[0]++;
+            if (profile.getSkills() != null) {
+                profile.getSkills().stream()
+                    .map(Skill::getName)
+                    .forEach(name -> set(volunteersBySkill, skills.id(name), position));
+            }
+            if (StringUtils.hasText(profile.getCity())) {
+                volunteersByCity.computeIfAbsent(profile.getCity().trim(), ignored -> new BitSet()).set(position);
+            }
+        }, "skills.name", "city");
+        int[] events = {0};
+        streamingQueries.forEach(Event.class, Criteria.where("status").in(OPEN_STATUSES), event -> {
+            int position = events[0]++;
+            if (event.getRequiredSkills() != null) {
+                event.getRequiredSkills().forEach(name -> set(eventsBySkill, skills.id(name), position));
+            }
+        }, "requiredSkills");
+
+        snapshot = new Snapshot(skills, words(volunteersBySkill), words(eventsBySkill),
+            freeze(volunteersByCity), volunteers[0], events[0]);
+        log.debug("Skill index rebuilt over {} volunteers and {} events in {} ms", volunteers[0], events[0],
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void set(List<BitSet> bySkill, int skill, int position) {
+        if (skill == SkillDictionary.UNKNOWN) {
+            return;
+        }
+        while (bySkill.size() <= skill) {
+            bySkill.add(null);
+        }
+        if (bySkill.get(skill) == null) {
+            bySkill.set(skill, new BitSet());
+        }
+        bySkill.get(skill).set(position);
+    }
+
+    private static long[][] words(List<BitSet> bySkill) {
+        long[][] words = new long[bySkill.size()][];
+        for (int skill = 0; skill < words.length; skill++) {
+            BitSet bits = bySkill.get(skill);
+            words[skill] = bits == null ? new long[0] : bits.toLongArray();
+        }
+        return words;
+    }
+
+    private static Map<String, long[]> freeze(Map<String, BitSet> byCity) {
+        Map<String, long[]> frozen = new LinkedHashMap<>();
+        byCity.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> frozen.put(entry.getKey(), entry.getValue().toLongArray()));
+        return frozen;
+    }
+
+    private static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int intersection(long[] first, long[] second) {
+        int count = 0;
+        for (int i = 0, length = Math.min(first.length, second.length); i < length; i++) {
+            count += Long.bitCount(first[i] & second[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Immutable view of one rebuild. Skills are addressed by the ids of that rebuild, which
+     * match dictionary ids for catalog skills.
+     */
+    public static final class Snapshot {
+
+        private final SkillDictionary.Local skillIds;
+        private final long[][] volunteersBySkill;
+        private final long[][] eventsBySkill;
+        private final Map<String, long[]> volunteersByCity;
+        private final int volunteers;
+        private final int events;
+
+        private Snapshot(SkillDictionary.Local skillIds, long[][] volunteersBySkill, long[][] eventsBySkill,
+                         Map<String, long[]> volunteersByCity, int volunteers, int events) {
+            this.skillIds = skillIds;
+            this.volunteersBySkill = volunteersBySkill;
+            this.eventsBySkill = eventsBySkill;
+            this.volunteersByCity = volunteersByCity;
+            this.volunteers = volunteers;
+            this.events = events;
+        }
+
+        public int volunteerCount() {
+            return volunteers;
+        }
+
+        public int openEventCount() {
+            return events;
+        }
+
+        public Collection<String> cities() {
+            return volunteersByCity.keySet();
+        }
+
+        public int supply(int skill) {
+            return skill >= 0 && skill < volunteersBySkill.length ? cardinality(volunteersBySkill[skill]) : 0;
+        }
+
+        public int demand(int skill) {
+            return skill >= 0 && skill < eventsBySkill.length ? cardinality(eventsBySkill[skill]) : 0;
+        }
+
+        public int supplyIn(String city, int skill) {
+            long[] residents = volunteersByCity.get(city);
+            if (residents == null || skill < 0 || skill >= volunteersBySkill.length) {
+                return 0;
+            }
+            return intersection(volunteersBySkill[skill], residents);
+        }
+
+        // Ids of the skills at least one open event requires
+        public List<Integer> demandedSkills() {
+            List<Integer> skills = new ArrayList<>();
+            for (int skill = 0; skill < eventsBySkill.length; skill++) {
+                if (eventsBySkill[skill].length > 0) {
+                    skills.add(skill);
+                }
+            }
+            return skills;
+        }
+
+        public Map<String, Integer> supplyBySkill() {
+            return countsBySkill(volunteersBySkill);
+        }
+
+        public Map<String, Integer> demandBySkill() {
+            return countsBySkill(eventsBySkill);
+        }
+
+        public String name(int skill) {
+            return skillIds.name(skill);
+        }
+
+        private Map<String, Integer> countsBySkill(long[][] bySkill) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (int skill = 0; skill < bySkill.length; skill++) {
+                int count = cardinality(bySkill[skill]);
+                if (count > 0) {
+                    counts.put(skillIds.name(skill), count);
+                }
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.fill_rouge.backend.service.statistics;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+
+/**
+ * Running totals for dashboard statistics over a set of events. Events are fed in one at
+ * a time from a cursor, so the set never has to be held in memory.
+ */
+public class EventRangeStats implements Consumer<Event> {
+
+    // The event fields read by this class, for use as a query projection
+    public static final String[] FIELDS = {
+        "registeredParticipants", "maxParticipants", "averageRating", "status", "startDate", "endDate"
+    };
+
+    private long eventCount;
+    private long participantCount;
+    private double ratingSum;
+    private long completedCount;
+    private long completedHours;
+    private double completedSuccessRateSum;
+
+    @Override
+    public void accept(Event event) {
+        eventCount++;
+        participantCount += participantCount(event);
+        ratingSum += event.getAverageRating();
+        if (event.getStatus() == EventStatus.COMPLETED) {
+            completedCount++;
+            completedHours += eventHours(event);
+            completedSuccessRateSum += successRate(event);
+        }
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public long getParticipantCount() {
+        return participantCount;
+    }
+
+    public double getAverageRating() {
+        return eventCount == 0 ? 0.0 : ratingSum / eventCount;
+    }
+
+    public int getCompletedHours() {
+        return (int) completedHours;
+    }
+
+    // Mean of successRate over the completed events
+    public double getAverageSuccessRate() {
+        return completedCount == 0 ? 0.0 : completedSuccessRateSum / completedCount;
+    }
+
+    // Share of events that were completed, as a percentage
+    public double getCompletionRate() {
+        return completedCount == 0 ? 0.0 : (double) completedCount / eventCount * 100;
+    }
+
+    /**
+     * Weighted event score: 40% fill ratio, 40% normalized rating, 20% completion.
+     */
+    public static double successRate(Event event) {
+        double participationRate = event.getMaxParticipants() > 0
+            ? participantCount(event) / (double) event.getMaxParticipants()
+            : 0.0;
+        double averageRating = event.getAverageRating() / 5.0;
+        boolean isCompleted = event.getStatus() == EventStatus.COMPLETED;
+        return (participationRate * 0.4 + averageRating * 0.4 + (isCompleted ? 0.2 : 0)) * 100;
+    }
+
+    public static int eventHours(Event event) {
+        if (event == null || event.getStartDate() == null || event.getEndDate() == null) {
+            return 0;
+        }
+        long hours = Duration.between(event.getStartDate(), event.getEndDate()).toHours();
+        return (int) Math.max(hours, 0);
+    }
+
+    private static int participantCount(Event event) {
+        return event.getRegisteredParticipants() != null ? event.getRegisteredParticipants().size() : 0;
+    }
+}
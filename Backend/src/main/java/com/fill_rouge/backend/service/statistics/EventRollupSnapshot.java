@@ -0,0 +1,40 @@
+package com.fill_rouge.backend.service.statistics;
+
+import java.time.Duration;
+import java.util.Set;
+
+import com.fill_rouge.backend.constant.EventCategory;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+
+/**
+ * The event fields that feed the statistics rollups, copied before a mutation
+ * so the previous contribution can be subtracted once the event is saved.
+ */
+public record EventRollupSnapshot(
+        String organizationId,
+        EventCategory category,
+        EventStatus status,
+        Set<String> participants,
+        long hours,
+        double fillRatio,
+        double averageRating) {
+
+    public static EventRollupSnapshot of(Event event) {
+        if (event == null) {
+            return null;
+        }
+        Set<String> participants = event.getRegisteredParticipants() != null
+                ? Set.copyOf(event.getRegisteredParticipants())
+                : Set.of();
+        long hours = 0;
+        if (event.getStartDate() != null && event.getEndDate() != null) {
+            hours = Math.max(Duration.between(event.getStartDate(), event.getEndDate()).toHours(), 0);
+        }
+        double fillRatio = event.getMaxParticipants() > 0
+                ? participants.size() / (double) event.getMaxParticipants()
+                : 0.0;
+        return new EventRollupSnapshot(event.getOrganizationId(), event.getCategory(), event.getStatus(),
+                participants, hours, fillRatio, event.getAverageRating());
+    }
+}
@@ -0,0 +1,18 @@
+package com.fill_rouge.backend.service.statistics;
+
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.domain.EventParticipation;
+
+/**
+ * The participation fields that feed the statistics rollups, copied before a mutation.
+ */
+public record ParticipationRollupSnapshot(String volunteerId, EventParticipationStatus status, Integer hours) {
+
+    public static ParticipationRollupSnapshot of(EventParticipation participation) {
+        if (participation == null) {
+            return null;
+        }
+        return new ParticipationRollupSnapshot(
+                participation.getVolunteerId(), participation.getStatus(), participation.getHours());
+    }
+}
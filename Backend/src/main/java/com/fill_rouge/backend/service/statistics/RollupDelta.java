@@ -0,0 +1,68 @@
+package com.fill_rouge.backend.service.statistics;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fill_rouge.backend.constant.RollupScope;
+import com.fill_rouge.backend.domain.StatisticsRollup;
+
+/**
+ * Accumulates per-field increments keyed by rollup document. Used both for the
+ * incremental $inc updates and for the full recompute behind rebuild and consistency checks.
+ */
+final class RollupDelta {
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    void add(RollupScope scope, String scopeKey, String field, long amount) {
+        if (amount != 0) {
+            entry(scope, scopeKey).fields.merge(field, amount, RollupDelta::sum);
+        }
+    }
+
+    void add(RollupScope scope, String scopeKey, String field, double amount) {
+        if (amount != 0.0) {
+            entry(scope, scopeKey).fields.merge(field, amount, RollupDelta::sum);
+        }
+    }
+
+    Collection<Entry> entries() {
+        return entries.values();
+    }
+
+    private Entry entry(RollupScope scope, String scopeKey) {
+        return entries.computeIfAbsent(StatisticsRollup.idOf(scope, scopeKey), id -> new Entry(id, scope, scopeKey));
+    }
+
+    private static Number sum(Number left, Number right) {
+        if (left instanceof Long && right instanceof Long) {
+            return left.longValue() + right.longValue();
+        }
+        return left.doubleValue() + right.doubleValue();
+    }
+
+    static final class Entry {
+        final String id;
+        final RollupScope scope;
+        final String scopeKey;
+        final Map<String, Number> fields = new TreeMap<>();
+
+        private Entry(String id, RollupScope scope, String scopeKey) {
+            this.id = id;
+            this.scope = scope;
+            this.scopeKey = scopeKey;
+        }
+
+        Map<String, Number> nonZeroFields() {
+            Map<String, Number> result = new TreeMap<>();
+            fields.forEach((field, value) -> {
+                if (value.doubleValue() != 0.0) {
+                    result.put(field, value);
+                }
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.fill_rouge.backend.service.statistics;
+
+import com.fill_rouge.backend.constant.RollupScope;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventFeedback;
+import com.fill_rouge.backend.domain.StatisticsRollup;
+import com.fill_rouge.backend.dto.response.RollupConsistencyResponse;
+
+public interface StatisticsRollupService {
+    StatisticsRollup getRollup(RollupScope scope, String scopeKey);
+    StatisticsRollup getPlatformRollup();
+
+    // Pass null as before for a new document and null as after for a deleted one
+    void recordEventChange(EventRollupSnapshot before, EventRollupSnapshot after);
+    void recordParticipationChange(ParticipationRollupSnapshot before, ParticipationRollupSnapshot after);
+    void recordFeedbackSubmitted(EventFeedback feedback, Event event);
+    void recordFeedbackDeleted(EventFeedback feedback, Event event);
+
+    int rebuildAll();
+    RollupConsistencyResponse checkConsistency();
+}
@@ -0,0 +1,372 @@
+package com.fill_rouge.backend.service.statistics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.fill_rouge.backend.constant.EventCategory;
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.constant.RollupScope;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventFeedback;
+import com.fill_rouge.backend.domain.EventParticipation;
+import com.fill_rouge.backend.domain.StatisticsRollup;
+import com.fill_rouge.backend.dto.response.RollupConsistencyResponse;
+import com.fill_rouge.backend.repository.StatisticsRollupRepository;
+import com.fill_rouge.backend.service.cache.CacheInvalidator;
+import com.fill_rouge.backend.service.cache.EntityChanged;
+import com.mongodb.ClientSessionOptions;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsRollupServiceImpl implements StatisticsRollupService {
+
+    private static final String COLLECTION = "statistics_rollups";
+    private static final double TOLERANCE = 1e-6;
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+    private static final ClientSessionOptions SNAPSHOT = ClientSessionOptions.builder().snapshot(true).build();
+
+    private final MongoTemplate mongoTemplate;
+    private final StatisticsRollupRepository rollupRepository;
+    private final ApplicationEventPublisher publisher;
+
+    @Override
+    public StatisticsRollup getRollup(RollupScope scope, String scopeKey) {
+        return rollupRepository.findById(StatisticsRollup.idOf(scope, scopeKey))
+                .orElseGet(() -> StatisticsRollup.empty(scope, scopeKey));
+    }
+
+    @Override
+    public StatisticsRollup getPlatformRollup() {
+        return getRollup(RollupScope.PLATFORM, StatisticsRollup.PLATFORM_KEY);
+    }
+
+    @Override
+    public void recordEventChange(EventRollupSnapshot before, EventRollupSnapshot after) {
+        RollupDelta delta = new RollupDelta();
+        addEvent(delta, before, -1);
+        addEvent(delta, after, 1);
+        apply(delta);
+    }
+
+    @Override
+    public void recordParticipationChange(ParticipationRollupSnapshot before, ParticipationRollupSnapshot after) {
+        RollupDelta delta = new RollupDelta();
+        addParticipation(delta, before, -1);
+        addParticipation(delta, after, 1);
+        apply(delta);
+    }
+
+    @Override
+    public void recordFeedbackSubmitted(EventFeedback feedback, Event event) {
+        RollupDelta delta = new RollupDelta();
+        addFeedback(delta, feedback.getVolunteerId(), feedback.getRating(),
+                event != null ? event.getOrganizationId() : null,
+                event != null ? event.getCategory() : null, 1);
+        apply(delta);
+    }
+
+    @Override
+    public void recordFeedbackDeleted(EventFeedback feedback, Event event) {
+        RollupDelta delta = new RollupDelta();
+        addFeedback(delta, feedback.getVolunteerId(), feedback.getRating(),
+                event != null ? event.getOrganizationId() : null,
+                event != null ? event.getCategory() : null, -1);
+        apply(delta);
+    }
+
+    // Adds the difference between a recompute and the stored rollups, both read at one
+    // cluster time, so increments applied while it runs are neither lost nor counted twice
+    @Override
+    public int rebuildAll() {
+        log.info("Rebuilding statistics rollups from source collections");
+        RollupState state = readState();
+        RollupDelta correction = new RollupDelta();
+        for (Mismatch mismatch : state.mismatches()) {
+            Number stored = mismatch.stored();
+            Number expected = mismatch.expected();
+            if (isIntegral(stored) && isIntegral(expected)) {
+                correction.add(mismatch.key().scope(), mismatch.key().scopeKey(), mismatch.field(),
+                        expected.longValue() - stored.longValue());
+            } else {
+                correction.add(mismatch.key().scope(), mismatch.key().scopeKey(), mismatch.field(),
+                        expected.doubleValue() - stored.doubleValue());
+            }
+        }
+        int written = write(correction);
+        log.info("Corrected {} of {} statistics rollups", written, state.ids().size());
+        return written;
+    }
+
+    @Override
+    public RollupConsistencyResponse checkConsistency() {
+        RollupState state = readState();
+        List<Mismatch> found = state.mismatches();
+        int mismatchCount = found.size();
+        List<RollupConsistencyResponse.Mismatch> mismatches = found.stream()
+                .limit(MAX_REPORTED_MISMATCHES)
+                .map(mismatch -> RollupConsistencyResponse.Mismatch.builder()
+                        .rollupId(mismatch.id())
+                        .field(mismatch.field())
+                        .stored(mismatch.stored().doubleValue())
+                        .expected(mismatch.expected().doubleValue())
+                        .build())
+                .toList();
+
+        if (mismatchCount > 0) {
+            log.warn("Statistics rollups diverge from source data: {} mismatched fields", mismatchCount);
+        }
+        return RollupConsistencyResponse.builder()
+                .consistent(mismatchCount == 0)
+                .rollupsChecked(state.ids().size())
+                .mismatchCount(mismatchCount)
+                .mismatches(mismatches)
+                .checkedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // The scan must finish within the server's snapshot history window (minSnapshotHistoryWindowInSeconds,
+    // 300 s by default); past it the read fails with SnapshotTooOld before anything is written
+    private RollupState readState() {
+        return mongoTemplate.withSession(SNAPSHOT).execute(operations -> {
+            Map<String, Map<String, Number>> expected = new HashMap<>();
+            Map<String, RollupKey> keys = new HashMap<>();
+            for (RollupDelta.Entry entry : recompute(operations).entries()) {
+                Map<String, Number> fields = entry.nonZeroFields();
+                if (!fields.isEmpty()) {
+                    expected.put(entry.id, fields);
+                    keys.put(entry.id, new RollupKey(entry.scope, entry.scopeKey));
+                }
+            }
+
+            Map<String, Map<String, Number>> stored = new HashMap<>();
+            try (Stream<Document> documents = operations.stream(new Query(), Document.class, COLLECTION)) {
+                documents.forEach(document -> {
+                    Map<String, Number> fields = new TreeMap<>();
+                    flatten(null, document, fields);
+                    String id = document.getString("_id");
+                    stored.put(id, fields);
+                    keys.putIfAbsent(id, new RollupKey(RollupScope.valueOf(document.getString("scope")),
+                            document.getString("scopeKey")));
+                });
+            }
+            return new RollupState(expected, stored, keys);
+        });
+    }
+
+    private RollupDelta recompute(MongoOperations operations) {
+        RollupDelta delta = new RollupDelta();
+        Map<String, EventScope> eventScopes = new HashMap<>();
+
+        Query eventQuery = new Query();
+        eventQuery.fields().include("organizationId", "category", "status", "registeredParticipants",
+                "startDate", "endDate", "maxParticipants", "averageRating");
+        try (Stream<Event> events = operations.stream(eventQuery, Event.class)) {
+            events.forEach(event -> {
+                addEvent(delta, EventRollupSnapshot.of(event), 1);
+                eventScopes.put(event.getId(), new EventScope(event.getOrganizationId(), event.getCategory()));
+            });
+        }
+
+        Query participationQuery = new Query();
+        participationQuery.fields().include("volunteerId", "status", "hours");
+        try (Stream<EventParticipation> participations = operations.stream(participationQuery, EventParticipation.class)) {
+            participations.forEach(participation ->
+                    addParticipation(delta, ParticipationRollupSnapshot.of(participation), 1));
+        }
+
+        Query feedbackQuery = new Query();
+        feedbackQuery.fields().include("eventId", "volunteerId", "rating");
+        try (Stream<EventFeedback> feedbacks = operations.stream(feedbackQuery, EventFeedback.class)) {
+            feedbacks.forEach(feedback -> {
+                EventScope scope = eventScopes.get(feedback.getEventId());
+                addFeedback(delta, feedback.getVolunteerId(), feedback.getRating(),
+                        scope != null ? scope.organizationId() : null,
+                        scope != null ? scope.category() : null, 1);
+            });
+        }
+        return delta;
+    }
+
+    private void addEvent(RollupDelta delta, EventRollupSnapshot event, int sign) {
+        if (event == null) {
+            return;
+        }
+        List<RollupKey> keys = new ArrayList<>();
+        keys.add(new RollupKey(RollupScope.PLATFORM, StatisticsRollup.PLATFORM_KEY));
+        if (event.organizationId() != null) {
+            keys.add(new RollupKey(RollupScope.ORGANIZATION, event.organizationId()));
+        }
+        if (event.category() != null) {
+            keys.add(new RollupKey(RollupScope.CATEGORY, event.category().name()));
+        }
+        for (RollupKey key : keys) {
+            addEventCounters(delta, key, event, sign);
+            delta.add(key.scope(), key.scopeKey(), "registeredParticipants", (long) sign * event.participants().size());
+        }
+        for (String participant : event.participants()) {
+            addEventCounters(delta, new RollupKey(RollupScope.VOLUNTEER, participant), event, sign);
+        }
+    }
+
+    private void addEventCounters(RollupDelta delta, RollupKey key, EventRollupSnapshot event, int sign) {
+        delta.add(key.scope(), key.scopeKey(), "eventCount", (long) sign);
+        delta.add(key.scope(), key.scopeKey(), "eventRatingSum", sign * event.averageRating());
+        if (event.status() != null) {
+            delta.add(key.scope(), key.scopeKey(), "eventsByStatus." + event.status().name(), (long) sign);
+        }
+        if (event.status() == EventStatus.COMPLETED) {
+            delta.add(key.scope(), key.scopeKey(), "completedEventHours", sign * event.hours());
+            delta.add(key.scope(), key.scopeKey(), "completedRatingSum", sign * event.averageRating());
+            delta.add(key.scope(), key.scopeKey(), "completedFillRatioSum", sign * event.fillRatio());
+        }
+    }
+
+    private void addParticipation(RollupDelta delta, ParticipationRollupSnapshot participation, int sign) {
+        if (participation == null) {
+            return;
+        }
+        List<RollupKey> keys = new ArrayList<>();
+        keys.add(new RollupKey(RollupScope.PLATFORM, StatisticsRollup.PLATFORM_KEY));
+        if (participation.volunteerId() != null) {
+            keys.add(new RollupKey(RollupScope.VOLUNTEER, participation.volunteerId()));
+        }
+        for (RollupKey key : keys) {
+            delta.add(key.scope(), key.scopeKey(), "participationCount", (long) sign);
+            if (participation.status() != null) {
+                delta.add(key.scope(), key.scopeKey(),
+                        "participationsByStatus." + participation.status().name(), (long) sign);
+            }
+            if (participation.status() == EventParticipationStatus.COMPLETED && participation.hours() != null) {
+                delta.add(key.scope(), key.scopeKey(), "participationHours", (long) sign * participation.hours());
+            }
+        }
+    }
+
+    private void addFeedback(RollupDelta delta, String volunteerId, int rating,
+                             String organizationId, EventCategory category, int sign) {
+        Set<RollupKey> keys = new HashSet<>();
+        keys.add(new RollupKey(RollupScope.PLATFORM, StatisticsRollup.PLATFORM_KEY));
+        if (volunteerId != null) {
+            keys.add(new RollupKey(RollupScope.VOLUNTEER, volunteerId));
+        }
+        if (organizationId != null) {
+            keys.add(new RollupKey(RollupScope.ORGANIZATION, organizationId));
+        }
+        if (category != null) {
+            keys.add(new RollupKey(RollupScope.CATEGORY, category.name()));
+        }
+        for (RollupKey key : keys) {
+            delta.add(key.scope(), key.scopeKey(), "feedbackCount", (long) sign);
+            delta.add(key.scope(), key.scopeKey(), "feedbackRatingSum", (long) sign * rating);
+        }
+    }
+
+    private void apply(RollupDelta delta) {
+        try {
+            write(delta);
+        } catch (DataAccessException e) {
+            // The source write already succeeded; the consistency check and rebuild repair any drift
+            log.error("Failed to update statistics rollups: {}", e.getMessage());
+        }
+    }
+
+    private int write(RollupDelta delta) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatisticsRollup.class);
+        LocalDateTime now = LocalDateTime.now();
+        List<String> written = new ArrayList<>();
+        for (RollupDelta.Entry entry : delta.entries()) {
+            Map<String, Number> fields = entry.nonZeroFields();
+            if (fields.isEmpty()) {
+                continue;
+            }
+            Update update = new Update()
+                    .setOnInsert("scope", entry.scope)
+                    .setOnInsert("scopeKey", entry.scopeKey)
+                    .set("updatedAt", now);
+            fields.forEach(update::inc);
+            operations.upsert(Query.query(Criteria.where("_id").is(entry.id)), update);
+            written.add(entry.id);
+        }
+        if (!written.isEmpty()) {
+            operations.execute();
+            written.forEach(id -> publisher.publishEvent(new EntityChanged(CacheInvalidator.ROLLUPS, id)));
+        }
+        return written.size();
+    }
+
+    private void flatten(String prefix, Document document, Map<String, Number> target) {
+        document.forEach((key, value) -> {
+            String path = prefix == null ? key : prefix + "." + key;
+            if (value instanceof Number number) {
+                if (number.doubleValue() != 0.0) {
+                    target.put(path, number);
+                }
+            } else if (value instanceof Document nested) {
+                flatten(path, nested, target);
+            }
+        });
+    }
+
+    private static boolean isIntegral(Number value) {
+        return value instanceof Long || value instanceof Integer;
+    }
+
+    private record RollupKey(RollupScope scope, String scopeKey) {
+    }
+
+    private record Mismatch(String id, RollupKey key, String field, Number stored, Number expected) {
+    }
+
+    private record RollupState(Map<String, Map<String, Number>> expected, Map<String, Map<String, Number>> stored,
+                               Map<String, RollupKey> keys) {
+
+        Set<String> ids() {
+            return new TreeSet<>(keys.keySet());
+        }
+
+        List<Mismatch> mismatches() {
+            List<Mismatch> mismatches = new ArrayList<>();
+            for (String id : ids()) {
+                Map<String, Number> expectedFields = expected.getOrDefault(id, Map.of());
+                Map<String, Number> storedFields = stored.getOrDefault(id, Map.of());
+                Set<String> fields = new TreeSet<>(expectedFields.keySet());
+                fields.addAll(storedFields.keySet());
+                for (String field : fields) {
+                    Number storedValue = storedFields.getOrDefault(field, 0L);
+                    Number expectedValue = expectedFields.getOrDefault(field, 0L);
+                    if (Math.abs(storedValue.doubleValue() - expectedValue.doubleValue()) > TOLERANCE) {
+                        mismatches.add(new Mismatch(id, keys.get(id), field, storedValue, expectedValue));
+                    }
+                }
+            }
+            return mismatches;
+        }
+    }
+
+    private record EventScope(String organizationId, EventCategory category) {
+    }
+}
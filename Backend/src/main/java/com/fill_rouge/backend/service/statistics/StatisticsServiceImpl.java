@@ -5,15 +5,21 @@ import com.fill_rouge.backend.dto.response.StatisticsResponse;
 import com.fill_rouge.backend.constant.Role;
 import com.fill_rouge.backend.constant.EventStatus;
 import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.constant.EventCategory;
 import com.fill_rouge.backend.repository.*;
 import com.fill_rouge.backend.domain.*;
+import com.fill_rouge.backend.dto.VolunteerStatsAggregateDTO;
 import com.fill_rouge.backend.exception.ResourceNotFoundException;
+import com.fill_rouge.backend.service.cache.CacheNames;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -30,6 +36,8 @@ public class StatisticsServiceImpl implements StatisticsService {
     private final EventRepository eventRepository;
     private final ResourceRepository resourceRepository;
     private final EventParticipationRepository participationRepository;
+    private final StatisticsRollupService rollupService;
+    private final StreamingQueries streamingQueries;
     private static final Logger log = LoggerFactory.getLogger(StatisticsServiceImpl.class);
 
     @Override
@@ -71,100 +79,15 @@ public class StatisticsServiceImpl implements StatisticsService {
             VolunteerProfile volunteerProfile = volunteerProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Volunteer profile not found for user ID: " + userId));
             
-            // Use the profile ID as the volunteerId for participation queries
+            // Participations may reference either the profile ID or the user ID,
+            // the aggregation matches both and computes every figure server-side
             String volunteerId = volunteerProfile.getId();
             log.info("Found volunteer profile with ID: {} for user ID: {}", volunteerId, userId);
             
-            // Get all participations that match either the volunteerId or userId
-            List<EventParticipation> participations = new ArrayList<>();
+            VolunteerStatsAggregateDTO aggregate = participationRepository.aggregateVolunteerStats(
+                volunteerId, userId, now, ZoneId.systemDefault().getId());
             
-            // First try to get participation by volunteerId
-            List<EventParticipation> participationsByVolunteerId = participationRepository.findByVolunteerId(volunteerId);
-            log.info("Found {} participations by volunteer ID: {}", participationsByVolunteerId.size(), volunteerId);
-            participations.addAll(participationsByVolunteerId);
-            
-            // Then also try to get participation by userId
-            List<EventParticipation> participationsByUserId = participationRepository.findByVolunteerId(userId);
-            log.info("Found {} participations by user ID: {}", participationsByUserId.size(), userId);
-            participations.addAll(participationsByUserId);
-            
-            // Remove duplicates if any
-            Set<String> processedIds = new HashSet<>();
-            List<EventParticipation> uniqueParticipations = new ArrayList<>();
-            for (EventParticipation p : participations) {
-                if (p.getId() != null && !processedIds.contains(p.getId())) {
-                    processedIds.add(p.getId());
-                    uniqueParticipations.add(p);
-                }
-            }
-            
-            log.info("Total unique participations after deduplication: {}", uniqueParticipations.size());
-            
-            // Filter out participations with null events to prevent NullPointerException
-            List<EventParticipation> validParticipations = uniqueParticipations.stream()
-                .filter(p -> p.getEvent() != null)
-                .collect(Collectors.toList());
-            log.info("Valid participations (with non-null events): {}", validParticipations.size());
-            
-            // Calculate statistics by status
-            long registeredEvents = validParticipations.stream()
-                .filter(p -> p.getStatus() == EventParticipationStatus.REGISTERED)
-                .count();
-            
-            // Calculate basic metrics
-            long totalEventsParticipated = validParticipations.size();
-            long activeEvents = validParticipations.stream()
-                .filter(p -> p.getEvent() != null && 
-                          p.getEvent().getStatus() == EventStatus.ACTIVE && 
-                          p.getEvent().getEndDate() != null &&
-                          p.getEvent().getEndDate().isAfter(now))
-                .count();
-            long completedEvents = validParticipations.stream()
-                .filter(p -> p.getEvent() != null && 
-                          p.getEvent().getStatus() == EventStatus.COMPLETED && 
-                          p.getEvent().getEndDate() != null &&
-                          p.getEvent().getEndDate().isBefore(now))
-                .count();
-            long totalVolunteerHours = validParticipations.stream()
-                .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED && p.getHours() != null)
-                .mapToLong(EventParticipation::getHours)
-                .sum();
-    
-            // Calculate performance metrics
-            double reliabilityScore = calculateReliabilityScore(validParticipations);
-            double avgEventRating = calculateAverageRating(validParticipations);
-            long skillsEndorsements = calculateSkillsEndorsements(userId);
-            
-            // Get time series data
-            List<StatisticsResponse.TimeSeriesData> hoursContributed = getHoursContributedByMonth(validParticipations);
-            List<StatisticsResponse.TimeSeriesData> eventsParticipation = getEventsParticipationByMonth(validParticipations);
-            Map<String, Long> eventsByCategory = getEventsByCategory(validParticipations);
-            
-            // Calculate impact metrics
-            long peopleImpacted = calculatePeopleImpacted(validParticipations);
-            long organizationsSupported = validParticipations.stream()
-                .filter(p -> p.getEvent() != null && p.getEvent().getOrganizationId() != null)
-                .map(p -> p.getEvent().getOrganizationId())
-                .distinct()
-                .count();
-            Map<String, Long> impactByCategory = calculateImpactByCategory(validParticipations);
-    
-            return StatisticsResponse.VolunteerStats.builder()
-                .totalEventsParticipated(totalEventsParticipated)
-                .activeEvents(activeEvents)
-                .completedEvents(completedEvents)
-                .registeredEvents(registeredEvents)
-                .totalVolunteerHours(totalVolunteerHours)
-                .reliabilityScore(reliabilityScore)
-                .averageEventRating(avgEventRating)
-                .skillsEndorsements(skillsEndorsements)
-                .hoursContributed(hoursContributed)
-                .eventsParticipation(eventsParticipation)
-                .eventsByCategory(eventsByCategory)
-                .peopleImpacted(peopleImpacted)
-                .organizationsSupported(organizationsSupported)
-                .impactByCategory(impactByCategory)
-                .build();
+            return toVolunteerStats(aggregate, calculateSkillsEndorsements(volunteerProfile));
         } catch (Exception e) {
             // Log the error but return an empty stats object to avoid breaking the application
             log.error("Error calculating volunteer statistics for userId: {}, error: {}", userId, e.getMessage(), e);
@@ -187,8 +110,74 @@ public class StatisticsServiceImpl implements StatisticsService {
         }
     }
 
+    /**
+     * Map the faceted aggregation result onto the dashboard DTO
+     */
+    private StatisticsResponse.VolunteerStats toVolunteerStats(VolunteerStatsAggregateDTO aggregate, long skillsEndorsements) {
+        VolunteerStatsAggregateDTO.Totals totals = aggregate != null && aggregate.getTotals() != null && !aggregate.getTotals().isEmpty()
+            ? aggregate.getTotals().get(0)
+            : new VolunteerStatsAggregateDTO.Totals();
+        
+        long totalEventsParticipated = valueOrZero(totals.getTotalEvents());
+        long completedParticipations = valueOrZero(totals.getCompletedParticipations());
+        double reliabilityScore = totalEventsParticipated > 0
+            ? (double) completedParticipations / totalEventsParticipated * 100
+            : 0.0;
+        log.info("Aggregated {} participations ({} completed)", totalEventsParticipated, completedParticipations);
+        
+        return StatisticsResponse.VolunteerStats.builder()
+            .totalEventsParticipated(totalEventsParticipated)
+            .activeEvents(valueOrZero(totals.getActiveEvents()))
+            .completedEvents(valueOrZero(totals.getCompletedEvents()))
+            .registeredEvents(valueOrZero(totals.getRegisteredEvents()))
+            .totalVolunteerHours(valueOrZero(totals.getTotalHours()))
+            .reliabilityScore(reliabilityScore)
+            .averageEventRating(totals.getAverageRating() != null ? totals.getAverageRating() : 0.0)
+            .skillsEndorsements(skillsEndorsements)
+            .hoursContributed(toTimeSeries(aggregate != null ? aggregate.getHoursByMonth() : null))
+            .eventsParticipation(toTimeSeries(aggregate != null ? aggregate.getEventsByMonth() : null))
+            .eventsByCategory(toCategoryMap(aggregate != null ? aggregate.getEventsByCategory() : null))
+            .peopleImpacted(valueOrZero(totals.getPeopleImpacted()))
+            .organizationsSupported(valueOrZero(totals.getOrganizationsSupported()))
+            .impactByCategory(toCategoryMap(aggregate != null ? aggregate.getImpactByCategory() : null))
+            .build();
+    }
+
+    private List<StatisticsResponse.TimeSeriesData> toTimeSeries(List<VolunteerStatsAggregateDTO.Bucket> buckets) {
+        if (buckets == null) {
+            return new ArrayList<>();
+        }
+        return buckets.stream()
+            .filter(bucket -> bucket.getId() != null)
+            .map(bucket -> StatisticsResponse.TimeSeriesData.builder()
+                .date(bucket.getId())
+                .value(valueOrZero(bucket.getValue()))
+                .build())
+            .sorted(Comparator.comparing(StatisticsResponse.TimeSeriesData::getDate))
+            .collect(Collectors.toList());
+    }
+
+    // Category buckets are keyed by the stored enum name, the dashboard expects EventCategory.toString()
+    private Map<String, Long> toCategoryMap(List<VolunteerStatsAggregateDTO.Bucket> buckets) {
+        Map<String, Long> result = new HashMap<>();
+        if (buckets == null) {
+            return result;
+        }
+        for (VolunteerStatsAggregateDTO.Bucket bucket : buckets) {
+            if (bucket.getId() != null) {
+                result.merge(EventCategory.valueOf(bucket.getId()).toString(), valueOrZero(bucket.getValue()), Long::sum);
+            }
+        }
+        return result;
+    }
+
+    private long valueOrZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(CacheNames.ORGANIZATION_STATISTICS)
     public StatisticsResponse.OrganizationStats getOrganizationStats(String organizationId) {
         LocalDateTime now = LocalDateTime.now();
         
@@ -550,10 +539,7 @@ public class StatisticsServiceImpl implements StatisticsService {
     // Helper methods for calculations
     private long calculateTotalVolunteerHours() {
         try {
-            return participationRepository.findAll().stream()
-                .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED)
-                .mapToLong(p -> p.getHours() != null ? p.getHours() : 0L)
-                .sum();
+            return rollupService.getPlatformRollup().getParticipationHours();
         } catch (Exception e) {
             log.warn("Error calculating total volunteer hours: {}", e.getMessage());
             return 0L;
@@ -599,19 +585,22 @@ public class StatisticsServiceImpl implements StatisticsService {
     private double calculateVolunteerRetentionRate() {
         LocalDateTime threeMonthsAgo = LocalDateTime.now().minusMonths(3);
         
-        // Get all volunteers who have ever participated
-        Set<String> allVolunteers = participationRepository.findAll().stream()
-                .map(EventParticipation::getVolunteerId)
-                .collect(Collectors.toSet());
-                
+        Set<String> recentEventIds = new HashSet<>();
+        streamingQueries.forEach(Event.class, Criteria.where("startDate").gt(threeMonthsAgo),
+                event -> recentEventIds.add(event.getId()), "_id");
+
+        // Volunteers who have ever participated, and those who took part in a recent event
+        Set<String> allVolunteers = new HashSet<>();
+        Set<String> recentVolunteers = new HashSet<>();
+        streamingQueries.forEach(EventParticipation.class, participation -> {
+            allVolunteers.add(participation.getVolunteerId());
+            if (recentEventIds.contains(participation.getEventId())) {
+                recentVolunteers.add(participation.getVolunteerId());
+            }
+        }, "volunteerId", "eventId");
+
         if (allVolunteers.isEmpty()) return 0.0;
         
-        // Get volunteers who participated in the last 3 months
-        Set<String> recentVolunteers = participationRepository.findAll().stream()
-                .filter(p -> p.getEvent().getStartDate().isAfter(threeMonthsAgo))
-                .map(EventParticipation::getVolunteerId)
-                .collect(Collectors.toSet());
-        
         return (double) recentVolunteers.size() / allVolunteers.size() * 100;
     }
 
@@ -620,17 +609,8 @@ public class StatisticsServiceImpl implements StatisticsService {
             // The countByLocation method returns a MongoDB result which isn't directly serializable
             // Convert it to a standard Java Map
             Map<String, Long> result = new HashMap<>();
-            List<VolunteerProfile> profiles = volunteerProfileRepository.findAll();
-            
-            // Group by city/location
-            Map<String, List<VolunteerProfile>> groupedByLocation = profiles.stream()
-                .filter(p -> p.getCity() != null && !p.getCity().isEmpty())
-                .collect(Collectors.groupingBy(VolunteerProfile::getCity));
-            
-            // Count the volunteers in each location
-            groupedByLocation.forEach((location, profilesList) -> {
-                result.put(location, (long) profilesList.size());
-            });
+            streamingQueries.forEach(VolunteerProfile.class, Criteria.where("city").nin(null, ""),
+                    profile -> result.merge(profile.getCity(), 1L, Long::sum), "city");
             
             log.debug("Mapped volunteer locations: {}", result);
             return result;
@@ -674,25 +654,7 @@ public class StatisticsServiceImpl implements StatisticsService {
             .sum();
     }
 
-    private double calculateReliabilityScore(List<EventParticipation> participations) {
-        if (participations.isEmpty()) return 0.0;
-        long completedEvents = participations.stream()
-            .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED)
-            .count();
-        return (double) completedEvents / participations.size() * 100;
-    }
-
-    private double calculateAverageRating(List<EventParticipation> participations) {
-        return participations.stream()
-            .filter(p -> p.getRating() != null)
-            .mapToDouble(EventParticipation::getRating)
-            .average()
-            .orElse(0.0);
-    }
-
-    private long calculateSkillsEndorsements(String volunteerId) {
-        VolunteerProfile profile = volunteerProfileRepository.findByUserId(volunteerId)
-                .orElseThrow(() -> new RuntimeException("Volunteer profile not found"));
+    private long calculateSkillsEndorsements(VolunteerProfile profile) {
         if (profile.getSkills() == null) {
             return 0L;
         }
@@ -701,63 +663,6 @@ public class StatisticsServiceImpl implements StatisticsService {
                 .sum();
     }
 
-    private List<StatisticsResponse.TimeSeriesData> getHoursContributedByMonth(List<EventParticipation> participations) {
-        Map<String, Long> hoursByMonth = participations.stream()
-            .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED)
-            .collect(Collectors.groupingBy(
-                p -> p.getCheckOutTime().format(DateTimeFormatter.ofPattern("yyyy-MM")),
-                Collectors.summingLong(p -> p.getHours() != null ? p.getHours() : 0L)
-            ));
-
-        return hoursByMonth.entrySet().stream()
-            .map(entry -> StatisticsResponse.TimeSeriesData.builder()
-                .date(entry.getKey())
-                .value(entry.getValue())
-                .build())
-            .sorted(Comparator.comparing(StatisticsResponse.TimeSeriesData::getDate))
-            .collect(Collectors.toList());
-    }
-
-    private List<StatisticsResponse.TimeSeriesData> getEventsParticipationByMonth(List<EventParticipation> participations) {
-        Map<String, Long> eventsByMonth = participations.stream()
-            .collect(Collectors.groupingBy(
-                p -> p.getEvent().getStartDate().format(DateTimeFormatter.ofPattern("yyyy-MM")),
-                Collectors.counting()
-            ));
-
-        return eventsByMonth.entrySet().stream()
-            .map(entry -> StatisticsResponse.TimeSeriesData.builder()
-                .date(entry.getKey())
-                .value(entry.getValue())
-                .build())
-            .sorted(Comparator.comparing(StatisticsResponse.TimeSeriesData::getDate))
-            .collect(Collectors.toList());
-    }
-
-    private Map<String, Long> getEventsByCategory(List<EventParticipation> participations) {
-        return participations.stream()
-            .collect(Collectors.groupingBy(
-                p -> p.getEvent().getCategory().toString(),
-                Collectors.counting()
-            ));
-    }
-
-    private long calculatePeopleImpacted(List<EventParticipation> participations) {
-        return participations.stream()
-            .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED)
-            .mapToLong(p -> p.getEvent().getParticipantCount())
-            .sum();
-    }
-
-    private Map<String, Long> calculateImpactByCategory(List<EventParticipation> participations) {
-        return participations.stream()
-            .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED)
-            .collect(Collectors.groupingBy(
-                p -> p.getEvent().getCategory().toString(),
-                Collectors.summingLong(p -> p.getEvent().getParticipantCount())
-            ));
-    }
-
     // Additional helper methods for organization statistics
     private double calculateEventSuccessRate(List<Event> events) {
         if (events.isEmpty()) return 0.0;
@@ -905,6 +810,7 @@ public class StatisticsServiceImpl implements StatisticsService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(CacheNames.ADMIN_STATISTICS)
     public AdminStatisticsResponse getAdminStatistics() {
         log.info("Generating admin statistics dashboard");
         
@@ -1014,17 +920,10 @@ public class StatisticsServiceImpl implements StatisticsService {
             current = current.plusMonths(1);
         }
         
-        // Since we don't have the specific repository method, we'll use a simplified approach
-        List<User> users = userRepository.findAll();
-        for (User user : users) {
-            LocalDateTime createdAt = user.getCreatedAt();
-            if (createdAt != null && (createdAt.isAfter(startDate) || createdAt.isEqual(startDate))) {
-                String month = createdAt.format(formatter);
-                if (userRegistrationsByMonth.containsKey(month)) {
-                    userRegistrationsByMonth.put(month, userRegistrationsByMonth.get(month) + 1);
-                }
-            }
-        }
+        streamingQueries.forEach(User.class, Criteria.where("createdAt").gte(startDate), user -> {
+            String month = user.getCreatedAt().format(formatter);
+            userRegistrationsByMonth.computeIfPresent(month, (key, count) -> count + 1);
+        }, "createdAt");
         
         return userRegistrationsByMonth;
     }
@@ -1040,17 +939,10 @@ public class StatisticsServiceImpl implements StatisticsService {
             current = current.plusMonths(1);
         }
         
-        // Since we don't have the specific repository method, we'll use a simplified approach
-        List<Event> events = eventRepository.findAll();
-        for (Event event : events) {
-            LocalDateTime createdAt = event.getCreatedAt();
-            if (createdAt != null && (createdAt.isAfter(startDate) || createdAt.isEqual(startDate))) {
-                String month = createdAt.format(formatter);
-                if (eventCreationsByMonth.containsKey(month)) {
-                    eventCreationsByMonth.put(month, eventCreationsByMonth.get(month) + 1);
-                }
-            }
-        }
+        streamingQueries.forEach(Event.class, Criteria.where("createdAt").gte(startDate), event -> {
+            String month = event.getCreatedAt().format(formatter);
+            eventCreationsByMonth.computeIfPresent(month, (key, count) -> count + 1);
+        }, "createdAt");
         
         return eventCreationsByMonth;
     }
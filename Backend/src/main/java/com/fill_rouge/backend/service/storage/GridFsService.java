@@ -2,6 +2,7 @@ package com.fill_rouge.backend.service.storage;
 
 import com.mongodb.client.gridfs.GridFSBucket;
 import com.mongodb.client.gridfs.GridFSDownloadStream;
+import com.mongodb.client.gridfs.GridFSUploadStream;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.gridfs.model.GridFSUploadOptions;
 import lombok.RequiredArgsConstructor;
@@ -86,6 +87,16 @@ public class GridFsService {
         }
     }
 
+    /**
+     * Opens a stream that writes straight into GridFS, for generated files too large to buffer.
+     * Callers must close the stream to finish the upload, or abort it on failure.
+     */
+    public GridFSUploadStream openUploadStream(String filename, String contentType, Document metadata) {
+        metadata.append("contentType", contentType);
+        metadata.append("uploadDate", System.currentTimeMillis());
+        return gridFSBucket.openUploadStream(filename, new GridFSUploadOptions().metadata(metadata));
+    }
+
     public byte[] retrieve(String fileId) throws IOException {
         try {
             GridFSDownloadStream downloadStream = gridFSBucket.openDownloadStream(new ObjectId(fileId));
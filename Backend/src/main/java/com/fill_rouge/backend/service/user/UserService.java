@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 
 import com.fill_rouge.backend.constant.Role;
 import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.dto.response.CursorPage;
 
 
 public interface UserService {
@@ -13,6 +14,7 @@ public interface UserService {
     User getUserById(String userId);
     
     Page<User> getAllUsers(Pageable pageable);
+    CursorPage<User> getUsers(String cursor, int size);
    
     User updateUserRole(String userId, Role role);
     
@@ -1,7 +1,11 @@
 package com.fill_rouge.backend.service.user;
 
+import com.fill_rouge.backend.config.security.PrincipalCache;
 import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.exception.ResourceNotFoundException;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.repository.Keyset;
+import com.fill_rouge.backend.repository.KeysetQueries;
 import com.fill_rouge.backend.repository.UserRepository;
 import com.fill_rouge.backend.constant.Role;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +29,8 @@ public class UserServiceImpl implements UserService {
     
     private final UserRepository userRepository;
     private final MongoTemplate mongoTemplate;
+    private final PrincipalCache principalCache;
+    private final KeysetQueries keysetQueries;
     
     @Override
     public User getUserById(String userId) {
@@ -37,6 +43,11 @@ public class UserServiceImpl implements UserService {
         log.info("Fetching all users with pagination: {}", pageable);
         return userRepository.findAll(pageable);
     }
+
+    @Override
+    public CursorPage<User> getUsers(String cursor, int size) {
+        return keysetQueries.page(User.class, Keyset.CREATED_AT, cursor, size);
+    }
     
     @Override
     @Transactional
@@ -45,7 +56,9 @@ public class UserServiceImpl implements UserService {
         User user = getUserById(userId);
         user.setRole(role);
         user.setUpdatedAt(LocalDateTime.now());
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(userId);
+        return saved;
     }
     
     @Override
@@ -58,6 +71,7 @@ public class UserServiceImpl implements UserService {
         user.setAccountLockedUntil(LocalDateTime.now().plusYears(100));
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        principalCache.invalidate(userId);
     }
     
     @Override
@@ -70,6 +84,7 @@ public class UserServiceImpl implements UserService {
         user.setFailedLoginAttempts(0);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        principalCache.invalidate(userId);
     }
     
     @Override
@@ -81,6 +96,7 @@ public class UserServiceImpl implements UserService {
             throw new ResourceNotFoundException("User not found with ID: " + userId);
         }
         userRepository.deleteById(userId);
+        principalCache.invalidate(userId);
     }
     
     @Override
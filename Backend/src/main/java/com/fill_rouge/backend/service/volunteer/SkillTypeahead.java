@@ -0,0 +1,137 @@
+package com.fill_rouge.backend.service.volunteer;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fill_rouge.backend.domain.Skill;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.dto.response.SkillSuggestion;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index from skill name to the ids of the profiles listing it, sorted by
+ * name so a typeahead prefix is one range lookup. Profiles saved or deleted on this instance
+ * are applied at once; the whole index is rebuilt from {@code volunteer_profiles} periodically
+ * to pick up partial updates and writes made by other instances.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillTypeahead {
+
+    private static final String COLLECTION = "volunteer_profiles";
+
+    private final MongoTemplate mongoTemplate;
+
+    private volatile Index index = new Index();
+
+    public List<SkillSuggestion> suggest(String prefix, int limit) {
+        if (!StringUtils.hasText(prefix)) {
+            return List.of();
+        }
+        String from = normalize(prefix);
+        return index.skills.subMap(from, from + Character.MAX_VALUE).values().stream()
+            .map(entry -> new SkillSuggestion(entry.name, entry.profileIds.size()))
+            .filter(suggestion -> suggestion.getVolunteers() > 0)
+            .sorted(Comparator.comparingInt(SkillSuggestion::getVolunteers).reversed()
+                .thenComparing(SkillSuggestion::getName))
+            .limit(limit)
+            .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${volunteer-search.typeahead-refresh:300000}")
+    public void rebuild() {
+        Query query = new Query();
+        query.fields().include("skills.name");
+        Index rebuilt = new Index();
+        try (Stream<Document> profiles = mongoTemplate.stream(query, Document.class, COLLECTION)) {
+            profiles.forEach(profile -> rebuilt.put(profile.get("_id").toString(),
+                profile.getList("skills", Document.class, List.of()).stream()
+                    .map(skill -> skill.getString("name"))
+                    .toList()));
+        }
+        index = rebuilt;
+        log.debug("Skill typeahead rebuilt with {} skills", rebuilt.skills.size());
+    }
+
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        if (event.getSource() instanceof VolunteerProfile profile && profile.getId() != null) {
+            List<Skill> skills = profile.getSkills() == null ? List.of() : profile.getSkills();
+            index.put(profile.getId(), skills.stream().map(Skill::getName).toList());
+        }
+    }
+
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        if (!COLLECTION.equals(event.getCollectionName())) {
+            return;
+        }
+        Object id = event.getDocument() == null ? null : event.getDocument().get("_id");
+        if (id == null || id instanceof Document) {
+            // Deleted by query, the next rebuild drops them
+            return;
+        }
+        index.remove(id.toString());
+    }
+
+    private static String normalize(String skill) {
+        return skill.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final Set<String> profileIds = ConcurrentHashMap.newKeySet();
+
+        private Entry(String name) {
+            this.name = name;
+        }
+    }
+
+    // Readers go through the concurrent maps, writers are serialized
+    private static final class Index {
+        private final ConcurrentSkipListMap<String, Entry> skills = new ConcurrentSkipListMap<>();
+        private final Map<String, Set<String>> skillsByProfile = new HashMap<>();
+
+        synchronized void put(String profileId, List<String> names) {
+            Map<String, String> current = names.stream()
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toMap(SkillTypeahead::normalize, String::trim, (first, second) -> first));
+            Set<String> previous = skillsByProfile.getOrDefault(profileId, Set.of());
+            previous.stream()
+                .filter(key -> !current.containsKey(key))
+                .map(skills::get)
+                .filter(Objects::nonNull)
+                .forEach(entry -> entry.profileIds.remove(profileId));
+            current.forEach((key, name) -> skills.computeIfAbsent(key, ignored -> new Entry(name)).profileIds.add(profileId));
+            skillsByProfile.put(profileId, new HashSet<>(current.keySet()));
+        }
+
+        synchronized void remove(String profileId) {
+            put(profileId, List.of());
+            skillsByProfile.remove(profileId);
+        }
+    }
+}
@@ -4,6 +4,9 @@ import java.util.List;
 
 import com.fill_rouge.backend.domain.VolunteerProfile;
 import com.fill_rouge.backend.dto.request.VolunteerProfileRequest;
+import com.fill_rouge.backend.dto.request.VolunteerSearchRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.dto.response.SkillSuggestion;
 import com.fill_rouge.backend.dto.response.VolunteerProfileResponse;
 
 public interface VolunteerProfileService {
@@ -14,7 +17,8 @@ public interface VolunteerProfileService {
     void deleteProfile(String volunteerId);
     
     // Search operations
-    List<VolunteerProfileResponse> searchVolunteers(String query);
+    CursorPage<VolunteerProfileResponse> searchVolunteers(VolunteerSearchRequest request);
+    List<SkillSuggestion> suggestSkills(String prefix, int limit);
     
     // Statistics and metrics
     void updateVolunteerStats(String volunteerId, int hoursVolunteered, double rating);
@@ -18,6 +18,9 @@ import com.fill_rouge.backend.domain.Skill;
 import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.domain.VolunteerProfile;
 import com.fill_rouge.backend.dto.request.VolunteerProfileRequest;
+import com.fill_rouge.backend.dto.request.VolunteerSearchRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.dto.response.SkillSuggestion;
 import com.fill_rouge.backend.dto.response.VolunteerProfileResponse;
 import com.fill_rouge.backend.exception.ResourceNotFoundException;
 import com.fill_rouge.backend.exception.ValidationException;
@@ -33,8 +36,12 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class VolunteerProfileServiceImpl implements VolunteerProfileService {
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final VolunteerProfileRepository profileRepository;
     private final UserRepository userRepository;
+    private final VolunteerSearchQueries searchQueries;
+    private final SkillTypeahead skillTypeahead;
 
     @Override
     @Transactional
@@ -93,11 +100,13 @@ public class VolunteerProfileServiceImpl implements VolunteerProfileService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<VolunteerProfileResponse> searchVolunteers(String query) {
-        return profileRepository.findAll().stream()
-            .filter(profile -> matchesSearchCriteria(profile, query))
-            .map(this::toVolunteerProfileResponse)
-            .collect(Collectors.toList());
+    public CursorPage<VolunteerProfileResponse> searchVolunteers(VolunteerSearchRequest request) {
+        return searchQueries.page(request).map(this::toVolunteerProfileResponse);
+    }
+
+    @Override
+    public List<SkillSuggestion> suggestSkills(String prefix, int limit) {
+        return skillTypeahead.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
     }
 
     @Override
@@ -251,6 +260,11 @@ public class VolunteerProfileServiceImpl implements VolunteerProfileService {
         profile.setAddress(request.getAddress());
         profile.setCity(request.getCity());
         profile.setCountry(request.getCountry());
+        profile.setLocation(request.getLatitude() == null || request.getLongitude() == null
+            ? null : new double[] {request.getLongitude(), request.getLatitude()});
+        if (request.getPreferredRadius() != null) {
+            profile.setPreferredRadius(request.getPreferredRadius());
+        }
         
         // Create and set emergency contact
         VolunteerProfile.EmergencyContact emergencyContact = new VolunteerProfile.EmergencyContact();
@@ -292,18 +306,6 @@ public class VolunteerProfileServiceImpl implements VolunteerProfileService {
         return (int) (attendanceScore + ratingScore + verificationScore);
     }
 
-    private boolean matchesSearchCriteria(VolunteerProfile profile, String query) {
-        if (!StringUtils.hasText(query)) {
-            return true;
-        }
-        
-        String lowercaseQuery = query.toLowerCase();
-        return profile.getSkills().stream().anyMatch(skill -> skill.getName().toLowerCase().contains(lowercaseQuery)) ||
-               profile.getInterests().stream().anyMatch(interest -> interest.toLowerCase().contains(lowercaseQuery)) ||
-               (profile.getCity() != null && profile.getCity().toLowerCase().contains(lowercaseQuery)) ||
-               (profile.getCountry() != null && profile.getCountry().toLowerCase().contains(lowercaseQuery));
-    }
-
     private VolunteerProfileResponse toVolunteerProfileResponse(VolunteerProfile profile) {
         return VolunteerProfileResponse.builder()
             .id(profile.getId())
@@ -0,0 +1,125 @@
+package com.fill_rouge.backend.service.volunteer;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.limit;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.dto.request.VolunteerSearchRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.exception.ValidationException;
+import com.fill_rouge.backend.repository.Keyset;
+import com.fill_rouge.backend.repository.KeysetQueries;
+import com.fill_rouge.backend.repository.PageCursor;
+import com.fill_rouge.backend.repository.index.MongoIndexCatalog;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Volunteer search over the {@code volunteer_text} index declared in {@link MongoIndexCatalog},
+ * with every filter applied by Mongo. With a query, pages continue after the last (score, _id);
+ * without one, after the last (createdAt, _id). The user reference is left out of the results,
+ * so no profile on a page resolves its {@code @DBRef}.
+ */
+@Component
+@RequiredArgsConstructor
+public class VolunteerSearchQueries {
+
+    private static final String SCORE = "score";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CursorPage<VolunteerProfile> page(VolunteerSearchRequest request) {
+        int size = Math.max(1, Math.min(request.getSize(), KeysetQueries.MAX_PAGE_SIZE));
+        Criteria filters = filters(request);
+        boolean ranked = StringUtils.hasText(request.getQuery());
+        PageCursor cursor = StringUtils.hasText(request.getCursor()) ? PageCursor.decode(request.getCursor()) : null;
+
+        List<VolunteerProfile> profiles = new ArrayList<>(size + 1);
+        List<Double> scores = new ArrayList<>(size + 1);
+        if (ranked) {
+            searchRanked(request.getQuery(), filters, cursor, size + 1, profiles, scores);
+        } else {
+            profiles.addAll(searchByCreation(filters, cursor, size + 1));
+        }
+
+        if (profiles.size() <= size) {
+            return new CursorPage<>(profiles, size, null);
+        }
+        List<VolunteerProfile> content = List.copyOf(profiles.subList(0, size));
+        VolunteerProfile last = content.get(size - 1);
+        String position = ranked
+            ? scores.get(size - 1).toString()
+            : last.getCreatedAt() == null ? null : last.getCreatedAt().toString();
+        return new CursorPage<>(content, size, new PageCursor(position, last.getId()).encode());
+    }
+
+    private void searchRanked(String text, Criteria filters, PageCursor cursor, int limit,
+                              List<VolunteerProfile> profiles, List<Double> scores) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(match(TextCriteria.forDefaultLanguage().matching(text)));
+        stages.add(match(filters));
+        stages.add(context -> new Document("$addFields", new Document(SCORE, new Document("$meta", "textScore"))));
+        if (cursor != null) {
+            double score;
+            try {
+                score = Double.parseDouble(cursor.position());
+            } catch (RuntimeException e) {
+                throw new ValidationException("Invalid cursor");
+            }
+            stages.add(match(new Criteria().orOperator(
+                Criteria.where(SCORE).lt(score),
+                Criteria.where(SCORE).is(score).and("_id").gt(cursor.id()))));
+        }
+        stages.add(sort(Sort.by(Sort.Order.desc(SCORE), Sort.Order.asc("_id"))));
+        stages.add(limit(limit));
+        stages.add(context -> new Document("$project", new Document("user", 0)));
+
+        for (Document document : mongoTemplate.aggregate(newAggregation(VolunteerProfile.class, stages), Document.class)) {
+            Number score = document.get(SCORE, Number.class);
+            scores.add(score == null ? 0.0 : score.doubleValue());
+            profiles.add(mongoTemplate.getConverter().read(VolunteerProfile.class, document));
+        }
+    }
+
+    private List<VolunteerProfile> searchByCreation(Criteria filters, PageCursor cursor, int limit) {
+        Query query = Query.query(filters);
+        if (cursor != null) {
+            query.addCriteria(Keyset.CREATED_AT.after(cursor));
+        }
+        query.with(Keyset.CREATED_AT.sort()).limit(limit);
+        query.fields().exclude("user");
+        return mongoTemplate.find(query, VolunteerProfile.class);
+    }
+
+    private static Criteria filters(VolunteerSearchRequest request) {
+        List<Criteria> filters = new ArrayList<>();
+        addIn(filters, "city", request.getCities());
+        addIn(filters, "province", request.getProvinces());
+        addIn(filters, "languages", request.getLanguages());
+        addIn(filters, "certifications", request.getCertifications());
+        addIn(filters, "availableDays", request.getAvailableDays());
+        addIn(filters, "skills.name", request.getSkills());
+        return filters.isEmpty() ? new Criteria() : new Criteria().andOperator(filters);
+    }
+
+    private static void addIn(List<Criteria> filters, String field, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            filters.add(Criteria.where(field).in(values));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.fill_rouge.backend.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fill_rouge.backend.config.RateLimitProperties;
+import com.fill_rouge.backend.service.ratelimit.InMemoryRateLimiter;
+import com.fill_rouge.backend.service.ratelimit.RateLimitDecision;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Per-request cost of the local rate limiter compared with the Guava cache counters it replaced.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.fill_rouge.backend.benchmark.RateLimiterBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    // 1 key: every thread contends on the same counter; 10000 keys: typical spread of client IPs
+    @Param({"1", "10000"})
+    public int keyCount;
+
+    private String[] keys;
+    private InMemoryRateLimiter rateLimiter;
+    private LoadingCache<String, Integer> guavaCache;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256) + ":minute";
+        }
+        rateLimiter = new InMemoryRateLimiter(new RateLimitProperties());
+        guavaCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Integer load(String key) {
+                        return 0;
+                    }
+                });
+    }
+
+    @Benchmark
+    public RateLimitDecision slidingWindow(Cursor cursor) {
+        return rateLimiter.tryAcquire(nextKey(cursor), 1000, MINUTE);
+    }
+
+    @Benchmark
+    public boolean guavaGetThenPut(Cursor cursor) throws Exception {
+        String key = nextKey(cursor);
+        int count = guavaCache.get(key);
+        if (count >= 1000) {
+            return false;
+        }
+        guavaCache.put(key, count + 1);
+        return true;
+    }
+
+    private String nextKey(Cursor cursor) {
+        int index = cursor.next++;
+        if (cursor.next == keyCount) {
+            cursor.next = 0;
+        }
+        return keys[index];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimiterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,130 @@
+package com.fill_rouge.backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.repository.StreamingQueries;
+import com.fill_rouge.backend.service.statistics.EventRangeStats;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * Date-range dashboard statistics over a large events collection, materialized into a list
+ * compared with folded over a projected cursor. The streamed variant runs in a 256 MB heap to
+ * show that its memory use does not grow with the collection; run with {@code -prof gc} to
+ * compare allocation. Needs Docker. Run with {@code mvn test-compile exec:java
+ * -Dexec.classpathScope=test -Dexec.mainClass=com.fill_rouge.backend.benchmark.StatisticsStreamingBenchmark}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class StatisticsStreamingBenchmark {
+
+    private static final int INSERT_BATCH = 10000;
+
+    @Param({"100000", "1000000"})
+    public int eventCount;
+
+    private MongoDBContainer container;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private StreamingQueries streamingQueries;
+    private LocalDateTime rangeStart;
+    private LocalDateTime rangeEnd;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        container = new MongoDBContainer("mongo:6.0");
+        container.start();
+        client = MongoClients.create(container.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(client, "benchmark");
+        streamingQueries = new StreamingQueries(mongoTemplate);
+
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+        rangeStart = base.minusDays(1);
+        rangeEnd = base.plusYears(2);
+        String collection = mongoTemplate.getCollectionName(Event.class);
+        List<Document> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime start = base.plusMinutes(i);
+            List<String> participants = new ArrayList<>();
+            for (int p = 0; p < i % 20; p++) {
+                participants.add("volunteer-" + p);
+            }
+            batch.add(new Document("title", "Benchmark event " + i)
+                .append("description", "A description long enough to resemble a real event listing")
+                .append("organizationId", "org-" + (i % 500))
+                .append("startDate", start)
+                .append("endDate", start.plusHours(1 + i % 6))
+                .append("status", i % 3 == 0 ? "COMPLETED" : "ACTIVE")
+                .append("maxParticipants", 25)
+                .append("averageRating", (double) (i % 5))
+                .append("registeredParticipants", participants));
+            if (batch.size() == INSERT_BATCH) {
+                mongoTemplate.getCollection(collection).insertMany(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.getCollection(collection).insertMany(batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        container.stop();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public EventRangeStats materializedList() {
+        List<Event> events = mongoTemplate.find(
+            Query.query(Criteria.where("startDate").gt(rangeStart).lt(rangeEnd)), Event.class);
+        EventRangeStats stats = new EventRangeStats();
+        events.forEach(stats);
+        return stats;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+    public EventRangeStats streamedCursor() {
+        EventRangeStats stats = new EventRangeStats();
+        streamingQueries.forEach(Event.class, Criteria.where("startDate").gt(rangeStart).lt(rangeEnd),
+            stats, EventRangeStats.FIELDS);
+        return stats;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StatisticsStreamingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -19,5 +19,9 @@ public abstract class BaseMongoTestContainer {
     @DynamicPropertySource
     static void setProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        // Tests save events with past dates and expect them left as saved
+        registry.add("event-lifecycle.enabled", () -> "false");
+        // Startup catch-up runs would race the tests driving cluster jobs and their data
+        registry.add("cluster-jobs.catch-up", () -> "false");
     }
 } 
\ No newline at end of file
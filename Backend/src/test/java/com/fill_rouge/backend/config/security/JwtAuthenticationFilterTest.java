@@ -0,0 +1,167 @@
+package com.fill_rouge.backend.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.fill_rouge.backend.constant.Role;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.repository.OrganizationRepository;
+
+import io.jsonwebtoken.security.Keys;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    private JwtConfig jwtConfig;
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtConfig = new JwtConfig();
+        jwtConfig.setSecretKey("test-secret");
+        jwtConfig.setExpiration(3600000);
+        jwtService = new JwtService(jwtConfig,
+            Keys.hmacShaKeyFor("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8)),
+            organizationRepository);
+
+        user = new User();
+        user.setId("user-1");
+        user.setEmail("volunteer@example.com");
+        user.setFirstName("Test");
+        user.setLastName("Volunteer");
+        user.setRole(Role.VOLUNTEER);
+        user.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ShouldLoadUserOnce_ForRepeatedRequests() throws Exception {
+        // Arrange
+        jwtConfig.getPrincipalCache().setClaimsFreshness(0);
+        JwtAuthenticationFilter filter = createFilter();
+        String token = jwtService.generateToken(user);
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(user);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            assertEquals(200, authenticate(filter, token).getStatus());
+        }
+
+        // Assert
+        verify(userDetailsService, times(1)).loadUserByUsername(user.getEmail());
+    }
+
+    @Test
+    void doFilter_ShouldRejectLockedUser_OnceCacheIsInvalidated() throws Exception {
+        // Arrange
+        jwtConfig.getPrincipalCache().setClaimsFreshness(0);
+        PrincipalCache principalCache = new PrincipalCache(jwtConfig);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService, principalCache);
+        String token = jwtService.generateToken(user);
+        User locked = new User();
+        locked.setId(user.getId());
+        locked.setEmail(user.getEmail());
+        locked.setRole(Role.VOLUNTEER);
+        locked.setAccountNonLocked(false);
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(user, locked);
+
+        // Act
+        MockHttpServletResponse beforeLock = authenticate(filter, token);
+        principalCache.invalidate(user.getId());
+        MockHttpServletResponse afterLock = authenticate(filter, token);
+
+        // Assert
+        assertEquals(200, beforeLock.getStatus());
+        assertEquals(401, afterLock.getStatus());
+        verify(userDetailsService, times(2)).loadUserByUsername(user.getEmail());
+    }
+
+    @Test
+    void doFilter_ShouldBuildPrincipalFromClaims_WhenTokenIsFresh() throws Exception {
+        // Arrange
+        JwtAuthenticationFilter filter = createFilter();
+        String token = jwtService.generateToken(user);
+        MockHttpServletRequest request = bearerRequest(token);
+
+        // Act
+        execute(filter, request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // Assert
+        verify(userDetailsService, never()).loadUserByUsername(user.getEmail());
+        User principal = (User) authentication.getPrincipal();
+        assertEquals(user.getId(), principal.getId());
+        assertEquals(Role.VOLUNTEER, principal.getRole());
+        assertNotNull(request.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE));
+    }
+
+    @Test
+    void doFilter_ShouldLookUpUser_WhenFreshTokenPredatesRevocation() throws Exception {
+        // Arrange
+        PrincipalCache principalCache = new PrincipalCache(jwtConfig);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService, principalCache);
+        String token = jwtService.generateToken(user);
+        principalCache.invalidate(user.getId());
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(user);
+
+        // Act
+        MockHttpServletResponse response = authenticate(filter, token);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        verify(userDetailsService, times(1)).loadUserByUsername(user.getEmail());
+    }
+
+    private JwtAuthenticationFilter createFilter() {
+        return new JwtAuthenticationFilter(jwtService, userDetailsService, new PrincipalCache(jwtConfig));
+    }
+
+    private MockHttpServletResponse authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletResponse response = execute(filter, bearerRequest(token));
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+    private MockHttpServletRequest bearerRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServletPath("/events");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private MockHttpServletResponse execute(JwtAuthenticationFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,147 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.AchievementMetric;
+import com.fill_rouge.backend.constant.AchievementType;
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.domain.Achievement;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
+import com.fill_rouge.backend.domain.VolunteerAchievement;
+import com.fill_rouge.backend.repository.AchievementRepository;
+import com.fill_rouge.backend.repository.EventParticipationRepository;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.VolunteerAchievementRepository;
+import com.fill_rouge.backend.service.achievement.AchievementRuleEngine;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AchievementRuleEngineIntegrationTest extends BaseMongoTestContainer {
+
+    private static final int ATTENDEES = 100;
+
+    @Autowired
+    private AchievementRuleEngine ruleEngine;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private VolunteerAchievementRepository volunteerAchievementRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipationRepository participationRepository;
+
+    private Achievement firstEvent;
+    private Achievement tenHours;
+    private Achievement topRated;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        firstEvent = achievementRepository.save(achievement("First Event", AchievementType.FIRST_TIME, 1, 0, 0));
+        tenHours = achievementRepository.save(achievement("Ten Hours", AchievementType.HOURS_CONTRIBUTED, 0, 10, 0));
+        topRated = achievementRepository.save(achievement("Top Rated", AchievementType.HIGH_RATING, 0, 0, 4.5));
+        ruleEngine.reload();
+
+        Event event = eventRepository.save(TestDataFactory.createEvent("org-achievements", "Achievement Event"));
+        List<EventParticipation> participations = new ArrayList<>();
+        for (int i = 0; i < ATTENDEES; i++) {
+            participations.add(EventParticipation.builder()
+                .eventId(event.getId())
+                .volunteerId("volunteer-" + i)
+                .status(EventParticipationStatus.ATTENDED)
+                .hours(4)
+                .rating(5)
+                .registeredAt(LocalDateTime.now())
+                .build());
+        }
+        participationRepository.saveAll(participations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void evaluate_ShouldAwardAndTrackProgressForAllAttendees() {
+        // Arrange
+        List<String> attendees = participationRepository.findAll().stream()
+            .map(EventParticipation::getVolunteerId)
+            .toList();
+
+        // Act
+        ruleEngine.evaluate(attendees, AchievementMetric.ATTENDANCE);
+
+        // Assert
+        List<VolunteerAchievement> firstEventAwards = volunteerAchievementRepository.findAll().stream()
+            .filter(va -> va.getAchievementId().equals(firstEvent.getId()))
+            .toList();
+        assertEquals(ATTENDEES, firstEventAwards.size());
+        firstEventAwards.forEach(va -> {
+            assertEquals(100, va.getProgress());
+            assertNotNull(va.getEarnedAt());
+        });
+        VolunteerAchievement hours = volunteerAchievementRepository
+            .findByVolunteerIdAndAchievementId("volunteer-7", tenHours.getId())
+            .orElseThrow();
+        assertEquals(40, hours.getProgress());
+        // The rating did not change, so the rating rule was not evaluated
+        assertEquals(0, volunteerAchievementRepository.findAll().stream()
+            .filter(va -> va.getAchievementId().equals(topRated.getId()))
+            .count());
+    }
+
+    @Test
+    void evaluate_ShouldNotRewriteUnchangedProgress() {
+        // Arrange
+        int firstAwards = ruleEngine.evaluate(List.of("volunteer-1", "volunteer-2"), EnumSet.allOf(AchievementMetric.class));
+
+        // Act
+        int secondAwards = ruleEngine.evaluate(List.of("volunteer-1", "volunteer-2"), EnumSet.allOf(AchievementMetric.class));
+
+        // Assert
+        assertEquals(4, firstAwards);
+        assertEquals(0, secondAwards);
+        assertEquals(6, volunteerAchievementRepository.count());
+    }
+
+    private static Achievement achievement(String name, AchievementType type, int events, int hours, double rating) {
+        Achievement achievement = Achievement.builder()
+            .name(name)
+            .description("Awarded for " + name.toLowerCase())
+            .type(type)
+            .build();
+        achievement.setRequiredEvents(events);
+        achievement.setRequiredHours(hours);
+        achievement.setRequiredRating(rating);
+        return achievement;
+    }
+
+    private void cleanUp() {
+        volunteerAchievementRepository.deleteAll();
+        achievementRepository.deleteAll();
+        participationRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+}
@@ -0,0 +1,230 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.config.CacheConfig;
+import com.fill_rouge.backend.config.CachingProperties;
+import com.fill_rouge.backend.config.security.JwtConfig;
+import com.fill_rouge.backend.config.security.PrincipalCache;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.Organization;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.OrganizationRepository;
+import com.fill_rouge.backend.repository.UserRepository;
+import com.fill_rouge.backend.service.cache.CacheInvalidator;
+import com.fill_rouge.backend.service.cache.CacheNames;
+import com.fill_rouge.backend.service.cache.ChangeStreamCacheInvalidation;
+import com.fill_rouge.backend.service.event.EventService;
+import com.fill_rouge.backend.service.organization.OrganizationService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheInvalidationIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void getEventById_ShouldSeeRegistration_WhenWrittenByPartialUpdate() {
+        // Arrange
+        Event event = saveEvent("Cached event");
+        eventService.getEventById(event.getId());
+
+        // Act
+        eventRepository.addParticipantIfSeatAvailable(event.getId(), "volunteer-1", 10);
+
+        // Assert
+        assertTrue(eventService.getEventById(event.getId()).getRegisteredParticipants().contains("volunteer-1"));
+    }
+
+    @Test
+    void approveEvent_ShouldKeepRegistrationsTheCachedCopyMisses() {
+        // Arrange
+        Event event = TestDataFactory.createEvent("org-cache", "Pending event");
+        event.setStatus(EventStatus.PENDING);
+        event.setMaxParticipants(10);
+        eventRepository.save(event);
+        eventService.getEventById(event.getId());
+        // Written as another instance would, without invalidating this one's cache
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(event.getId())),
+            new Update().addToSet("registeredParticipants", "volunteer-1"), Event.class);
+
+        // Act
+        eventService.approveEvent(event.getId());
+
+        // Assert
+        Event stored = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(EventStatus.ACTIVE, stored.getStatus());
+        assertTrue(stored.getRegisteredParticipants().contains("volunteer-1"));
+    }
+
+    @Test
+    void getEventById_ShouldReturnIndependentCopies() {
+        // Arrange
+        Event event = saveEvent("Original title");
+
+        // Act
+        eventService.getEventById(event.getId()).setTitle("Changed without saving");
+
+        // Assert
+        assertEquals("Original title", eventService.getEventById(event.getId()).getTitle());
+    }
+
+    @Test
+    void getOrganization_ShouldRecordHitsAndEvictOnSave() {
+        // Arrange
+        User owner = userRepository.save(TestDataFactory.createOrganizationUser("cache-owner@example.com"));
+        Organization organization = new Organization();
+        organization.setName("Cached organization");
+        organization.setUser(owner);
+        organization = organizationRepository.save(organization);
+        double hitsBefore = hits(CacheNames.ORGANIZATIONS);
+
+        // Act
+        organizationService.getOrganization(organization.getId());
+        organizationService.getOrganization(organization.getId());
+        organization.setName("Renamed organization");
+        organizationRepository.save(organization);
+
+        // Assert
+        assertEquals(hitsBefore + 1, hits(CacheNames.ORGANIZATIONS));
+        assertEquals("Renamed organization", organizationService.getOrganization(organization.getId()).getName());
+    }
+
+    @Test
+    void changeStream_ShouldInvalidateAnotherReplica_WhenEventIsUpdated() throws InterruptedException {
+        // Arrange: a second replica with its own caches, following the change stream
+        CacheManager replicaCaches = new CacheConfig().cacheManager(new CachingProperties());
+        Cache replicaEvents = replicaCaches.getCache(CacheNames.EVENTS);
+        ChangeStreamCacheInvalidation replica = new ChangeStreamCacheInvalidation(mongoTemplate,
+            new CacheInvalidator(replicaCaches, new PrincipalCache(new JwtConfig()), new SimpleMeterRegistry()));
+        Event event = saveEvent("Watched event");
+        replicaEvents.put("probe", "value");
+        replica.start();
+        try {
+            // Opening the stream clears the caches
+            assertTrue(await(() -> replicaEvents.get("probe") == null));
+            replicaEvents.put(event.getId(), "stale");
+
+            // Act: a partial update, which raises no local event on either replica
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(event.getId())),
+                Update.update("title", "Updated elsewhere"), Event.class);
+
+            // Assert
+            assertTrue(await(() -> replicaEvents.get(event.getId()) == null));
+        } finally {
+            replica.stop();
+        }
+    }
+
+    @Test
+    void changeStream_ShouldRevokePrincipalOnAnotherReplica_WhenUserIsLocked() throws InterruptedException {
+        // Arrange: a second replica trusting fresh token claims
+        PrincipalCache replicaPrincipals = new PrincipalCache(new JwtConfig());
+        ChangeStreamCacheInvalidation replica = new ChangeStreamCacheInvalidation(mongoTemplate,
+            new CacheInvalidator(new CacheConfig().cacheManager(new CachingProperties()), replicaPrincipals,
+                new SimpleMeterRegistry()));
+        User user = userRepository.save(TestDataFactory.createUser("locked-elsewhere@example.com"));
+        Date openedBefore = new Date(System.currentTimeMillis() - 1000);
+        replica.start();
+        try {
+            // Opening the stream revokes every token issued before it
+            assertTrue(await(() -> !replicaPrincipals.isFresh(user.getId(), openedBefore)));
+            Date issuedAt = new Date(System.currentTimeMillis() + 1);
+            Thread.sleep(10);
+            assertTrue(replicaPrincipals.isFresh(user.getId(), issuedAt));
+
+            // Act: the account is locked through this replica's repository, not the watching one
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(user.getId())),
+                Update.update("accountNonLocked", false), User.class);
+
+            // Assert
+            assertTrue(await(() -> !replicaPrincipals.isFresh(user.getId(), issuedAt)));
+        } finally {
+            replica.stop();
+        }
+    }
+
+    private Event saveEvent(String title) {
+        Event event = TestDataFactory.createEvent("org-cache", title);
+        event.setStatus(EventStatus.ACTIVE);
+        event.setMaxParticipants(10);
+        return eventRepository.save(event);
+    }
+
+    private double hits(String cache) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", "hit").functionCounter().count();
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private void cleanUp() {
+        eventRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+}
@@ -0,0 +1,120 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.SchedulerLease;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.service.event.impl.EventSchedulerService;
+import com.fill_rouge.backend.service.lease.SchedulerLeases;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ClusterJobIntegrationTest extends BaseMongoTestContainer {
+
+    private static final String SWEEP = "event-status-sweep";
+
+    @Autowired
+    private EventSchedulerService eventSchedulerService;
+
+    @Autowired
+    private SchedulerLeases schedulerLeases;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void clusterJob_ShouldRunOncePerIntervalAndSkipUntilItPassed() {
+        // Arrange
+        Event first = saveOverdueEvent();
+        double skippedBefore = skipped();
+
+        // Act
+        eventSchedulerService.scheduleEventStatusUpdates();
+        Event second = saveOverdueEvent();
+        eventSchedulerService.scheduleEventStatusUpdates();
+
+        // Assert
+        assertEquals(EventStatus.COMPLETED, statusOf(first));
+        assertEquals(EventStatus.ONGOING, statusOf(second));
+        assertEquals(skippedBefore + 1, skipped());
+        SchedulerLease lease = mongoTemplate.findById(SWEEP, SchedulerLease.class);
+        assertNotNull(lease.getLastCompletedAt());
+        assertTrue(lease.getExpiresAt().isAfter(Instant.now().plus(Duration.ofMinutes(50))));
+    }
+
+    @Test
+    void complete_ShouldBeFencedByTheToken() {
+        // Arrange
+        long stale = schedulerLeases.tryTake("test-job", "a", Duration.ZERO).getAsLong();
+        long current = schedulerLeases.tryTake("test-job", "b", Duration.ofMinutes(1)).getAsLong();
+
+        // Act
+        boolean staleCompleted = schedulerLeases.complete("test-job", stale, Instant.now().plusSeconds(60));
+        boolean currentCompleted = schedulerLeases.complete("test-job", current, Instant.now().plusSeconds(60));
+
+        // Assert
+        assertEquals(stale + 1, current);
+        assertFalse(staleCompleted);
+        assertTrue(currentCompleted);
+        assertTrue(schedulerLeases.tryTake("test-job", "b", Duration.ofMinutes(1)).isEmpty());
+    }
+
+    private double skipped() {
+        return meterRegistry.counter("scheduler.jobs.skipped", "job", SWEEP, "reason", "leased").count();
+    }
+
+    private EventStatus statusOf(Event event) {
+        return eventRepository.findById(event.getId()).orElseThrow().getStatus();
+    }
+
+    private Event saveOverdueEvent() {
+        Event event = TestDataFactory.createEvent("org-cluster-job", "Overdue");
+        event.setStatus(EventStatus.ONGOING);
+        event.setStartDate(LocalDateTime.now().minusHours(2));
+        event.setEndDate(LocalDateTime.now().minusMinutes(1));
+        return eventRepository.save(event);
+    }
+
+    private void cleanUp() {
+        eventRepository.deleteAll();
+        mongoTemplate.remove(new Query(), SchedulerLease.class);
+    }
+}
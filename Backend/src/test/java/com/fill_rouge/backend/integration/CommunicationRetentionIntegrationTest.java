@@ -0,0 +1,176 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.config.RetentionProperties;
+import com.fill_rouge.backend.constant.UnreadCounterType;
+import com.fill_rouge.backend.domain.Communication;
+import com.fill_rouge.backend.domain.Communication.CommunicationType;
+import com.fill_rouge.backend.domain.Message;
+import com.fill_rouge.backend.domain.Message.MessageType;
+import com.fill_rouge.backend.domain.UnreadCounter;
+import com.fill_rouge.backend.repository.CommunicationRepository;
+import com.fill_rouge.backend.repository.MessageRepository;
+import com.fill_rouge.backend.service.cache.CacheNames;
+import com.fill_rouge.backend.service.communication.CommunicationRetentionServiceImpl;
+import com.fill_rouge.backend.service.communication.CommunicationService;
+import com.fill_rouge.backend.service.communication.UnreadCounterService;
+import com.fill_rouge.backend.service.message.ConversationSummaries;
+import com.fill_rouge.backend.service.message.MessageService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommunicationRetentionIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private CommunicationService communicationService;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+
+    @Autowired
+    private ConversationSummaries conversationSummaries;
+
+    @Autowired
+    private CommunicationRepository communicationRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void markAllAsRead_ShouldReturnNumberOfDocumentsMarked() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            communicationService.sendNotification("reader", "Notification " + i);
+            messageService.sendMessage("sender", "reader", "Message " + i, null);
+        }
+        communicationService.markAsRead(communicationRepository.findAll().get(0).getId());
+
+        // Act
+        long notifications = communicationService.markAllAsRead("reader");
+        long messages = messageService.markAllAsRead("reader");
+        long again = communicationService.markAllAsRead("reader");
+
+        // Assert
+        assertEquals(4, notifications);
+        assertEquals(5, messages);
+        assertEquals(0, again);
+        assertTrue(communicationRepository.findAll().stream().allMatch(Communication::isRead));
+        assertEquals(0, messageRepository.findByReceiverIdAndReadFalse("reader").size());
+    }
+
+    @Test
+    void sweep_ShouldApplyRetentionOfEachType() {
+        // Arrange
+        RetentionProperties properties = new RetentionProperties();
+        properties.getCommunications().put(CommunicationType.NOTIFICATION, Duration.ofDays(1));
+        properties.getMessages().put(MessageType.SYSTEM, Duration.ofDays(1));
+        properties.setPurgeAfter(Duration.ofDays(2));
+        Communication unread = saveCommunication(CommunicationType.NOTIFICATION, false, 3);
+        Communication read = saveCommunication(CommunicationType.NOTIFICATION, true, 3);
+        Communication recent = saveCommunication(CommunicationType.NOTIFICATION, false, 0);
+        Communication direct = saveCommunication(CommunicationType.MESSAGE, false, 3);
+        Message system = saveMessage(MessageType.SYSTEM, 3);
+        Message conversation = saveMessage(MessageType.DIRECT, 3);
+        unreadCounterService.increment("reader", UnreadCounterType.NOTIFICATIONS, 3);
+        CommunicationRetentionServiceImpl retention =
+            new CommunicationRetentionServiceImpl(mongoTemplate, unreadCounterService, conversationSummaries,
+                properties);
+
+        // Act
+        long deleted = retention.sweep();
+
+        // Assert
+        assertEquals(3, deleted);
+        assertTrue(communicationRepository.findById(unread.getId()).orElseThrow().isDeleted());
+        assertTrue(communicationRepository.findById(read.getId()).orElseThrow().isDeleted());
+        assertFalse(communicationRepository.findById(recent.getId()).orElseThrow().isDeleted());
+        assertFalse(communicationRepository.findById(direct.getId()).orElseThrow().isDeleted());
+        assertTrue(messageRepository.findById(system.getId()).orElseThrow().isDeleted());
+        assertFalse(messageRepository.findById(conversation.getId()).orElseThrow().isDeleted());
+        assertEquals(2, communicationService.getUnreadCount("reader"));
+
+        Communication expiring = communicationRepository.findById(unread.getId()).orElseThrow();
+        assertEquals(expiring.getDeletedAt().plusDays(2), expiring.getExpireAt());
+    }
+
+    @Test
+    void sweep_ShouldDeleteNothing_WhenEverythingIsWithinRetention() {
+        // Arrange
+        saveCommunication(CommunicationType.NOTIFICATION, false, 0);
+        saveMessage(MessageType.DIRECT, 0);
+        CommunicationRetentionServiceImpl retention =
+            new CommunicationRetentionServiceImpl(mongoTemplate, unreadCounterService, conversationSummaries,
+                new RetentionProperties());
+
+        // Act
+        long deleted = retention.sweep();
+
+        // Assert
+        assertEquals(0, deleted);
+        assertEquals(List.of(), communicationRepository.findAll().stream().filter(Communication::isDeleted).toList());
+    }
+
+    private Communication saveCommunication(CommunicationType type, boolean read, int daysOld) {
+        return communicationRepository.save(Communication.builder()
+            .senderId("sender")
+            .receiverId("reader")
+            .content(type + " " + daysOld)
+            .type(type)
+            .isRead(read)
+            .sentAt(LocalDateTime.now().minusDays(daysOld))
+            .build());
+    }
+
+    private Message saveMessage(MessageType type, int daysOld) {
+        return messageRepository.save(Message.builder()
+            .senderId("sender")
+            .receiverId("reader")
+            .content(type + " " + daysOld)
+            .type(type)
+            .createdAt(LocalDateTime.now().minusDays(daysOld))
+            .build());
+    }
+
+    private void cleanUp() {
+        communicationRepository.deleteAll();
+        messageRepository.deleteAll();
+        mongoTemplate.dropCollection(UnreadCounter.class);
+        cacheManager.getCache(CacheNames.UNREAD_COUNTERS).clear();
+    }
+}
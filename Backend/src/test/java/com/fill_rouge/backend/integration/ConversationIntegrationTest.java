@@ -0,0 +1,181 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.domain.Conversation;
+import com.fill_rouge.backend.domain.Message;
+import com.fill_rouge.backend.domain.UnreadCounter;
+import com.fill_rouge.backend.dto.response.ConversationSummaryResponse;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.repository.MessageRepository;
+import com.fill_rouge.backend.service.cache.CacheNames;
+import com.fill_rouge.backend.service.message.ConversationSummaries;
+import com.fill_rouge.backend.service.message.MessageService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ConversationIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private ConversationSummaries conversationSummaries;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void getConversation_ShouldPageNewestFirstWithoutGapsOrDuplicates() {
+        // Arrange
+        for (int i = 0; i < 7; i++) {
+            messageService.sendMessage(i % 2 == 0 ? "alice" : "bob", i % 2 == 0 ? "bob" : "alice", "Message " + i, null);
+        }
+        messageService.sendMessage("alice", "carol", "Elsewhere", null);
+
+        // Act
+        List<String> contents = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<Message> page = messageService.getConversation("bob", "alice", cursor, 3);
+            page.getContent().forEach(message -> contents.add(message.getContent()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(3, pages);
+        assertEquals(List.of("Message 6", "Message 5", "Message 4", "Message 3", "Message 2", "Message 1", "Message 0"),
+            contents);
+    }
+
+    @Test
+    void getInbox_ShouldOrderByLastMessageAndCountUnreadPerParticipant() {
+        // Arrange
+        messageService.sendMessage("bob", "alice", "Hi Alice", null);
+        messageService.sendMessage("bob", "alice", "Still there?", null);
+        messageService.sendMessage("carol", "alice", "Hello", null);
+        messageService.sendMessage("alice", "carol", "Hi Carol", null);
+
+        // Act
+        CursorPage<ConversationSummaryResponse> inbox = messageService.getInbox("alice", null, 20);
+        CursorPage<ConversationSummaryResponse> bobInbox = messageService.getInbox("bob", null, 20);
+
+        // Assert
+        assertEquals(2, inbox.getContent().size());
+        ConversationSummaryResponse carol = inbox.getContent().get(0);
+        ConversationSummaryResponse bob = inbox.getContent().get(1);
+        assertEquals("carol", carol.getOtherParticipantId());
+        assertEquals("Hi Carol", carol.getLastMessageContent());
+        assertEquals("alice", carol.getLastMessageSenderId());
+        assertEquals(1, carol.getUnreadCount());
+        assertEquals("bob", bob.getOtherParticipantId());
+        assertEquals(2, bob.getUnreadCount());
+        assertEquals(1, bobInbox.getContent().size());
+        assertEquals(0, bobInbox.getContent().get(0).getUnreadCount());
+    }
+
+    @Test
+    void markConversationAsRead_ShouldOnlyReadThatConversation() {
+        // Arrange
+        messageService.sendMessage("bob", "alice", "One", null);
+        messageService.sendMessage("bob", "alice", "Two", null);
+        messageService.sendMessage("carol", "alice", "Three", null);
+        messageService.sendMessage("alice", "bob", "Reply", null);
+
+        // Act
+        long marked = messageService.markConversationAsRead("alice", "bob");
+        long again = messageService.markConversationAsRead("alice", "bob");
+
+        // Assert
+        assertEquals(2, marked);
+        assertEquals(0, again);
+        assertEquals(1, messageService.getUnreadCount("alice"));
+        assertEquals(1, messageService.getUnreadCount("bob"));
+        List<ConversationSummaryResponse> inbox = messageService.getInbox("alice", null, 20).getContent();
+        assertEquals(0, unreadWith(inbox, "bob"));
+        assertEquals(1, unreadWith(inbox, "carol"));
+    }
+
+    @Test
+    void backfill_ShouldKeyAndSummarizeMessagesWrittenBeforeConversations() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().minusHours(1);
+        saveLegacyMessage("bob", "alice", "Old one", false, start);
+        saveLegacyMessage("alice", "bob", "Old reply", true, start.plusMinutes(1));
+        saveLegacyMessage("bob", "alice", "Old again", false, start.plusMinutes(2));
+
+        // Act
+        conversationSummaries.backfill();
+        conversationSummaries.backfill();
+
+        // Assert
+        assertEquals(3, messageService.getConversation("alice", "bob", null, 10).getContent().size());
+        List<ConversationSummaryResponse> inbox = messageService.getInbox("alice", null, 20).getContent();
+        assertEquals(1, inbox.size());
+        assertEquals(Conversation.directKey("alice", "bob"), inbox.get(0).getConversationId());
+        assertEquals("Old again", inbox.get(0).getLastMessageContent());
+        assertEquals(2, inbox.get(0).getUnreadCount());
+        assertNull(messageService.getInbox("alice", null, 20).getNextCursor());
+    }
+
+    private static long unreadWith(List<ConversationSummaryResponse> inbox, String otherUserId) {
+        return inbox.stream()
+            .filter(summary -> otherUserId.equals(summary.getOtherParticipantId()))
+            .findFirst()
+            .orElseThrow()
+            .getUnreadCount();
+    }
+
+    private void saveLegacyMessage(String senderId, String receiverId, String content, boolean read,
+                                   LocalDateTime createdAt) {
+        messageRepository.save(Message.builder()
+            .senderId(senderId)
+            .receiverId(receiverId)
+            .content(content)
+            .type(Message.MessageType.DIRECT)
+            .read(read)
+            .createdAt(createdAt)
+            .build());
+    }
+
+    private void cleanUp() {
+        messageRepository.deleteAll();
+        mongoTemplate.remove(new Query(), Conversation.class);
+        mongoTemplate.dropCollection(UnreadCounter.class);
+        cacheManager.getCache(CacheNames.UNREAD_COUNTERS).clear();
+    }
+}
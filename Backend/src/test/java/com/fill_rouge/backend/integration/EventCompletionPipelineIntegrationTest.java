@@ -0,0 +1,234 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.AchievementType;
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Achievement;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.repository.AchievementRepository;
+import com.fill_rouge.backend.repository.EventParticipationRepository;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.UserRepository;
+import com.fill_rouge.backend.repository.VolunteerAchievementRepository;
+import com.fill_rouge.backend.repository.VolunteerProfileRepository;
+import com.fill_rouge.backend.service.achievement.AchievementRuleEngine;
+import com.fill_rouge.backend.service.event.EventCompletionPipeline;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventCompletionPipelineIntegrationTest extends BaseMongoTestContainer {
+
+    private static final int ATTENDEES = 500;
+
+    @Autowired
+    private EventCompletionPipeline completionPipeline;
+
+    @Autowired
+    private AchievementRuleEngine ruleEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private VolunteerAchievementRepository volunteerAchievementRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipationRepository participationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    private List<String> volunteerIds;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        Achievement firstEvent = Achievement.builder()
+            .name("First Event")
+            .description("Attended a first event")
+            .type(AchievementType.FIRST_TIME)
+            .build();
+        achievementRepository.save(firstEvent);
+        ruleEngine.reload();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < ATTENDEES; i++) {
+            User user = TestDataFactory.createUser("completion-" + i + "@example.com");
+            user.setVolunteerProfile(null);
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+        volunteerIds = users.stream().map(User::getId).toList();
+
+        List<VolunteerProfile> profiles = new ArrayList<>();
+        for (User user : users) {
+            profiles.add(VolunteerProfile.builder()
+                .user(user)
+                .address("1 Test Street")
+                .city("Rabat")
+                .province("Rabat-Sale-Kenitra")
+                .country("Morocco")
+                .build());
+        }
+        volunteerProfileRepository.saveAll(profiles);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void complete_ShouldCreditEveryAttendeeInBulk() {
+        // Arrange: a small completion first so the timing below excludes warm-up
+        completionPipeline.complete(saveCompletedEvent("Warm-up", volunteerIds.subList(0, 5)).getId());
+        Event event = saveCompletedEvent("Large Event", volunteerIds);
+
+        // Act
+        EventCompletionPipeline.Result result = completionPipeline.complete(event.getId());
+
+        // Assert
+        assertEquals(ATTENDEES, result.attendees());
+        assertEquals(ATTENDEES - 5, result.achievementsAwarded());
+        assertTrue(result.elapsed().compareTo(Duration.ofSeconds(1)) < 0,
+            "Completing " + ATTENDEES + " attendees took " + result.elapsed().toMillis() + " ms");
+
+        VolunteerProfile credited = volunteerProfileRepository.findAll().stream()
+            .filter(profile -> profile.getUser().getId().equals(volunteerIds.get(100)))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(1, credited.getTotalEventsAttended());
+        assertEquals(3, credited.getTotalHoursVolunteered());
+        assertEquals(20, credited.getTotalPoints());
+        assertEquals(ATTENDEES, volunteerAchievementRepository.count());
+        assertNotNull(meterRegistry.find("events.completion.stage").tag("stage", "history").timer());
+    }
+
+    @Test
+    void complete_ShouldCreditOnlyOnce_WhenCalledAgain() {
+        // Arrange
+        Event event = saveCompletedEvent("Repeated Event", volunteerIds.subList(0, 10));
+        completionPipeline.complete(event.getId());
+
+        // Act
+        EventCompletionPipeline.Result second = completionPipeline.complete(event.getId());
+
+        // Assert
+        assertTrue(second.skipped());
+        volunteerProfileRepository.findAll().stream()
+            .filter(profile -> volunteerIds.subList(0, 10).contains(profile.getUser().getId()))
+            .forEach(profile -> assertEquals(1, profile.getTotalEventsAttended()));
+    }
+
+    @Test
+    void resubmitUnfinished_ShouldFinishCompletion_WhenClaimExpired() throws InterruptedException {
+        // Arrange: a run that credited one attendee, then stopped with its instance
+        List<String> attendees = volunteerIds.subList(0, 10);
+        Event abandoned = saveCompletedEvent("Abandoned Event", attendees);
+        abandoned.setCompletionRequestedAt(LocalDateTime.now().minusHours(1));
+        abandoned.setCompletionClaimedBy("stopped-run");
+        abandoned.setCompletionClaimedAt(LocalDateTime.now().minusHours(1));
+        eventRepository.save(abandoned);
+        VolunteerProfile alreadyCredited = profileOf(attendees.get(0));
+        alreadyCredited.setTotalEventsAttended(1);
+        alreadyCredited.getCreditedEventIds().add(abandoned.getId());
+        volunteerProfileRepository.save(alreadyCredited);
+
+        Event running = saveCompletedEvent("Running Event", volunteerIds.subList(10, 12));
+        running.setCompletionRequestedAt(LocalDateTime.now());
+        running.setCompletionClaimedBy("live-run");
+        running.setCompletionClaimedAt(LocalDateTime.now());
+        eventRepository.save(running);
+
+        // Act
+        int resubmitted = completionPipeline.resubmitUnfinished();
+        Event finished = awaitProcessed(abandoned.getId());
+
+        // Assert
+        assertEquals(1, resubmitted);
+        assertNull(finished.getCompletionRequestedAt());
+        assertNull(finished.getCompletionClaimedBy());
+        attendees.forEach(volunteerId -> assertEquals(1, profileOf(volunteerId).getTotalEventsAttended()));
+        assertNull(eventRepository.findById(running.getId()).orElseThrow().getCompletionProcessedAt());
+    }
+
+    private VolunteerProfile profileOf(String volunteerId) {
+        return volunteerProfileRepository.findAll().stream()
+            .filter(profile -> profile.getUser().getId().equals(volunteerId))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Event awaitProcessed(String eventId) throws InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            Event event = eventRepository.findById(eventId).orElseThrow();
+            if (event.getCompletionProcessedAt() != null) {
+                return event;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Event completion did not finish in time");
+    }
+
+    private Event saveCompletedEvent(String title, List<String> attendees) {
+        Event event = TestDataFactory.createEvent("org-completion", title);
+        event.setStatus(EventStatus.COMPLETED);
+        event.setPointsAwarded(attendees.size() == ATTENDEES ? 20 : 5);
+        event = eventRepository.save(event);
+
+        List<EventParticipation> participations = new ArrayList<>();
+        for (String volunteerId : attendees) {
+            participations.add(EventParticipation.builder()
+                .eventId(event.getId())
+                .volunteerId(volunteerId)
+                .status(EventParticipationStatus.ATTENDED)
+                .hours(3)
+                .registeredAt(LocalDateTime.now())
+                .build());
+        }
+        participationRepository.saveAll(participations);
+        return event;
+    }
+
+    private void cleanUp() {
+        volunteerAchievementRepository.deleteAll();
+        achievementRepository.deleteAll();
+        participationRepository.deleteAll();
+        eventRepository.deleteAll();
+        volunteerProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
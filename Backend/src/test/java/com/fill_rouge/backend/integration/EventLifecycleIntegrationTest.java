@@ -0,0 +1,182 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.config.EventLifecycleProperties;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.SchedulerLease;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.service.event.lifecycle.EventLifecycleScheduler;
+import com.fill_rouge.backend.service.event.lifecycle.EventTransitions;
+import com.fill_rouge.backend.service.lease.SchedulerLeases;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventLifecycleIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private EventTransitions eventTransitions;
+
+    @Autowired
+    private SchedulerLeases schedulerLeases;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private EventLifecycleScheduler first;
+    private EventLifecycleScheduler second;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (first != null) {
+            first.stop();
+        }
+        if (second != null) {
+            second.stop();
+        }
+        cleanUp();
+    }
+
+    @Test
+    void apply_ShouldStartAndCompleteDueEventsOnce() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Event over = saveEvent(EventStatus.ACTIVE, now.minusHours(3), now.minusHours(1));
+        Event started = saveEvent(EventStatus.FULL, now.minusMinutes(5), now.plusHours(1));
+        Event upcoming = saveEvent(EventStatus.ACTIVE, now.plusHours(1), now.plusHours(2));
+        Event pending = saveEvent(EventStatus.PENDING, now.minusHours(1), now.plusHours(1));
+        List<String> ids = List.of(over.getId(), started.getId(), upcoming.getId(), pending.getId());
+
+        // Act
+        List<Event> changed = eventTransitions.apply(ids);
+        List<Event> again = eventTransitions.apply(ids);
+
+        // Assert
+        assertEquals(2, changed.size());
+        assertEquals(List.of(), again);
+        assertEquals(EventStatus.COMPLETED, statusOf(over));
+        assertEquals(EventStatus.ONGOING, statusOf(started));
+        assertEquals(EventStatus.ACTIVE, statusOf(upcoming));
+        assertEquals(EventStatus.PENDING, statusOf(pending));
+    }
+
+    @Test
+    void applyOverdue_ShouldCatchUpWithoutIds() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Event ongoing = saveEvent(EventStatus.ONGOING, now.minusHours(2), now.minusMinutes(1));
+        Event upcoming = saveEvent(EventStatus.ACTIVE, now.plusHours(1), now.plusHours(2));
+
+        // Act
+        int changed = eventTransitions.applyOverdue();
+
+        // Assert
+        assertEquals(1, changed);
+        assertEquals(EventStatus.COMPLETED, statusOf(ongoing));
+        assertEquals(EventStatus.ACTIVE, statusOf(upcoming));
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepTheTokenOnRenewalAndBumpItOnTakeover() {
+        // Act
+        OptionalLong taken = schedulerLeases.tryAcquire("test-job", "a", Duration.ofMinutes(1));
+        OptionalLong contended = schedulerLeases.tryAcquire("test-job", "b", Duration.ofMinutes(1));
+        OptionalLong renewed = schedulerLeases.tryAcquire("test-job", "a", Duration.ofMinutes(1));
+        schedulerLeases.release("test-job", "a");
+        OptionalLong takenOver = schedulerLeases.tryAcquire("test-job", "b", Duration.ofMinutes(1));
+
+        // Assert
+        assertTrue(taken.isPresent());
+        assertFalse(contended.isPresent());
+        assertEquals(taken, renewed);
+        assertEquals(taken.getAsLong() + 1, takenOver.getAsLong());
+    }
+
+    @Test
+    void scheduler_ShouldFireTransitionsAtTheirTimeOnTheLeaseHolderOnly() {
+        // Arrange
+        first = newScheduler();
+        first.start();
+        await(first::isLeader);
+        second = newScheduler();
+        second.start();
+        LocalDateTime now = LocalDateTime.now();
+        Event event = saveEvent(EventStatus.ACTIVE, now.plusSeconds(1), now.plusSeconds(2));
+
+        // Act
+        await(() -> statusOf(event) == EventStatus.COMPLETED);
+        first.stop();
+        await(second::isLeader);
+        Event later = saveEvent(EventStatus.ACTIVE, LocalDateTime.now().plusSeconds(1), LocalDateTime.now().plusHours(1));
+
+        // Assert
+        await(() -> statusOf(later) == EventStatus.ONGOING);
+        assertFalse(first.isLeader());
+    }
+
+    private EventLifecycleScheduler newScheduler() {
+        EventLifecycleProperties properties = new EventLifecycleProperties();
+        properties.setLease(Duration.ofSeconds(3));
+        properties.setHorizon(Duration.ofHours(1));
+        return new EventLifecycleScheduler(mongoTemplate, eventTransitions, schedulerLeases, properties);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met in time");
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private EventStatus statusOf(Event event) {
+        return eventRepository.findById(event.getId()).orElseThrow().getStatus();
+    }
+
+    private Event saveEvent(EventStatus status, LocalDateTime startDate, LocalDateTime endDate) {
+        Event event = TestDataFactory.createEvent("org-lifecycle", "Lifecycle " + status);
+        event.setStatus(status);
+        event.setStartDate(startDate);
+        event.setEndDate(endDate);
+        event.setMaxParticipants(10);
+        return eventRepository.save(event);
+    }
+
+    private void cleanUp() {
+        eventRepository.deleteAll();
+        mongoTemplate.remove(new Query(), SchedulerLease.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.dto.response.EventStatisticsResponse;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.service.event.EventStatisticsService;
+import com.fill_rouge.backend.service.statistics.EventRangeStats;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+/**
+ * Verifies that the cursor-streamed date range statistics match the previous
+ * list-based implementation, kept here as reference.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventRangeStatsStreamingParityTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private EventStatisticsService eventStatisticsService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final LocalDateTime rangeStart = LocalDateTime.now().minusMonths(2);
+    private final LocalDateTime rangeEnd = LocalDateTime.now().plusMonths(2);
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        EventStatus[] statuses = {EventStatus.ACTIVE, EventStatus.COMPLETED, EventStatus.COMPLETED, EventStatus.CANCELLED};
+        for (int i = 0; i < 40; i++) {
+            Event event = TestDataFactory.createEvent(i % 3 == 0 ? "org-a" : "org-b", "Range Event " + i);
+            LocalDateTime start = LocalDateTime.now().minusMonths(3).plusDays(i * 4L);
+            event.setStartDate(start);
+            event.setEndDate(start.plusHours(1 + i % 5));
+            event.setStatus(statuses[i % statuses.length]);
+            event.setMaxParticipants(10);
+            event.setAverageRating(i % 6);
+            Set<String> participants = new HashSet<>();
+            for (int p = 0; p < i % 8; p++) {
+                participants.add("volunteer-" + p);
+            }
+            event.setRegisteredParticipants(participants);
+            eventRepository.save(event);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void adminRangeStats_ShouldMatchListBasedComputation() {
+        // Arrange
+        List<Event> inRange = eventRepository.findAll().stream()
+            .filter(event -> event.getStartDate().isAfter(rangeStart) && event.getStartDate().isBefore(rangeEnd))
+            .collect(Collectors.toList());
+        List<Event> completed = inRange.stream()
+            .filter(event -> event.getStatus() == EventStatus.COMPLETED)
+            .collect(Collectors.toList());
+
+        // Act
+        EventStatisticsResponse stats = eventStatisticsService.getAdminDashboardStatsByDateRange(rangeStart, rangeEnd);
+
+        // Assert
+        assertEquals(inRange.stream().mapToLong(event -> event.getRegisteredParticipants().size()).sum(),
+            stats.getParticipantCount());
+        assertEquals(inRange.stream().mapToDouble(Event::getAverageRating).average().orElse(0.0),
+            stats.getAverageRating(), 1e-9);
+        assertEquals(completed.stream().mapToInt(EventRangeStats::eventHours).sum(), stats.getTotalVolunteerHours());
+        assertEquals(completed.stream()
+                .mapToDouble(event -> eventStatisticsService.calculateEventSuccessRate(event.getId()))
+                .average().orElse(0.0),
+            stats.getSuccessRate(), 1e-9);
+    }
+
+    @Test
+    void organizationRangeStats_ShouldMatchListBasedComputation() {
+        // Arrange
+        List<Event> inRange = eventRepository.findAll().stream()
+            .filter(event -> "org-a".equals(event.getOrganizationId()))
+            .filter(event -> event.getStartDate().isAfter(rangeStart) && event.getStartDate().isBefore(rangeEnd))
+            .collect(Collectors.toList());
+        long completed = inRange.stream().filter(event -> event.getStatus() == EventStatus.COMPLETED).count();
+
+        // Act
+        EventStatisticsResponse stats = eventStatisticsService.getOrganizationDashboardStatsByDateRange(
+            "org-a", rangeStart, rangeEnd);
+
+        // Assert
+        assertEquals(inRange.stream().mapToLong(event -> event.getRegisteredParticipants().size()).sum(),
+            stats.getParticipantCount());
+        assertEquals(inRange.stream().mapToDouble(Event::getAverageRating).average().orElse(0.0),
+            stats.getAverageRating(), 1e-9);
+        assertEquals((double) completed / inRange.size() * 100, stats.getSuccessRate(), 1e-9);
+    }
+}
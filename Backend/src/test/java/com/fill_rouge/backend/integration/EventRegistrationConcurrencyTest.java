@@ -0,0 +1,255 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventCategory;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventFeedback;
+import com.fill_rouge.backend.repository.EventFeedbackRepository;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.StatisticsRollupRepository;
+import com.fill_rouge.backend.service.event.EventFeedbackService;
+import com.fill_rouge.backend.service.event.EventService;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+/**
+ * Fires thousands of parallel registrations at a 100-seat event and checks that
+ * the conditional updates never hand out more seats than the event has.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventRegistrationConcurrencyTest extends BaseMongoTestContainer {
+
+    private static final int SEATS = 100;
+    private static final int REGISTRATIONS = 2000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventFeedbackService feedbackService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventFeedbackRepository feedbackRepository;
+
+    @Autowired
+    private StatisticsRollupService rollupService;
+
+    @Autowired
+    private StatisticsRollupRepository rollupRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        feedbackRepository.deleteAll();
+        rollupRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+        feedbackRepository.deleteAll();
+        rollupRepository.deleteAll();
+    }
+
+    @Test
+    void registerParticipant_ShouldNeverOverbook_UnderParallelLoad() throws Exception {
+        // Arrange
+        Event event = eventRepository.save(createEvent(false));
+        rollupService.rebuildAll();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Act
+        runConcurrently(i -> {
+            try {
+                eventService.registerParticipant(event.getId(), "volunteer-" + i);
+            } catch (IllegalStateException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Assert
+        Event result = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(SEATS, result.getRegisteredParticipants().size());
+        assertEquals(REGISTRATIONS - SEATS, rejected.get());
+        assertEquals(EventStatus.FULL, result.getStatus());
+        assertEquals(SEATS, rollupService.getPlatformRollup().getRegisteredParticipants());
+        assertTrue(rollupService.checkConsistency().isConsistent());
+    }
+
+    @Test
+    void registerParticipant_ShouldWaitlistOverflow_WhenWaitlistEnabled() throws Exception {
+        // Arrange
+        Event event = eventRepository.save(createEvent(true));
+
+        // Act
+        runConcurrently(i -> eventService.registerParticipant(event.getId(), "volunteer-" + i));
+
+        // Assert
+        Event result = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(SEATS, result.getRegisteredParticipants().size());
+        assertEquals(REGISTRATIONS - SEATS, result.getWaitlistedParticipants().size());
+        assertEquals(REGISTRATIONS - SEATS, result.getCurrentWaitlistSize());
+        assertTrue(result.getRegisteredParticipants().stream()
+            .noneMatch(result.getWaitlistedParticipants()::contains));
+    }
+
+    @Test
+    void registerParticipant_ShouldRegisterOnce_WhenSameUserRegistersInParallel() throws Exception {
+        // Arrange
+        Event event = eventRepository.save(createEvent(false));
+        rollupService.rebuildAll();
+
+        // Act
+        runConcurrently(i -> eventService.registerParticipant(event.getId(), "volunteer-" + (i % 10)));
+
+        // Assert
+        Event result = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(10, result.getRegisteredParticipants().size());
+        assertEquals(10, rollupService.getPlatformRollup().getRegisteredParticipants());
+    }
+
+    @Test
+    void unregisterParticipant_ShouldFreeSeats_WhileRegistrationsRace() throws Exception {
+        // Arrange: fill the event, then let half the seats be released while others compete for them
+        Event event = eventRepository.save(createEvent(false));
+        rollupService.rebuildAll();
+        for (int i = 0; i < SEATS; i++) {
+            eventService.registerParticipant(event.getId(), "holder-" + i);
+        }
+        eventService.updateEventStatus(event.getId(), EventStatus.ACTIVE);
+
+        // Act
+        runConcurrently(i -> {
+            if (i < SEATS / 2) {
+                eventService.unregisterParticipant(event.getId(), "holder-" + i);
+            } else {
+                try {
+                    eventService.registerParticipant(event.getId(), "volunteer-" + i);
+                } catch (IllegalStateException e) {
+                    // Full at the time of the attempt
+                }
+            }
+        });
+
+        // Assert
+        Event result = eventRepository.findById(event.getId()).orElseThrow();
+        assertTrue(result.getRegisteredParticipants().size() <= SEATS);
+        assertTrue(result.getRegisteredParticipants().size() >= SEATS / 2);
+        assertTrue(rollupService.checkConsistency().isConsistent());
+    }
+
+    @Test
+    void updateEventStatus_ShouldKeepRegistrations_WhileRegistrationsRace() throws Exception {
+        // Arrange
+        Event event = eventRepository.save(createEvent(false));
+        rollupService.rebuildAll();
+
+        // Act
+        runConcurrently(i -> {
+            if (i % 2 == 0) {
+                eventService.updateEventStatus(event.getId(), EventStatus.ACTIVE);
+            } else {
+                try {
+                    eventService.registerParticipant(event.getId(), "volunteer-" + i);
+                } catch (IllegalStateException e) {
+                    // Full at the time of the attempt
+                }
+            }
+        });
+
+        // Assert
+        Event result = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(SEATS, result.getRegisteredParticipants().size());
+        assertEquals(SEATS, rollupService.getPlatformRollup().getRegisteredParticipants());
+        assertTrue(rollupService.checkConsistency().isConsistent());
+    }
+
+    @Test
+    void submitFeedback_ShouldKeepRegistrations_WhileRegistrationsRace() throws Exception {
+        // Arrange
+        Event event = eventRepository.save(createEvent(false));
+        rollupService.rebuildAll();
+        for (int i = 0; i < SEATS / 2; i++) {
+            eventService.registerParticipant(event.getId(), "volunteer-" + i);
+        }
+
+        // Act
+        runConcurrently(i -> {
+            if (i < SEATS / 2) {
+                feedbackService.submitFeedback(event.getId(), "volunteer-" + i,
+                    EventFeedback.builder().rating(4).submittedAt(LocalDateTime.now()).build());
+            } else {
+                try {
+                    eventService.registerParticipant(event.getId(), "volunteer-" + i);
+                } catch (IllegalStateException e) {
+                    // Full at the time of the attempt
+                }
+            }
+        });
+
+        // Assert
+        Event result = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(SEATS, result.getRegisteredParticipants().size());
+        assertEquals(4.0, result.getAverageRating());
+        assertEquals(SEATS, rollupService.getPlatformRollup().getRegisteredParticipants());
+        assertTrue(rollupService.checkConsistency().isConsistent());
+    }
+
+    private void runConcurrently(IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Event createEvent(boolean waitlistEnabled) {
+        Event event = TestDataFactory.createEvent("org-stress", "Stress Test Event");
+        event.setCategory(EventCategory.COMMUNITY_DEVELOPMENT);
+        event.setStatus(EventStatus.ACTIVE);
+        event.setMaxParticipants(SEATS);
+        event.setWaitlistEnabled(waitlistEnabled);
+        return event;
+    }
+}
@@ -0,0 +1,162 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventCategory;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.dto.request.EventSearchRequest;
+import com.fill_rouge.backend.dto.response.EventResponse;
+import com.fill_rouge.backend.dto.response.EventSearchResponse;
+import com.fill_rouge.backend.dto.response.FacetCount;
+import com.fill_rouge.backend.exception.ValidationException;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.service.event.EventSearchService;
+import com.fill_rouge.backend.service.event.EventService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventSearchIntegrationTest extends BaseMongoTestContainer {
+
+    // Rabat and Casablanca, about 87 km apart
+    private static final double[] RABAT = {-6.8498, 34.0209};
+    private static final double[] CASABLANCA = {-7.5898, 33.5731};
+
+    @Autowired
+    private EventSearchService eventSearchService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        for (int i = 0; i < 30; i++) {
+            Event event = TestDataFactory.createEvent("org-search", "Community gathering " + i);
+            event.setCategory(i % 3 == 0 ? EventCategory.ENVIRONMENT : EventCategory.EDUCATION);
+            event.setDifficulty(i % 2 == 0 ? "BEGINNER" : "ADVANCED");
+            event.setTags(Set.of(i % 3 == 0 ? "outdoor" : "indoor"));
+            event.setRequiredSkills(List.of("teamwork"));
+            event.setCoordinates(i < 20 ? RABAT : CASABLANCA);
+            event.setStartDate(LocalDateTime.now().plusDays(1 + i));
+            event.setEndDate(event.getStartDate().plusHours(2));
+            if (i == 7) {
+                event.setTitle("Beach cleanup in Rabat");
+            }
+            if (i == 8) {
+                event.setDescription("After the workshop we join the beach cleanup crew");
+            }
+            eventRepository.save(event);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveDescriptionMatches() {
+        // Act
+        EventSearchResponse response = eventSearchService.search(
+            EventSearchRequest.builder().query("beach cleanup").build(), null);
+
+        // Assert
+        assertEquals(2, response.getEvents().size());
+        assertEquals("Beach cleanup in Rabat", response.getEvents().get(0).getTitle());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void searchEvents_ShouldMatchPartOfTheTitle() {
+        // Act
+        List<Event> events = eventService.searchEvents("CLEAN", PageRequest.of(0, 10)).getContent();
+
+        // Assert: the description match is not a title match
+        assertEquals(1, events.size());
+        assertEquals("Beach cleanup in Rabat", events.get(0).getTitle());
+    }
+
+    @Test
+    void search_ShouldCountFacetsOverTheWholeResult() {
+        // Act
+        EventSearchResponse response = eventSearchService.search(
+            EventSearchRequest.builder().difficulties(List.of("BEGINNER")).size(5).build(), null);
+
+        // Assert
+        List<FacetCount> categories = response.getFacets().get("category");
+        assertEquals(new FacetCount("EDUCATION", 10), categories.get(0));
+        assertEquals(new FacetCount("ENVIRONMENT", 5), categories.get(1));
+        assertEquals(List.of(new FacetCount("BEGINNER", 15)), response.getFacets().get("difficulty"));
+        assertEquals(List.of(new FacetCount("teamwork", 15)), response.getFacets().get("requiredSkills"));
+    }
+
+    @Test
+    void search_ShouldCombineGeoDateAndFacetFilters() {
+        // Arrange
+        EventSearchRequest request = EventSearchRequest.builder()
+            .categories(List.of(EventCategory.ENVIRONMENT))
+            .latitude(RABAT[1])
+            .longitude(RABAT[0])
+            .radiusKm(20.0)
+            .from(LocalDateTime.now().plusDays(5))
+            .build();
+
+        // Act
+        EventSearchResponse response = eventSearchService.search(request, null);
+
+        // Assert: ENVIRONMENT events are every third one; in Rabat and from day five: 6, 9, 12, 15, 18
+        assertEquals(5, response.getEvents().size());
+        response.getEvents().forEach(event -> assertTrue(event.getStartDate().isAfter(request.getFrom())));
+    }
+
+    @Test
+    void search_ShouldWalkAllPagesWithoutGapsOrDuplicates() {
+        // Arrange
+        List<EventResponse> seen = new ArrayList<>();
+        EventSearchRequest request = EventSearchRequest.builder().query("community").size(7).build();
+
+        // Act
+        EventSearchResponse page = eventSearchService.search(request, null);
+        seen.addAll(page.getEvents());
+        while (page.getNextCursor() != null) {
+            request.setCursor(page.getNextCursor());
+            page = eventSearchService.search(request, null);
+            assertNull(page.getFacets());
+            seen.addAll(page.getEvents());
+        }
+
+        // Assert: every event but the renamed beach cleanup mentions "community"
+        Set<String> ids = new HashSet<>();
+        seen.forEach(event -> ids.add(event.getId()));
+        assertEquals(29, seen.size());
+        assertEquals(29, ids.size());
+    }
+
+    @Test
+    void search_ShouldRejectTamperedCursor() {
+        EventSearchRequest request = EventSearchRequest.builder().cursor("not-a-cursor").build();
+        assertThrows(ValidationException.class, () -> eventSearchService.search(request, null));
+    }
+}
@@ -0,0 +1,165 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.Organization;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.dto.response.OrganizationResponse;
+import com.fill_rouge.backend.exception.ValidationException;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.OrganizationRepository;
+import com.fill_rouge.backend.repository.UserRepository;
+import com.fill_rouge.backend.service.event.EventService;
+import com.fill_rouge.backend.service.organization.OrganizationService;
+import com.fill_rouge.backend.service.user.UserService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class KeysetPaginationIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void getPublicEvents_ShouldVisitEveryEventOnce_WhenStartDatesTie() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.MILLIS);
+        for (int i = 0; i < 25; i++) {
+            Event event = TestDataFactory.createEvent("org-keyset", "Keyset event " + i);
+            event.setStatus(i == 24 ? EventStatus.CANCELLED : EventStatus.ACTIVE);
+            // Ten events share the same start date
+            event.setStartDate(i < 10 ? start : start.plusHours(i));
+            event.setEndDate(event.getStartDate().plusHours(2));
+            eventRepository.save(event);
+        }
+
+        // Act
+        List<Event> visited = walk(cursor -> eventService.getPublicEvents(cursor, 7));
+
+        // Assert
+        assertEquals(24, visited.size());
+        assertEquals(24, visited.stream().map(Event::getId).distinct().count());
+        for (int i = 1; i < visited.size(); i++) {
+            assertTrue(!visited.get(i).getStartDate().isBefore(visited.get(i - 1).getStartDate()));
+        }
+    }
+
+    @Test
+    void getUsers_ShouldPageThroughUsersWithoutCreationDate() {
+        // Arrange
+        for (int i = 0; i < 9; i++) {
+            User user = TestDataFactory.createUser("keyset-" + i + "@example.com");
+            user.setVolunteerProfile(null);
+            user.setCreatedAt(i < 4 ? null : LocalDateTime.now().minusDays(i));
+            userRepository.save(user);
+        }
+
+        // Act
+        List<User> visited = walk(cursor -> userService.getUsers(cursor, 2));
+
+        // Assert
+        Set<String> emails = new HashSet<>();
+        visited.forEach(user -> emails.add(user.getEmail()));
+        assertEquals(9, visited.size());
+        assertEquals(9, emails.size());
+        assertNull(visited.get(0).getCreatedAt());
+    }
+
+    @Test
+    void searchOrganizations_ShouldPageMatchesByName() {
+        // Arrange
+        User owner = userRepository.save(TestDataFactory.createOrganizationUser("owner@example.com"));
+        for (String name : List.of("Green Rabat", "Green Fes", "Blue Tangier", "Green Agadir", "Green (Oujda)")) {
+            Organization organization = new Organization();
+            organization.setName(name);
+            organization.setUser(owner);
+            organizationRepository.save(organization);
+        }
+
+        // Act
+        CursorPage<OrganizationResponse> first = organizationService.searchOrganizations("green", null, 2);
+        CursorPage<OrganizationResponse> second = organizationService.searchOrganizations("green", first.getNextCursor(), 2);
+        CursorPage<OrganizationResponse> literal = organizationService.searchOrganizations("(oujda)", null, 2);
+
+        // Assert
+        assertEquals(List.of("Green (Oujda)", "Green Agadir"), names(first));
+        assertEquals(List.of("Green Fes", "Green Rabat"), names(second));
+        assertNull(second.getNextCursor());
+        assertEquals(List.of("Green (Oujda)"), names(literal));
+    }
+
+    @Test
+    void getPublicEvents_ShouldRejectMalformedCursor() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> eventService.getPublicEvents("not a cursor", 10));
+    }
+
+    private static <T> List<T> walk(Function<String, CursorPage<T>> pages) {
+        List<T> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<T> page = pages.apply(cursor);
+            visited.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return visited;
+    }
+
+    private static List<String> names(CursorPage<OrganizationResponse> page) {
+        return page.getContent().stream().map(OrganizationResponse::getName).toList();
+    }
+
+    private void cleanUp() {
+        eventRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
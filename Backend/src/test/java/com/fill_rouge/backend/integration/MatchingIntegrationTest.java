@@ -0,0 +1,171 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventCategory;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.Skill;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.domain.VolunteerRecommendations;
+import com.fill_rouge.backend.dto.response.MatchRecommendation;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.VolunteerProfileRepository;
+import com.fill_rouge.backend.service.matching.MatchingService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MatchingIntegrationTest extends BaseMongoTestContainer {
+
+    private static final double[] RABAT = {-6.8498, 34.0209};
+    private static final double[] SALE = {-6.7985, 34.0531};
+    private static final double[] CASABLANCA = {-7.5898, 33.5731};
+    private static final LocalDateTime NEXT_MONDAY =
+        LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atTime(10, 0);
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private Event clinic;
+    private Event cleanup;
+    private Event casablancaClinic;
+    private VolunteerProfile medic;
+    private VolunteerProfile teacher;
+    private VolunteerProfile unlocated;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        clinic = saveEvent("Clinic", RABAT, EventCategory.HEALTH, List.of("First Aid"), EventStatus.ACTIVE, NEXT_MONDAY);
+        cleanup = saveEvent("Cleanup", SALE, EventCategory.ENVIRONMENT, List.of(), EventStatus.ACTIVE, NEXT_MONDAY);
+        casablancaClinic = saveEvent("Casablanca clinic", CASABLANCA, EventCategory.HEALTH, List.of("First Aid"),
+            EventStatus.ACTIVE, NEXT_MONDAY);
+        saveEvent("Pending", RABAT, EventCategory.HEALTH, List.of("First Aid"), EventStatus.PENDING, NEXT_MONDAY);
+        saveEvent("Past", RABAT, EventCategory.HEALTH, List.of("First Aid"), EventStatus.ACTIVE,
+            LocalDateTime.now().minusDays(1));
+
+        medic = saveProfile(RABAT, "First Aid", "MONDAY", "HEALTH", false);
+        teacher = saveProfile(SALE, "Teaching", "TUESDAY", "EDUCATION", false);
+        unlocated = saveProfile(null, "First Aid", "MONDAY", "HEALTH", false);
+        saveProfile(RABAT, "First Aid", "MONDAY", "HEALTH", true);
+        matchingService.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void recommendEvents_ShouldRankOpenEventsWithinTheVolunteersRadius() {
+        // Act
+        List<MatchRecommendation> recommendations = matchingService.recommendEvents(medic.getId(), 10);
+
+        // Assert
+        assertEquals(List.of(clinic.getId(), cleanup.getId()), ids(recommendations));
+        assertEquals(1, recommendations.get(0).getSharedSkills());
+        assertTrue(recommendations.get(0).getScore() > recommendations.get(1).getScore());
+        assertTrue(recommendations.get(1).getDistanceKm() > 4 && recommendations.get(1).getDistanceKm() < 7);
+        assertEquals(List.of(clinic.getId()), ids(matchingService.recommendEvents(medic.getId(), 1)));
+        assertEquals(List.of(), matchingService.recommendEvents(unlocated.getId(), 10));
+    }
+
+    @Test
+    void recommendVolunteers_ShouldSkipBannedAndOutOfRangeVolunteers() {
+        // Act
+        List<MatchRecommendation> forClinic = matchingService.recommendVolunteers(clinic.getId(), 10);
+        List<MatchRecommendation> forCasablanca = matchingService.recommendVolunteers(casablancaClinic.getId(), 10);
+
+        // Assert
+        assertEquals(List.of(medic.getId(), teacher.getId()), ids(forClinic));
+        assertEquals(List.of(), forCasablanca);
+    }
+
+    @Test
+    void materializeAll_ShouldStoreRecommendationsAndDropStaleOnes() {
+        // Act
+        int first = matchingService.materializeAll();
+        volunteerProfileRepository.delete(teacher);
+        int second = matchingService.materializeAll();
+
+        // Assert
+        assertEquals(2, first);
+        assertEquals(1, second);
+        assertEquals(ids(matchingService.recommendEvents(medic.getId(), 10)),
+            ids(matchingService.getStoredRecommendations(medic.getId())));
+        assertNull(mongoTemplate.findById(teacher.getId(), VolunteerRecommendations.class));
+    }
+
+    private static List<String> ids(List<MatchRecommendation> recommendations) {
+        return recommendations.stream().map(MatchRecommendation::getId).toList();
+    }
+
+    private Event saveEvent(String title, double[] coordinates, EventCategory category, List<String> skills,
+                            EventStatus status, LocalDateTime startDate) {
+        Event event = TestDataFactory.createEvent("org-matching", title);
+        event.setCoordinates(coordinates);
+        event.setCategory(category);
+        event.setRequiredSkills(new ArrayList<>(skills));
+        event.setStatus(status);
+        event.setStartDate(startDate);
+        event.setEndDate(startDate.plusHours(2));
+        return eventRepository.save(event);
+    }
+
+    private VolunteerProfile saveProfile(double[] location, String skillName, String day, String category,
+                                         boolean banned) {
+        Skill skill = new Skill();
+        skill.setName(skillName);
+        return volunteerProfileRepository.save(VolunteerProfile.builder()
+            .id(new ObjectId().toHexString())
+            .address("1 Test Street")
+            .city("Rabat")
+            .province("Rabat-Sale-Kenitra")
+            .country("Morocco")
+            .location(location)
+            .preferredRadius(20)
+            .skills(new ArrayList<>(List.of(skill)))
+            .availableDays(new HashSet<>(Set.of(day)))
+            .preferredCategories(new HashSet<>(Set.of(category)))
+            .banned(banned)
+            .build());
+    }
+
+    private void cleanUp() {
+        eventRepository.deleteAll();
+        volunteerProfileRepository.deleteAll();
+        mongoTemplate.remove(new Query(), VolunteerRecommendations.class);
+    }
+}
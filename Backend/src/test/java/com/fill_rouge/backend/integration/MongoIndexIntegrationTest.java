@@ -0,0 +1,146 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.index.IndexUsage;
+import com.fill_rouge.backend.repository.index.MongoIndexCatalog;
+import com.fill_rouge.backend.repository.index.MongoIndexManager;
+import com.fill_rouge.backend.repository.index.QueryPlanCheck;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MongoIndexIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private MongoIndexManager indexManager;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        for (int i = 0; i < 50; i++) {
+            Event event = TestDataFactory.createEvent("org-" + (i % 5), "Indexed event " + i);
+            event.setCoordinates(new double[] {-6.84 + i * 0.01, 34.02});
+            eventRepository.save(event);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void ensureIndexes_ShouldCreateDeclaredIndexes() {
+        // Act
+        indexManager.ensureIndexes();
+
+        // Assert
+        List<String> eventIndexes = indexNames("events");
+        assertTrue(eventIndexes.containsAll(List.of("organization_status_end", "status_start_id", "status_end",
+            "participant_start", "waitlisted", "coordinates_2dsphere", MongoIndexCatalog.EVENT_TEXT_INDEX)));
+        assertTrue(indexNames("organizations").contains("coordinates_2dsphere"));
+        assertTrue(indexNames("volunteer_profiles").contains("location_2dsphere"));
+        Optional<IndexInfo> ttl = index("tokens", "expiresAt");
+        assertTrue(ttl.isPresent());
+        assertEquals(0L, ttl.get().getExpireAfter().orElseThrow().getSeconds());
+        assertTrue(index("communications", "expireAt").flatMap(IndexInfo::getExpireAfter).isPresent());
+        assertTrue(index("messages", "expireAt").flatMap(IndexInfo::getExpireAfter).isPresent());
+    }
+
+    @Test
+    void ensureIndexes_ShouldCreateAnnotatedIndexes() {
+        // Act
+        indexManager.ensureIndexes();
+
+        // Assert
+        assertTrue(indexNames("volunteer_achievements").contains("volunteer_achievement_idx"));
+        assertTrue(index("report_jobs", "activeKey").map(IndexInfo::isUnique).orElse(false));
+        assertEquals(86400L, index("verification_tokens", "expiresAt")
+            .flatMap(IndexInfo::getExpireAfter).orElseThrow().getSeconds());
+    }
+
+    @Test
+    void ensureIndexes_ShouldBeIdempotent() {
+        // Arrange
+        indexManager.ensureIndexes();
+        int before = indexNames("events").size();
+
+        // Act
+        indexManager.ensureIndexes();
+
+        // Assert
+        assertEquals(before, indexNames("events").size());
+    }
+
+    @Test
+    void verify_ShouldServeEveryDeclaredQueryShapeFromAnIndex() {
+        // Act
+        List<QueryPlanCheck> checks = indexManager.verify();
+
+        // Assert
+        assertEquals(MongoIndexCatalog.QUERY_SHAPES.size(), checks.size());
+        for (QueryPlanCheck check : checks) {
+            assertNull(check.error(), check.method());
+            assertFalse(check.collectionScan(), check.method() + " " + check.stages());
+        }
+        Map<String, QueryPlanCheck> byMethod = checks.stream()
+            .collect(Collectors.toMap(QueryPlanCheck::method, check -> check));
+        assertTrue(byMethod.get("EventRepository.findNearbyEvents").indexes().contains("coordinates_2dsphere"));
+        assertEquals(checks, indexManager.getLastVerification());
+    }
+
+    @Test
+    void indexUsage_ShouldCountOperationsPerIndex() {
+        // Arrange
+        indexManager.ensureIndexes();
+        eventRepository.findByOrganizationId("org-1", PageRequest.of(0, 10));
+
+        // Act
+        List<IndexUsage> usage = indexManager.indexUsage();
+
+        // Assert
+        IndexUsage organizationIndex = usage.stream()
+            .filter(row -> row.collection().equals("events") && row.name().equals("organization_status_end"))
+            .findFirst()
+            .orElseThrow();
+        assertTrue(organizationIndex.operations() >= 1);
+    }
+
+    private List<String> indexNames(String collection) {
+        return mongoTemplate.indexOps(collection).getIndexInfo().stream().map(IndexInfo::getName).toList();
+    }
+
+    private Optional<IndexInfo> index(String collection, String field) {
+        return mongoTemplate.indexOps(collection).getIndexInfo().stream()
+            .filter(info -> info.isIndexForFields(List.of(field)))
+            .findFirst();
+    }
+}
@@ -0,0 +1,146 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.config.RateLimitProperties;
+import com.fill_rouge.backend.domain.RateLimitWindow;
+import com.fill_rouge.backend.service.ratelimit.MongoRateLimiter;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MongoRateLimiterIntegrationTest extends BaseMongoTestContainer {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // Two limiters over the same collection stand in for two application replicas
+    private MongoRateLimiter replicaA;
+    private MongoRateLimiter replicaB;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(RateLimitWindow.class);
+        replicaA = new MongoRateLimiter(mongoTemplate, new RateLimitProperties());
+        replicaB = new MongoRateLimiter(mongoTemplate, new RateLimitProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.dropCollection(RateLimitWindow.class);
+    }
+
+    @Test
+    void tryAcquire_ShouldShareLimitAcrossReplicas_OnceSynced() {
+        // Arrange
+        for (int i = 0; i < 8; i++) {
+            assertTrue(replicaA.tryAcquire("client:login", 10, HOUR).allowed());
+        }
+        replicaA.sync();
+
+        // Act: B learns the shared total at its first sync after using the key
+        assertTrue(replicaB.tryAcquire("client:login", 10, HOUR).allowed());
+        replicaB.sync();
+
+        // Assert
+        assertTrue(replicaB.tryAcquire("client:login", 10, HOUR).allowed());
+        assertFalse(replicaB.tryAcquire("client:login", 10, HOUR).allowed());
+        replicaB.sync();
+        RateLimitWindow window = mongoTemplate.findAll(RateLimitWindow.class).get(0);
+        assertEquals(10, window.getCount());
+        assertTrue(window.getExpireAt() != null);
+    }
+
+    @Test
+    void tryAcquire_ShouldOnlyOvershootByWhatOtherReplicasAdmittedSinceTheLastSync() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            assertTrue(replicaA.tryAcquire("client:login", 10, HOUR).allowed());
+            assertTrue(replicaB.tryAcquire("client:login", 10, HOUR).allowed());
+        }
+
+        // Act
+        replicaA.sync();
+        replicaB.sync();
+        boolean staleAdmit = replicaA.tryAcquire("client:login", 10, HOUR).allowed();
+        replicaA.sync();
+
+        // Assert: A still saw only its own five, then catches up on the next sync
+        assertTrue(staleAdmit);
+        assertFalse(replicaA.tryAcquire("client:login", 10, HOUR).allowed());
+        assertFalse(replicaB.tryAcquire("client:login", 10, HOUR).allowed());
+        assertEquals(11, mongoTemplate.findAll(RateLimitWindow.class).get(0).getCount());
+    }
+
+    @Test
+    void tryAcquire_ShouldDecideWithoutWritingToMongo() {
+        // Act
+        for (int i = 0; i < 100; i++) {
+            replicaA.tryAcquire("client:search", 10, HOUR);
+        }
+
+        // Assert: nothing reaches the collection until the sync, and rejections never do
+        assertTrue(mongoTemplate.findAll(RateLimitWindow.class).isEmpty());
+        replicaA.sync();
+        assertEquals(10, mongoTemplate.findAll(RateLimitWindow.class).get(0).getCount());
+    }
+
+    @Test
+    void tryAcquire_ShouldNeverExceedLimitOnOneReplica_UnderParallelLoad() throws Exception {
+        // Arrange
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < 400; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (replicaA.tryAcquire("client:search", 50, HOUR).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                    if (ThreadLocalRandom.current().nextInt(20) == 0) {
+                        replicaA.sync();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        replicaA.sync();
+
+        // Assert
+        assertEquals(50, allowed.get());
+        assertEquals(50, mongoTemplate.findAll(RateLimitWindow.class).get(0).getCount());
+    }
+}
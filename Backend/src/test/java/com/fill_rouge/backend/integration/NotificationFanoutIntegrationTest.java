@@ -0,0 +1,116 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.FanoutJobStatus;
+import com.fill_rouge.backend.domain.Communication;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.dto.response.NotificationFanoutResponse;
+import com.fill_rouge.backend.repository.CommunicationRepository;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.service.communication.CommunicationService;
+import com.fill_rouge.backend.service.communication.NotificationFanoutService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationFanoutIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private CommunicationService communicationService;
+
+    @Autowired
+    private NotificationFanoutService notificationFanoutService;
+
+    @Autowired
+    private CommunicationRepository communicationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        communicationRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        communicationRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void sendBulkNotification_ShouldWriteOneNotificationPerDistinctRecipient() throws Exception {
+        // Arrange
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 25000; i++) {
+            userIds.add("volunteer-" + i);
+        }
+        userIds.add("volunteer-0");
+
+        // Act
+        NotificationFanoutResponse accepted = communicationService.sendBulkNotification(userIds, "City-wide announcement");
+        NotificationFanoutResponse finished = awaitCompletion(accepted.getJobId());
+
+        // Assert
+        assertEquals(25000, accepted.getTotalRecipients());
+        assertEquals(FanoutJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(25000, finished.getDelivered());
+        assertEquals(0, finished.getFailed());
+        assertEquals(25, finished.getChunksWritten());
+        assertTrue(finished.getRecipientsPerSecond() > 0);
+        assertEquals(25000, communicationRepository.count());
+        assertEquals(1, communicationRepository.findAllNotifications("volunteer-0").size());
+    }
+
+    @Test
+    void notifyEventParticipants_ShouldTagNotificationsWithEvent() throws Exception {
+        // Arrange
+        Event event = TestDataFactory.createEvent("org-fanout", "Fan-out Event");
+        event.setRegisteredParticipants(Set.of("volunteer-1", "volunteer-2", "volunteer-3"));
+        event = eventRepository.save(event);
+
+        // Act
+        communicationService.notifyEventParticipants(event.getId(), "Event moved indoors");
+        awaitNotifications(3);
+
+        // Assert
+        List<Communication> notifications = communicationRepository.findAll();
+        assertEquals(3, notifications.size());
+        for (Communication notification : notifications) {
+            assertEquals(event.getId(), notification.getEventId());
+            assertEquals("org-fanout", notification.getOrganizationId());
+        }
+    }
+
+    private NotificationFanoutResponse awaitCompletion(String jobId) throws InterruptedException {
+        for (int i = 0; i < 600; i++) {
+            NotificationFanoutResponse job = notificationFanoutService.getJob(jobId);
+            if (job.getStatus() == FanoutJobStatus.COMPLETED || job.getStatus() == FanoutJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Notification job did not finish in time");
+    }
+
+    private void awaitNotifications(long expected) throws InterruptedException {
+        for (int i = 0; i < 100 && communicationRepository.count() < expected; i++) {
+            Thread.sleep(100);
+        }
+    }
+}
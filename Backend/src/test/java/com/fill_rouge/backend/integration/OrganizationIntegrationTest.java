@@ -5,6 +5,7 @@ import com.fill_rouge.backend.constant.Role;
 import com.fill_rouge.backend.domain.Organization;
 import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.dto.request.OrganizationRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.OrganizationResponse;
 import com.fill_rouge.backend.repository.OrganizationRepository;
 import com.fill_rouge.backend.repository.UserRepository;
@@ -17,7 +18,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.HashSet;
 
@@ -164,7 +164,7 @@ class OrganizationIntegrationTest extends BaseMongoTestContainer {
     }
 
     @Test
-    void getAllOrganizations_ShouldReturnAllOrganizations() {
+    void getOrganizations_ShouldPageByName() {
         // Arrange - Create another organization
         Organization anotherOrg = new Organization();
         anotherOrg.setName("Another Organization");
@@ -174,12 +174,13 @@ class OrganizationIntegrationTest extends BaseMongoTestContainer {
         organizationRepository.save(anotherOrg);
 
         // Act
-        List<OrganizationResponse> results = organizationService.getAllOrganizations();
+        CursorPage<OrganizationResponse> first = organizationService.getOrganizations(null, 1);
+        CursorPage<OrganizationResponse> second = organizationService.getOrganizations(first.getNextCursor(), 1);
 
         // Assert
-        assertNotNull(results);
-        assertEquals(2, results.size());
-        assertTrue(results.stream().anyMatch(org -> org.getName().equals("Test Organization")));
-        assertTrue(results.stream().anyMatch(org -> org.getName().equals("Another Organization")));
+        assertEquals("Another Organization", first.getContent().get(0).getName());
+        assertNotNull(first.getNextCursor());
+        assertEquals("Test Organization", second.getContent().get(0).getName());
+        assertNull(second.getNextCursor());
     }
 } 
\ No newline at end of file
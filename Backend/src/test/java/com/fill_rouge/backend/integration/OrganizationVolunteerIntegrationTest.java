@@ -0,0 +1,162 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.domain.Organization;
+import com.fill_rouge.backend.domain.Skill;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.dto.request.OrganizationVolunteerRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.dto.response.OrganizationVolunteerRow;
+import com.fill_rouge.backend.exception.ResourceNotFoundException;
+import com.fill_rouge.backend.repository.OrganizationRepository;
+import com.fill_rouge.backend.repository.UserRepository;
+import com.fill_rouge.backend.repository.VolunteerProfileRepository;
+import com.fill_rouge.backend.service.organization.OrganizationService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrganizationVolunteerIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Organization organization;
+    private int volunteers;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        List<VolunteerProfile> profiles = new ArrayList<>();
+        profiles.add(saveVolunteer("Zineb", "Alaoui", "rabat", 4.5, 10, "First Aid"));
+        profiles.add(saveVolunteer("Amine", "Benali", "Rabat", 3.0, 40, "Teaching"));
+        profiles.add(saveVolunteer("Karim", "Idrissi", "Fes", 4.5, 25, "First Aid"));
+        profiles.add(saveVolunteer("Amine", "Benali", "Rabat", null, 5, "First Aid"));
+        profiles.add(saveVolunteer("Salma", "Tazi", "Rabat", 5.0, 0, "Cooking"));
+        profiles.add(saveVolunteer("Omar", "Chraibi", "Tangier", 4.0, 12, "First Aid"));
+        // Not a volunteer of the organization
+        saveVolunteer("Other", "Volunteer", "Rabat", 5.0, 100, "First Aid");
+
+        organization = new Organization();
+        organization.setName("Volunteer list organization");
+        organization.setVolunteerProfiles(profiles);
+        organization = organizationRepository.save(organization);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void getOrganizationVolunteers_ShouldPageByNameWithoutSkippingTies() {
+        // Act
+        List<OrganizationVolunteerRow> rows = walk(OrganizationVolunteerRequest.builder().sortBy("name").size(2).build());
+
+        // Assert
+        assertEquals(List.of("Amine Benali", "Amine Benali", "Karim Idrissi", "Omar Chraibi", "Salma Tazi", "Zineb Alaoui"),
+            rows.stream().map(row -> row.getFirstName() + " " + row.getLastName()).toList());
+        assertEquals(6, rows.stream().map(OrganizationVolunteerRow::getId).distinct().count());
+    }
+
+    @Test
+    void getOrganizationVolunteers_ShouldSortByRatingDescendingWithUnratedLast() {
+        // Act
+        List<OrganizationVolunteerRow> rows = walk(OrganizationVolunteerRequest.builder()
+            .sortBy("rating").sortOrder("desc").size(2).build());
+
+        // Assert
+        assertEquals(6, rows.size());
+        assertEquals("Salma", rows.get(0).getFirstName());
+        assertEquals("Omar", rows.get(3).getFirstName());
+        assertEquals("Amine", rows.get(4).getFirstName());
+        assertNull(rows.get(5).getAverageRating());
+    }
+
+    @Test
+    void getOrganizationVolunteers_ShouldApplyCitySkillAndRatingFilters() {
+        // Act
+        CursorPage<OrganizationVolunteerRow> page = organizationService.getOrganizationVolunteers(organization.getId(),
+            OrganizationVolunteerRequest.builder()
+                .sortBy("hours").city("RABAT").skill("first aid").minRating(4.0).size(10).build());
+
+        // Assert
+        assertEquals(1, page.getContent().size());
+        OrganizationVolunteerRow row = page.getContent().get(0);
+        assertEquals("Zineb", row.getFirstName());
+        assertEquals("zineb.1@example.com", row.getEmail());
+        assertEquals(List.of("First Aid"), row.getSkills());
+        assertEquals(10, row.getTotalHoursVolunteered());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getOrganizationVolunteers_ShouldThrow_WhenOrganizationIsMissing() {
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> organizationService.getOrganizationVolunteers(
+            "missing-organization", OrganizationVolunteerRequest.builder().build()));
+    }
+
+    private List<OrganizationVolunteerRow> walk(OrganizationVolunteerRequest request) {
+        List<OrganizationVolunteerRow> rows = new ArrayList<>();
+        do {
+            CursorPage<OrganizationVolunteerRow> page = organizationService.getOrganizationVolunteers(organization.getId(), request);
+            rows.addAll(page.getContent());
+            request.setCursor(page.getNextCursor());
+        } while (request.getCursor() != null);
+        return rows;
+    }
+
+    private VolunteerProfile saveVolunteer(String firstName, String lastName, String city, Double rating,
+                                           int hours, String skillName) {
+        User user = TestDataFactory.createUser(firstName.toLowerCase() + "." + (++volunteers) + "@example.com");
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setVolunteerProfile(null);
+        user = userRepository.save(user);
+
+        Skill skill = new Skill();
+        skill.setName(skillName);
+        VolunteerProfile profile = VolunteerProfile.builder()
+            .user(user)
+            .address("1 Test Street")
+            .city(city)
+            .province("Test Province")
+            .country("Morocco")
+            .averageRating(rating)
+            .totalHoursVolunteered(hours)
+            .skills(new ArrayList<>(List.of(skill)))
+            .build();
+        return volunteerProfileRepository.save(profile);
+    }
+
+    private void cleanUp() {
+        organizationRepository.deleteAll();
+        volunteerProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
@@ -0,0 +1,245 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
+import com.fill_rouge.backend.domain.Organization;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.dto.request.OrganizationVolunteerRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.dto.response.OrganizationVolunteerRow;
+import com.fill_rouge.backend.repository.EventParticipationRepository;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.OrganizationRepository;
+import com.fill_rouge.backend.repository.UserRepository;
+import com.fill_rouge.backend.repository.VolunteerProfileRepository;
+import com.fill_rouge.backend.service.event.EventParticipationService;
+import com.fill_rouge.backend.service.event.EventService;
+import com.fill_rouge.backend.service.organization.OrganizationService;
+import com.fill_rouge.backend.util.TestDataFactory;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * Counts the {@code find} commands issued while loading pages that carry {@code @DBRef}s.
+ * The count must stay the same whatever the page size.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenceResolutionRoundTripTest extends BaseMongoTestContainer {
+
+    @TestConfiguration
+    static class FindCounterConfig {
+
+        @Bean
+        FindCounter findCounter() {
+            return new FindCounter();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer findCounterCustomizer(FindCounter findCounter) {
+            return builder -> builder.addCommandListener(findCounter);
+        }
+    }
+
+    // Only counts commands sent from the thread that armed it, so background schedulers do not interfere
+    static class FindCounter implements CommandListener {
+
+        private final AtomicInteger finds = new AtomicInteger();
+        private volatile Thread owner;
+
+        void start() {
+            finds.set(0);
+            owner = Thread.currentThread();
+        }
+
+        int stop() {
+            owner = null;
+            return finds.get();
+        }
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (Thread.currentThread() == owner && "find".equals(event.getCommandName())) {
+                finds.incrementAndGet();
+            }
+        }
+    }
+
+    @Autowired
+    private FindCounter findCounter;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private EventParticipationService participationService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipationRepository participationRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void getOrganizationVolunteers_ShouldUseConstantRoundTrips_RegardlessOfVolunteerCount() {
+        // Arrange
+        Organization small = saveOrganizationWithVolunteers("small", 5);
+        Organization large = saveOrganizationWithVolunteers("large", 30);
+
+        // Act
+        findCounter.start();
+        CursorPage<OrganizationVolunteerRow> smallPage = organizationService.getOrganizationVolunteers(small.getId(), volunteers());
+        int smallFinds = findCounter.stop();
+        findCounter.start();
+        CursorPage<OrganizationVolunteerRow> largePage = organizationService.getOrganizationVolunteers(large.getId(), volunteers());
+        int largeFinds = findCounter.stop();
+
+        // Assert
+        assertEquals(5, smallPage.getContent().size());
+        assertEquals(30, largePage.getContent().size());
+        assertEquals("Volunteer", largePage.getContent().get(0).getFirstName());
+        assertEquals(1, smallFinds);
+        assertEquals(smallFinds, largeFinds);
+    }
+
+    @Test
+    void getEventParticipations_ShouldUseConstantRoundTrips_RegardlessOfParticipantCount() {
+        // Arrange
+        Event small = saveEventWithParticipants("small", 5);
+        Event large = saveEventWithParticipants("large", 30);
+
+        // Act
+        findCounter.start();
+        List<EventParticipation> smallPage = participationService.getEventParticipations(small.getId());
+        int smallFinds = findCounter.stop();
+        findCounter.start();
+        List<EventParticipation> largePage = participationService.getEventParticipations(large.getId());
+        int largeFinds = findCounter.stop();
+
+        // Assert
+        assertEquals(30, largePage.size());
+        assertEquals(large.getId(), largePage.get(0).getEvent().getId());
+        assertNotNull(largePage.get(0).getVolunteer().getUser().getEmail());
+        assertEquals(5, smallPage.size());
+        assertEquals(smallFinds, largeFinds);
+    }
+
+    @Test
+    void getAllEvents_ShouldNotResolveReferences_WhenMappingPage() {
+        // Arrange
+        Organization organization = saveOrganizationWithVolunteers("events", 1);
+        for (int i = 0; i < 30; i++) {
+            Event event = TestDataFactory.createEvent(organization.getId(), "Round Trip Event " + i);
+            event.setOrganization(organization);
+            eventRepository.save(event);
+        }
+
+        // Act
+        findCounter.start();
+        eventService.getAllEvents(PageRequest.of(0, 5), true);
+        int smallFinds = findCounter.stop();
+        findCounter.start();
+        eventService.getAllEvents(PageRequest.of(0, 30), true);
+        int largeFinds = findCounter.stop();
+
+        // Assert
+        assertEquals(smallFinds, largeFinds);
+    }
+
+    private static OrganizationVolunteerRequest volunteers() {
+        return OrganizationVolunteerRequest.builder().size(50).build();
+    }
+
+    private Organization saveOrganizationWithVolunteers(String name, int volunteerCount) {
+        Organization organization = new Organization();
+        organization.setName("Organization " + name);
+        organization.setVolunteerProfiles(saveVolunteers(name, volunteerCount));
+        return organizationRepository.save(organization);
+    }
+
+    private Event saveEventWithParticipants(String name, int participantCount) {
+        Event event = eventRepository.save(TestDataFactory.createEvent("org-" + name, "Event " + name));
+        for (VolunteerProfile profile : saveVolunteers(name, participantCount)) {
+            participationRepository.save(EventParticipation.builder()
+                .event(event)
+                .eventId(event.getId())
+                .volunteer(profile)
+                .volunteerId(profile.getId())
+                .status(EventParticipationStatus.REGISTERED)
+                .registeredAt(LocalDateTime.now())
+                .build());
+        }
+        return event;
+    }
+
+    private List<VolunteerProfile> saveVolunteers(String prefix, int count) {
+        List<VolunteerProfile> profiles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = TestDataFactory.createUser(prefix + "-" + i + "@example.com");
+            user.setFirstName("Volunteer");
+            user.setVolunteerProfile(null);
+            user = userRepository.save(user);
+            VolunteerProfile profile = VolunteerProfile.builder()
+                .user(user)
+                .address("1 Test Street")
+                .city("Rabat")
+                .province("Rabat-Sale-Kenitra")
+                .country("Morocco")
+                .build();
+            profiles.add(volunteerProfileRepository.save(profile));
+        }
+        return profiles;
+    }
+
+    private void cleanUp() {
+        participationRepository.deleteAll();
+        eventRepository.deleteAll();
+        organizationRepository.deleteAll();
+        volunteerProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
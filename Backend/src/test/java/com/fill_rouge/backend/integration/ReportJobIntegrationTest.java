@@ -0,0 +1,215 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.constant.ReportJobStatus;
+import com.fill_rouge.backend.constant.ReportJobType;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
+import com.fill_rouge.backend.domain.Organization;
+import com.fill_rouge.backend.domain.ReportJob;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.dto.request.ReportJobRequest;
+import com.fill_rouge.backend.dto.response.ReportJobResponse;
+import com.fill_rouge.backend.exception.ValidationException;
+import com.fill_rouge.backend.repository.EventParticipationRepository;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.OrganizationRepository;
+import com.fill_rouge.backend.repository.ReportJobRepository;
+import com.fill_rouge.backend.service.report.ReportJobService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReportJobIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @Autowired
+    private ReportJobRepository reportJobRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipationRepository participationRepository;
+
+    private Organization organization;
+    private User owner;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        owner = TestDataFactory.createOrganizationUser("owner@reportjobs.test");
+        admin = TestDataFactory.createAdminUser("admin@reportjobs.test");
+        Organization newOrganization = new Organization();
+        newOrganization.setName("Report Job Organization");
+        newOrganization.setUser(owner);
+        organization = organizationRepository.save(newOrganization);
+
+        Event event = eventRepository.save(TestDataFactory.createEvent(organization.getId(), "Report Job Event"));
+        for (int i = 0; i < 50; i++) {
+            participationRepository.save(EventParticipation.builder()
+                .eventId(event.getId())
+                .volunteerId("volunteer-" + i)
+                .status(EventParticipationStatus.REGISTERED)
+                .registeredAt(LocalDateTime.now())
+                .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void submit_ShouldStoreGeneratedFile_WhenJobCompletes() throws Exception {
+        // Act
+        ReportJobResponse accepted = reportJobService.submit(participationsRequest("csv"), owner);
+        ReportJobResponse finished = awaitFinished(accepted.getJobId());
+
+        // Assert
+        assertEquals(ReportJobStatus.QUEUED, accepted.getStatus());
+        assertEquals(ReportJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(100, finished.getProgress());
+        assertTrue(finished.getFileName().endsWith(".csv"));
+        assertNotNull(finished.getExpiresAt());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportJobService.writeResult(accepted.getJobId(), owner, out);
+        assertEquals(finished.getFileSize(), out.size());
+        assertEquals(51, out.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    @Test
+    void submit_ShouldJoinInFlightJob_WhenRequestIsIdentical() throws Exception {
+        // Act
+        ReportJobResponse first = reportJobService.submit(participationsRequest("CSV"), owner);
+        ReportJobResponse second = reportJobService.submit(participationsRequest("csv"), admin);
+        awaitFinished(first.getJobId());
+        ReportJobResponse afterCompletion = reportJobService.submit(participationsRequest("CSV"), admin);
+
+        // Assert
+        assertFalse(first.isDeduplicated());
+        assertTrue(second.isDeduplicated());
+        assertEquals(first.getJobId(), second.getJobId());
+        assertEquals(List.of(admin.getId()),
+            List.copyOf(reportJobRepository.findById(first.getJobId()).orElseThrow().getSharedWith()));
+        assertFalse(afterCompletion.isDeduplicated());
+        assertFalse(first.getJobId().equals(afterCompletion.getJobId()));
+    }
+
+    @Test
+    void dispatch_ShouldResumeJob_WhenPreviousWorkerLeaseExpired() throws Exception {
+        // Arrange: a job left RUNNING by an instance that went away
+        LocalDateTime now = LocalDateTime.now();
+        ReportJob abandoned = reportJobRepository.save(ReportJob.builder()
+            .type(ReportJobType.ORGANIZATION_PARTICIPATIONS)
+            .subjectId(organization.getId())
+            .tenantId(organization.getId())
+            .format("NDJSON")
+            .status(ReportJobStatus.RUNNING)
+            .attempts(1)
+            .leaseOwner("stopped-instance")
+            .leaseExpiresAt(now.minusMinutes(1))
+            .createdAt(now.minusMinutes(5))
+            .build());
+
+        // Act
+        ReportJobResponse finished = awaitFinished(abandoned.getId());
+
+        // Assert
+        assertEquals(ReportJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(2, finished.getAttempts());
+        assertNull(reportJobRepository.findById(abandoned.getId()).orElseThrow().getLeaseOwner());
+    }
+
+    @Test
+    void submit_ShouldRejectFormat_WhenTypeDoesNotSupportIt() {
+        ReportJobRequest request = participationsRequest("PDF");
+        assertThrows(ValidationException.class, () -> reportJobService.submit(request, owner));
+    }
+
+    @Test
+    void submit_ShouldRejectCaller_WhenRoleOrOwnershipDoesNotMatch() {
+        // Arrange
+        User otherOrganization = TestDataFactory.createOrganizationUser("other@reportjobs.test");
+        User volunteer = TestDataFactory.createUser("volunteer@reportjobs.test");
+        ReportJobRequest ownVolunteerReport = ReportJobRequest.builder()
+            .type(ReportJobType.VOLUNTEER)
+            .subjectId(volunteer.getId())
+            .format("PDF")
+            .build();
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> reportJobService.submit(participationsRequest("CSV"), otherOrganization));
+        assertThrows(AccessDeniedException.class, () -> reportJobService.submit(participationsRequest("CSV"), volunteer));
+        assertThrows(AccessDeniedException.class, () -> reportJobService.submit(ownVolunteerReport, owner));
+    }
+
+    @Test
+    void getJob_ShouldRejectCaller_WhenTheyDidNotRequestIt() throws Exception {
+        // Arrange
+        User otherOrganization = TestDataFactory.createOrganizationUser("other@reportjobs.test");
+        ReportJobResponse accepted = reportJobService.submit(participationsRequest("CSV"), owner);
+        awaitFinished(accepted.getJobId());
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> reportJobService.getJob(accepted.getJobId(), otherOrganization));
+        assertThrows(AccessDeniedException.class, () ->
+            reportJobService.writeResult(accepted.getJobId(), otherOrganization, new ByteArrayOutputStream()));
+        assertEquals(accepted.getJobId(), reportJobService.getJob(accepted.getJobId(), admin).getJobId());
+    }
+
+    private ReportJobRequest participationsRequest(String format) {
+        return ReportJobRequest.builder()
+            .type(ReportJobType.ORGANIZATION_PARTICIPATIONS)
+            .subjectId(organization.getId())
+            .format(format)
+            .build();
+    }
+
+    private ReportJobResponse awaitFinished(String jobId) throws InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            ReportJobResponse job = reportJobService.getJob(jobId, admin);
+            if (job.getStatus() == ReportJobStatus.COMPLETED || job.getStatus() == ReportJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Report job did not finish in time");
+    }
+
+    private void cleanUp() {
+        reportJobRepository.deleteAll();
+        participationRepository.deleteAll();
+        eventRepository.deleteAll();
+        organizationRepository.deleteAll();
+    }
+}
@@ -0,0 +1,166 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.constant.ReportJobType;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
+import com.fill_rouge.backend.domain.Organization;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.exception.ResourceNotFoundException;
+import com.fill_rouge.backend.exception.ValidationException;
+import com.fill_rouge.backend.repository.EventParticipationRepository;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.OrganizationRepository;
+import com.fill_rouge.backend.service.report.ReportExportService;
+import com.fill_rouge.backend.service.report.ReportService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReportStreamingExportIntegrationTest extends BaseMongoTestContainer {
+
+    private static final int PARTICIPATIONS = 1200;
+
+    @Autowired
+    private ReportExportService reportExportService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipationRepository participationRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        event = eventRepository.save(TestDataFactory.createEvent("org-export", "Beach, \"Clean\" Up"));
+        eventRepository.save(TestDataFactory.createEvent("org-other", "Other Event"));
+
+        List<EventParticipation> participations = new ArrayList<>();
+        for (int i = 0; i < PARTICIPATIONS; i++) {
+            participations.add(EventParticipation.builder()
+                .eventId(event.getId())
+                .volunteerId("volunteer-" + i)
+                .status(EventParticipationStatus.ATTENDED)
+                .registeredAt(LocalDateTime.now().minusDays(2))
+                .hours(3)
+                .build());
+        }
+        participationRepository.saveAll(participations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void exportOrganizationParticipations_ShouldStreamEveryRowAsCsv() {
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportExportService.exportOrganizationParticipations("org-export", null, null, "CSV", out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(PARTICIPATIONS + 1, lines.length);
+        assertTrue(lines[0].startsWith("Event ID,Event Title"));
+        assertTrue(lines[1].contains("\"Beach, \"\"Clean\"\" Up\""));
+        assertTrue(lines[1].contains(",ATTENDED,"));
+    }
+
+    @Test
+    void exportOrganizationParticipations_ShouldStreamOneJsonObjectPerLine() throws Exception {
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportExportService.exportOrganizationParticipations("org-export", null, null, "NDJSON", out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(PARTICIPATIONS, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(event.getId(), first.get("eventId").asText());
+        assertEquals(3, first.get("hours").asInt());
+    }
+
+    @Test
+    void exportOrganizationParticipations_ShouldRejectUnknownFormat() {
+        assertThrows(IllegalArgumentException.class, () ->
+            reportExportService.exportOrganizationParticipations("org-export", null, null, "XML", new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void prepareOrganizationParticipationsExport_ShouldRejectBeforeAnythingIsWritten() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () ->
+            reportService.prepareOrganizationParticipationsExport("org-export", null, null, "XML"));
+        assertThrows(ResourceNotFoundException.class, () ->
+            reportService.prepareOrganizationParticipationsExport("org-missing", null, null, "CSV"));
+    }
+
+    @Test
+    void checkExportAccess_ShouldDenyAnotherOrganizationsAccount() {
+        // Arrange
+        User owner = TestDataFactory.createOrganizationUser("owner@export.test");
+        User foreign = TestDataFactory.createOrganizationUser("foreign@export.test");
+        User admin = TestDataFactory.createAdminUser("admin@export.test");
+        Organization organization = saveOrganization("Exporting Organization", owner);
+        saveOrganization("Foreign Organization", foreign);
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> reportService.checkExportAccess(
+            foreign, ReportJobType.ORGANIZATION_PARTICIPATIONS, organization.getId()));
+        assertThrows(AccessDeniedException.class, () -> reportService.checkExportAccess(
+            TestDataFactory.createUser("volunteer@export.test"), ReportJobType.ORGANIZATION_PARTICIPATIONS,
+            organization.getId()));
+        assertDoesNotThrow(() -> reportService.checkExportAccess(
+            owner, ReportJobType.ORGANIZATION_PARTICIPATIONS, organization.getId()));
+        assertDoesNotThrow(() -> reportService.checkExportAccess(
+            admin, ReportJobType.ORGANIZATION_PARTICIPATIONS, organization.getId()));
+    }
+
+    private Organization saveOrganization(String name, User user) {
+        Organization organization = new Organization();
+        organization.setName(name);
+        organization.setUser(user);
+        return organizationRepository.save(organization);
+    }
+
+    private void cleanUp() {
+        participationRepository.deleteAll();
+        eventRepository.deleteAll();
+        organizationRepository.deleteAll();
+    }
+}
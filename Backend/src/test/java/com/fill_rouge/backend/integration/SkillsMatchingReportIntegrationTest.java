@@ -0,0 +1,149 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.Skill;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.dto.response.SkillsMatchingReportResponse;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.VolunteerProfileRepository;
+import com.fill_rouge.backend.service.report.ReportService;
+import com.fill_rouge.backend.service.skill.SkillDictionary;
+import com.fill_rouge.backend.service.skill.SkillIndex;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillsMatchingReportIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        saveEvent(EventStatus.ACTIVE, "First Aid", "Driving");
+        saveEvent(EventStatus.PENDING, "first aid ");
+        saveEvent(EventStatus.ACTIVE, "Cooking");
+        saveEvent(EventStatus.COMPLETED, "Teaching");
+        saveProfile("Rabat", "First Aid", "Driving");
+        saveProfile("Rabat", "First Aid");
+        saveProfile("Fes", "Driving", "Teaching");
+        skillIndex.rebuild();
+        cacheManager.getCache("skillsReports").clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void generateSkillsMatchingReport_ShouldCountRequiredSkillsOfOpenEvents() {
+        // Act
+        SkillsMatchingReportResponse report = reportService.generateSkillsMatchingReport();
+
+        // Assert
+        assertEquals(Map.of("First Aid", 2, "Driving", 1, "Cooking", 1), report.getSkillDemand());
+        assertEquals(Map.of("First Aid", 2, "Driving", 2, "Teaching", 1), report.getSkillSupply());
+        assertEquals(List.of("First Aid", "Cooking", "Driving"), report.getHighDemandSkills());
+        assertEquals(Map.of("First Aid", 1.0, "Driving", 2.0, "Cooking", 0.0), report.getMatchingMetrics());
+        assertEquals(3, report.getAdditionalMetrics().get("openEvents"));
+    }
+
+    @Test
+    void generateSkillsMatchingReport_ShouldBreakSupplyAndGapsDownByCity() {
+        // Act
+        SkillsMatchingReportResponse report = reportService.generateSkillsMatchingReport();
+
+        // Assert
+        assertEquals(Map.of("Rabat", List.of("Cooking"), "Fes", List.of("Cooking", "First Aid")),
+            report.getSkillGaps());
+        assertEquals(Map.of("Rabat", Map.of("First Aid", 2, "Driving", 1), "Fes", Map.of("Driving", 1)),
+            report.getAdditionalMetrics().get("supplyByCity"));
+    }
+
+    @Test
+    void rebuild_ShouldKeepFreeTextSkillsOutOfTheCatalog() {
+        // Act
+        SkillDictionary.Local skillIds = skillDictionary.local();
+        int id = skillIds.id("  COOKING");
+
+        // Assert
+        assertFalse(mongoTemplate.exists(Query.query(Criteria.where("name").is("Cooking")), Skill.class));
+        assertEquals(SkillDictionary.UNKNOWN, skillDictionary.idOf("Cooking"));
+        assertEquals(id, skillIds.id("cooking"));
+        assertEquals("COOKING", skillIds.name(id));
+        assertEquals(SkillDictionary.UNKNOWN, skillIds.id(" "));
+    }
+
+    private void saveEvent(EventStatus status, String... skills) {
+        Event event = TestDataFactory.createEvent("org-skills", "Needs " + String.join(", ", skills));
+        event.setStatus(status);
+        event.setRequiredSkills(new ArrayList<>(List.of(skills)));
+        // Registered ids must not be mistaken for skills
+        event.setRegisteredParticipants(Set.of("volunteer-1", "volunteer-2"));
+        eventRepository.save(event);
+    }
+
+    private void saveProfile(String city, String... skillNames) {
+        List<Skill> skills = new ArrayList<>();
+        for (String name : skillNames) {
+            Skill skill = new Skill();
+            skill.setName(name);
+            skills.add(skill);
+        }
+        volunteerProfileRepository.save(VolunteerProfile.builder()
+            .id(new ObjectId().toHexString())
+            .address("1 Test Street")
+            .city(city)
+            .province("Test Province")
+            .country("Morocco")
+            .skills(skills)
+            .build());
+    }
+
+    private void cleanUp() {
+        eventRepository.deleteAll();
+        volunteerProfileRepository.deleteAll();
+    }
+}
@@ -0,0 +1,163 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventCategory;
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.constant.RollupScope;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventFeedback;
+import com.fill_rouge.backend.domain.StatisticsRollup;
+import com.fill_rouge.backend.dto.response.RollupConsistencyResponse;
+import com.fill_rouge.backend.repository.EventFeedbackRepository;
+import com.fill_rouge.backend.repository.EventParticipationRepository;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.StatisticsRollupRepository;
+import com.fill_rouge.backend.service.event.EventParticipationService;
+import com.fill_rouge.backend.service.event.EventService;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StatisticsRollupIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private StatisticsRollupService rollupService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventParticipationService participationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventParticipationRepository participationRepository;
+
+    @Autowired
+    private EventFeedbackRepository feedbackRepository;
+
+    @Autowired
+    private StatisticsRollupRepository rollupRepository;
+
+    private Event educationEvent;
+    private Event healthEvent;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        educationEvent = eventRepository.save(createEvent("org1", "Rollup Education Event", EventCategory.EDUCATION));
+        healthEvent = eventRepository.save(createEvent("org2", "Rollup Health Event", EventCategory.HEALTH));
+        rollupService.rebuildAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void incrementalUpdates_ShouldMatchFullRecompute() {
+        // Act
+        eventService.registerParticipant(educationEvent.getId(), "volunteer-1");
+        eventService.registerParticipant(educationEvent.getId(), "volunteer-2");
+        eventService.registerParticipant(healthEvent.getId(), "volunteer-1");
+        participationService.registerForEvent("volunteer-1", educationEvent.getId());
+        participationService.registerForEvent("volunteer-2", educationEvent.getId());
+        participationService.checkIn("volunteer-1", educationEvent.getId());
+        participationService.cancelParticipation("volunteer-2", educationEvent.getId());
+        eventService.submitFeedback(educationEvent.getId(), "volunteer-1",
+            EventFeedback.builder().rating(4).submittedAt(LocalDateTime.now()).build());
+        eventService.updateEventStatus(educationEvent.getId(), EventStatus.COMPLETED);
+        eventService.unregisterParticipant(healthEvent.getId(), "volunteer-1");
+
+        // Assert
+        RollupConsistencyResponse report = rollupService.checkConsistency();
+        assertTrue(report.isConsistent(), () -> "Unexpected mismatches: " + report.getMismatches());
+
+        StatisticsRollup platform = rollupService.getPlatformRollup();
+        assertEquals(2, platform.getEventCount());
+        assertEquals(2, platform.getRegisteredParticipants());
+        assertEquals(1, platform.getEventsWithStatus(EventStatus.COMPLETED));
+        assertEquals(2, platform.getCompletedEventHours());
+        assertEquals(1, platform.getFeedbackCount());
+        assertEquals(1L, platform.getParticipationsByStatus().get(EventParticipationStatus.ATTENDED.name()));
+
+        StatisticsRollup volunteer = rollupService.getRollup(RollupScope.VOLUNTEER, "volunteer-1");
+        assertEquals(1, volunteer.getEventCount());
+        assertEquals(4.0, volunteer.getAverageFeedbackRating());
+        assertEquals(100.0, volunteer.getCompletionRate());
+
+        StatisticsRollup category = rollupService.getRollup(RollupScope.CATEGORY, EventCategory.HEALTH.name());
+        assertEquals(1, category.getEventCount());
+        assertEquals(0, category.getRegisteredParticipants());
+    }
+
+    @Test
+    void checkConsistency_ShouldReportDrift_AndRebuildShouldRepairIt() {
+        // Arrange: write behind the rollup hooks
+        Event event = eventRepository.findById(healthEvent.getId()).orElseThrow();
+        event.getRegisteredParticipants().add("volunteer-3");
+        eventRepository.save(event);
+
+        // Act
+        RollupConsistencyResponse drifted = rollupService.checkConsistency();
+        rollupService.rebuildAll();
+        RollupConsistencyResponse repaired = rollupService.checkConsistency();
+
+        // Assert
+        assertFalse(drifted.isConsistent());
+        assertTrue(drifted.getMismatchCount() > 0);
+        assertTrue(repaired.isConsistent());
+        assertEquals(1, rollupService.getRollup(RollupScope.VOLUNTEER, "volunteer-3").getEventCount());
+    }
+
+    @Test
+    void rebuildAll_ShouldOnlyCorrectDriftedRollups() {
+        // Arrange
+        Event event = eventRepository.findById(healthEvent.getId()).orElseThrow();
+        event.getRegisteredParticipants().add("volunteer-3");
+        eventRepository.save(event);
+        LocalDateTime untouched = rollupService.getRollup(RollupScope.ORGANIZATION, "org1").getUpdatedAt();
+
+        // Act
+        int corrected = rollupService.rebuildAll();
+
+        // Assert: platform, org2, HEALTH and volunteer-3 drifted; org1 is left as it was
+        assertEquals(4, corrected);
+        assertEquals(untouched, rollupService.getRollup(RollupScope.ORGANIZATION, "org1").getUpdatedAt());
+        assertEquals(1, rollupService.getRollup(RollupScope.ORGANIZATION, "org2").getRegisteredParticipants());
+        assertTrue(rollupService.checkConsistency().isConsistent());
+    }
+
+    private Event createEvent(String organizationId, String title, EventCategory category) {
+        Event event = TestDataFactory.createEvent(organizationId, title);
+        event.setCategory(category);
+        event.setStatus(EventStatus.ACTIVE);
+        event.setMaxParticipants(10);
+        return event;
+    }
+
+    private void cleanUp() {
+        feedbackRepository.deleteAll();
+        participationRepository.deleteAll();
+        eventRepository.deleteAll();
+        rollupRepository.deleteAll();
+    }
+}
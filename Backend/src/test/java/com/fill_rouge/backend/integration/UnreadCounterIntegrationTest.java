@@ -0,0 +1,214 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.CommunicationConstants;
+import com.fill_rouge.backend.constant.UnreadCounterType;
+import com.fill_rouge.backend.domain.Communication;
+import com.fill_rouge.backend.domain.Message;
+import com.fill_rouge.backend.domain.UnreadCounter;
+import com.fill_rouge.backend.dto.response.UnreadCountUpdate;
+import com.fill_rouge.backend.repository.CommunicationRepository;
+import com.fill_rouge.backend.repository.MessageRepository;
+import com.fill_rouge.backend.service.cache.CacheNames;
+import com.fill_rouge.backend.service.communication.CommunicationService;
+import com.fill_rouge.backend.service.communication.UnreadCounterServiceImpl;
+import com.fill_rouge.backend.service.message.MessageService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UnreadCounterIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private CommunicationService communicationService;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private CommunicationRepository communicationRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void getUnreadCount_ShouldFollowSendReadAndDelete() {
+        // Arrange
+        Communication first = communicationService.sendNotification("reader", "First");
+        Communication second = communicationService.sendNotification("reader", "Second");
+        communicationService.sendMessage("sender", "reader", "Hello", null);
+        long afterSend = communicationService.getUnreadCount("reader");
+
+        // Act
+        communicationService.markAsRead(first.getId());
+        communicationService.markAsRead(first.getId());
+        communicationService.deleteCommunication(first.getId());
+        long afterRead = communicationService.getUnreadCount("reader");
+        communicationService.deleteCommunication(second.getId());
+        long afterDelete = communicationService.getUnreadCount("reader");
+        communicationService.markAllAsRead("reader");
+
+        // Assert
+        assertEquals(3, afterSend);
+        assertEquals(2, afterRead);
+        assertEquals(1, afterDelete);
+        assertEquals(0, communicationService.getUnreadCount("reader"));
+        assertEquals(0, communicationService.getUnreadCount("sender"));
+    }
+
+    @Test
+    void getUnreadCount_ShouldCountMessagesSeparately() {
+        // Arrange
+        Message first = messageService.sendMessage("sender", "reader", "Hello", null);
+        messageService.sendMessage("sender", "reader", "Are you there?", null);
+        communicationService.sendNotification("reader", "Unrelated");
+
+        // Act
+        messageService.deleteMessage(first.getId());
+
+        // Assert
+        assertEquals(1, messageService.getUnreadCount("reader"));
+        assertEquals(1, communicationService.getUnreadCount("reader"));
+    }
+
+    @Test
+    void markAsRead_ShouldDecrementOnce_WhenCalledConcurrently() throws Exception {
+        // Arrange
+        Communication notification = communicationService.sendNotification("reader", "Only once");
+        communicationService.sendNotification("reader", "Still unread");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            calls.add(executor.submit(() -> communicationService.markAsRead(notification.getId())));
+        }
+        for (Future<?> call : calls) {
+            call.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, communicationService.getUnreadCount("reader"));
+    }
+
+    @Test
+    void cleanupOldCommunications_ShouldDropCountersOfDeletedUnreadOnes() {
+        // Arrange
+        Communication old = communicationService.sendNotification("reader", "Old");
+        old.setSentAt(LocalDateTime.now().minusDays(60));
+        communicationRepository.save(old);
+        communicationService.sendNotification("reader", "Recent");
+
+        // Act
+        communicationService.cleanupOldCommunications(30);
+
+        // Assert
+        assertEquals(1, communicationService.getUnreadCount("reader"));
+    }
+
+    @Test
+    void backfill_ShouldCountDocumentsWrittenBeforeCountersExisted() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            communicationRepository.save(Communication.builder()
+                .senderId(CommunicationConstants.SYSTEM_SENDER)
+                .receiverId("legacy")
+                .content("Legacy " + i)
+                .isRead(i == 0)
+                .sentAt(LocalDateTime.now())
+                .build());
+        }
+        messageRepository.save(Message.builder()
+            .senderId("sender")
+            .receiverId("legacy")
+            .content("Legacy message")
+            .type(Message.MessageType.DIRECT)
+            .build());
+        UnreadCounterServiceImpl counters = counters(mock(SimpMessagingTemplate.class), mock(SimpUserRegistry.class));
+
+        // Act
+        counters.backfill();
+        counters.backfill();
+
+        // Assert
+        assertEquals(2, counters.getUnreadCount("legacy", UnreadCounterType.NOTIFICATIONS));
+        assertEquals(1, counters.getUnreadCount("legacy", UnreadCounterType.MESSAGES));
+    }
+
+    @Test
+    void increment_ShouldPushNewCount_OnlyToConnectedUsers() {
+        // Arrange
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        SimpUserRegistry userRegistry = mock(SimpUserRegistry.class);
+        when(userRegistry.getUser("online")).thenReturn(mock(SimpUser.class));
+        UnreadCounterServiceImpl counters = counters(messagingTemplate, userRegistry);
+
+        // Act
+        counters.increment("online", UnreadCounterType.NOTIFICATIONS, 1);
+        counters.increment("online", UnreadCounterType.NOTIFICATIONS, 1);
+        counters.incrementAll(Map.of("online", 1L, "offline", 1L), UnreadCounterType.MESSAGES);
+
+        // Assert
+        verify(messagingTemplate).convertAndSendToUser("online", CommunicationConstants.UNREAD_QUEUE,
+            new UnreadCountUpdate(UnreadCounterType.NOTIFICATIONS, 2, 1));
+        verify(messagingTemplate).convertAndSendToUser("online", CommunicationConstants.UNREAD_QUEUE,
+            new UnreadCountUpdate(UnreadCounterType.MESSAGES, 1, 1));
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("offline"), any(), any());
+        assertEquals(1, counters.getUnreadCount("offline", UnreadCounterType.MESSAGES));
+    }
+
+    private UnreadCounterServiceImpl counters(SimpMessagingTemplate messagingTemplate, SimpUserRegistry userRegistry) {
+        return new UnreadCounterServiceImpl(mongoTemplate, cacheManager, messagingTemplate, userRegistry);
+    }
+
+    private void cleanUp() {
+        communicationRepository.deleteAll();
+        messageRepository.deleteAll();
+        mongoTemplate.dropCollection(UnreadCounter.class);
+        cacheManager.getCache(CacheNames.UNREAD_COUNTERS).clear();
+    }
+}
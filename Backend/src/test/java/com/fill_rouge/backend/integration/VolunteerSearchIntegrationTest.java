@@ -0,0 +1,164 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.domain.Skill;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.dto.request.VolunteerSearchRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
+import com.fill_rouge.backend.dto.response.SkillSuggestion;
+import com.fill_rouge.backend.dto.response.VolunteerProfileResponse;
+import com.fill_rouge.backend.repository.UserRepository;
+import com.fill_rouge.backend.repository.VolunteerProfileRepository;
+import com.fill_rouge.backend.service.volunteer.SkillTypeahead;
+import com.fill_rouge.backend.service.volunteer.VolunteerProfileService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VolunteerSearchIntegrationTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private VolunteerProfileService volunteerProfileService;
+
+    @Autowired
+    private SkillTypeahead skillTypeahead;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private int volunteers;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        skillTypeahead.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void searchVolunteers_ShouldRankTextMatchesAndApplyFilters() {
+        // Arrange
+        VolunteerProfile medic = saveProfile("Rabat", List.of("Arabic", "French"), "First Aid", "Trained nurse");
+        VolunteerProfile teacher = saveProfile("Rabat", List.of("Arabic"), "Teaching", "Teaches first aid classes");
+        saveProfile("Casablanca", List.of("Arabic"), "First Aid", "Paramedic");
+        saveProfile("Rabat", List.of("English"), "First Aid", "Lifeguard");
+
+        // Act
+        List<VolunteerProfileResponse> results = volunteerProfileService.searchVolunteers(VolunteerSearchRequest.builder()
+            .query("first aid")
+            .cities(List.of("Rabat"))
+            .languages(List.of("Arabic"))
+            .build()).getContent();
+
+        // Assert
+        assertEquals(List.of(medic.getId(), teacher.getId()),
+            results.stream().map(VolunteerProfileResponse::getId).toList());
+    }
+
+    @Test
+    void searchVolunteers_ShouldPageWithoutGapsOrDuplicates() {
+        // Arrange
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(saveProfile("Rabat", List.of("Arabic"), "Cooking", "Cooks for shelters").getId());
+        }
+        saveProfile("Fes", List.of("Arabic"), "Cooking", "Cooks for shelters");
+
+        // Act
+        List<String> unranked = collectIds(VolunteerSearchRequest.builder().cities(List.of("Rabat")).size(2).build());
+        List<String> ranked = collectIds(VolunteerSearchRequest.builder().query("cooking")
+            .cities(List.of("Rabat")).size(2).build());
+
+        // Assert
+        assertEquals(expected, unranked);
+        assertEquals(Set.copyOf(expected), Set.copyOf(ranked));
+        assertEquals(5, ranked.size());
+    }
+
+    @Test
+    void suggestSkills_ShouldFollowSavedAndDeletedProfiles() {
+        // Arrange
+        VolunteerProfile first = saveProfile("Rabat", List.of("Arabic"), "First Aid", "Trained nurse");
+        saveProfile("Rabat", List.of("Arabic"), "First Aid", "Paramedic");
+        saveProfile("Rabat", List.of("Arabic"), "Firefighting", "Volunteer firefighter");
+        saveProfile("Rabat", List.of("Arabic"), "Cooking", "Cooks for shelters");
+
+        // Act
+        List<SkillSuggestion> afterSave = volunteerProfileService.suggestSkills("fi", 10);
+        volunteerProfileRepository.delete(first);
+        List<SkillSuggestion> afterDelete = volunteerProfileService.suggestSkills("FIR", 10);
+        skillTypeahead.rebuild();
+        List<SkillSuggestion> afterRebuild = volunteerProfileService.suggestSkills("fir", 10);
+
+        // Assert
+        assertEquals(List.of(new SkillSuggestion("First Aid", 2), new SkillSuggestion("Firefighting", 1)), afterSave);
+        assertEquals(List.of(new SkillSuggestion("Firefighting", 1), new SkillSuggestion("First Aid", 1)), afterDelete);
+        assertEquals(afterDelete, afterRebuild);
+        assertEquals(List.of(), volunteerProfileService.suggestSkills("x", 10));
+    }
+
+    private List<String> collectIds(VolunteerSearchRequest request) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            request.setCursor(cursor);
+            CursorPage<VolunteerProfileResponse> page = volunteerProfileService.searchVolunteers(request);
+            page.getContent().forEach(profile -> ids.add(profile.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertNull(cursor);
+        return ids;
+    }
+
+    private VolunteerProfile saveProfile(String city, List<String> languages, String skillName, String bio) {
+        User user = TestDataFactory.createUser("searched." + (++volunteers) + "@example.com");
+        user.setVolunteerProfile(null);
+        user = userRepository.save(user);
+
+        Skill skill = new Skill();
+        skill.setName(skillName);
+        VolunteerProfile profile = VolunteerProfile.builder()
+            .id(user.getId())
+            .user(user)
+            .bio(bio)
+            .address("1 Test Street")
+            .city(city)
+            .province("Test Province")
+            .country("Morocco")
+            .languages(new ArrayList<>(languages))
+            .availableDays(new HashSet<>(Set.of("MONDAY")))
+            .skills(new ArrayList<>(List.of(skill)))
+            .createdAt(LocalDateTime.now().plusSeconds(volunteers))
+            .build();
+        return volunteerProfileRepository.save(profile);
+    }
+
+    private void cleanUp() {
+        volunteerProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
@@ -0,0 +1,246 @@
+package com.fill_rouge.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fill_rouge.backend.config.BaseMongoTestContainer;
+import com.fill_rouge.backend.constant.EventCategory;
+import com.fill_rouge.backend.constant.EventParticipationStatus;
+import com.fill_rouge.backend.constant.EventStatus;
+import com.fill_rouge.backend.domain.Event;
+import com.fill_rouge.backend.domain.EventParticipation;
+import com.fill_rouge.backend.domain.User;
+import com.fill_rouge.backend.domain.VolunteerProfile;
+import com.fill_rouge.backend.dto.response.StatisticsResponse;
+import com.fill_rouge.backend.repository.EventParticipationRepository;
+import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.UserRepository;
+import com.fill_rouge.backend.repository.VolunteerProfileRepository;
+import com.fill_rouge.backend.service.statistics.StatisticsService;
+import com.fill_rouge.backend.util.TestDataFactory;
+
+/**
+ * Verifies that the $facet aggregation behind getVolunteerStats returns the same
+ * figures as the previous in-memory stream implementation, kept here as reference.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class VolunteerStatsAggregationParityTest extends BaseMongoTestContainer {
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private EventParticipationRepository participationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    private String userId;
+    private String profileId;
+
+    @BeforeEach
+    void setUp() {
+        participationRepository.deleteAll();
+        eventRepository.deleteAll();
+        volunteerProfileRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = userRepository.save(TestDataFactory.createUser("parity@example.com"));
+        userId = user.getId();
+
+        VolunteerProfile profile = new VolunteerProfile();
+        profile.setUser(user);
+        profile.setCity("Casablanca");
+        profileId = volunteerProfileRepository.save(profile).getId();
+
+        LocalDateTime now = LocalDateTime.now();
+        EventCategory[] categories = {EventCategory.EDUCATION, EventCategory.HEALTH, EventCategory.SOCIAL_SERVICES};
+        EventStatus[] statuses = {EventStatus.ACTIVE, EventStatus.COMPLETED, EventStatus.ONGOING};
+        EventParticipationStatus[] participationStatuses = {
+            EventParticipationStatus.REGISTERED, EventParticipationStatus.COMPLETED,
+            EventParticipationStatus.ATTENDED, EventParticipationStatus.COMPLETED
+        };
+
+        for (int i = 0; i < 24; i++) {
+            Event event = TestDataFactory.createEvent("org" + (i % 4), "Parity Event " + i);
+            event.setCategory(categories[i % categories.length]);
+            event.setStatus(statuses[i % statuses.length]);
+            event.setStartDate(now.minusMonths(i % 7).minusDays(2));
+            event.setEndDate(event.getStatus() == EventStatus.COMPLETED
+                ? now.minusMonths(i % 7).minusDays(1)
+                : now.plusDays(i + 1));
+            Set<String> registered = new HashSet<>();
+            for (int j = 0; j <= i % 5; j++) {
+                registered.add("participant-" + j);
+            }
+            event.setRegisteredParticipants(registered);
+            event = eventRepository.save(event);
+
+            EventParticipationStatus status = participationStatuses[i % participationStatuses.length];
+            EventParticipation participation = EventParticipation.builder()
+                // Legacy participations were stored against the user id instead of the profile id
+                .volunteerId(i % 3 == 0 ? userId : profileId)
+                .eventId(event.getId())
+                .event(event)
+                .status(status)
+                .rating(i % 2 == 0 ? (i % 5) + 1 : null)
+                .hours(status == EventParticipationStatus.COMPLETED ? (i % 6) + 1 : null)
+                .checkInTime(now.minusMonths(i % 5).minusHours(4))
+                .checkOutTime(now.minusMonths(i % 5))
+                .build();
+            participationRepository.save(participation);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        participationRepository.deleteAll();
+        eventRepository.deleteAll();
+        volunteerProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void getVolunteerStats_ShouldMatchInMemoryImplementation() {
+        // Act
+        StatisticsResponse.VolunteerStats aggregated = statisticsService.getVolunteerStats(userId);
+        StatisticsResponse.VolunteerStats expected = computeInMemory(LocalDateTime.now());
+
+        // Assert
+        assertEquals(expected.getTotalEventsParticipated(), aggregated.getTotalEventsParticipated());
+        assertEquals(expected.getActiveEvents(), aggregated.getActiveEvents());
+        assertEquals(expected.getCompletedEvents(), aggregated.getCompletedEvents());
+        assertEquals(expected.getRegisteredEvents(), aggregated.getRegisteredEvents());
+        assertEquals(expected.getTotalVolunteerHours(), aggregated.getTotalVolunteerHours());
+        assertEquals(expected.getReliabilityScore(), aggregated.getReliabilityScore(), 1e-9);
+        assertEquals(expected.getAverageEventRating(), aggregated.getAverageEventRating(), 1e-9);
+        assertEquals(expected.getSkillsEndorsements(), aggregated.getSkillsEndorsements());
+        assertEquals(expected.getHoursContributed(), aggregated.getHoursContributed());
+        assertEquals(expected.getEventsParticipation(), aggregated.getEventsParticipation());
+        assertEquals(expected.getEventsByCategory(), aggregated.getEventsByCategory());
+        assertEquals(expected.getPeopleImpacted(), aggregated.getPeopleImpacted());
+        assertEquals(expected.getOrganizationsSupported(), aggregated.getOrganizationsSupported());
+        assertEquals(expected.getImpactByCategory(), aggregated.getImpactByCategory());
+    }
+
+    @Test
+    void getVolunteerStats_ShouldReturnZeros_WhenVolunteerHasNoParticipations() {
+        // Arrange
+        participationRepository.deleteAll();
+
+        // Act
+        StatisticsResponse.VolunteerStats aggregated = statisticsService.getVolunteerStats(userId);
+
+        // Assert
+        assertEquals(0, aggregated.getTotalEventsParticipated());
+        assertEquals(0.0, aggregated.getReliabilityScore());
+        assertEquals(0, aggregated.getHoursContributed().size());
+        assertEquals(0, aggregated.getEventsByCategory().size());
+    }
+
+    // Reference implementation: the stream passes getVolunteerStats used before the aggregation
+    private StatisticsResponse.VolunteerStats computeInMemory(LocalDateTime now) {
+        List<EventParticipation> participations = new ArrayList<>();
+        participations.addAll(participationRepository.findByVolunteerId(profileId));
+        participations.addAll(participationRepository.findByVolunteerId(userId));
+
+        Set<String> processedIds = new HashSet<>();
+        List<EventParticipation> valid = participations.stream()
+            .filter(p -> p.getId() != null && processedIds.add(p.getId()))
+            .filter(p -> p.getEvent() != null)
+            .collect(Collectors.toList());
+
+        long completedParticipations = valid.stream()
+            .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED)
+            .count();
+        DateTimeFormatter month = DateTimeFormatter.ofPattern("yyyy-MM");
+
+        return StatisticsResponse.VolunteerStats.builder()
+            .totalEventsParticipated(valid.size())
+            .activeEvents(valid.stream()
+                .filter(p -> p.getEvent().getStatus() == EventStatus.ACTIVE
+                    && p.getEvent().getEndDate() != null
+                    && p.getEvent().getEndDate().isAfter(now))
+                .count())
+            .completedEvents(valid.stream()
+                .filter(p -> p.getEvent().getStatus() == EventStatus.COMPLETED
+                    && p.getEvent().getEndDate() != null
+                    && p.getEvent().getEndDate().isBefore(now))
+                .count())
+            .registeredEvents(valid.stream()
+                .filter(p -> p.getStatus() == EventParticipationStatus.REGISTERED)
+                .count())
+            .totalVolunteerHours(valid.stream()
+                .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED && p.getHours() != null)
+                .mapToLong(EventParticipation::getHours)
+                .sum())
+            .reliabilityScore(valid.isEmpty() ? 0.0 : (double) completedParticipations / valid.size() * 100)
+            .averageEventRating(valid.stream()
+                .filter(p -> p.getRating() != null)
+                .mapToDouble(EventParticipation::getRating)
+                .average()
+                .orElse(0.0))
+            .skillsEndorsements(0)
+            .hoursContributed(toSeries(valid.stream()
+                .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED)
+                .collect(Collectors.groupingBy(
+                    p -> p.getCheckOutTime().format(month),
+                    Collectors.summingLong(p -> p.getHours() != null ? p.getHours() : 0L)))))
+            .eventsParticipation(toSeries(valid.stream()
+                .collect(Collectors.groupingBy(
+                    p -> p.getEvent().getStartDate().format(month),
+                    Collectors.counting()))))
+            .eventsByCategory(valid.stream()
+                .collect(Collectors.groupingBy(
+                    p -> p.getEvent().getCategory().toString(),
+                    Collectors.counting())))
+            .peopleImpacted(valid.stream()
+                .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED)
+                .mapToLong(p -> p.getEvent().getParticipantCount())
+                .sum())
+            .organizationsSupported(valid.stream()
+                .map(p -> p.getEvent().getOrganizationId())
+                .filter(id -> id != null)
+                .distinct()
+                .count())
+            .impactByCategory(valid.stream()
+                .filter(p -> p.getStatus() == EventParticipationStatus.COMPLETED)
+                .collect(Collectors.groupingBy(
+                    p -> p.getEvent().getCategory().toString(),
+                    Collectors.summingLong(p -> p.getEvent().getParticipantCount()))))
+            .build();
+    }
+
+    private List<StatisticsResponse.TimeSeriesData> toSeries(Map<String, Long> values) {
+        return values.entrySet().stream()
+            .map(entry -> StatisticsResponse.TimeSeriesData.builder()
+                .date(entry.getKey())
+                .value(entry.getValue())
+                .build())
+            .sorted(Comparator.comparing(StatisticsResponse.TimeSeriesData::getDate))
+            .collect(Collectors.toList());
+    }
+}
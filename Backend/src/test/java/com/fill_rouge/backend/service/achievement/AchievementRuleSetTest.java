@@ -0,0 +1,121 @@
+package com.fill_rouge.backend.service.achievement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fill_rouge.backend.constant.AchievementMetric;
+import com.fill_rouge.backend.constant.AchievementType;
+import com.fill_rouge.backend.domain.Achievement;
+
+class AchievementRuleSetTest {
+
+    @Test
+    void compile_ShouldIndexRulesByMetric_AndSkipUnmeasurableAchievements() {
+        // Arrange
+        List<Achievement> achievements = List.of(
+            achievement("events", AchievementType.PARTICIPATION, 10, 0, 0),
+            achievement("hours", AchievementType.HOURS_CONTRIBUTED, 0, 50, 0),
+            achievement("rated", AchievementType.HIGH_RATING, 5, 0, 4.5),
+            achievement("special", AchievementType.SPECIAL, 0, 0, 0));
+
+        // Act
+        AchievementRuleSet ruleSet = AchievementRuleSet.compile(achievements);
+
+        // Assert
+        assertEquals(3, ruleSet.size());
+        assertNull(ruleSet.get("special"));
+        assertEquals(List.of("rated"), ruleSet.affectedBy(EnumSet.of(AchievementMetric.AVERAGE_RATING)).stream()
+            .map(AchievementRule::achievementId).toList());
+        assertEquals(List.of("events", "rated"), ruleSet.affectedBy(EnumSet.of(AchievementMetric.EVENTS_ATTENDED)).stream()
+            .map(AchievementRule::achievementId).toList());
+        assertTrue(ruleSet.affectedBy(EnumSet.of(AchievementMetric.STREAK)).isEmpty());
+    }
+
+    @Test
+    void compile_ShouldOrderPrerequisitesFirst() {
+        // Arrange
+        Achievement advanced = achievement("advanced", AchievementType.PARTICIPATION, 20, 0, 0);
+        advanced.setPrerequisiteAchievementId("beginner");
+        Achievement beginner = achievement("beginner", AchievementType.PARTICIPATION, 5, 0, 0);
+
+        // Act
+        AchievementRuleSet ruleSet = AchievementRuleSet.compile(List.of(advanced, beginner));
+
+        // Assert
+        assertEquals(List.of("beginner", "advanced"), ruleSet.affectedBy(EnumSet.allOf(AchievementMetric.class)).stream()
+            .map(AchievementRule::achievementId).toList());
+    }
+
+    @Test
+    void affectedBy_ShouldIncludeRulesWaitingOnAnAffectedPrerequisite() {
+        // Arrange: "veteran" reads hours but is gated on "regular", which reads attendance
+        Achievement regular = achievement("regular", AchievementType.PARTICIPATION, 5, 0, 0);
+        Achievement veteran = achievement("veteran", AchievementType.HOURS_CONTRIBUTED, 0, 50, 0);
+        veteran.setPrerequisiteAchievementId("regular");
+        Achievement mentor = achievement("mentor", AchievementType.HIGH_RATING, 0, 0, 4.5);
+        mentor.setPrerequisiteAchievementId("veteran");
+        Achievement hours = achievement("hours", AchievementType.HOURS_CONTRIBUTED, 0, 100, 0);
+
+        // Act
+        AchievementRuleSet ruleSet = AchievementRuleSet.compile(List.of(mentor, veteran, regular, hours));
+
+        // Assert
+        assertEquals(List.of("regular", "veteran", "mentor"), ruleSet.affectedBy(EnumSet.of(AchievementMetric.EVENTS_ATTENDED))
+            .stream().map(AchievementRule::achievementId).toList());
+    }
+
+    @Test
+    void progress_ShouldFollowLeastAdvancedThreshold() {
+        // Arrange
+        AchievementRule rule = AchievementRule.compile(achievement("mixed", AchievementType.MILESTONE, 10, 40, 0))
+            .orElseThrow();
+        VolunteerMetrics metrics = new VolunteerMetrics(8, 10, 4.0, Map.of(), 2);
+
+        // Act & Assert
+        assertEquals(25, rule.progress(metrics));
+        assertEquals(100, rule.progress(new VolunteerMetrics(12, 45, 4.0, Map.of(), 2)));
+    }
+
+    @Test
+    void categoryAndStreakRules_ShouldReadTheirOwnMetrics() {
+        // Arrange
+        Achievement specialist = achievement("specialist", AchievementType.CATEGORY_SPECIALIST, 4, 0, 0);
+        specialist.setCategory("environment");
+        AchievementRule categoryRule = AchievementRule.compile(specialist).orElseThrow();
+        AchievementRule streakRule = AchievementRule.compile(achievement("streak", AchievementType.STREAK, 3, 0, 0))
+            .orElseThrow();
+        VolunteerMetrics metrics = new VolunteerMetrics(9, 0, 0.0, Map.of("ENVIRONMENT", 2), 3);
+
+        // Act & Assert
+        assertEquals(50, categoryRule.progress(metrics));
+        assertEquals(100, streakRule.progress(metrics));
+    }
+
+    @Test
+    void currentStreak_ShouldStopAtFirstGapOverThirtyDays() {
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(3, VolunteerMetrics.currentStreak(
+            List.of(now, now.minusDays(20), now.minusDays(45), now.minusDays(100))));
+        assertEquals(0, VolunteerMetrics.currentStreak(List.of()));
+    }
+
+    private static Achievement achievement(String id, AchievementType type, int events, int hours, double rating) {
+        Achievement achievement = Achievement.builder()
+            .id(id)
+            .name("Achievement " + id)
+            .type(type)
+            .build();
+        achievement.setRequiredEvents(events);
+        achievement.setRequiredHours(hours);
+        achievement.setRequiredRating(rating);
+        return achievement;
+    }
+}
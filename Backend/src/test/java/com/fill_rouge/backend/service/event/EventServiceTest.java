@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -15,6 +16,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,7 +32,9 @@ import com.fill_rouge.backend.dto.request.EventRequest;
 import com.fill_rouge.backend.mapper.EventMapper;
 import com.fill_rouge.backend.repository.EventFeedbackRepository;
 import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.service.cache.EventCache;
 import com.fill_rouge.backend.service.event.impl.EventServiceImpl;
+import com.fill_rouge.backend.service.statistics.StatisticsRollupService;
 import com.fill_rouge.backend.util.TestDataFactory;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +55,15 @@ class EventServiceTest {
     @Mock
     private EventParticipationService participationService;
 
+    @Mock
+    private StatisticsRollupService rollupService;
+
+    @Mock
+    private EventCompletionPipeline completionPipeline;
+
+    @Mock
+    private EventCache eventCache;
+
     @InjectMocks
     private EventServiceImpl eventService;
 
@@ -63,6 +77,9 @@ class EventServiceTest {
         eventId = "event123";
         testEvent = TestDataFactory.createEvent(organizationId, "Test Event");
         testEvent.setId(eventId);
+        // Every lookup misses the cache and goes to the repository
+        lenient().when(eventCache.get(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<Optional<Event>>>getArgument(1).get());
     }
 
     @Test
@@ -161,8 +178,8 @@ class EventServiceTest {
     @Test
     void updateEventStatus_ShouldUpdateStatus_WhenEventExists() {
         // Arrange
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
-        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventRepository.changeStatus(eq(eventId), any(), eq(EventStatus.CANCELLED)))
+            .thenReturn(Optional.of(testEvent));
 
         // Act
         Event result = eventService.updateEventStatus(eventId, EventStatus.CANCELLED);
@@ -170,7 +187,7 @@ class EventServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(EventStatus.CANCELLED, result.getStatus());
-        verify(eventRepository).save(any(Event.class));
+        verify(eventRepository, never()).save(any(Event.class));
     }
 
     @Test
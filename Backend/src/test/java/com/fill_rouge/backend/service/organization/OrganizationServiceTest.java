@@ -3,8 +3,11 @@ package com.fill_rouge.backend.service.organization;
 import com.fill_rouge.backend.domain.Organization;
 import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.dto.request.OrganizationRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.OrganizationResponse;
 import com.fill_rouge.backend.repository.EventRepository;
+import com.fill_rouge.backend.repository.Keyset;
+import com.fill_rouge.backend.repository.KeysetQueries;
 import com.fill_rouge.backend.repository.OrganizationRepository;
 import com.fill_rouge.backend.repository.UserRepository;
 import com.fill_rouge.backend.util.TestDataFactory;
@@ -17,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
@@ -28,6 +32,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +49,9 @@ class OrganizationServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private KeysetQueries keysetQueries;
+
     @InjectMocks
     private OrganizationServiceImpl organizationService;
 
@@ -140,10 +149,11 @@ class OrganizationServiceTest {
     void searchOrganizations_ShouldReturnMatchingOrganizations() {
         // Arrange
         String searchQuery = "Test";
-        when(organizationRepository.searchByName(searchQuery)).thenReturn(Arrays.asList(testOrganization));
+        when(keysetQueries.page(eq(Organization.class), any(Criteria.class), eq(Keyset.NAME), isNull(), eq(20)))
+            .thenReturn(new CursorPage<>(List.of(testOrganization), 20, null));
 
         // Act
-        List<OrganizationResponse> results = organizationService.searchOrganizations(searchQuery);
+        List<OrganizationResponse> results = organizationService.searchOrganizations(searchQuery, null, 20).getContent();
 
         // Assert
         assertNotNull(results);
@@ -153,7 +163,7 @@ class OrganizationServiceTest {
     }
 
     @Test
-    void getAllOrganizations_ShouldReturnAllOrganizations() {
+    void getOrganizations_ShouldReturnPageWithCursor() {
         // Arrange
         Organization org2 = new Organization();
         org2.setId("org456");
@@ -165,14 +175,16 @@ class OrganizationServiceTest {
         user2.setId("user456");
         org2.setUser(user2);
         
-        when(organizationRepository.findAll()).thenReturn(Arrays.asList(testOrganization, org2));
+        when(keysetQueries.page(Organization.class, Keyset.NAME, null, 2))
+            .thenReturn(new CursorPage<>(Arrays.asList(testOrganization, org2), 2, "next"));
 
         // Act
-        List<OrganizationResponse> results = organizationService.getAllOrganizations();
+        CursorPage<OrganizationResponse> results = organizationService.getOrganizations(null, 2);
 
         // Assert
         assertNotNull(results);
-        assertEquals(2, results.size());
+        assertEquals(2, results.getContent().size());
+        assertEquals("next", results.getNextCursor());
     }
 
 
@@ -0,0 +1,145 @@
+package com.fill_rouge.backend.service.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimiterTest {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    private final AtomicLong now = new AtomicLong();
+    private InMemoryRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // Start on a window boundary so the previous window carries no weight
+        now.set(MINUTE.toMillis() * 1000);
+        rateLimiter = new InMemoryRateLimiter(100, now::get);
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectOnceLimitIsReached() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimiter.tryAcquire("client", 10, MINUTE).allowed());
+        }
+        RateLimitDecision rejected = rateLimiter.tryAcquire("client", 10, MINUTE);
+
+        // Assert
+        assertFalse(rejected.allowed());
+        assertEquals(60, rejected.retryAfterSeconds());
+        assertTrue(rateLimiter.tryAcquire("other-client", 10, MINUTE).allowed());
+    }
+
+    @Test
+    void tryAcquire_ShouldWeighPreviousWindow_InsteadOfResettingAtBoundary() {
+        // Arrange: exhaust the limit at the very end of a window
+        now.addAndGet(MINUTE.toMillis() - 1);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("client", 10, MINUTE);
+        }
+
+        // Act: just past the boundary the previous window still counts almost fully
+        now.addAndGet(2);
+        boolean allowedAtBoundary = rateLimiter.tryAcquire("client", 10, MINUTE).allowed();
+
+        // Halfway through the next window half of the previous requests still count
+        now.addAndGet(MINUTE.toMillis() / 2);
+        int allowedHalfway = 0;
+        while (rateLimiter.tryAcquire("client", 10, MINUTE).allowed()) {
+            allowedHalfway++;
+        }
+
+        // Assert
+        assertFalse(allowedAtBoundary);
+        assertEquals(5, allowedHalfway);
+    }
+
+    @Test
+    void tryAcquire_ShouldForgetCountsAfterTwoIdleWindows() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("client", 10, MINUTE);
+        }
+
+        // Act
+        now.addAndGet(MINUTE.toMillis() * 2);
+
+        // Assert
+        assertEquals(9, rateLimiter.tryAcquire("client", 10, MINUTE).remaining());
+    }
+
+    @Test
+    void tryAcquire_ShouldNeverExceedLimit_UnderParallelLoad() throws Exception {
+        // Arrange
+        int limit = 5000;
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        try {
+            for (int t = 0; t < 32; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        if (rateLimiter.tryAcquire("hot-key", limit, MINUTE).allowed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(limit, allowed.get());
+    }
+
+    @Test
+    void tryAcquire_ShouldBoundTrackedKeys() {
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            rateLimiter.tryAcquire("client-" + i, 10, MINUTE);
+        }
+
+        // Assert
+        assertTrue(rateLimiter.trackedKeys() <= 100);
+    }
+
+    @Test
+    void evictIdle_ShouldDropKeysWithNoRecentRequests() {
+        // Arrange
+        rateLimiter.tryAcquire("idle-client", 10, MINUTE);
+        now.addAndGet(MINUTE.toMillis() * 2);
+        rateLimiter.tryAcquire("active-client", 10, MINUTE);
+
+        // Act
+        rateLimiter.evictIdle();
+
+        // Assert
+        assertEquals(1, rateLimiter.trackedKeys());
+    }
+}
@@ -2,7 +2,6 @@ package com.fill_rouge.backend.service.volunteer;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -23,6 +22,8 @@ import com.fill_rouge.backend.domain.Skill;
 import com.fill_rouge.backend.domain.User;
 import com.fill_rouge.backend.domain.VolunteerProfile;
 import com.fill_rouge.backend.dto.request.VolunteerProfileRequest;
+import com.fill_rouge.backend.dto.request.VolunteerSearchRequest;
+import com.fill_rouge.backend.dto.response.CursorPage;
 import com.fill_rouge.backend.dto.response.VolunteerProfileResponse;
 import com.fill_rouge.backend.repository.UserRepository;
 import com.fill_rouge.backend.repository.VolunteerProfileRepository;
@@ -38,6 +39,12 @@ class VolunteerProfileServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private VolunteerSearchQueries volunteerSearchQueries;
+
+    @Mock
+    private SkillTypeahead skillTypeahead;
+
     @InjectMocks
     private VolunteerProfileServiceImpl volunteerProfileService;
 
@@ -173,18 +180,20 @@ class VolunteerProfileServiceTest {
     @Test
     void searchVolunteers_ShouldReturnMatchingProfiles() {
         // Arrange
-        String searchQuery = "Test";
-        when(volunteerProfileRepository.findAll()).thenReturn(Collections.singletonList(testProfile));
+        VolunteerSearchRequest request = VolunteerSearchRequest.builder().query("Test").build();
+        when(volunteerSearchQueries.page(request))
+            .thenReturn(new CursorPage<>(Collections.singletonList(testProfile), 20, "next"));
 
         // Act
-        List<VolunteerProfileResponse> results = volunteerProfileService.searchVolunteers(searchQuery);
+        CursorPage<VolunteerProfileResponse> results = volunteerProfileService.searchVolunteers(request);
 
         // Assert
         assertNotNull(results);
-        assertEquals(1, results.size());
-        assertEquals(testProfile.getId(), results.get(0).getId());
-        assertEquals(testProfile.getBio(), results.get(0).getBio());
-        assertEquals(testProfile.getCity(), results.get(0).getCity());
+        assertEquals(1, results.getContent().size());
+        assertEquals(testProfile.getId(), results.getContent().get(0).getId());
+        assertEquals(testProfile.getBio(), results.getContent().get(0).getBio());
+        assertEquals(testProfile.getCity(), results.getContent().get(0).getCity());
+        assertEquals("next", results.getNextCursor());
     }
 
     @Test
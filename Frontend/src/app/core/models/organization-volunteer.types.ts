@@ -14,6 +14,32 @@ export interface IOrganizationVolunteer {
   rating?: number;
   lastActive?: Date;
   notes?: string;
+  // Sent by the organization volunteer list
+  firstName?: string;
+  lastName?: string;
+  email?: string;
+  city?: string;
+  totalEventsAttended?: number;
+  totalVolunteerHours?: number;
+  averageEventRating?: number;
+}
+
+// Sorting and filters of the organization volunteer list, applied by the API
+export interface IOrganizationVolunteerQuery {
+  sortBy?: 'name' | 'email' | 'city' | 'rating' | 'hours';
+  sortOrder?: 'asc' | 'desc';
+  city?: string;
+  skill?: string;
+  minRating?: number;
+  cursor?: string;
+  size?: number;
+}
+
+// One page of the list; nextCursor is absent on the last page
+export interface IOrganizationVolunteerPage {
+  content: IOrganizationVolunteer[];
+  size: number;
+  nextCursor?: string;
 }
 
 export enum VolunteerRole {
@@ -26,10 +26,11 @@ export class AdminService {
       );
   }
 
-  getUsers(page: number, size: number): Observable<any> {
-    console.log(`[AdminService] Requesting users from: ${this.apiUrl}/users with params:`, { page, size });
+  // Pass the nextCursor of the previous page, or null for the first page
+  getUsers(cursor: string | null, size: number): Observable<any> {
+    console.log(`[AdminService] Requesting users from: ${this.apiUrl}/users with params:`, { cursor, size });
     return this.http.get<any>(`${this.apiUrl}/users`, {
-      params: { page: page.toString(), size: size.toString() }
+      params: this.pageParams(cursor, size)
     }).pipe(
       tap(response => console.log('[AdminService] Users response:', response)),
       timeout(this.timeoutDuration),
@@ -78,10 +79,11 @@ export class AdminService {
       );
   }
 
-  getOrganizations(page: number, size: number): Observable<any> {
-    console.log(`[AdminService] Requesting organizations from: ${this.apiUrl}/organizations with params:`, { page, size });
+  // Pass the nextCursor of the previous page, or null for the first page
+  getOrganizations(cursor: string | null, size: number): Observable<any> {
+    console.log(`[AdminService] Requesting organizations from: ${this.apiUrl}/organizations with params:`, { cursor, size });
     return this.http.get<any>(`${this.apiUrl}/organizations`, {
-      params: { page: page.toString(), size: size.toString() }
+      params: this.pageParams(cursor, size)
     }).pipe(
       tap(response => console.log('[AdminService] Organizations response:', response)),
       timeout(this.timeoutDuration),
@@ -89,6 +91,10 @@ export class AdminService {
     );
   }
 
+  private pageParams(cursor: string | null, size: number): { [param: string]: string } {
+    return cursor ? { cursor, size: size.toString() } : { size: size.toString() };
+  }
+
   verifyOrganization(organizationId: string): Observable<any> {
     console.log(`[AdminService] Verifying organization: ${organizationId}`);
     return this.http.put<any>(`${this.apiUrl}/organizations/${organizationId}/verify`, {})
@@ -18,6 +18,8 @@ import {
 } from '../models/volunteer.types';
 import { 
   IOrganizationVolunteer,
+  IOrganizationVolunteerPage,
+  IOrganizationVolunteerQuery,
   VolunteerRole 
 } from '../models/organization-volunteer.types';
 import { MatSnackBar } from '@angular/material/snack-bar';
@@ -404,41 +406,27 @@ export class VolunteerService {
     return this.http.get<VolunteerSearchResponse>(`${this.apiUrl}/search`, { params: httpParams });
   }
 
+  // One page of an organization's volunteers; pass the page's nextCursor to get the following one
   getOrganizationVolunteers(
     organizationId: string,
-    sortBy: string = 'name',
-    sortOrder: 'asc' | 'desc' = 'asc'
-  ): Observable<IOrganizationVolunteer[]> {
-    console.log('Getting volunteers for organization:', organizationId);
-    console.log('Headers:', this.getHeaders().keys());
-
-    const params = new HttpParams()
-      .set('sortBy', sortBy)
-      .set('sortOrder', sortOrder);
-
-    return this.http.get<IOrganizationVolunteer[] | ApiResponse<IOrganizationVolunteer[]>>(
+    query: IOrganizationVolunteerQuery = {}
+  ): Observable<IOrganizationVolunteerPage> {
+    let params = new HttpParams()
+      .set('sortBy', query.sortBy ?? 'name')
+      .set('sortOrder', query.sortOrder ?? 'asc')
+      .set('size', (query.size ?? 10).toString());
+    if (query.city) params = params.set('city', query.city);
+    if (query.skill) params = params.set('skill', query.skill);
+    if (query.minRating !== undefined) params = params.set('minRating', query.minRating.toString());
+    if (query.cursor) params = params.set('cursor', query.cursor);
+
+    return this.http.get<IOrganizationVolunteerPage>(
       `${environment.apiUrl}/organizations/${organizationId}/volunteers`,
       {
         headers: this.getHeaders(),
         params
       }
     ).pipe(
-      map(response => {
-        console.log('Raw response:', response);
-        // Check if response is an array (direct response) or ApiResponse wrapper
-        if (Array.isArray(response)) {
-          return response;
-        }
-        // If it's an ApiResponse wrapper
-        if ('success' in response) {
-          if (!response.success) {
-            throw new Error(response.message || 'Failed to fetch volunteers');
-          }
-          return response.data;
-        }
-        // If response is neither an array nor ApiResponse, throw error
-        throw new Error('Invalid response format');
-      }),
       catchError(this.handleError.bind(this))
     );
   }
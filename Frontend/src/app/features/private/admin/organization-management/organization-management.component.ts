@@ -10,7 +10,7 @@ import { MatChipsModule } from '@angular/material/chips';
 import { MatProgressSpinnerModule } from '@angular/material/progress-spinner';
 import { RouterModule } from '@angular/router';
 import { Store } from '@ngrx/store';
-import { Observable, Subject, takeUntil } from 'rxjs';
+import { Observable, Subject, combineLatest, takeUntil } from 'rxjs';
 
 import { Organization, OrganizationStatus, VerificationStatus } from '../../../../core/models/organization.model';
 import { EventStatus } from '../../../../core/models/event.model';
@@ -172,7 +172,8 @@ import { AppState } from '../../../../store';
 
           <!-- Paginator -->
           <mat-paginator
-            [length]="totalCount$ | async"
+            [length]="pageLength"
+            [pageIndex]="pageIndex"
             [pageSize]="pageSize"
             [pageSizeOptions]="[5, 10, 25, 100]"
             (page)="onPageChange($event)"
@@ -288,10 +289,13 @@ export class OrganizationManagementComponent implements OnInit, OnDestroy {
   dataSource = new MatTableDataSource<Organization>([]);
   pageSize = 10;
   pageIndex = 0;
+  // The backend pages by cursor: pageCursors[i] loads page i, and the paginator only
+  // knows whether a next page exists
+  pageLength = 0;
+  private pageCursors: (string | null)[] = [null];
   
   loading$: Observable<boolean>;
   error$: Observable<string | null>;
-  totalCount$: Observable<number>;
   private destroy$ = new Subject<void>();
   
   // Make enums available in the template
@@ -308,18 +312,22 @@ export class OrganizationManagementComponent implements OnInit, OnDestroy {
   ) {
     this.loading$ = this.store.select(AdminSelectors.selectAdminLoading);
     this.error$ = this.store.select(AdminSelectors.selectAdminError);
-    this.totalCount$ = this.store.select(AdminSelectors.selectTotalOrganizationsCount);
   }
 
   ngOnInit(): void {
     this.loadOrganizations();
     
     // Subscribe to organizations from the store
-    this.store.select(AdminSelectors.selectAllOrganizations)
+    combineLatest([
+      this.store.select(AdminSelectors.selectAllOrganizations),
+      this.store.select(AdminSelectors.selectOrganizationsNextCursor)
+    ])
       .pipe(takeUntil(this.destroy$))
-      .subscribe(organizations => {
+      .subscribe(([organizations, nextCursor]) => {
         // Update the data source with the organizations
         this.dataSource.data = organizations || [];
+        this.pageCursors[this.pageIndex + 1] = nextCursor;
+        this.pageLength = this.pageIndex * this.pageSize + this.dataSource.data.length + (nextCursor ? 1 : 0);
       });
   }
 
@@ -330,11 +338,20 @@ export class OrganizationManagementComponent implements OnInit, OnDestroy {
 
   loadOrganizations(): void {
     console.log('Loading organizations, page:', this.pageIndex, 'size:', this.pageSize);
-    this.store.dispatch(AdminActions.loadOrganizations({ page: this.pageIndex, size: this.pageSize }));
+    this.store.dispatch(AdminActions.loadOrganizations({
+      cursor: this.pageCursors[this.pageIndex] ?? null,
+      size: this.pageSize
+    }));
   }
 
   onPageChange(event: PageEvent): void {
-    this.pageIndex = event.pageIndex;
+    // Cursors are only valid for the page size they were read with
+    if (event.pageSize !== this.pageSize) {
+      this.pageCursors = [null];
+      this.pageIndex = 0;
+    } else {
+      this.pageIndex = event.pageIndex;
+    }
     this.pageSize = event.pageSize;
     this.loadOrganizations();
   }
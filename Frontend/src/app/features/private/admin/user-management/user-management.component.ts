@@ -17,7 +17,7 @@ import { User, UserRole } from '../../../../core/models/auth.models';
 import { FormsModule } from '@angular/forms';
 import { HttpErrorResponse } from '@angular/common/http';
 import { Store } from '@ngrx/store';
-import { Observable, Subject, takeUntil } from 'rxjs';
+import { Observable, Subject, combineLatest, takeUntil } from 'rxjs';
 import { AppState } from '../../../../store';
 import * as AdminActions from '../../../../store/admin/admin.actions';
 import * as AdminSelectors from '../../../../store/admin/admin.selectors';
@@ -194,7 +194,8 @@ import { MatProgressSpinnerModule } from '@angular/material/progress-spinner';
           <!-- Paginator -->
           <mat-paginator
             *ngIf="!(loading$ | async) && !(error$ | async) && dataSource.data.length > 0"
-            [length]="totalUsers$ | async"
+            [length]="pageLength"
+            [pageIndex]="currentPage"
             [pageSize]="pageSize"
             [pageSizeOptions]="[5, 10, 25, 100]"
             (page)="onPageChange($event)"
@@ -280,13 +281,16 @@ export class UserManagementComponent implements OnInit, OnDestroy {
   dataSource = new MatTableDataSource<User>([]);
   pageSize = 10;
   currentPage = 0;
+  // The backend pages by cursor: pageCursors[i] loads page i, and the paginator only
+  // knows whether a next page exists
+  pageLength = 0;
+  private pageCursors: (string | null)[] = [null];
   availableRoles = Object.values(UserRole);
   private destroy$ = new Subject<void>();
 
   // NgRx selectors
   loading$: Observable<boolean>;
   error$: Observable<string | null>;
-  totalUsers$: Observable<number>;
 
   // Add ViewChild reference - make it optional with !
   @ViewChild('userDetailsDialog') userDetailsDialog!: TemplateRef<any>;
@@ -299,19 +303,23 @@ export class UserManagementComponent implements OnInit, OnDestroy {
   ) {
     this.loading$ = this.store.select(AdminSelectors.selectAdminLoading);
     this.error$ = this.store.select(AdminSelectors.selectAdminError);
-    this.totalUsers$ = this.store.select(AdminSelectors.selectTotalUsersCount);
   }
 
   ngOnInit(): void {
     this.loadUsers();
     
     // Subscribe to users from the store with takeUntil to avoid memory leaks
-    this.store.select(AdminSelectors.selectAllUsers)
+    combineLatest([
+      this.store.select(AdminSelectors.selectAllUsers),
+      this.store.select(AdminSelectors.selectUsersNextCursor)
+    ])
       .pipe(takeUntil(this.destroy$))
-      .subscribe(users => {
+      .subscribe(([users, nextCursor]) => {
         if (users) {
           this.dataSource.data = users;
         }
+        this.pageCursors[this.currentPage + 1] = nextCursor;
+        this.pageLength = this.currentPage * this.pageSize + this.dataSource.data.length + (nextCursor ? 1 : 0);
       });
   }
 
@@ -323,13 +331,19 @@ export class UserManagementComponent implements OnInit, OnDestroy {
   loadUsers(): void {
     // Cancel any previous requests by unsubscribing
     this.store.dispatch(AdminActions.loadUsers({ 
-      page: this.currentPage,
+      cursor: this.pageCursors[this.currentPage] ?? null,
       size: this.pageSize 
     }));
   }
 
   onPageChange(event: PageEvent): void {
-    this.currentPage = event.pageIndex;
+    // Cursors are only valid for the page size they were read with
+    if (event.pageSize !== this.pageSize) {
+      this.pageCursors = [null];
+      this.currentPage = 0;
+    } else {
+      this.currentPage = event.pageIndex;
+    }
     this.pageSize = event.pageSize;
     this.loadUsers();
   }
@@ -1,10 +1,10 @@
-import { Component, OnInit, OnDestroy, ViewChild } from '@angular/core';
+import { Component, OnInit, OnDestroy } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule, ReactiveFormsModule } from '@angular/forms';
 import { RouterModule } from '@angular/router';
 import { MatTableModule, MatTableDataSource } from '@angular/material/table';
-import { MatSortModule, MatSort } from '@angular/material/sort';
-import { MatPaginatorModule, MatPaginator } from '@angular/material/paginator';
+import { MatSortModule, Sort } from '@angular/material/sort';
+import { MatPaginatorModule, PageEvent } from '@angular/material/paginator';
 import { MatInputModule } from '@angular/material/input';
 import { MatSelectModule } from '@angular/material/select';
 import { MatButtonModule } from '@angular/material/button';
@@ -14,13 +14,11 @@ import { MatDialogModule, MatDialog } from '@angular/material/dialog';
 import { MatSnackBarModule, MatSnackBar } from '@angular/material/snack-bar';
 import { MatMenuModule } from '@angular/material/menu';
 import { MatProgressSpinnerModule } from '@angular/material/progress-spinner';
-import { Subject, takeUntil, retry, catchError, throwError } from 'rxjs';
-import { 
-  IVolunteerFilters, 
-  VolunteerStatus 
-} from '../../../../core/models/volunteer.types';
+import { Subject, Subscription, takeUntil, retry, catchError, throwError, debounceTime, distinctUntilChanged, map } from 'rxjs';
+import { VolunteerStatus } from '../../../../core/models/volunteer.types';
 import { 
   IOrganizationVolunteer,
+  IOrganizationVolunteerQuery,
   VolunteerRole
 } from '../../../../core/models/organization-volunteer.types';
 import { VolunteerService } from '../../../../core/services/volunteer.service';
@@ -51,9 +49,6 @@ import { AuthService } from '../../../../core/services/auth.service';
   ]
 })
 export class OrganizationVolunteersComponent implements OnInit, OnDestroy {
-  @ViewChild(MatPaginator) paginator!: MatPaginator;
-  @ViewChild(MatSort) sort!: MatSort;
-
   dataSource = new MatTableDataSource<IOrganizationVolunteer>([]);
   displayedColumns: string[] = [
     'profileImage',
@@ -69,21 +64,35 @@ export class OrganizationVolunteersComponent implements OnInit, OnDestroy {
     'actions'
   ];
 
-  filters: IVolunteerFilters = {
-    status: undefined,
-    skills: [],
-    searchTerm: '',
+  // Sorting and filtering run in the API, one page is loaded at a time
+  query: IOrganizationVolunteerQuery = {
     sortBy: 'name',
-    sortOrder: 'asc'
+    sortOrder: 'asc',
+    size: 10
   };
+  ratingOptions = [1, 2, 3, 4, 5];
 
-  selectedRole: VolunteerRole | '' = '';
   statusOptions = Object.values(VolunteerStatus);
   roleOptions = Object.values(VolunteerRole);
   loading = true;
+  pageLoading = false;
   error = '';
 
+  // Cursor of each page reached so far; the first page has none
+  pageIndex = 0;
+  private cursors: (string | undefined)[] = [undefined];
+  private nextCursor?: string;
+  private pageRequest?: Subscription;
+
+  // Columns the API can sort by
+  private readonly sortFields: Record<string, IOrganizationVolunteerQuery['sortBy']> = {
+    name: 'name',
+    totalHours: 'hours',
+    rating: 'rating'
+  };
+
   private organizationId: string | null = null;
+  private textFilter$ = new Subject<void>();
   private destroy$ = new Subject<void>();
 
   constructor(
@@ -94,9 +103,18 @@ export class OrganizationVolunteersComponent implements OnInit, OnDestroy {
   ) {}
 
   ngOnInit(): void {
+    this.textFilter$
+      .pipe(
+        debounceTime(300),
+        map(() => `${this.query.city ?? ''}|${this.query.skill ?? ''}`),
+        distinctUntilChanged(),
+        takeUntil(this.destroy$)
+      )
+      .subscribe(() => this.reload());
+
     this.organizationId = this.authService.getCurrentOrganizationId();
     if (this.organizationId) {
-      this.loadVolunteers();
+      this.loadPage(0);
     } else {
       this.error = 'Organization ID not found';
       this.loading = false;
@@ -108,13 +126,24 @@ export class OrganizationVolunteersComponent implements OnInit, OnDestroy {
     this.destroy$.complete();
   }
 
-  private loadVolunteers(): void {
+  get paginatorLength(): number {
+    // The total is not counted; one more row than shown keeps the next page button enabled
+    const seen = this.pageIndex * (this.query.size ?? 10) + this.dataSource.data.length;
+    return this.nextCursor ? seen + 1 : seen;
+  }
+
+  private loadPage(pageIndex: number): void {
     if (!this.organizationId) return;
 
-    this.loading = true;
+    this.pageLoading = true;
     this.error = '';
-    
-    this.volunteerService.getOrganizationVolunteers(this.organizationId)
+
+    // A newer sort, filter or page wins over the one still loading
+    this.pageRequest?.unsubscribe();
+    this.pageRequest = this.volunteerService.getOrganizationVolunteers(this.organizationId, {
+      ...this.query,
+      cursor: this.cursors[pageIndex]
+    })
       .pipe(
         retry(2),
         takeUntil(this.destroy$),
@@ -128,6 +157,7 @@ export class OrganizationVolunteersComponent implements OnInit, OnDestroy {
                         'Failed to load volunteers. Please try again.';
           }
           this.loading = false;
+          this.pageLoading = false;
           this.snackBar.open(this.error, 'Close', {
             duration: 5000,
             panelClass: ['error-snackbar']
@@ -136,61 +166,46 @@ export class OrganizationVolunteersComponent implements OnInit, OnDestroy {
         })
       )
       .subscribe({
-        next: (volunteers: IOrganizationVolunteer[]) => {
-          this.dataSource.data = volunteers;
-          this.dataSource.paginator = this.paginator;
-          this.dataSource.sort = this.sort;
-          this.dataSource.filterPredicate = this.createFilter();
+        next: page => {
+          this.dataSource.data = page.content;
+          this.pageIndex = pageIndex;
+          this.nextCursor = page.nextCursor;
+          this.cursors[pageIndex + 1] = page.nextCursor;
           this.loading = false;
+          this.pageLoading = false;
           this.error = '';
         }
       });
   }
 
-  private createFilter(): (data: IOrganizationVolunteer, filter: string) => boolean {
-    return (data: IOrganizationVolunteer, filter: string): boolean => {
-      const searchStr = JSON.parse(filter);
-      const searchTerm = searchStr.searchTerm.toLowerCase();
-      
-      const matchesSearch = !searchTerm || 
-        data.id.toLowerCase().includes(searchTerm) ||
-        data.role.toLowerCase().includes(searchTerm) ||
-        data.skills.some(skill => skill.toLowerCase().includes(searchTerm));
-
-      const matchesStatus = !searchStr.status || data.status === searchStr.status;
-      
-      const matchesRole = !searchStr.role || data.role === searchStr.role;
-      
-      const matchesSkills = !searchStr.skills?.length || 
-        searchStr.skills.every((skill: string) => data.skills.includes(skill));
-
-      return matchesSearch && matchesStatus && matchesRole && matchesSkills;
-    };
+  // Filters and sort change the order of every page, so the cursors start over
+  private reload(): void {
+    this.cursors = [undefined];
+    this.loadPage(0);
   }
 
-  applyFilter(): void {
-    const filterValue = JSON.stringify({
-      searchTerm: this.filters.searchTerm,
-      status: this.filters.status,
-      role: this.selectedRole,
-      skills: this.filters.skills
-    });
-    this.dataSource.filter = filterValue;
+  onPage(event: PageEvent): void {
+    if (event.pageSize !== this.query.size) {
+      this.query.size = event.pageSize;
+      this.reload();
+      return;
+    }
+    this.loadPage(event.pageIndex);
   }
 
-  onSearch(searchTerm: string): void {
-    this.filters.searchTerm = searchTerm;
-    this.applyFilter();
+  onSortChange(sort: Sort): void {
+    this.query.sortBy = this.sortFields[sort.active] ?? 'name';
+    this.query.sortOrder = sort.direction === 'desc' ? 'desc' : 'asc';
+    this.reload();
   }
 
-  onStatusFilter(status: VolunteerStatus | ''): void {
-    this.filters.status = status === '' ? undefined : status;
-    this.applyFilter();
+  onTextFilter(): void {
+    this.textFilter$.next();
   }
 
-  onRoleFilter(role: VolunteerRole | ''): void {
-    this.selectedRole = role;
-    this.applyFilter();
+  onRatingFilter(minRating: number | ''): void {
+    this.query.minRating = minRating === '' ? undefined : minRating;
+    this.reload();
   }
 
   updateVolunteerStatus(volunteer: IOrganizationVolunteer, newStatus: VolunteerStatus): void {
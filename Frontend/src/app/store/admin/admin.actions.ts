@@ -21,12 +21,12 @@ export const loadAdminStatisticsFailure = createAction(
 // User actions
 export const loadUsers = createAction(
   '[Admin] Load Users',
-  props<{ page: number; size: number }>()
+  props<{ cursor: string | null; size: number }>()
 );
 
 export const loadUsersSuccess = createAction(
   '[Admin] Load Users Success',
-  props<{ users: User[]; totalUsers: number }>()
+  props<{ users: User[]; nextCursor: string | null }>()
 );
 
 export const loadUsersFailure = createAction(
@@ -97,12 +97,12 @@ export const deleteUserFailure = createAction(
 // Organization actions
 export const loadOrganizations = createAction(
   '[Admin] Load Organizations',
-  props<{ page: number; size: number }>()
+  props<{ cursor: string | null; size: number }>()
 );
 
 export const loadOrganizationsSuccess = createAction(
   '[Admin] Load Organizations Success',
-  props<{ organizations: Organization[]; totalOrganizations: number }>()
+  props<{ organizations: Organization[]; nextCursor: string | null }>()
 );
 
 export const loadOrganizationsFailure = createAction(
@@ -42,8 +42,8 @@ export class AdminEffects {
   loadUsers$ = createEffect(() =>
     this.actions$.pipe(
       ofType(AdminActions.loadUsers),
-      switchMap(({ page, size }) =>
-        this.adminService.getUsers(page, size).pipe(
+      switchMap(({ cursor, size }) =>
+        this.adminService.getUsers(cursor, size).pipe(
           retry(2),
           map((response: any) => {
             if (!response || !response.users) {
@@ -51,7 +51,7 @@ export class AdminEffects {
             }
             return AdminActions.loadUsersSuccess({
               users: response.users,
-              totalUsers: response.totalUsers || 0
+              nextCursor: response.nextCursor || null
             });
           }),
           catchError(error => {
@@ -143,8 +143,8 @@ export class AdminEffects {
   loadOrganizations$ = createEffect(() =>
     this.actions$.pipe(
       ofType(AdminActions.loadOrganizations),
-      switchMap(({ page, size }) =>
-        this.adminService.getOrganizations(page, size).pipe(
+      switchMap(({ cursor, size }) =>
+        this.adminService.getOrganizations(cursor, size).pipe(
           retry(2),
           map((response: any) => {
             console.log('Organizations response:', response);
@@ -153,7 +153,7 @@ export class AdminEffects {
             }
             return AdminActions.loadOrganizationsSuccess({
               organizations: response.organizations,
-              totalOrganizations: response.totalOrganizations || 0
+              nextCursor: response.nextCursor || null
             });
           }),
           catchError(error => {
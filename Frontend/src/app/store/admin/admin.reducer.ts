@@ -11,8 +11,9 @@ export interface AdminState {
   users: EntityState<User>;
   loading: boolean;
   error: string | null;
-  totalOrganizations: number;
-  totalUsers: number;
+  // Cursor for the page after the loaded one, null when it was the last
+  organizationsNextCursor: string | null;
+  usersNextCursor: string | null;
   statistics: AdminStatistics | null;
   selectedUserId: string | null;
   selectedOrganizationId: string | null;
@@ -26,8 +27,8 @@ export const initialState: AdminState = {
   users: usersAdapter.getInitialState(),
   loading: false,
   error: null,
-  totalOrganizations: 0,
-  totalUsers: 0,
+  organizationsNextCursor: null,
+  usersNextCursor: null,
   statistics: null,
   selectedUserId: null,
   selectedOrganizationId: null
@@ -59,10 +60,10 @@ export const adminReducer = createReducer(
     loading: true,
     error: null
   })),
-  on(AdminActions.loadUsersSuccess, (state, { users, totalUsers }) => ({
+  on(AdminActions.loadUsersSuccess, (state, { users, nextCursor }) => ({
     ...state,
     users: usersAdapter.setAll(users, state.users),
-    totalUsers,
+    usersNextCursor: nextCursor,
     loading: false
   })),
   on(AdminActions.loadUsersFailure, (state, { error }) => ({
@@ -116,8 +117,7 @@ export const adminReducer = createReducer(
   // Delete User
   on(AdminActions.deleteUserSuccess, (state, { userId }) => ({
     ...state,
-    users: usersAdapter.removeOne(userId, state.users),
-    totalUsers: state.totalUsers - 1
+    users: usersAdapter.removeOne(userId, state.users)
   })),
 
   // Organizations
@@ -126,10 +126,10 @@ export const adminReducer = createReducer(
     loading: true,
     error: null
   })),
-  on(AdminActions.loadOrganizationsSuccess, (state, { organizations, totalOrganizations }) => ({
+  on(AdminActions.loadOrganizationsSuccess, (state, { organizations, nextCursor }) => ({
     ...state,
     organizations: organizationsAdapter.setAll(organizations, state.organizations),
-    totalOrganizations,
+    organizationsNextCursor: nextCursor,
     loading: false
   })),
   on(AdminActions.loadOrganizationsFailure, (state, { error }) => ({
@@ -174,7 +174,6 @@ export const adminReducer = createReducer(
   // Delete Organization
   on(AdminActions.deleteOrganizationSuccess, (state, { organizationId }) => ({
     ...state,
-    organizations: organizationsAdapter.removeOne(organizationId, state.organizations),
-    totalOrganizations: state.totalOrganizations - 1
+    organizations: organizationsAdapter.removeOne(organizationId, state.organizations)
   }))
 ); 
\ No newline at end of file
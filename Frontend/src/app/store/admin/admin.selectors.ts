@@ -67,15 +67,15 @@ export const selectSelectedOrganization = createSelector(
   (entities, selectedId) => selectedId ? entities[selectedId] : null
 );
 
-// Additional selectors for counts
-export const selectTotalOrganizationsCount = createSelector(
+// Cursors for the page after the loaded one
+export const selectOrganizationsNextCursor = createSelector(
   selectAdminState,
-  (state) => state.totalOrganizations
+  (state) => state.organizationsNextCursor
 );
 
-export const selectTotalUsersCount = createSelector(
+export const selectUsersNextCursor = createSelector(
   selectAdminState,
-  (state) => state.totalUsers
+  (state) => state.usersNextCursor
 );
 
 // Loading and error selectors